@@ -3,6 +3,7 @@ import org.gradle.kotlin.dsl.testRuntimeOnly
 
 plugins {
     id("java")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 sourceSets {
@@ -35,6 +36,15 @@ dependencies {
 tasks.test {
     useJUnitPlatform()
 }
+
+// Benchmarks in "src/jmh/java" - run with "gradlew jmh" (results are written to "build/results/jmh")
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+}
 tasks {
     withType<JavaCompile> {
         options.compilerArgs.add("-Xlint:unchecked")
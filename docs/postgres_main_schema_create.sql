@@ -318,3 +318,31 @@ CREATE TABLE IF NOT EXISTS main.lti_registration (
     PRIMARY KEY (client_id, issuer)
 ) TABLESPACE primary_ts;
 ALTER TABLE IF EXISTS main.lti_registration OWNER to math;
+
+-- ================================================================================================
+-- Create schema objects within the 'analytics' schema.
+-- ================================================================================================
+
+-- ------------------------------------------------------------------------------------------------
+-- TABLE: placement_week
+--
+-- The number of math placement attempts in one week (starting on Sunday) on one exam version with
+-- one result.  Counts are incremented as placement attempts are inserted, and can be rebuilt for
+-- a range of weeks from the 'stmpe' table.
+--
+--   USAGE: One record per week, version, and result.
+--   EST. RECORDS: 2000 (10 years)
+--   RETENTION: Stored in ANALYTICS schema, retained.
+--   EST. RECORD SIZE: 20 bytes
+--   EST. TOTAL SPACE: 40 KB
+-- ------------------------------------------------------------------------------------------------
+
+-- DROP TABLE IF EXISTS analytics.placement_week;
+CREATE TABLE IF NOT EXISTS analytics.placement_week (
+    week_start               date           NOT NULL,  -- The date of the Sunday that starts the week
+    version                  char(5)        NOT NULL,  -- The exam version
+    placed                   char(1)        NOT NULL,  -- The result ('Y' if placed, 'N' if not)
+    nbr_attempts             integer        NOT NULL,  -- The number of attempts
+    PRIMARY KEY (week_start, version, placed)
+) TABLESPACE analytics_ts;
+ALTER TABLE IF EXISTS analytics.placement_week OWNER to math;
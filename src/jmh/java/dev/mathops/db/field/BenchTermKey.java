@@ -0,0 +1,72 @@
+package dev.mathops.db.field;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for constructing and parsing {@code TermKey} objects, which happens for every row that has a term.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BenchTermKey {
+
+    /** A term name (a field so the JIT cannot fold it into a constant). */
+    public ETermName name = ETermName.FALL;
+
+    /** A term year. */
+    public int year = 2024;
+
+    /** A short term string. */
+    public String shortString = "FA24";
+
+    /** A Banner-format term string. */
+    public String bannerString = "202490";
+
+    /**
+     * Constructs a new {@code BenchTermKey}.
+     */
+    public BenchTermKey() {
+
+        // No action
+    }
+
+    /**
+     * Gets the canonical key for a term name and year.
+     *
+     * @return the key
+     */
+    @Benchmark
+    public TermKey ofNameAndYear() {
+
+        return TermKey.of(this.name, this.year);
+    }
+
+    /**
+     * Parses a short term string.
+     *
+     * @return the key
+     */
+    @Benchmark
+    public TermKey ofShortString() {
+
+        return TermKey.ofShortString(this.shortString);
+    }
+
+    /**
+     * Parses a Banner-format term string.
+     *
+     * @return the key
+     */
+    @Benchmark
+    public TermKey parseNumericString() {
+
+        return TermKey.parseNumericString(this.bannerString);
+    }
+}
@@ -0,0 +1,120 @@
+package dev.mathops.db.logic;
+
+import dev.mathops.db.Cache;
+import dev.mathops.db.cfg.Contexts;
+import dev.mathops.db.cfg.DatabaseConfig;
+import dev.mathops.db.cfg.Profile;
+import dev.mathops.db.schema.RawRecordConstants;
+import dev.mathops.db.schema.legacy.rec.RawCourse;
+import dev.mathops.db.schema.main.rec.TermRec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@code SystemData} lookups once data has been loaded, which is how most requests use it.
+ *
+ * <p>
+ * This benchmark needs a database: it uses the profile configured for the batch context.  Data is loaded during setup,
+ * so the measured lookups do not touch the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BenchSystemData {
+
+    /** The data cache. */
+    private Cache cache;
+
+    /** The system data. */
+    private SystemData systemData;
+
+    /** A date to test (the first class day of the active term). */
+    private LocalDate date;
+
+    /**
+     * Constructs a new {@code BenchSystemData}.
+     */
+    public BenchSystemData() {
+
+        // No action
+    }
+
+    /**
+     * Creates the cache and loads the data used by the benchmarks.
+     *
+     * @throws SQLException if there is an error accessing the database
+     */
+    @Setup
+    public void setup() throws SQLException {
+
+        final Profile profile = DatabaseConfig.getDefault().getCodeProfile(Contexts.BATCH_PATH);
+        if (profile == null) {
+            throw new IllegalStateException("No database profile configured for the batch context");
+        }
+
+        this.cache = new Cache(profile);
+        this.systemData = this.cache.getSystemData();
+
+        this.systemData.getActiveTerm();
+        this.systemData.getCourse(RawRecordConstants.M117);
+        this.date = this.systemData.getFirstClassDay();
+        this.systemData.isHoliday(this.date);
+    }
+
+    /**
+     * Gets the active term.
+     *
+     * @return the active term
+     * @throws SQLException if there is an error accessing the database
+     */
+    @Benchmark
+    public TermRec getActiveTerm() throws SQLException {
+
+        return this.systemData.getActiveTerm();
+    }
+
+    /**
+     * Gets a course.
+     *
+     * @return the course
+     * @throws SQLException if there is an error accessing the database
+     */
+    @Benchmark
+    public RawCourse getCourse() throws SQLException {
+
+        return this.systemData.getCourse(RawRecordConstants.M117);
+    }
+
+    /**
+     * Tests whether a date is a holiday.
+     *
+     * @return true if the date is a holiday
+     * @throws SQLException if there is an error accessing the database
+     */
+    @Benchmark
+    public boolean isHoliday() throws SQLException {
+
+        return this.systemData.isHoliday(this.date);
+    }
+
+    /**
+     * Finds the next open day through {@code TermCalendarLogic}.
+     *
+     * @return the open day
+     * @throws SQLException if there is an error accessing the database
+     */
+    @Benchmark
+    public LocalDate nextOpenDay() throws SQLException {
+
+        return TermCalendarLogic.nextOpenDay(this.cache, this.date, 1);
+    }
+}
@@ -0,0 +1,101 @@
+package dev.mathops.db.logic;
+
+import dev.mathops.db.schema.legacy.rec.RawCampusCalendar;
+import dev.mathops.db.schema.term.rec.TermWeekRec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for finding open days with a {@code TermCalendarIndex}, which is how
+ * {@code TermCalendarLogic.nextOpenDay} answers once system data is loaded.  The term has a week 0, fifteen weeks of
+ * classes, and a finals week, with three holidays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BenchTermCalendarIndex {
+
+    /** The first day of week 0. */
+    private static final LocalDate TERM_START = LocalDate.of(2024, 8, 18);
+
+    /** The index. */
+    private TermCalendarIndex index;
+
+    /** A date early in the term (a Friday before a holiday). */
+    private LocalDate early;
+
+    /** A date late in the term (a Saturday). */
+    private LocalDate late;
+
+    /**
+     * Constructs a new {@code BenchTermCalendarIndex}.
+     */
+    public BenchTermCalendarIndex() {
+
+        // No action
+    }
+
+    /**
+     * Builds the index.
+     */
+    @Setup
+    public void setup() {
+
+        final List<TermWeekRec> weeks = new ArrayList<>(17);
+        for (int i = 0; i <= 16; ++i) {
+            final LocalDate start = TERM_START.plusWeeks(i);
+            weeks.add(new TermWeekRec(Integer.valueOf(i), start, start.plusDays(6L)));
+        }
+
+        final List<RawCampusCalendar> holidays = List.of(makeHoliday(LocalDate.of(2024, 9, 2)),
+                makeHoliday(LocalDate.of(2024, 11, 28)), makeHoliday(LocalDate.of(2024, 11, 29)));
+
+        this.index = TermCalendarIndex.get(weeks, holidays);
+        this.early = LocalDate.of(2024, 8, 30);
+        this.late = LocalDate.of(2024, 11, 23);
+    }
+
+    /**
+     * Creates a holiday campus calendar record.
+     *
+     * @param date the date
+     * @return the record
+     */
+    private static RawCampusCalendar makeHoliday(final LocalDate date) {
+
+        return new RawCampusCalendar(date, RawCampusCalendar.DT_DESC_HOLIDAY, null, null, null, null, null, null,
+                null, null, null);
+    }
+
+    /**
+     * Finds the next open day after a date, skipping a weekend and a holiday.
+     *
+     * @return the open day
+     */
+    @Benchmark
+    public LocalDate nextOpenDay() {
+
+        return this.index.nextOpenDay(this.early, 1);
+    }
+
+    /**
+     * Finds the fifth open day after a date, skipping a holiday break.
+     *
+     * @return the open day
+     */
+    @Benchmark
+    public LocalDate fifthOpenDay() {
+
+        return this.index.nextOpenDay(this.late, 5);
+    }
+}
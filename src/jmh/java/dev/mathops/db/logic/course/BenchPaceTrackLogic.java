@@ -0,0 +1,106 @@
+package dev.mathops.db.logic.course;
+
+import dev.mathops.db.field.ETermName;
+import dev.mathops.db.field.TermKey;
+import dev.mathops.db.schema.RawRecordConstants;
+import dev.mathops.db.schema.legacy.rec.RawStcourse;
+import dev.mathops.db.schema.legacy.rec.RawStudent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for determining a student's pace and pace track from a typical set of registrations: three open
+ * registrations, one dropped registration, and one counted Incomplete.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BenchPaceTrackLogic {
+
+    /** The registrations. */
+    private List<RawStcourse> registrations;
+
+    /**
+     * Constructs a new {@code BenchPaceTrackLogic}.
+     */
+    public BenchPaceTrackLogic() {
+
+        // No action
+    }
+
+    /**
+     * Builds the registrations.
+     */
+    @Setup
+    public void setup() {
+
+        final TermKey term = TermKey.of(ETermName.FALL, 2024);
+
+        this.registrations = new ArrayList<>(5);
+        this.registrations.add(makeReg(term, RawRecordConstants.M117, "001", "Y", "N"));
+        this.registrations.add(makeReg(term, RawRecordConstants.M118, "001", "Y", "N"));
+        this.registrations.add(makeReg(term, RawRecordConstants.M124, "001", "Y", "N"));
+        this.registrations.add(makeReg(term, RawRecordConstants.M125, "001", "D", "N"));
+        this.registrations.add(makeReg(term, RawRecordConstants.M126, "001", null, "Y"));
+    }
+
+    /**
+     * Creates a registration.
+     *
+     * @param term       the term
+     * @param course     the course ID
+     * @param sect       the section number
+     * @param openStatus the open status
+     * @param incomplete "Y" for an Incomplete (counted toward pace); "N" if not
+     * @return the registration
+     */
+    private static RawStcourse makeReg(final TermKey term, final String course, final String sect,
+                                       final String openStatus, final String incomplete) {
+
+        final RawStcourse reg = new RawStcourse();
+
+        reg.termKey = term;
+        reg.stuId = RawStudent.TEST_STUDENT_ID;
+        reg.course = course;
+        reg.sect = sect;
+        reg.openStatus = openStatus;
+        reg.iInProgress = incomplete;
+        reg.iCounted = incomplete;
+        reg.instrnType = "RI";
+
+        return reg;
+    }
+
+    /**
+     * Determines the pace.
+     *
+     * @return the pace
+     */
+    @Benchmark
+    public int determinePace() {
+
+        return PaceTrackLogic.determinePace(this.registrations);
+    }
+
+    /**
+     * Determines the pace and then the pace track, as course status calculations do.
+     *
+     * @return the pace track
+     */
+    @Benchmark
+    public String determinePaceTrack() {
+
+        final int pace = PaceTrackLogic.determinePace(this.registrations);
+
+        return PaceTrackLogic.determinePaceTrack(this.registrations, pace);
+    }
+}
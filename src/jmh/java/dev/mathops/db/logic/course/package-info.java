@@ -0,0 +1,4 @@
+/**
+ * Benchmarks for the classes in the {@code dev.mathops.db.logic.course} package.
+ */
+package dev.mathops.db.logic.course;
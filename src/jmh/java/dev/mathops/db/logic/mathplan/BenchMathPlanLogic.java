@@ -0,0 +1,85 @@
+package dev.mathops.db.logic.mathplan;
+
+import dev.mathops.db.Cache;
+import dev.mathops.db.cfg.Contexts;
+import dev.mathops.db.cfg.DatabaseConfig;
+import dev.mathops.db.cfg.Profile;
+import dev.mathops.db.logic.mathplan.majors.Major;
+import dev.mathops.db.logic.mathplan.majors.MajorsCurrent;
+import dev.mathops.db.schema.legacy.rec.RawStudent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for generating a student's Math Plan for a set of majors.
+ *
+ * <p>
+ * This benchmark needs a database: it uses the profile configured for the batch context, and generates plans for the
+ * student given by the "bench.stuId" system property (the test student by default).  Plan generation queries the
+ * student's records, so results include database time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BenchMathPlanLogic {
+
+    /** The number of majors to include in each plan. */
+    private static final int NUM_MAJORS = 3;
+
+    /** The data cache. */
+    private Cache cache;
+
+    /** The student ID. */
+    private String stuId;
+
+    /** The majors. */
+    private List<Major> majors;
+
+    /**
+     * Constructs a new {@code BenchMathPlanLogic}.
+     */
+    public BenchMathPlanLogic() {
+
+        // No action
+    }
+
+    /**
+     * Creates the cache and selects majors.
+     */
+    @Setup
+    public void setup() {
+
+        final Profile profile = DatabaseConfig.getDefault().getCodeProfile(Contexts.BATCH_PATH);
+        if (profile == null) {
+            throw new IllegalStateException("No database profile configured for the batch context");
+        }
+
+        this.cache = new Cache(profile);
+        this.stuId = System.getProperty("bench.stuId", RawStudent.TEST_STUDENT_ID);
+
+        final List<Major> all = MajorsCurrent.INSTANCE.getMajors();
+        this.majors = new ArrayList<>(all.subList(0, Math.min(NUM_MAJORS, all.size())));
+    }
+
+    /**
+     * Generates a plan.
+     *
+     * @return the plan
+     * @throws SQLException if there is an error accessing the database
+     */
+    @Benchmark
+    public StudentMathPlan generatePlan() throws SQLException {
+
+        return MathPlanLogic.generatePlan(this.cache, this.stuId, this.majors);
+    }
+}
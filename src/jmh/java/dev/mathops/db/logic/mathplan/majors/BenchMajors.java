@@ -0,0 +1,100 @@
+package dev.mathops.db.logic.mathplan.majors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for looking up majors by program code and by numeric code.  Each invocation looks up every current major
+ * once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BenchMajors {
+
+    /** A program code that does not match any major. */
+    private static final String UNKNOWN_CODE = "NOT-A-MAJOR";
+
+    /** The program codes of all current majors. */
+    private List<String> programCodes;
+
+    /** The numeric codes of all current majors. */
+    private int[] numericCodes;
+
+    /**
+     * Constructs a new {@code BenchMajors}.
+     */
+    public BenchMajors() {
+
+        // No action
+    }
+
+    /**
+     * Gathers the codes to look up.
+     */
+    @Setup
+    public void setup() {
+
+        this.programCodes = new ArrayList<>(200);
+        final List<Integer> numbers = new ArrayList<>(200);
+
+        for (final Major major : MajorsCurrent.INSTANCE.getMajors()) {
+            this.programCodes.addAll(major.programCodes);
+            for (final int number : major.questionNumbers) {
+                numbers.add(Integer.valueOf(number));
+            }
+        }
+
+        this.numericCodes = new int[numbers.size()];
+        for (int i = 0; i < this.numericCodes.length; ++i) {
+            this.numericCodes[i] = numbers.get(i).intValue();
+        }
+    }
+
+    /**
+     * Looks up every program code.
+     *
+     * @param blackhole the blackhole that consumes results
+     */
+    @Benchmark
+    public void byProgramCode(final Blackhole blackhole) {
+
+        for (final String code : this.programCodes) {
+            blackhole.consume(Majors.getMajorByProgramCode(code));
+        }
+    }
+
+    /**
+     * Looks up every numeric code.
+     *
+     * @param blackhole the blackhole that consumes results
+     */
+    @Benchmark
+    public void byNumericCode(final Blackhole blackhole) {
+
+        for (final int code : this.numericCodes) {
+            blackhole.consume(Majors.getMajorByNumericCode(code));
+        }
+    }
+
+    /**
+     * Looks up a program code that matches no major, which searches all current and deactivated majors.
+     *
+     * @return the result (always null)
+     */
+    @Benchmark
+    public Major unknownProgramCode() {
+
+        return Majors.getMajorByProgramCode(UNKNOWN_CODE);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Benchmarks for the classes in the {@code dev.mathops.db.logic.mathplan.majors} package.
+ */
+package dev.mathops.db.logic.mathplan.majors;
@@ -0,0 +1,150 @@
+package dev.mathops.db.schema.legacy.rec;
+
+import dev.mathops.db.schema.ResultSetColumns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for decoding "stcourse" rows with {@code RawStcourse.fromResultSet}.
+ *
+ * <p>
+ * Rows come from a synthetic result set (a proxy over fixed values, with a typical mix of null and non-null columns),
+ * so the benchmark needs no database.  The proxy adds a fixed cost to each column read, so results are meaningful as
+ * comparisons between versions of the decoding code rather than as absolute times.
+ *
+ * <p>
+ * {@code decodeRow} measures the per-row cost when a query reads many rows: the column mapping is built once, and each
+ * row is decoded with {@code fromResultSet(rs, columns)}.  {@code decodeSingleRowQuery} creates a new result set for
+ * each invocation and builds its column mapping, as happens for a query that returns one row, so the cost of building
+ * the mapping is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BenchRawStcourse {
+
+    /** The column labels. */
+    private static final String[] LABELS = {"stu_id", "course", "sect", "term", "term_yr", "pace_order",
+            "open_status", "grading_option", "completed", "score", "course_grade", "prereq_satis", "init_class_roll",
+            "stu_provided", "final_class_roll", "exam_placed", "zero_unit", "timeout_factor", "forfeit_i",
+            "i_in_progress", "i_counted", "ctrl_test", "deferred_f_dt", "bypass_timeout", "instrn_type",
+            "registration_status", "last_class_roll_dt", "i_term", "i_term_yr", "i_deadline_dt"};
+
+    /** The column values ({@code null} for null values). */
+    private static final Object[] VALUES = {"888888888", "M 117", "001", "FA", Integer.valueOf(24),
+            Integer.valueOf(1), "Y", "A", "N", null, null, "P", "Y", "N", "Y", "N", Integer.valueOf(1),
+            Float.valueOf(1.0f), "N", "N", null, "N", null, Integer.valueOf(0), "RI", "RE",
+            Date.valueOf(LocalDate.of(2024, 9, 3)), null, null, null};
+
+    /** A result set, positioned on a single row, shared by all invocations of {@code decodeRow}. */
+    private ResultSet resultSet;
+
+    /** The column mapping for {@code resultSet}. */
+    private ResultSetColumns columns;
+
+    /**
+     * Constructs a new {@code BenchRawStcourse}.
+     */
+    public BenchRawStcourse() {
+
+        // No action
+    }
+
+    /**
+     * Creates the shared synthetic result set and its column mapping.
+     *
+     * @throws SQLException if there is an error building the column mapping
+     */
+    @Setup
+    public void setup() throws SQLException {
+
+        this.resultSet = newResultSet();
+        this.columns = ResultSetColumns.of(this.resultSet);
+    }
+
+    /**
+     * Creates a new synthetic result set, positioned on a single row.
+     *
+     * @return the result set
+     */
+    private static ResultSet newResultSet() {
+
+        final ResultSetMetaData meta = (ResultSetMetaData) Proxy.newProxyInstance(
+                BenchRawStcourse.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> Integer.valueOf(LABELS.length);
+                    case "getColumnLabel", "getColumnName" -> LABELS[((Integer) args[0]).intValue() - 1];
+                    default -> throw new SQLException("Unsupported: " + method.getName());
+                });
+
+        // The index of the last column read, to support "wasNull"
+        final int[] last = {0};
+
+        return (ResultSet) Proxy.newProxyInstance(BenchRawStcourse.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    final String name = method.getName();
+
+                    if ("getMetaData".equals(name)) {
+                        return meta;
+                    }
+                    if ("wasNull".equals(name)) {
+                        return Boolean.valueOf(VALUES[last[0]] == null);
+                    }
+                    if (args != null && args.length == 1 && args[0] instanceof final Integer index) {
+                        last[0] = index.intValue() - 1;
+                        final Object value = VALUES[last[0]];
+
+                        return switch (name) {
+                            case "getInt" -> value == null ? Integer.valueOf(0) : value;
+                            case "getFloat" -> value == null ? Float.valueOf(0.0f) : value;
+                            case "getDate" -> value;
+                            case "getString" -> value == null ? null : value.toString();
+                            default -> throw new SQLException("Unsupported: " + name);
+                        };
+                    }
+                    throw new SQLException("Unsupported: " + name);
+                });
+    }
+
+    /**
+     * Decodes a row using a column mapping built once for the result set, as happens for each row of a query on
+     * "stcourse" that returns many rows.
+     *
+     * @return the decoded record
+     * @throws SQLException if there is an error reading the row
+     */
+    @Benchmark
+    public RawStcourse decodeRow() throws SQLException {
+
+        return RawStcourse.fromResultSet(this.resultSet, this.columns);
+    }
+
+    /**
+     * Creates a new result set, builds its column mapping, and decodes its row, as happens for a query on "stcourse"
+     * that returns a single row.
+     *
+     * @return the decoded record
+     * @throws SQLException if there is an error reading the row
+     */
+    @Benchmark
+    public RawStcourse decodeSingleRowQuery() throws SQLException {
+
+        final ResultSet rs = newResultSet();
+        final ResultSetColumns rsColumns = ResultSetColumns.of(rs);
+
+        return RawStcourse.fromResultSet(rs, rsColumns);
+    }
+}
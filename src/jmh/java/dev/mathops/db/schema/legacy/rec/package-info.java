@@ -0,0 +1,4 @@
+/**
+ * Benchmarks for the classes in the {@code dev.mathops.db.schema.legacy.rec} package.
+ */
+package dev.mathops.db.schema.legacy.rec;
@@ -13,6 +13,7 @@ import dev.mathops.db.schema.legacy.impl.RawStudentLogic;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.legacy.rec.RawStudent;
 
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -27,7 +28,13 @@ import java.util.Map;
  *
  * <p>
  * This object must be created and accessed by a single thread (typical for a servlet request for a web page) since it
- * has public data members and no synchronization.
+ * has public data members and no synchronization.  The one exception is queries passed to {@code submit} when
+ * concurrent queries are enabled: each runs on its own virtual thread with its own pooled connection, so a set of
+ * independent queries takes about as long as the slowest of them rather than the sum of all of them.  Such queries must
+ * not depend on one another, and the submitting thread obtains their results (which waits for them to finish) before
+ * using the data they load.  Nor may they be the first to load anything this object loads lazily (such as the active
+ * term in {@code SystemData}); the submitting thread loads any such data before submitting.  When concurrent queries
+ * are not enabled (the default), {@code submit} runs each query immediately on the calling thread.
  *
  * <p>
  * Rather than try to accommodate every possible query and its results, this class simply provides a generic map from a
@@ -64,6 +71,9 @@ public final class Cache {
     /** A map from student ID to student data container for "students of interest" in context. */
     private final Map<String, StudentData> studentData;
 
+    /** True if queries passed to {@code submit} run concurrently on virtual threads. */
+    private boolean concurrentQueries = false;
+
     /**
      * Constructs a new {@code Cache}.
      *
@@ -97,6 +107,44 @@ public final class Cache {
         return conn;
     }
 
+    /**
+     * Enables or disables concurrent queries.
+     *
+     * @param enabled true to run queries passed to {@code submit} concurrently on virtual threads; false to run them on
+     *                the calling thread
+     */
+    public void setConcurrentQueries(final boolean enabled) {
+
+        this.concurrentQueries = enabled;
+    }
+
+    /**
+     * Tests whether concurrent queries are enabled.
+     *
+     * @return true if queries passed to {@code submit} run concurrently on virtual threads
+     */
+    public boolean isConcurrentQueries() {
+
+        return this.concurrentQueries;
+    }
+
+    /**
+     * Submits a query whose result will be needed.  If concurrent queries are enabled, the query starts on a new
+     * virtual thread and this method returns immediately; otherwise, the query runs on the calling thread before this
+     * method returns.
+     *
+     * @param query the query, which must not depend on the results of other queries that have not finished, and must
+     *              not be the first to load lazily-loaded data from this cache
+     * @param <T>   the type of result
+     * @return the pending result
+     * @throws SQLException if concurrent queries are not enabled and the query fails (if they are enabled, failures are
+     *                      reported by {@code PendingQuery.get})
+     */
+    public <T> PendingQuery<T> submit(final IQuery<T> query) throws SQLException {
+
+        return this.concurrentQueries ? PendingQuery.start(query) : PendingQuery.completed(query.execute());
+    }
+
     /**
      * Checks in a connection that was previously checked out with {@code checkOutConnection}.
      *
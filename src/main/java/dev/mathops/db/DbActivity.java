@@ -0,0 +1,149 @@
+package dev.mathops.db;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the database statements executed and rows touched by a unit of work (like a batch job) running on one thread.
+ *
+ * <p>
+ * A unit of work calls {@code begin} before it starts and {@code end} when it finishes.  While an activity is active
+ * on a thread, statements created through {@code DbConnection} on that thread are wrapped (see
+ * {@code StatementWrapper}) so each execution is counted, along with the rows it updated or returned (rows returned are
+ * counted as the result set is read).  When no activity is active and statement statistics are not enabled,
+ * {@code DbConnection} returns statements unwrapped, so there is no cost outside of measured work.
+ *
+ * <p>
+ * Counts are per-thread.  Work a unit hands to another thread (a parallel stream, an executor, or a virtual thread) is
+ * not counted unless the task is wrapped with {@code propagate}, so counts for a unit of work that does not do this
+ * are a lower bound.  Queries started through {@code PendingQuery} are propagated.
+ */
+public final class DbActivity {
+
+    /** The activity active on each thread. */
+    private static final ThreadLocal<DbActivity> CURRENT = new ThreadLocal<>();
+
+    /** The number of statements executed. */
+    private final LongAdder statements;
+
+    /** The number of rows updated or returned. */
+    private final LongAdder rows;
+
+    /**
+     * Constructs a new {@code DbActivity}.
+     */
+    private DbActivity() {
+
+        this.statements = new LongAdder();
+        this.rows = new LongAdder();
+    }
+
+    /**
+     * Begins counting activity on the current thread.  Any activity already active on the thread is replaced.
+     *
+     * @return the new activity
+     */
+    public static DbActivity begin() {
+
+        final DbActivity activity = new DbActivity();
+        CURRENT.set(activity);
+
+        return activity;
+    }
+
+    /**
+     * Ends counting activity on the current thread.  Statements created while the activity was active continue to be
+     * counted if they are used afterward.
+     */
+    public static void end() {
+
+        CURRENT.remove();
+    }
+
+    /**
+     * Makes an existing activity active on the current thread, so work done on the thread on behalf of another thread
+     * is counted with that thread's activity.  The caller calls {@code end} when the work is done.
+     *
+     * @param activity the activity; {@code null} to have no activity active
+     */
+    static void resume(final DbActivity activity) {
+
+        if (activity == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(activity);
+        }
+    }
+
+    /**
+     * Wraps a task so that database activity it performs on whatever thread runs it is counted in the activity active
+     * on the calling thread (if any).  The activity that was active on the running thread before the task started is
+     * restored when it finishes, so the wrapped task may be run on a pooled thread.
+     *
+     * @param task the task
+     * @param <T>  the type of result
+     * @return the wrapped task
+     */
+    public static <T> Callable<T> propagate(final Callable<T> task) {
+
+        final DbActivity activity = CURRENT.get();
+
+        return () -> {
+            final DbActivity previous = CURRENT.get();
+            resume(activity);
+            try {
+                return task.call();
+            } finally {
+                resume(previous);
+            }
+        };
+    }
+
+    /**
+     * Gets the activity active on the current thread.
+     *
+     * @return the activity; {@code null} if none is active
+     */
+    static DbActivity current() {
+
+        return CURRENT.get();
+    }
+
+    /**
+     * Gets the number of statements executed.
+     *
+     * @return the number of statements
+     */
+    public long getStatements() {
+
+        return this.statements.sum();
+    }
+
+    /**
+     * Gets the number of rows updated or returned.
+     *
+     * @return the number of rows
+     */
+    public long getRows() {
+
+        return this.rows.sum();
+    }
+
+    /**
+     * Counts a statement execution.
+     */
+    void countStatement() {
+
+        this.statements.increment();
+    }
+
+    /**
+     * Counts rows updated or returned.
+     *
+     * @param count the number of rows
+     */
+    void countRows(final long count) {
+
+        this.rows.add(count);
+    }
+}
@@ -4,13 +4,16 @@ import dev.mathops.commons.log.Log;
 import dev.mathops.db.cfg.EDbProduct;
 import dev.mathops.db.cfg.Login;
 import dev.mathops.db.field.TermKey;
+import dev.mathops.db.schema.ResultSetColumns;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.function.Consumer;
 
 /**
  * A database connection definition, consisting of a {@code DriverConfig} object that can open and close JDBC
@@ -43,6 +46,9 @@ import java.time.LocalDateTime;
  */
 public final class DbConnection {
 
+    /** The number of rows to fetch from the server at a time when streaming query results. */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
     /** Object on which to synchronize registration of drivers. */
     private static final Object REGISTER_SYNCH = new Object();
 
@@ -141,7 +147,11 @@ public final class DbConnection {
     public Statement createStatement() throws SQLException {
 
         final Connection connection = getConnection();
-        return connection.createStatement();
+        final Statement stmt = connection.createStatement();
+        final DbActivity activity = DbActivity.current();
+        final boolean timed = StatementStats.isEnabled();
+
+        return activity == null && !timed ? stmt : StatementWrapper.wrap(stmt, activity, timed);
     }
 
     /**
@@ -159,7 +169,78 @@ public final class DbConnection {
             throws SQLException {
 
         final Connection connection = getConnection();
-        return connection.prepareStatement(sql);
+        final PreparedStatement stmt = connection.prepareStatement(sql);
+        final DbActivity activity = DbActivity.current();
+        final boolean timed = StatementStats.isEnabled();
+
+        return activity == null && !timed ? stmt : StatementWrapper.wrap(stmt, sql, activity, timed);
+    }
+
+    /**
+     * Executes a query and passes each row to a consumer as it is read, rather than collecting all rows into a list.
+     * The statement fetches rows from the server in blocks, so tables of any size can be processed in constant memory
+     * (the connection does not use auto-commit, which some drivers, like PostgreSQL, require in order to use a cursor
+     * rather than load the full result).
+     *
+     * <p>
+     * The consumer runs while the result set is open, so it should not commit or roll back this connection.
+     *
+     * @param sql      the query SQL
+     * @param mapper   the function that constructs an object from each row
+     * @param consumer the consumer that receives each object
+     * @param <T>      the type of object constructed from each row
+     * @return the number of rows read
+     * @throws SQLException if there is an error performing the query or reading a row
+     */
+    public <T> int streamQuery(final String sql, final IRowMapper<? extends T> mapper,
+                               final Consumer<? super T> consumer) throws SQLException {
+
+        int count = 0;
+
+        try (final Statement stmt = createStatement()) {
+            stmt.setFetchSize(STREAM_FETCH_SIZE);
+
+            try (final ResultSet rs = stmt.executeQuery(sql)) {
+                while (rs.next()) {
+                    consumer.accept(mapper.map(rs));
+                    ++count;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Executes a query and passes each row to a consumer as it is read, as {@code streamQuery} does, but with a mapper
+     * that uses a column mapping built once for the result set rather than resolving column names for each row.
+     *
+     * @param sql      the query SQL
+     * @param mapper   the function that constructs an object from each row
+     * @param consumer the consumer that receives each object
+     * @param <T>      the type of object constructed from each row
+     * @return the number of rows read
+     * @throws SQLException if there is an error performing the query or reading a row
+     */
+    public <T> int streamQuery(final String sql, final IColumnRowMapper<? extends T> mapper,
+                               final Consumer<? super T> consumer) throws SQLException {
+
+        int count = 0;
+
+        try (final Statement stmt = createStatement()) {
+            stmt.setFetchSize(STREAM_FETCH_SIZE);
+
+            try (final ResultSet rs = stmt.executeQuery(sql)) {
+                final ResultSetColumns columns = ResultSetColumns.of(rs);
+
+                while (rs.next()) {
+                    consumer.accept(mapper.map(rs, columns));
+                    ++count;
+                }
+            }
+        }
+
+        return count;
     }
 
     /**
@@ -0,0 +1,25 @@
+package dev.mathops.db;
+
+import dev.mathops.db.schema.ResultSetColumns;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A function that constructs an object from the current row of a result set, given a column mapping that was built
+ * once for the result set.
+ *
+ * @param <T> the type of object constructed
+ */
+public interface IColumnRowMapper<T> {
+
+    /**
+     * Constructs an object from the current row of a result set.
+     *
+     * @param rs      the result set, positioned on a row
+     * @param columns the column mapping for the result set
+     * @return the constructed object
+     * @throws SQLException if there is an error reading the row
+     */
+    T map(ResultSet rs, ResultSetColumns columns) throws SQLException;
+}
@@ -0,0 +1,20 @@
+package dev.mathops.db;
+
+import java.sql.SQLException;
+
+/**
+ * A query that produces a result, which may be run on another thread (see {@code Cache.submit}).
+ *
+ * @param <T> the type of result
+ */
+@FunctionalInterface
+public interface IQuery<T> {
+
+    /**
+     * Performs the query.
+     *
+     * @return the result
+     * @throws SQLException if there is an error accessing the database
+     */
+    T execute() throws SQLException;
+}
@@ -0,0 +1,21 @@
+package dev.mathops.db;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A function that constructs an object from the current row of a result set.
+ *
+ * @param <T> the type of object constructed
+ */
+public interface IRowMapper<T> {
+
+    /**
+     * Constructs an object from the current row of a result set.
+     *
+     * @param rs the result set, positioned on a row
+     * @return the constructed object
+     * @throws SQLException if there is an error reading the row
+     */
+    T map(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,36 @@
+package dev.mathops.db;
+
+/**
+ * A listener that is notified when student data is changed, so it can discard anything it computed or cached from the
+ * old data (see {@code StudentDataEvents}).
+ *
+ * <p>
+ * Notifications are delivered on the thread that committed the change, after the commit, so implementations should
+ * return quickly.
+ */
+public interface IStudentDataListener {
+
+    /**
+     * Called after data for a student has changed.
+     *
+     * @param cache the data cache through which the change was made
+     * @param stuId the student ID; {@code null} if the student is not known (which should be treated as a change that
+     *              may affect any student)
+     */
+    void studentChanged(Cache cache, String stuId);
+
+    /**
+     * Called after a student's work in a course (exams or milestones) has changed, which may change the student's
+     * status in the course as well as the student's data.
+     *
+     * @param cache  the data cache through which the change was made
+     * @param stuId  the student ID
+     * @param course the course ID; {@code null} if the change may affect any of the student's courses
+     */
+    void courseWorkChanged(Cache cache, String stuId, String course);
+
+    /**
+     * Called after a change that may affect any number of students.
+     */
+    void allChanged();
+}
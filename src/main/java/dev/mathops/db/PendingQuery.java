@@ -0,0 +1,98 @@
+package dev.mathops.db;
+
+import java.sql.SQLException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * The result of a query submitted through {@code Cache.submit}, which is either already available (when the query ran
+ * on the calling thread) or is being produced on a virtual thread.
+ *
+ * @param <T> the type of result
+ */
+public final class PendingQuery<T> {
+
+    /** The task producing the result; {@code null} if the result was already available. */
+    private final FutureTask<T> task;
+
+    /** The result, if it was already available. */
+    private final T value;
+
+    /**
+     * Constructs a new {@code PendingQuery}.
+     *
+     * @param theTask  the task producing the result; {@code null} if the result is already available
+     * @param theValue the result, if it is already available
+     */
+    private PendingQuery(final FutureTask<T> theTask, final T theValue) {
+
+        this.task = theTask;
+        this.value = theValue;
+    }
+
+    /**
+     * Creates a {@code PendingQuery} whose result is already available.
+     *
+     * @param value the result
+     * @param <T>   the type of result
+     * @return the pending query
+     */
+    static <T> PendingQuery<T> completed(final T value) {
+
+        return new PendingQuery<>(null, value);
+    }
+
+    /**
+     * Starts a query on a new virtual thread.  Database activity performed by the query is counted in the activity
+     * active on the calling thread, if any (see {@code DbActivity}).
+     *
+     * @param query the query
+     * @param <T>   the type of result
+     * @return the pending query
+     */
+    static <T> PendingQuery<T> start(final IQuery<T> query) {
+
+        final FutureTask<T> task = new FutureTask<>(DbActivity.propagate(query::execute));
+
+        Thread.ofVirtual().name("cache-query").start(task);
+
+        return new PendingQuery<>(task, null);
+    }
+
+    /**
+     * Gets the result, waiting for the query to finish if needed.
+     *
+     * @return the result
+     * @throws SQLException if the query failed with an exception (an exception that is not a {@code SQLException} or
+     *                      unchecked exception is wrapped), or the calling thread was interrupted while waiting
+     */
+    public T get() throws SQLException {
+
+        final T result;
+
+        if (this.task == null) {
+            result = this.value;
+        } else {
+            try {
+                result = this.task.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for query", ex);
+            } catch (final ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof final SQLException sqlEx) {
+                    throw sqlEx;
+                }
+                if (cause instanceof final RuntimeException runtimeEx) {
+                    throw runtimeEx;
+                }
+                if (cause instanceof final Error error) {
+                    throw error;
+                }
+                throw new SQLException(cause);
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+package dev.mathops.db;
+
+import java.util.regex.Pattern;
+
+/**
+ * Generates normalized "fingerprints" of SQL statements, so statements that differ only in literal values (like the
+ * same query for different students) can be grouped.
+ *
+ * <p>
+ * String literals and numeric literals are replaced with "?", runs of whitespace are replaced with a single space, and
+ * "IN" lists of any length are reduced to "IN (?)".  Identifiers (including those with digits, like "term_yr2") and
+ * quoted identifiers are preserved.
+ */
+public enum SqlFingerprint {
+    ;
+
+    /** A pattern that matches an "IN" list of parameters. */
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    /**
+     * Generates the fingerprint of a SQL statement.
+     *
+     * @param sql the SQL
+     * @return the fingerprint
+     */
+    public static String of(final String sql) {
+
+        final int len = sql.length();
+        final StringBuilder result = new StringBuilder(len);
+
+        int pos = 0;
+        while (pos < len) {
+            final char ch = sql.charAt(pos);
+
+            if (ch == '\'') {
+                // String literal - skip to the closing quote, treating a doubled quote as an escaped quote
+                ++pos;
+                while (pos < len) {
+                    if (sql.charAt(pos) == '\'') {
+                        if (pos + 1 < len && sql.charAt(pos + 1) == '\'') {
+                            pos += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    ++pos;
+                }
+                ++pos;
+                result.append('?');
+            } else if (ch == '"') {
+                // Quoted identifier - copy unchanged
+                final int end = sql.indexOf('"', pos + 1);
+                final int stop = end < 0 ? len : end + 1;
+                result.append(sql, pos, stop);
+                pos = stop;
+            } else if (Character.isWhitespace(ch)) {
+                while (pos < len && Character.isWhitespace(sql.charAt(pos))) {
+                    ++pos;
+                }
+                if (!result.isEmpty() && pos < len) {
+                    result.append(' ');
+                }
+            } else if (Character.isDigit(ch) && !endsWithIdentifierChar(result)) {
+                while (pos < len && (Character.isDigit(sql.charAt(pos)) || sql.charAt(pos) == '.')) {
+                    ++pos;
+                }
+                result.append('?');
+            } else {
+                result.append(ch);
+                ++pos;
+            }
+        }
+
+        return IN_LIST.matcher(result).replaceAll("IN (?)");
+    }
+
+    /**
+     * Tests whether a builder ends with a character that can be part of an identifier, in which case a digit that
+     * follows is part of that identifier rather than the start of a number.
+     *
+     * @param builder the builder
+     * @return true if the last character is a letter, digit, or underscore
+     */
+    private static boolean endsWithIdentifierChar(final CharSequence builder) {
+
+        final int len = builder.length();
+        boolean result = false;
+
+        if (len > 0) {
+            final char last = builder.charAt(len - 1);
+            result = Character.isLetterOrDigit(last) || last == '_' || last == '$';
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,306 @@
+package dev.mathops.db;
+
+import dev.mathops.commons.log.Log;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics on SQL statements executed through {@code DbConnection}, aggregated by statement fingerprint (see
+ * {@code SqlFingerprint}).
+ *
+ * <p>
+ * When enabled, every statement created by {@code DbConnection} is wrapped so each execution records its elapsed time
+ * and the rows it updated or returned.  For each fingerprint, this class keeps counts, totals, the maximum time, and a
+ * histogram of execution times with power-of-two microsecond buckets, all updated without locks.  Executions that take
+ * longer than a threshold are written to the log as warnings, with the SQL and the calling method.
+ *
+ * <p>
+ * Execution time covers the {@code execute} call; rows a query returns are counted as the result set is read, but the
+ * time spent reading them is not included.
+ */
+public enum StatementStats {
+    ;
+
+    /** The number of histogram buckets (the last bucket holds all times of about 35 minutes or more). */
+    private static final int NUM_BUCKETS = 32;
+
+    /** The default threshold for the slow-query log, in milliseconds. */
+    private static final long DEFAULT_SLOW_MS = 500L;
+
+    /** The number of nanoseconds per microsecond. */
+    private static final long NANOS_PER_MICRO = 1000L;
+
+    /** The number of nanoseconds per millisecond. */
+    private static final long NANOS_PER_MILLI = 1000000L;
+
+    /** Map from fingerprint to statistics. */
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>(500);
+
+    /** True if statistics are being gathered. */
+    private static volatile boolean enabled = false;
+
+    /** The threshold for the slow-query log, in nanoseconds. */
+    private static volatile long slowNanos = DEFAULT_SLOW_MS * NANOS_PER_MILLI;
+
+    /**
+     * Tests whether statistics are being gathered.
+     *
+     * @return true if statistics are being gathered
+     */
+    public static boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Enables or disables gathering of statistics.  Only statements created while statistics are enabled are measured.
+     *
+     * @param isEnabled true to gather statistics
+     */
+    public static void setEnabled(final boolean isEnabled) {
+
+        enabled = isEnabled;
+    }
+
+    /**
+     * Sets the threshold for the slow-query log.
+     *
+     * @param millis the threshold, in milliseconds
+     */
+    public static void setSlowThresholdMs(final long millis) {
+
+        slowNanos = millis * NANOS_PER_MILLI;
+    }
+
+    /**
+     * Discards all gathered statistics.
+     */
+    public static void reset() {
+
+        ENTRIES.clear();
+    }
+
+    /**
+     * Records an execution.
+     *
+     * @param sql   the SQL that was executed
+     * @param nanos the elapsed time, in nanoseconds
+     * @param rows  the number of rows updated (0 for a query, whose returned rows are counted as they are read)
+     * @return the statistics entry for the statement's fingerprint, to which returned rows can be added
+     */
+    static Entry record(final String sql, final long nanos, final long rows) {
+
+        final Entry entry = ENTRIES.computeIfAbsent(SqlFingerprint.of(sql), Entry::new);
+        entry.record(nanos, rows);
+
+        if (nanos >= slowNanos) {
+            final String caller = findCaller();
+            Log.warning("Slow SQL (", Long.toString(nanos / NANOS_PER_MILLI), " ms) from ", caller, ": ", sql);
+        }
+
+        return entry;
+    }
+
+    /**
+     * Finds the method that executed a statement: the first stack frame outside of the JDK and the statement wrapper.
+     *
+     * @return the caller, as "class.method:line"
+     */
+    private static String findCaller() {
+
+        final Optional<StackWalker.StackFrame> frame = StackWalker.getInstance().walk(frames -> frames.filter(
+                f -> {
+                    final String cls = f.getClassName();
+                    return !(cls.startsWith("java.") || cls.startsWith("jdk.") || cls.startsWith("sun.")
+                             || cls.startsWith("com.sun.") || cls.equals(StatementStats.class.getName())
+                             || cls.startsWith(StatementWrapper.class.getName()));
+                }).findFirst());
+
+        return frame.map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("(unknown)");
+    }
+
+    /**
+     * Gets statistics for the fingerprints with the greatest total execution time.
+     *
+     * @param count the maximum number of fingerprints to return
+     * @return the statistics, in descending order of total time
+     */
+    public static List<FingerprintStats> getTopByTotalTime(final int count) {
+
+        final List<FingerprintStats> all = new ArrayList<>(ENTRIES.size());
+        for (final Entry entry : ENTRIES.values()) {
+            all.add(entry.snapshot());
+        }
+
+        all.sort(Comparator.comparingLong(FingerprintStats::totalNanos).reversed());
+
+        return all.size() > count ? new ArrayList<>(all.subList(0, count)) : all;
+    }
+
+    /**
+     * Computes the histogram bucket for an execution time.
+     *
+     * @param nanos the execution time, in nanoseconds
+     * @return the bucket index (bucket i holds times from 2^i to 2^(i+1) microseconds, with bucket 0 also holding
+     *         times under one microsecond)
+     */
+    static int bucketFor(final long nanos) {
+
+        final long micros = Math.max(1L, nanos / NANOS_PER_MICRO);
+        final int bucket = 63 - Long.numberOfLeadingZeros(micros);
+
+        return Math.min(bucket, NUM_BUCKETS - 1);
+    }
+
+    /**
+     * Statistics for one fingerprint, updated concurrently without locks.
+     */
+    static final class Entry {
+
+        /** The fingerprint. */
+        private final String fingerprint;
+
+        /** The number of executions. */
+        private final LongAdder executions;
+
+        /** The total execution time, in nanoseconds. */
+        private final LongAdder totalNanos;
+
+        /** The number of rows updated or returned. */
+        private final LongAdder rows;
+
+        /** The longest execution time, in nanoseconds. */
+        private final AtomicLong maxNanos;
+
+        /** The histogram of execution times. */
+        private final AtomicLongArray buckets;
+
+        /**
+         * Constructs a new {@code Entry}.
+         *
+         * @param theFingerprint the fingerprint
+         */
+        Entry(final String theFingerprint) {
+
+            this.fingerprint = theFingerprint;
+            this.executions = new LongAdder();
+            this.totalNanos = new LongAdder();
+            this.rows = new LongAdder();
+            this.maxNanos = new AtomicLong();
+            this.buckets = new AtomicLongArray(NUM_BUCKETS);
+        }
+
+        /**
+         * Records an execution.
+         *
+         * @param nanos       the execution time, in nanoseconds
+         * @param rowsUpdated the number of rows updated
+         */
+        void record(final long nanos, final long rowsUpdated) {
+
+            this.executions.increment();
+            this.totalNanos.add(nanos);
+            if (rowsUpdated > 0L) {
+                this.rows.add(rowsUpdated);
+            }
+            this.maxNanos.accumulateAndGet(nanos, Math::max);
+            this.buckets.incrementAndGet(bucketFor(nanos));
+        }
+
+        /**
+         * Adds rows returned by a query.
+         *
+         * @param count the number of rows
+         */
+        void addRows(final long count) {
+
+            this.rows.add(count);
+        }
+
+        /**
+         * Estimates a percentile of execution time from the histogram.
+         *
+         * @param counts   the bucket counts
+         * @param total    the total of all bucket counts
+         * @param fraction the percentile, as a fraction (like 0.95)
+         * @return the upper bound of the bucket that contains the percentile, in microseconds
+         */
+        private static long percentileMicros(final long[] counts, final long total, final double fraction) {
+
+            final long target = (long) Math.ceil(total * fraction);
+
+            long seen = 0L;
+            int bucket = 0;
+            while (bucket < counts.length - 1) {
+                seen += counts[bucket];
+                if (seen >= target) {
+                    break;
+                }
+                ++bucket;
+            }
+
+            return 1L << (bucket + 1);
+        }
+
+        /**
+         * Takes a snapshot of the statistics.
+         *
+         * @return the snapshot
+         */
+        FingerprintStats snapshot() {
+
+            final long[] counts = new long[NUM_BUCKETS];
+            long total = 0L;
+            for (int i = 0; i < NUM_BUCKETS; ++i) {
+                counts[i] = this.buckets.get(i);
+                total += counts[i];
+            }
+
+            final long p50 = total == 0L ? 0L : percentileMicros(counts, total, 0.5);
+            final long p95 = total == 0L ? 0L : percentileMicros(counts, total, 0.95);
+            final long p99 = total == 0L ? 0L : percentileMicros(counts, total, 0.99);
+
+            return new FingerprintStats(this.fingerprint, this.executions.sum(), this.totalNanos.sum(),
+                    this.maxNanos.get(), this.rows.sum(), p50, p95, p99);
+        }
+    }
+
+    /**
+     * A snapshot of the statistics for one fingerprint.  Percentiles are estimated from a histogram with power-of-two
+     * buckets, so each is the upper bound of the bucket that contains it (within a factor of two of the true value).
+     *
+     * @param fingerprint the statement fingerprint
+     * @param executions  the number of executions
+     * @param totalNanos  the total execution time, in nanoseconds
+     * @param maxNanos    the longest execution time, in nanoseconds
+     * @param rows        the number of rows updated or returned
+     * @param p50Micros   the estimated median execution time, in microseconds
+     * @param p95Micros   the estimated 95th percentile execution time, in microseconds
+     * @param p99Micros   the estimated 99th percentile execution time, in microseconds
+     */
+    public record FingerprintStats(String fingerprint, long executions, long totalNanos, long maxNanos, long rows,
+                                   long p50Micros, long p95Micros, long p99Micros) {
+
+        /**
+         * Generates a one-line summary.
+         *
+         * @return the summary
+         */
+        @Override
+        public String toString() {
+
+            return this.executions + " executions, " + this.totalNanos / NANOS_PER_MILLI + " ms total, max "
+                   + this.maxNanos / NANOS_PER_MILLI + " ms, p50/p95/p99 " + this.p50Micros + "/" + this.p95Micros
+                   + "/" + this.p99Micros + " us, " + this.rows + " rows: " + this.fingerprint;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package dev.mathops.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * An invocation handler for statements handed out by {@code DbConnection} that counts executions and rows for a
+ * {@code DbActivity} and/or records timing in {@code StatementStats}.
+ */
+final class StatementWrapper implements InvocationHandler {
+
+    /** The wrapped statement. */
+    private final Statement target;
+
+    /** The SQL given when a prepared statement was prepared; {@code null} for a plain statement. */
+    private final String preparedSql;
+
+    /** The activity that counts executions; {@code null} if none. */
+    private final DbActivity activity;
+
+    /** True to record timing in {@code StatementStats}. */
+    private final boolean timed;
+
+    /** The SQL most recently added to a batch on a plain statement. */
+    private String batchSql;
+
+    /**
+     * Constructs a new {@code StatementWrapper}.
+     *
+     * @param theTarget      the wrapped statement
+     * @param thePreparedSql the SQL given when a prepared statement was prepared; {@code null} for a plain statement
+     * @param theActivity    the activity that counts executions; {@code null} if none
+     * @param isTimed        true to record timing in {@code StatementStats}
+     */
+    private StatementWrapper(final Statement theTarget, final String thePreparedSql, final DbActivity theActivity,
+                             final boolean isTimed) {
+
+        this.target = theTarget;
+        this.preparedSql = thePreparedSql;
+        this.activity = theActivity;
+        this.timed = isTimed;
+    }
+
+    /**
+     * Wraps a statement.
+     *
+     * @param stmt     the statement to wrap
+     * @param activity the activity that counts executions; {@code null} if none
+     * @param timed    true to record timing in {@code StatementStats}
+     * @return the wrapped statement
+     */
+    static Statement wrap(final Statement stmt, final DbActivity activity, final boolean timed) {
+
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{Statement.class},
+                new StatementWrapper(stmt, null, activity, timed));
+    }
+
+    /**
+     * Wraps a prepared statement.
+     *
+     * @param stmt     the prepared statement to wrap
+     * @param sql      the SQL with which the statement was prepared
+     * @param activity the activity that counts executions; {@code null} if none
+     * @param timed    true to record timing in {@code StatementStats}
+     * @return the wrapped prepared statement
+     */
+    static PreparedStatement wrap(final PreparedStatement stmt, final String sql, final DbActivity activity,
+                                  final boolean timed) {
+
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, new StatementWrapper(stmt, sql, activity, timed));
+    }
+
+    /**
+     * Handles a method invocation, counting and timing executions.
+     *
+     * @param proxy  the proxy instance
+     * @param method the method
+     * @param args   the arguments
+     * @return the method's return value
+     * @throws Throwable the exception thrown by the method
+     */
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+
+        final String name = method.getName();
+
+        if ("addBatch".equals(name) && args != null && args.length > 0 && args[0] instanceof final String sql) {
+            this.batchSql = sql;
+        }
+
+        final Object result;
+        StatementStats.Entry entry = null;
+
+        if (name.startsWith("execute")) {
+            final long start = System.nanoTime();
+            result = invokeTarget(this.target, method, args);
+            final long elapsed = System.nanoTime() - start;
+
+            final long updated = countUpdates(result);
+            if (this.activity != null) {
+                this.activity.countStatement();
+                if (updated > 0L) {
+                    this.activity.countRows(updated);
+                }
+            }
+
+            if (this.timed) {
+                final String sql = findSql(name, args);
+                if (sql != null) {
+                    entry = StatementStats.record(sql, elapsed, updated);
+                }
+            }
+        } else {
+            result = invokeTarget(this.target, method, args);
+        }
+
+        return result instanceof final ResultSet rs ? wrapResultSet(rs, entry) : result;
+    }
+
+    /**
+     * Determines the SQL that was executed.
+     *
+     * @param name the name of the method invoked
+     * @param args the arguments
+     * @return the SQL; {@code null} if not known
+     */
+    private String findSql(final String name, final Object[] args) {
+
+        final String result;
+
+        if (args != null && args.length > 0 && args[0] instanceof final String sql) {
+            result = sql;
+        } else if (this.preparedSql != null) {
+            result = this.preparedSql;
+        } else if (name.startsWith("executeBatch") || name.startsWith("executeLargeBatch")) {
+            result = this.batchSql;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Counts the rows updated, based on the value returned by an execute method.
+     *
+     * @param result the value returned
+     * @return the number of rows updated
+     */
+    private static long countUpdates(final Object result) {
+
+        long count = 0L;
+
+        if (result instanceof final Integer value && value.intValue() > 0) {
+            count = value.longValue();
+        } else if (result instanceof final Long value && value.longValue() > 0L) {
+            count = value.longValue();
+        } else if (result instanceof final int[] values) {
+            for (final int value : values) {
+                if (value > 0) {
+                    count += value;
+                }
+            }
+        } else if (result instanceof final long[] values) {
+            for (final long value : values) {
+                if (value > 0L) {
+                    count += value;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Wraps a result set so the rows read from it are counted.
+     *
+     * @param rs    the result set to wrap
+     * @param entry the statistics entry to which to add rows; {@code null} if none
+     * @return the wrapped result set
+     */
+    private ResultSet wrapResultSet(final ResultSet rs, final StatementStats.Entry entry) {
+
+        final DbActivity counter = this.activity;
+
+        final InvocationHandler handler = (proxy, method, args) -> {
+            final Object result = invokeTarget(rs, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                if (counter != null) {
+                    counter.countRows(1L);
+                }
+                if (entry != null) {
+                    entry.addRows(1L);
+                }
+            }
+            return result;
+        };
+
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                handler);
+    }
+
+    /**
+     * Invokes a method on a target object, unwrapping any exception the method throws.
+     *
+     * @param target the target object
+     * @param method the method
+     * @param args   the arguments
+     * @return the method's return value
+     * @throws Throwable the exception thrown by the method
+     */
+    private static Object invokeTarget(final Object target, final Method method, final Object[] args)
+            throws Throwable {
+
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package dev.mathops.db;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Announces changes to student data to registered listeners.
+ *
+ * <p>
+ * Classes that write student data (such as the legacy {@code Raw*Logic} classes) call these methods after a change is
+ * committed.  Classes that cache data derived from student data (such as {@code StudentDataCache} in the logic layer)
+ * register as listeners, so the classes that write data do not depend on the classes that cache it.  Notifications
+ * are delivered only within this process; changes made by other processes are not announced.
+ */
+public enum StudentDataEvents {
+    ;
+
+    /** The registered listeners. */
+    private static final CopyOnWriteArrayList<IStudentDataListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers a listener.  A listener that is already registered is not added again.
+     *
+     * @param listener the listener
+     */
+    public static void addListener(final IStudentDataListener listener) {
+
+        LISTENERS.addIfAbsent(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener
+     */
+    public static void removeListener(final IStudentDataListener listener) {
+
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Announces that data for a student has changed.  This should be called after the change is committed.
+     *
+     * @param cache the data cache through which the change was made
+     * @param stuId the student ID; {@code null} if the student is not known
+     */
+    public static void studentChanged(final Cache cache, final String stuId) {
+
+        for (final IStudentDataListener listener : LISTENERS) {
+            listener.studentChanged(cache, stuId);
+        }
+    }
+
+    /**
+     * Announces that a student's work in a course (exams or milestones) has changed.  This should be called after the
+     * change is committed.
+     *
+     * @param cache  the data cache through which the change was made
+     * @param stuId  the student ID
+     * @param course the course ID; {@code null} if the change may affect any of the student's courses
+     */
+    public static void courseWorkChanged(final Cache cache, final String stuId, final String course) {
+
+        for (final IStudentDataListener listener : LISTENERS) {
+            listener.courseWorkChanged(cache, stuId, course);
+        }
+    }
+
+    /**
+     * Announces a change that may affect any number of students.  This should be called after the change is committed.
+     */
+    public static void allChanged() {
+
+        for (final IStudentDataListener listener : LISTENERS) {
+            listener.allChanged();
+        }
+    }
+}
@@ -14,6 +14,9 @@ public enum ETermName {
     /** Fall term. */
     FALL("FA", "Fall");
 
+    /** All values (cached, since {@code values()} creates a new array on each call). */
+    private static final ETermName[] VALUES = values();
+
     /** The 2-letter term name. */
     public final String termName;
 
@@ -42,7 +45,7 @@ public enum ETermName {
 
         ETermName result = null;
 
-        for (final ETermName test : values()) {
+        for (final ETermName test : VALUES) {
             if (test.termName.equals(theName)) {
                 result = test;
                 break;
@@ -52,6 +55,28 @@ public enum ETermName {
         return result;
     }
 
+    /**
+     * Gets the {@code ETermName} whose 2-letter term name consists of two specified characters.  This allows a term
+     * name to be found within a larger string without creating a substring.
+     *
+     * @param ch1 the first character
+     * @param ch2 the second character
+     * @return the matching {@code ETermName}; {@code null} if none match
+     */
+    public static ETermName forChars(final char ch1, final char ch2) {
+
+        ETermName result = null;
+
+        for (final ETermName test : VALUES) {
+            if (test.termName.charAt(0) == ch1 && test.termName.charAt(1) == ch2) {
+                result = test;
+                break;
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Gets the {@code ETermName} that has a specified full name.
      *
@@ -62,7 +87,7 @@ public enum ETermName {
 
         ETermName result = null;
 
-        for (final ETermName test : values()) {
+        for (final ETermName test : VALUES) {
             if (test.fullName.equals(theName)) {
                 result = test;
                 break;
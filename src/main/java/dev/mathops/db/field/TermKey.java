@@ -18,6 +18,18 @@ public final class TermKey implements Serializable, Comparable<TermKey> {
     @Serial
     private static final long serialVersionUID = -8816964238654081688L;
 
+    /** The first year for which canonical keys are cached. */
+    private static final int FIRST_CACHED_YEAR = 1980;
+
+    /** The number of years for which canonical keys are cached. */
+    private static final int NUM_CACHED_YEARS = 120;
+
+    /** The number of term names. */
+    private static final int NUM_TERM_NAMES = ETermName.values().length;
+
+    /** Canonical keys, indexed by (year - FIRST_CACHED_YEAR) * NUM_TERM_NAMES + term name ordinal. */
+    private static final TermKey[] CANONICAL = new TermKey[NUM_CACHED_YEARS * NUM_TERM_NAMES];
+
     /** The term name. */
     public final ETermName name;
 
@@ -36,6 +48,26 @@ public final class TermKey implements Serializable, Comparable<TermKey> {
     /** The derived short term string, like "FA17". */
     public final String shortString;
 
+    /**
+     * Constructs a new {@code TermKey} with precomputed values.
+     *
+     * @param theName        the term name
+     * @param theYear        the term year
+     * @param theShortYear   the short (2-digit) term year
+     * @param theLongString  the long term string
+     * @param theShortString the short term string
+     */
+    private TermKey(final ETermName theName, final Integer theYear, final Integer theShortYear,
+                    final String theLongString, final String theShortString) {
+
+        this.name = theName;
+        this.termCode = theName.termName;
+        this.year = theYear;
+        this.shortYear = theShortYear;
+        this.longString = theLongString;
+        this.shortString = theShortString;
+    }
+
     /**
      * Constructs a new {@code TermKey}.
      *
@@ -44,117 +76,145 @@ public final class TermKey implements Serializable, Comparable<TermKey> {
      */
     public TermKey(final ETermName theName, final int theYear) {
 
-        if (theName == null) {
-            throw new IllegalArgumentException("Name may not be null");
-        }
+        this(of(theName, theYear));
+    }
 
-        this.name = theName;
-        this.termCode = theName.termName;
-        this.year = Integer.valueOf(theYear);
+    /**
+     * Constructs a new {@code TermKey}.
+     *
+     * @param theName the term name
+     * @param theYear the term year
+     */
+    public TermKey(final ETermName theName, final Integer theYear) {
 
-        final int intYear = this.year.intValue();
-        final Integer shortYr = Integer.valueOf(intYear % 100);
+        this(of(theName, theYear));
+    }
 
-        final HtmlBuilder builder = new HtmlBuilder(50);
-        builder.add(this.name.fullName, ", ").add(intYear);
+    /**
+     * Constructs a new {@code TermKey}.
+     *
+     * @param theNumeric the numeric code
+     */
+    public TermKey(final Integer theNumeric) {
 
-        final String longStr = builder.toString();
+        this(ofNumeric(theNumeric));
+    }
 
-        builder.reset();
+    /**
+     * Constructs a new {@code TermKey}.
+     *
+     * @param theNumeric the numeric code
+     */
+    public TermKey(final int theNumeric) {
 
-        builder.add(this.name.termName);
-        builder.add(intYear / 10 % 10);
-        builder.add(intYear % 10);
+        this(ofNumeric(theNumeric));
+    }
 
-        final String shortStr = builder.toString();
+    /**
+     * Constructs a new {@code TermKey} that shares the values of another (normally canonical) {@code TermKey}.
+     *
+     * @param source the source {@code TermKey}
+     */
+    private TermKey(final TermKey source) {
+
+        this.name = source.name;
+        this.termCode = source.termCode;
+        this.year = source.year;
+        this.shortYear = source.shortYear;
+        this.longString = source.longString;
+        this.shortString = source.shortString;
+    }
 
-        this.shortYear = shortYr;
-        this.longString = longStr;
-        this.shortString = shortStr;
+    /**
+     * Extracts the term name and term year from a short term string (such as "FA17") and stores the values in the name
+     * and year fields.
+     *
+     * @param shortTermString the short term string
+     * @throws IllegalArgumentException if the short term string cannot be parsed
+     */
+    public TermKey(final String shortTermString) {
+
+        this(ofShortString(shortTermString));
     }
 
     /**
-     * Constructs a new {@code TermKey}.
+     * Gets the canonical {@code TermKey} for a term name and year.  Keys for years in a fixed range are created once
+     * and reused, so decoding many records that refer to the same few terms creates no new objects.  Callers must not
+     * rely on the identity of the returned object; use {@code equals} to compare keys.
      *
      * @param theName the term name
      * @param theYear the term year
+     * @return the {@code TermKey}
+     * @throws IllegalArgumentException if the term name is null
      */
-    public TermKey(final ETermName theName, final Integer theYear) {
+    public static TermKey of(final ETermName theName, final int theYear) {
 
-        if (theName == null || theYear == null) {
-            throw new IllegalArgumentException("tern name and year may not be null");
+        if (theName == null) {
+            throw new IllegalArgumentException("Name may not be null");
         }
 
-        this.name = theName;
-        this.termCode = theName.termName;
-        this.year = theYear;
-
-        final int intYear = this.year.intValue();
-        final Integer shortYr = Integer.valueOf(intYear % 100);
-
-        final HtmlBuilder builder = new HtmlBuilder(50);
-        builder.add(this.name.fullName, ", ").add(intYear);
-
-        final String longStr = builder.toString();
+        final TermKey result;
+
+        final int yearIndex = theYear - FIRST_CACHED_YEAR;
+        if (yearIndex >= 0 && yearIndex < NUM_CACHED_YEARS) {
+            final int index = yearIndex * NUM_TERM_NAMES + theName.ordinal();
+            final TermKey cached = CANONICAL[index];
+            if (cached == null) {
+                // A race here can create two equal keys, which is harmless; all fields are final, so either is safely
+                // published
+                result = create(theName, theYear);
+                CANONICAL[index] = result;
+            } else {
+                result = cached;
+            }
+        } else {
+            result = create(theName, theYear);
+        }
 
-        builder.reset();
+        return result;
+    }
 
-        builder.add(this.name.termName);
-        builder.add(intYear / 10 % 10);
-        builder.add(intYear % 10);
+    /**
+     * Gets the canonical {@code TermKey} for a term name and year.
+     *
+     * @param theName the term name
+     * @param theYear the term year
+     * @return the {@code TermKey}
+     * @throws IllegalArgumentException if the term name or year is null
+     */
+    public static TermKey of(final ETermName theName, final Integer theYear) {
 
-        final String shortStr = builder.toString();
+        if (theName == null || theYear == null) {
+            throw new IllegalArgumentException("tern name and year may not be null");
+        }
 
-        this.shortYear = shortYr;
-        this.longString = longStr;
-        this.shortString = shortStr;
+        return of(theName, theYear.intValue());
     }
 
     /**
-     * Constructs a new {@code TermKey}.
+     * Gets the canonical {@code TermKey} for a numeric code, like 202490 (year followed by "10", "60", or "90" for
+     * Spring, Summer, and Fall, respectively).
      *
      * @param theNumeric the numeric code
+     * @return the {@code TermKey}
+     * @throws IllegalArgumentException if the numeric code is null
      */
-    public TermKey(final Integer theNumeric) {
+    public static TermKey ofNumeric(final Integer theNumeric) {
 
         if (theNumeric == null) {
             throw new IllegalArgumentException("numeric value may not be null");
         }
 
-        final int yy = theNumeric.intValue() / 100;
-        final int code = theNumeric.intValue() % 100;
-
-        final ETermName term;
-        if (code == 10) {
-            term = ETermName.SPRING;
-        } else if (code == 60) {
-            term = ETermName.SUMMER;
-        } else {
-            term = ETermName.FALL;
-        }
-
-        this.name = term;
-        this.termCode = term.termName;
-        this.year = Integer.valueOf(yy);
-        this.shortYear = Integer.valueOf(yy % 100);
-
-        final HtmlBuilder builder = new HtmlBuilder(50);
-        builder.add(this.name.fullName, ", ").add(yy);
-        this.longString = builder.toString();
-
-        builder.reset();
-        builder.add(this.name.termName);
-        builder.add(yy / 10 % 10);
-        builder.add(yy % 10);
-        this.shortString = builder.toString();
+        return ofNumeric(theNumeric.intValue());
     }
 
     /**
-     * Constructs a new {@code TermKey}.
+     * Gets the canonical {@code TermKey} for a numeric code, like 202490.
      *
      * @param theNumeric the numeric code
+     * @return the {@code TermKey}
      */
-    public TermKey(final int theNumeric) {
+    public static TermKey ofNumeric(final int theNumeric) {
 
         final int yy = theNumeric / 100;
         final int code = theNumeric % 100;
@@ -168,30 +228,56 @@ public final class TermKey implements Serializable, Comparable<TermKey> {
             term = ETermName.FALL;
         }
 
-        this.name = term;
-        this.termCode = term.termName;
-        this.year = Integer.valueOf(yy);
-        this.shortYear = Integer.valueOf(yy % 100);
+        return of(term, yy);
+    }
 
-        final HtmlBuilder builder = new HtmlBuilder(50);
-        builder.add(this.name.fullName, ", ").add(yy);
-        this.longString = builder.toString();
+    /**
+     * Gets the canonical {@code TermKey} for a short term string (such as "FA17"), accepting the same formats as the
+     * {@code TermKey(String)} constructor.
+     *
+     * @param shortTermString the short term string
+     * @return the {@code TermKey}
+     * @throws IllegalArgumentException if the short term string cannot be parsed
+     */
+    public static TermKey ofShortString(final String shortTermString) {
+
+        TermKey result = null;
+
+        // Fast path for the usual "FA17" form, which avoids creating substrings
+        if (shortTermString != null && shortTermString.length() == 4) {
+            final char ch1 = shortTermString.charAt(0);
+            final char ch2 = shortTermString.charAt(1);
+            final int d1 = Character.digit(shortTermString.charAt(2), 10);
+            final int d2 = Character.digit(shortTermString.charAt(3), 10);
+
+            if (d1 >= 0 && d2 >= 0) {
+                final ETermName term = ETermName.forChars(ch1, ch2);
+                if (term != null) {
+                    final int yearValue = d1 * 10 + d2;
+                    result = of(term, yearValue >= 80 ? 1900 + yearValue : 2000 + yearValue);
+                }
+            }
+        }
 
-        builder.reset();
-        builder.add(this.name.termName);
-        builder.add(yy / 10 % 10);
-        builder.add(yy % 10);
-        this.shortString = builder.toString();
+        if (result == null) {
+            result = parseShortString(shortTermString);
+        }
+
+        return result;
     }
 
     /**
-     * Extracts the term name and term year from a short term string (such as "FA17") and stores the values in the name
-     * and year fields.
+     * Parses a short term string (such as "FA17"), or a 4-digit or 2-digit year (which is assumed to indicate a Spring
+     * term).
      *
      * @param shortTermString the short term string
+     * @return the canonical {@code TermKey}
      * @throws IllegalArgumentException if the short term string cannot be parsed
      */
-    public TermKey(final String shortTermString) {
+    private static TermKey parseShortString(final String shortTermString) {
+
+        final ETermName parsedName;
+        final int parsedYear;
 
         if (shortTermString == null) {
             final String msg = Res.get(Res.NULL_SHORT_TERM);
@@ -206,8 +292,8 @@ public final class TermKey implements Serializable, Comparable<TermKey> {
                     // Maybe it's just a year, like 2017? If so, assume SPRING term.
                     final int intYear = Integer.parseInt(shortTermString);
                     if (intYear > 2000 && intYear < 3000) {
-                        this.name = ETermName.SPRING;
-                        this.year = Integer.valueOf(intYear);
+                        parsedName = ETermName.SPRING;
+                        parsedYear = intYear;
                     } else {
                         final String msg = Res.fmt(Res.BAD_SHORT_TERM, shortTermString);
                         throw new IllegalArgumentException(msg);
@@ -221,8 +307,8 @@ public final class TermKey implements Serializable, Comparable<TermKey> {
                     final String yearString = shortTermString.substring(2);
                     final int yearValue = Integer.parseInt(yearString);
 
-                    this.year = yearValue >= 80 ? Integer.valueOf(1900 + yearValue) : Integer.valueOf(2000 + yearValue);
-                    this.name = term;
+                    parsedYear = yearValue >= 80 ? 1900 + yearValue : 2000 + yearValue;
+                    parsedName = term;
                 } catch (final NumberFormatException ex) {
                     final String msg = Res.fmt(Res.BAD_SHORT_TERM, shortTermString, ex);
                     throw new IllegalArgumentException(msg);
@@ -233,8 +319,8 @@ public final class TermKey implements Serializable, Comparable<TermKey> {
                 // Maybe it's just a 2-digit year, like 17? If so, assume SPRING term.
                 final int intYear = Integer.parseInt(shortTermString);
                 if (intYear >= 0 && intYear < 40) {
-                    this.name = ETermName.SPRING;
-                    this.year = Integer.valueOf(2000 + intYear);
+                    parsedName = ETermName.SPRING;
+                    parsedYear = 2000 + intYear;
                 } else {
                     final String msg = Res.fmt(Res.BAD_SHORT_TERM, shortTermString);
                     throw new IllegalArgumentException(msg);
@@ -248,26 +334,32 @@ public final class TermKey implements Serializable, Comparable<TermKey> {
             throw new IllegalArgumentException(msg);
         }
 
-        final int intYear = this.year.intValue();
-        final Integer shortYr = Integer.valueOf(intYear % 100);
+        return of(parsedName, parsedYear);
+    }
+
+    /**
+     * Creates a new {@code TermKey}, generating its string representations.
+     *
+     * @param theName the term name
+     * @param theYear the term year
+     * @return the new {@code TermKey}
+     */
+    private static TermKey create(final ETermName theName, final int theYear) {
 
         final HtmlBuilder builder = new HtmlBuilder(50);
-        builder.add(this.name.fullName, ", ").add(intYear);
+        builder.add(theName.fullName, ", ").add(theYear);
 
         final String longStr = builder.toString();
 
         builder.reset();
 
-        builder.add(this.name.termName);
-        builder.add(intYear / 10 % 10);
-        builder.add(intYear % 10);
+        builder.add(theName.termName);
+        builder.add(theYear / 10 % 10);
+        builder.add(theYear % 10);
 
         final String shortStr = builder.toString();
 
-        this.shortYear = shortYr;
-        this.longString = longStr;
-        this.shortString = shortStr;
-        this.termCode = this.name.termName;
+        return new TermKey(theName, Integer.valueOf(theYear), Integer.valueOf(theYear % 100), longStr, shortStr);
     }
 
     /**
@@ -331,7 +423,7 @@ public final class TermKey implements Serializable, Comparable<TermKey> {
             term = ETermName.FALL;
         }
 
-        return new TermKey(term, year);
+        return of(term, year);
     }
 
     /**
@@ -365,7 +457,7 @@ public final class TermKey implements Serializable, Comparable<TermKey> {
 
         final int year = Integer.parseInt(yearStr);
 
-        return new TermKey(term, year);
+        return of(term, year);
     }
 
     /**
@@ -449,7 +541,7 @@ public final class TermKey implements Serializable, Comparable<TermKey> {
             }
         }
 
-        return new TermKey(newName, newYear);
+        return of(newName, newYear);
     }
 
     /**
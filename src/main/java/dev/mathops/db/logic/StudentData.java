@@ -33,6 +33,7 @@ import dev.mathops.db.schema.legacy.impl.RawSttermLogic;
 import dev.mathops.db.schema.legacy.impl.RawStudentLogic;
 import dev.mathops.db.schema.legacy.impl.RawStvisitLogic;
 import dev.mathops.db.schema.legacy.impl.RawUsersLogic;
+import dev.mathops.db.schema.legacy.impl.StudentSnapshotLogic;
 import dev.mathops.db.schema.legacy.rec.RawAdminHold;
 import dev.mathops.db.schema.legacy.rec.RawChallengeFee;
 import dev.mathops.db.schema.legacy.rec.RawDiscipline;
@@ -70,7 +71,6 @@ import dev.mathops.db.schema.term.rec.StuCourseMasteryRec;
 import dev.mathops.db.schema.term.rec.StuStandardMilestoneRec;
 import dev.mathops.db.schema.term.rec.StuUnitMasteryRec;
 import dev.mathops.db.schema.main.rec.TermRec;
-import dev.mathops.db.schema.main.impl.MasteryAttemptLogic;
 import dev.mathops.db.schema.main.impl.StuCourseMasteryLogic;
 import dev.mathops.db.schema.main.impl.StuStandardMilestoneLogic;
 import dev.mathops.db.schema.main.impl.StuUnitMasteryLogic;
@@ -79,13 +79,21 @@ import dev.mathops.db.field.TermKey;
 import java.sql.SQLException;
 import java.time.chrono.ChronoLocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A data container for all data associated with a single student, with specific data loaded lazily as needed.
+ *
+ * <p>
+ * Lists of records from legacy student tables are loaded through {@code StudentDataCache}, so when that cache is
+ * enabled they can be shared with later requests for the same student.  Each {@code forget} method also invalidates
+ * the student's entries in that cache.
  */
 public final class StudentData {
 
@@ -179,8 +187,8 @@ public final class StudentData {
     /** The list of all course unit objective status objects for this student. */
     private List<RawStcuobjective> studentCourseObjectives = null;
 
-    /** The list of all mastery attempts on the student's record. */
-    private List<MasteryAttemptRec> masteryAttempts = null;
+    /** All mastery attempts on the student's record, grouped by exam. */
+    private StudentMasteryAttempts masteryAttempts = null;
 
     /** The list of student course mastery records for the student. */
     private List<StuCourseMasteryRec> studentCourseMastery = null;
@@ -197,6 +205,9 @@ public final class StudentData {
     /** The list of all deadline appeals on record for this student. */
     private List<RawPaceAppeals> deadlineAppeals = null;
 
+    /** All milestone appeals on record for this student, grouped by milestone. */
+    private StudentMilestoneAppeals milestoneAppeals = null;
+
     /** The list of all student e-texts. */
     private List<RawStetext> studentETexts = null;
 
@@ -304,6 +315,140 @@ public final class StudentData {
     public void forgetStudentRecord() {
 
         this.studentRecord = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
+    }
+
+    /**
+     * Loads the student record and the lists a student's dashboard typically needs (holds, registrations, student
+     * terms, special categories, milestone overrides, deadline appeals, pending exams, exams, and homework) with a
+     * single connection checkout (and, where the database supports it, a single round trip), rather than a checkout and
+     * query for each as the data is first accessed.  Data that has already been loaded is retained, and lists found in
+     * the shared student data cache are taken from the cache, so only the remaining data is queried (and nothing is
+     * queried if everything is already available).  The student record is taken from the snapshot only if live
+     * refreshes are not enabled, since live refreshes are applied only when it is queried individually.
+     *
+     * @throws SQLException if there is an error accessing the database
+     */
+    public void loadSnapshot() throws SQLException {
+
+        // Test students are served from generated data, which is only available through the individual queries
+        if (!this.studentId.startsWith("99")) {
+            final long generation = StudentDataCache.generation();
+            final Set<StudentSnapshotLogic.EPart> which = EnumSet.noneOf(StudentSnapshotLogic.EPart.class);
+
+            if (this.studentRecord == null && this.liveRefreshes == ELiveRefreshes.NONE) {
+                which.add(StudentSnapshotLogic.EPart.STUDENT);
+            }
+            if (this.holds == null) {
+                this.holds = fromCache("holds", StudentSnapshotLogic.EPart.HOLDS, which);
+            }
+            if (this.registrations == null) {
+                this.registrations = fromCache("registrations", StudentSnapshotLogic.EPart.REGISTRATIONS, which);
+            }
+            if (this.studentTerm == null) {
+                this.studentTerm = fromCache("studentTerm", StudentSnapshotLogic.EPart.STUDENT_TERMS, which);
+            }
+            if (this.specialCategories == null) {
+                this.specialCategories = fromCache("specialCategories", StudentSnapshotLogic.EPart.SPECIAL_CATEGORIES,
+                        which);
+            }
+            if (this.studentMilestones == null) {
+                this.studentMilestones = fromCache("studentMilestones", StudentSnapshotLogic.EPart.MILESTONES, which);
+            }
+            if (this.deadlineAppeals == null) {
+                this.deadlineAppeals = fromCache("deadlineAppeals", StudentSnapshotLogic.EPart.DEADLINE_APPEALS,
+                        which);
+            }
+            if (this.pendingExams == null) {
+                this.pendingExams = fromCache("pendingExams", StudentSnapshotLogic.EPart.PENDING_EXAMS, which);
+            }
+            if (this.studentExams == null) {
+                this.studentExams = fromCache("studentExams", StudentSnapshotLogic.EPart.EXAMS, which);
+            }
+            if (this.studentHomeworks == null) {
+                this.studentHomeworks = fromCache("studentHomeworks", StudentSnapshotLogic.EPart.HOMEWORK, which);
+            }
+
+            if (!which.isEmpty()) {
+                final StudentSnapshotLogic.StudentSnapshot snapshot = StudentSnapshotLogic.query(this.cache,
+                        this.studentId, which);
+
+                if (which.contains(StudentSnapshotLogic.EPart.STUDENT)) {
+                    this.studentRecord = snapshot.student();
+                }
+                if (this.holds == null) {
+                    this.holds = fromSnapshot("holds", snapshot.holds(), generation);
+                }
+                if (this.registrations == null) {
+                    this.registrations = fromSnapshot("registrations", adjustRegistrations(snapshot.registrations()),
+                            generation);
+                }
+                if (this.studentTerm == null) {
+                    this.studentTerm = fromSnapshot("studentTerm", snapshot.studentTerms(), generation);
+                }
+                if (this.specialCategories == null) {
+                    this.specialCategories = fromSnapshot("specialCategories", snapshot.specialCategories(),
+                            generation);
+                }
+                if (this.studentMilestones == null) {
+                    final List<RawStmilestone> milestones = snapshot.milestones();
+                    Collections.sort(milestones);
+                    this.studentMilestones = fromSnapshot("studentMilestones", milestones, generation);
+                }
+                if (this.deadlineAppeals == null) {
+                    this.deadlineAppeals = fromSnapshot("deadlineAppeals", snapshot.deadlineAppeals(), generation);
+                }
+                if (this.pendingExams == null) {
+                    this.pendingExams = fromSnapshot("pendingExams", snapshot.pendingExams(), generation);
+                }
+                if (this.studentExams == null) {
+                    final List<RawStexam> exams = snapshot.exams();
+                    exams.sort(new RawStexam.FinishDateTimeComparator());
+                    this.studentExams = fromSnapshot("studentExams", exams, generation);
+                }
+                if (this.studentHomeworks == null) {
+                    this.studentHomeworks = fromSnapshot("studentHomeworks", snapshot.homework(), generation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds a list in the shared student data cache for a snapshot.  If the list is not found, the snapshot part that
+     * queries it is added to the set of parts to query.
+     *
+     * @param name  the name of the list
+     * @param part  the snapshot part that queries the list
+     * @param which the set of parts to query
+     * @param <T>   the type of record in the list
+     * @return the list; {@code null} if not found
+     */
+    private <T> List<T> fromCache(final String name, final StudentSnapshotLogic.EPart part,
+                                  final Set<? super StudentSnapshotLogic.EPart> which) {
+
+        final List<T> list = StudentDataCache.find(this.cache, this.studentId, name);
+
+        if (list == null) {
+            which.add(part);
+        }
+
+        return list;
+    }
+
+    /**
+     * Offers a list loaded in a snapshot to the shared student data cache.
+     *
+     * @param name       the name of the list
+     * @param list       the list
+     * @param generation the cache generation number read before the snapshot was queried
+     * @param <T>        the type of record in the list
+     * @return {@code list}
+     */
+    private <T> List<T> fromSnapshot(final String name, final List<T> list, final long generation) {
+
+        StudentDataCache.offer(this.cache, this.studentId, name, list, generation);
+
+        return list;
     }
 
     /**
@@ -331,6 +476,7 @@ public final class StudentData {
     public void forgetPacingStructure() {
 
         this.pacingStructure = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -342,7 +488,8 @@ public final class StudentData {
     public List<RawAdminHold> getHolds() throws SQLException {
 
         if (this.holds == null) {
-            this.holds = RawAdminHoldLogic.queryByStudent(this.cache, this.studentId);
+            this.holds = StudentDataCache.load(this.cache, this.studentId, "holds",
+                    () -> RawAdminHoldLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.holds;
@@ -376,6 +523,7 @@ public final class StudentData {
     public void forgetHolds() {
 
         this.holds = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -387,7 +535,8 @@ public final class StudentData {
     public List<RawDiscipline> getDisciplinaryActions() throws SQLException {
 
         if (this.disciplinaryActions == null) {
-            this.disciplinaryActions = RawDisciplineLogic.queryByStudent(this.cache, this.studentId);
+            this.disciplinaryActions = StudentDataCache.load(this.cache, this.studentId, "disciplinaryActions",
+                    () -> RawDisciplineLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.disciplinaryActions;
@@ -399,6 +548,7 @@ public final class StudentData {
     public void forgetDisciplinaryActions() {
 
         this.disciplinaryActions = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -410,7 +560,8 @@ public final class StudentData {
     public List<RawExceptStu> getVisitingRegistrations() throws SQLException {
 
         if (this.visitingRegistrations == null) {
-            this.visitingRegistrations = RawExceptStuLogic.queryByStudent(this.cache, this.studentId);
+            this.visitingRegistrations = StudentDataCache.load(this.cache, this.studentId, "visitingRegistrations",
+                    () -> RawExceptStuLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.visitingRegistrations;
@@ -425,7 +576,8 @@ public final class StudentData {
     public List<RawFfrTrns> getTransferCredit() throws SQLException {
 
         if (this.transferCredit == null) {
-            this.transferCredit = RawFfrTrnsLogic.queryByStudent(this.cache, this.studentId);
+            this.transferCredit = StudentDataCache.load(this.cache, this.studentId, "transferCredit",
+                    () -> RawFfrTrnsLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.transferCredit;
@@ -440,7 +592,8 @@ public final class StudentData {
     public List<RawStresource> getResourcesOnLoan() throws SQLException {
 
         if (this.resourcesOnLoan == null) {
-            this.resourcesOnLoan = RawStresourceLogic.queryByStudent(this.cache, this.studentId);
+            this.resourcesOnLoan = StudentDataCache.load(this.cache, this.studentId, "resourcesOnLoan",
+                    () -> RawStresourceLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.resourcesOnLoan;
@@ -455,7 +608,8 @@ public final class StudentData {
     public List<RawStmsg> getMessagesSent() throws SQLException {
 
         if (this.messagesSent == null) {
-            this.messagesSent = RawStmsgLogic.queryByStudent(this.cache, this.studentId);
+            this.messagesSent = StudentDataCache.load(this.cache, this.studentId, "messagesSent",
+                    () -> RawStmsgLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.messagesSent;
@@ -470,7 +624,8 @@ public final class StudentData {
     public List<RawStvisit> getCenterVisits() throws SQLException {
 
         if (this.centerVisits == null) {
-            this.centerVisits = RawStvisitLogic.queryByStudent(this.cache, this.studentId);
+            this.centerVisits = StudentDataCache.load(this.cache, this.studentId, "centerVisits",
+                    () -> RawStvisitLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.centerVisits;
@@ -485,7 +640,8 @@ public final class StudentData {
     public List<RawPendingExam> getPendingExams() throws SQLException {
 
         if (this.pendingExams == null) {
-            this.pendingExams = RawPendingExamLogic.queryByStudent(this.cache, this.studentId);
+            this.pendingExams = StudentDataCache.load(this.cache, this.studentId, "pendingExams",
+                    () -> RawPendingExamLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.pendingExams;
@@ -497,6 +653,7 @@ public final class StudentData {
     public void forgetPendingExams() {
 
         this.pendingExams = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -508,7 +665,8 @@ public final class StudentData {
     public List<RawSpecialStus> getSpecialCategories() throws SQLException {
 
         if (this.specialCategories == null) {
-            this.specialCategories = RawSpecialStusLogic.queryByStudent(this.cache, this.studentId);
+            this.specialCategories = StudentDataCache.load(this.cache, this.studentId, "specialCategories",
+                    () -> RawSpecialStusLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.specialCategories;
@@ -580,6 +738,7 @@ public final class StudentData {
     public void forgetSpecialCategories() {
 
         this.specialCategories = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -591,7 +750,8 @@ public final class StudentData {
     public List<RawStmathplan> getMathPlanResponses() throws SQLException {
 
         if (this.mathPlanResponses == null) {
-            this.mathPlanResponses = RawStmathplanLogic.queryByStudent(this.cache, this.studentId);
+            this.mathPlanResponses = StudentDataCache.load(this.cache, this.studentId, "mathPlanResponses",
+                    () -> RawStmathplanLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.mathPlanResponses;
@@ -606,7 +766,18 @@ public final class StudentData {
      */
     public Map<Integer, RawStmathplan> getLatestMathPlanResponsesByPage(final String pageId) throws SQLException {
 
-        final List<RawStmathplan> all = getMathPlanResponses();
+        return getLatestMathPlanResponsesByPage(getMathPlanResponses(), pageId);
+    }
+
+    /**
+     * Gets the most recent responses for a specified page in the Math Plan from a list of a student's responses.
+     *
+     * @param all    the list of all Math Plan responses for the student
+     * @param pageId the page ID
+     * @return a map from survey question number to the latest response
+     */
+    public static Map<Integer, RawStmathplan> getLatestMathPlanResponsesByPage(final Iterable<RawStmathplan> all,
+                                                                               final String pageId) {
 
         final Map<Integer, RawStmathplan> map = new HashMap<>(10);
 
@@ -634,6 +805,7 @@ public final class StudentData {
     public void forgetMathPlanResponses() {
 
         this.mathPlanResponses = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -645,8 +817,11 @@ public final class StudentData {
     public List<RawStmpe> getPlacementAttempts() throws SQLException {
 
         if (this.placementAttempts == null) {
-            this.placementAttempts = RawStmpeLogic.queryByStudent(this.cache, this.studentId);
-            this.placementAttempts.sort(new RawStmpe.FinishDateTimeComparator());
+            this.placementAttempts = StudentDataCache.load(this.cache, this.studentId, "placementAttempts", () -> {
+                final List<RawStmpe> list = RawStmpeLogic.queryByStudent(this.cache, this.studentId);
+                list.sort(new RawStmpe.FinishDateTimeComparator());
+                return list;
+            });
         }
 
         return this.placementAttempts;
@@ -660,7 +835,17 @@ public final class StudentData {
      */
     public List<RawStmpe> getLegalPlacementAttempts() throws SQLException {
 
-        final List<RawStmpe> all = getPlacementAttempts();
+        return getLegalPlacementAttempts(getPlacementAttempts());
+    }
+
+    /**
+     * Gets the legal placement attempts from a list of a student's placement attempts.
+     *
+     * @param all the list of all placement attempts for the student
+     * @return the list of legal placement attempts
+     */
+    public static List<RawStmpe> getLegalPlacementAttempts(final Collection<RawStmpe> all) {
+
         final List<RawStmpe> result = new ArrayList<>(all.size());
 
         for (final RawStmpe test : all) {
@@ -720,6 +905,7 @@ public final class StudentData {
     public void forgetPlacementAttempts() {
 
         this.placementAttempts = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -731,7 +917,8 @@ public final class StudentData {
     public List<RawMpeCredit> getPlacementCredit() throws SQLException {
 
         if (this.placementCredit == null) {
-            this.placementCredit = RawMpeCreditLogic.queryByStudent(this.cache, this.studentId);
+            this.placementCredit = StudentDataCache.load(this.cache, this.studentId, "placementCredit",
+                    () -> RawMpeCreditLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.placementCredit;
@@ -743,6 +930,7 @@ public final class StudentData {
     public void forgetPlacementCredit() {
 
         this.placementCredit = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -754,7 +942,8 @@ public final class StudentData {
     public List<RawMpecrDenied> getPlacementDenied() throws SQLException {
 
         if (this.placementDenied == null) {
-            this.placementDenied = RawMpecrDeniedLogic.queryByStudent(this.cache, this.studentId);
+            this.placementDenied = StudentDataCache.load(this.cache, this.studentId, "placementDenied",
+                    () -> RawMpecrDeniedLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.placementDenied;
@@ -766,6 +955,7 @@ public final class StudentData {
     public void forgetPlacementDenied() {
 
         this.placementDenied = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -795,7 +985,8 @@ public final class StudentData {
     public List<RawStchallenge> getChallengeExams() throws SQLException {
 
         if (this.challengeExams == null) {
-            this.challengeExams = RawStchallengeLogic.queryByStudent(this.cache, this.studentId);
+            this.challengeExams = StudentDataCache.load(this.cache, this.studentId, "challengeExams",
+                    () -> RawStchallengeLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.challengeExams;
@@ -872,6 +1063,7 @@ public final class StudentData {
     public void forgetChallengeExams() {
 
         this.challengeExams = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -883,7 +1075,8 @@ public final class StudentData {
     public List<RawChallengeFee> getChallengeFees() throws SQLException {
 
         if (this.challengeFees == null) {
-            this.challengeFees = RawChallengeFeeLogic.queryByStudent(this.cache, this.studentId);
+            this.challengeFees = StudentDataCache.load(this.cache, this.studentId, "challengeFees",
+                    () -> RawChallengeFeeLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.challengeFees;
@@ -898,7 +1091,8 @@ public final class StudentData {
     public List<RawStsurveyqa> getSurveyResponses() throws SQLException {
 
         if (this.surveyResponses == null) {
-            this.surveyResponses = RawStsurveyqaLogic.queryLatestByStudent(this.cache, this.studentId);
+            this.surveyResponses = StudentDataCache.load(this.cache, this.studentId, "surveyResponses",
+                    () -> RawStsurveyqaLogic.queryLatestByStudent(this.cache, this.studentId));
         }
 
         return this.surveyResponses;
@@ -931,6 +1125,7 @@ public final class StudentData {
     public void forgetSurveyResponses() {
 
         this.surveyResponses = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -942,18 +1137,32 @@ public final class StudentData {
     public List<RawStcourse> getRegistrations() throws SQLException {
 
         if (this.registrations == null) {
-            this.registrations = RawStcourseLogic.queryByStudent(this.cache, this.studentId, true, true);
+            this.registrations = StudentDataCache.load(this.cache, this.studentId, "registrations",
+                    () -> adjustRegistrations(RawStcourseLogic.queryByStudent(this.cache, this.studentId, true,
+                            true)));
+        }
 
-            for (final RawStcourse test : this.registrations) {
-                if (RawRecordConstants.M117.equals(test.course)
-                    && ("801".equals(test.sect) || "809".equals(test.sect))
-                    && (test.prereqSatis == null || "N".equals(test.prereqSatis))) {
-                    test.prereqSatis = "P";
-                }
+        return this.registrations;
+    }
+
+    /**
+     * Adjusts registrations as they are loaded: MATH 117 registrations in sections 801 and 809 are treated as having
+     * prerequisites satisfied.
+     *
+     * @param list the list of registrations
+     * @return {@code list}
+     */
+    private static List<RawStcourse> adjustRegistrations(final List<RawStcourse> list) {
+
+        for (final RawStcourse test : list) {
+            if (RawRecordConstants.M117.equals(test.course)
+                && ("801".equals(test.sect) || "809".equals(test.sect))
+                && (test.prereqSatis == null || "N".equals(test.prereqSatis))) {
+                test.prereqSatis = "P";
             }
         }
 
-        return this.registrations;
+        return list;
     }
 
     /**
@@ -1048,7 +1257,16 @@ public final class StudentData {
      */
     public List<RawStcourse> getCompletedRegistrations() throws SQLException {
 
-        final List<RawStcourse> all = getRegistrations();
+        return getCompletedRegistrations(getRegistrations());
+    }
+
+    /**
+     * Gets the registrations marked as completed from a list of a student's registrations.
+     *
+     * @param all the list of all registrations for the student
+     * @return the list of completed registrations
+     */
+    public static List<RawStcourse> getCompletedRegistrations(final Iterable<RawStcourse> all) {
 
         final List<RawStcourse> completed = new ArrayList<>(6);
         for (final RawStcourse test : all) {
@@ -1178,6 +1396,7 @@ public final class StudentData {
     public void forgetRegistrations() {
 
         this.registrations = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -1189,7 +1408,8 @@ public final class StudentData {
     public List<RawStterm> getStudentTerms() throws SQLException {
 
         if (this.studentTerm == null) {
-            this.studentTerm = RawSttermLogic.queryByStudent(this.cache, this.studentId);
+            this.studentTerm = StudentDataCache.load(this.cache, this.studentId, "studentTerm",
+                    () -> RawSttermLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.studentTerm;
@@ -1223,6 +1443,7 @@ public final class StudentData {
     public void forgetStudentTerm() {
 
         this.studentTerm = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -1234,8 +1455,11 @@ public final class StudentData {
     public List<RawStexam> getStudentExams() throws SQLException {
 
         if (this.studentExams == null) {
-            this.studentExams = RawStexamLogic.queryByStudent(this.cache, this.studentId, true);
-            this.studentExams.sort(new RawStexam.FinishDateTimeComparator());
+            this.studentExams = StudentDataCache.load(this.cache, this.studentId, "studentExams", () -> {
+                final List<RawStexam> list = RawStexamLogic.queryByStudent(this.cache, this.studentId, true);
+                list.sort(new RawStexam.FinishDateTimeComparator());
+                return list;
+            });
         }
 
         return this.studentExams;
@@ -1432,6 +1656,7 @@ public final class StudentData {
     public void forgetStudentExams() {
 
         this.studentExams = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -1443,7 +1668,8 @@ public final class StudentData {
     public List<RawStqa> getStudentExamAnswers() throws SQLException {
 
         if (this.studentExamAnswers == null) {
-            this.studentExamAnswers = RawStqaLogic.queryByStudent(this.cache, this.studentId);
+            this.studentExamAnswers = StudentDataCache.load(this.cache, this.studentId, "studentExamAnswers",
+                    () -> RawStqaLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.studentExamAnswers;
@@ -1455,6 +1681,7 @@ public final class StudentData {
     public void forgetStudentExamAnswers() {
 
         this.studentExamAnswers = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -1466,7 +1693,8 @@ public final class StudentData {
     public List<RawSthomework> getStudentHomework() throws SQLException {
 
         if (this.studentHomeworks == null) {
-            this.studentHomeworks = RawSthomeworkLogic.queryByStudent(this.cache, this.studentId, true);
+            this.studentHomeworks = StudentDataCache.load(this.cache, this.studentId, "studentHomeworks",
+                    () -> RawSthomeworkLogic.queryByStudent(this.cache, this.studentId, true));
         }
 
         return this.studentHomeworks;
@@ -1582,6 +1810,7 @@ public final class StudentData {
     public void forgetStudentHomeworks() {
 
         this.studentHomeworks = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -1593,7 +1822,8 @@ public final class StudentData {
     public List<RawSthwqa> getStudentHomeworkAnswers() throws SQLException {
 
         if (this.studentHomeworkAnswers == null) {
-            this.studentHomeworkAnswers = RawSthwqaLogic.queryByStudent(this.cache, this.studentId);
+            this.studentHomeworkAnswers = StudentDataCache.load(this.cache, this.studentId, "studentHomeworkAnswers",
+                    () -> RawSthwqaLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.studentHomeworkAnswers;
@@ -1605,6 +1835,7 @@ public final class StudentData {
     public void forgetStudentHomeworkAnswers() {
 
         this.studentHomeworkAnswers = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -1616,7 +1847,8 @@ public final class StudentData {
     public List<RawStcunit> getStudentCourseUnits() throws SQLException {
 
         if (this.studentCourseUnits == null) {
-            this.studentCourseUnits = RawStcunitLogic.queryByStudent(this.cache, this.studentId);
+            this.studentCourseUnits = StudentDataCache.load(this.cache, this.studentId, "studentCourseUnits",
+                    () -> RawStcunitLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.studentCourseUnits;
@@ -1631,7 +1863,8 @@ public final class StudentData {
     public List<RawStcuobjective> getStudentCourseObjectives() throws SQLException {
 
         if (this.studentCourseObjectives == null) {
-            this.studentCourseObjectives = RawStcuobjectiveLogic.queryByStudent(this.cache, this.studentId);
+            this.studentCourseObjectives = StudentDataCache.load(this.cache, this.studentId, "studentCourseObjectives",
+                    () -> RawStcuobjectiveLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.studentCourseObjectives;
@@ -1682,23 +1915,37 @@ public final class StudentData {
     public void forgetStudentCourseObjectives() {
 
         this.studentCourseObjectives = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
-     * Gets the list of all mastery attempts by the student.
+     * Gets all mastery attempts by the student, grouped by exam, with access to the question answers for each attempt.
      *
      * @return the mastery attempts
      * @throws SQLException if there is an error accessing the database
      */
-    public List<MasteryAttemptRec> getMasteryAttempts() throws SQLException {
+    public StudentMasteryAttempts getMasteryAttemptData() throws SQLException {
 
         if (this.masteryAttempts == null) {
-            this.masteryAttempts = MasteryAttemptLogic.INSTANCE.queryByStudent(this.cache, this.studentId);
+            this.masteryAttempts = new StudentMasteryAttempts(this.cache, this.studentId);
         }
 
         return this.masteryAttempts;
     }
 
+    /**
+     * Gets the list of all mastery attempts by the student.  The list is shared with the object returned by
+     * {@code getMasteryAttemptData}, so it cannot be modified; a caller that needs to sort or filter it should make a
+     * copy.
+     *
+     * @return the unmodifiable list of mastery attempts
+     * @throws SQLException if there is an error accessing the database
+     */
+    public List<MasteryAttemptRec> getMasteryAttempts() throws SQLException {
+
+        return getMasteryAttemptData().getAttempts();
+    }
+
     /**
      * Gets the list of all mastery attempts by the student on a specified exam ID.
      *
@@ -1708,16 +1955,7 @@ public final class StudentData {
      */
     public List<MasteryAttemptRec> getMasteryAttemptsByExamId(final String examId) throws SQLException {
 
-        final List<MasteryAttemptRec> all = getMasteryAttempts();
-        final List<MasteryAttemptRec> result = new ArrayList<>(10);
-
-        for (final MasteryAttemptRec test : all) {
-            if (test.examId.equals(examId)) {
-                result.add(test);
-            }
-        }
-
-        return result;
+        return new ArrayList<>(getMasteryAttemptData().getAttemptsByExam(examId));
     }
 
     /**
@@ -1726,6 +1964,7 @@ public final class StudentData {
     public void forgetMasteryAttempts() {
 
         this.masteryAttempts = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -1769,8 +2008,11 @@ public final class StudentData {
     public List<RawStmilestone> getStudentMilestones() throws SQLException {
 
         if (this.studentMilestones == null) {
-            this.studentMilestones = RawStmilestoneLogic.queryByStudent(this.cache, this.studentId);
-            Collections.sort(this.studentMilestones);
+            this.studentMilestones = StudentDataCache.load(this.cache, this.studentId, "studentMilestones", () -> {
+                final List<RawStmilestone> list = RawStmilestoneLogic.queryByStudent(this.cache, this.studentId);
+                Collections.sort(list);
+                return list;
+            });
         }
 
         return this.studentMilestones;
@@ -1806,6 +2048,7 @@ public final class StudentData {
     public void forgetStudentMilestones() {
 
         this.studentMilestones = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -1858,7 +2101,8 @@ public final class StudentData {
     public List<RawPaceAppeals> getDeadlineAppeals() throws SQLException {
 
         if (this.deadlineAppeals == null) {
-            this.deadlineAppeals = RawPaceAppealsLogic.queryByStudent(this.cache, this.studentId);
+            this.deadlineAppeals = StudentDataCache.load(this.cache, this.studentId, "deadlineAppeals",
+                    () -> RawPaceAppealsLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.deadlineAppeals;
@@ -1870,6 +2114,31 @@ public final class StudentData {
     public void forgetDeadlineAppeals() {
 
         this.deadlineAppeals = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
+    }
+
+    /**
+     * Gets all milestone appeals by the student, grouped by milestone.
+     *
+     * @return the milestone appeals
+     * @throws SQLException if there is an error accessing the database
+     */
+    public StudentMilestoneAppeals getMilestoneAppealData() throws SQLException {
+
+        if (this.milestoneAppeals == null) {
+            this.milestoneAppeals = new StudentMilestoneAppeals(this.cache, this.studentId);
+        }
+
+        return this.milestoneAppeals;
+    }
+
+    /**
+     * Forgets the milestone appeals, forcing a re-query on next access.
+     */
+    public void forgetMilestoneAppeals() {
+
+        this.milestoneAppeals = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -1881,7 +2150,8 @@ public final class StudentData {
     public List<RawStetext> getStudentETexts() throws SQLException {
 
         if (this.studentETexts == null) {
-            this.studentETexts = RawStetextLogic.queryByStudent(this.cache, this.studentId);
+            this.studentETexts = StudentDataCache.load(this.cache, this.studentId, "studentETexts",
+                    () -> RawStetextLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.studentETexts;
@@ -1893,6 +2163,7 @@ public final class StudentData {
     public void forgetStudentETexts() {
 
         this.studentETexts = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 
     /**
@@ -1904,7 +2175,8 @@ public final class StudentData {
     public List<RawUsers> getUsersExams() throws SQLException {
 
         if (this.usersExams == null) {
-            this.usersExams = RawUsersLogic.queryByStudent(this.cache, this.studentId);
+            this.usersExams = StudentDataCache.load(this.cache, this.studentId, "usersExams",
+                    () -> RawUsersLogic.queryByStudent(this.cache, this.studentId));
         }
 
         return this.usersExams;
@@ -1916,5 +2188,6 @@ public final class StudentData {
     public void forgetUsersExams() {
 
         this.usersExams = null;
+        StudentDataCache.invalidate(this.cache, this.studentId);
     }
 }
@@ -0,0 +1,446 @@
+package dev.mathops.db.logic;
+
+import dev.mathops.db.Cache;
+import dev.mathops.db.IQuery;
+import dev.mathops.db.IStudentDataListener;
+import dev.mathops.db.StudentDataEvents;
+import dev.mathops.db.schema.RecBase;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache of the lists of legacy student records loaded by {@code StudentData}, shared between requests, keyed by
+ * student, so a student who reloads a page does not trigger the same queries on every request.
+ *
+ * <p>
+ * Only lists from legacy tables are cached.  The cache listens for changes announced through
+ * {@code StudentDataEvents}: the legacy {@code Raw*Logic} classes for the cached tables announce each write after it is
+ * committed (bulk writes announce a change to all students), which invalidates the student's lists, and the
+ * {@code forget} methods in {@code StudentData} also invalidate the student.  Writes made any other way - by another
+ * process (such as a batch job run on its own), or by code in this process that updates these tables with its own SQL
+ * and does not call {@code StudentDataEvents.allChanged} - are not seen until the student's entry expires, after
+ * {@code LIFETIME_MS}.
+ *
+ * <p>
+ * To ensure that a query that was started before a write cannot store the data it read after the write has
+ * invalidated the student, each invalidation advances a generation number, and a list is stored only if no
+ * invalidation occurred while it was being queried.
+ *
+ * <p>
+ * Records (objects that extend {@code RecBase}) are copied when a list is stored and again each time it is returned,
+ * so each request gets its own records and may modify them without affecting other requests.  Record fields hold only
+ * immutable values, so a shallow copy is sufficient.
+ *
+ * <p>
+ * When the cache holds entries for {@code MAX_STUDENTS} students, expired entries are removed, and then the oldest
+ * entries, until it holds entries for three quarters of that number.
+ *
+ * <p>
+ * The cache is disabled by default.
+ */
+public enum StudentDataCache {
+    ;
+
+    /** The lifetime of an entry, in milliseconds. */
+    static final long LIFETIME_MS = 30L * 1000L;
+
+    /** The maximum number of students for which to retain entries. */
+    static final int MAX_STUDENTS = 10000;
+
+    /** The number of students for which to retain entries after evicting entries. */
+    private static final int EVICT_TO = MAX_STUDENTS * 3 / 4;
+
+    /** Map from student key to cached entry. */
+    private static final Map<StudentKey, Entry> ENTRIES = new ConcurrentHashMap<>(1000);
+
+    /** A generation number advanced on every invalidation. */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    /** The number of lists found in the cache. */
+    private static final LongAdder HITS = new LongAdder();
+
+    /** The number of lists that had to be queried. */
+    private static final LongAdder MISSES = new LongAdder();
+
+    /** True if the cache is enabled. */
+    private static volatile boolean enabled = false;
+
+    static {
+        StudentDataEvents.addListener(new Listener());
+    }
+
+    /**
+     * Tests whether the cache is enabled.
+     *
+     * @return true if the cache is enabled
+     */
+    public static boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the cache.  Disabling the cache clears it.
+     *
+     * @param isEnabled true to enable the cache
+     */
+    public static void setEnabled(final boolean isEnabled) {
+
+        enabled = isEnabled;
+        if (!isEnabled) {
+            clear();
+        }
+    }
+
+    /**
+     * Loads a list of records for a student, using a cached copy if one exists.
+     *
+     * @param cache the data cache
+     * @param stuId the student ID
+     * @param name  the name of the list (unique among the lists loaded for a student)
+     * @param query the query that loads the list if it is not cached
+     * @param <T>   the type of record in the list
+     * @return the list (a new list of records that the caller may modify)
+     * @throws SQLException if there is an error performing the query
+     */
+    static <T> List<T> load(final Cache cache, final String stuId, final String name, final IQuery<List<T>> query)
+            throws SQLException {
+
+        final List<T> result;
+
+        if (enabled) {
+            final StudentKey key = new StudentKey(cache.profile.id, stuId);
+            final List<T> cached = get(key, name);
+
+            if (cached == null) {
+                MISSES.increment();
+                final long generation = GENERATION.get();
+                result = query.execute();
+                put(key, name, result, generation, System.currentTimeMillis());
+            } else {
+                HITS.increment();
+                result = copyRecords(cached);
+            }
+        } else {
+            result = query.execute();
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the current generation number.  A caller that loads lists by some other means than {@code load} reads this
+     * before querying and passes it to {@code offer}.
+     *
+     * @return the generation number
+     */
+    static long generation() {
+
+        return GENERATION.get();
+    }
+
+    /**
+     * Finds a cached list without querying, for a caller that queries lists by some other means than {@code load}
+     * (and then offers them with {@code offer}).  A list that is found is counted as a hit, and one that is not is
+     * counted as a miss.
+     *
+     * @param cache the data cache
+     * @param stuId the student ID
+     * @param name  the name of the list
+     * @param <T>   the type of object in the list
+     * @return the list (a new list of records that the caller may modify); {@code null} if the cache is disabled or
+     *         there is no current cached list
+     */
+    static <T> List<T> find(final Cache cache, final String stuId, final String name) {
+
+        List<T> result = null;
+
+        if (enabled) {
+            final List<T> cached = get(new StudentKey(cache.profile.id, stuId), name);
+
+            if (cached == null) {
+                MISSES.increment();
+            } else {
+                HITS.increment();
+                result = copyRecords(cached);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Offers a list that was queried by some other means than {@code load} for storage, if the cache is enabled.
+     *
+     * @param cache      the data cache
+     * @param stuId      the student ID
+     * @param name       the name of the list
+     * @param list       the list
+     * @param generation the generation number read before the query started
+     */
+    static void offer(final Cache cache, final String stuId, final String name, final List<?> list,
+                      final long generation) {
+
+        if (enabled) {
+            put(new StudentKey(cache.profile.id, stuId), name, list, generation, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Gets a cached list.
+     *
+     * @param key  the student key
+     * @param name the name of the list
+     * @param <T>  the type of record in the list
+     * @return the cached list; {@code null} if there is no current cached list
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> get(final StudentKey key, final String name) {
+
+        List<T> result = null;
+
+        final Entry entry = ENTRIES.get(key);
+        if (entry != null) {
+            if (System.currentTimeMillis() - entry.created() > LIFETIME_MS) {
+                ENTRIES.remove(key, entry);
+            } else {
+                result = (List<T>) entry.lists().get(name);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Stores a list that was queried, if no invalidation has occurred since the query started.  The check and the store
+     * are done atomically with respect to invalidation of the same student.
+     *
+     * @param key        the student key
+     * @param name       the name of the list
+     * @param list       the list
+     * @param generation the generation number when the query started
+     * @param now        the current time
+     */
+    private static void put(final StudentKey key, final String name, final List<?> list, final long generation,
+                            final long now) {
+
+        if (ENTRIES.size() >= MAX_STUDENTS) {
+            evict(now);
+        }
+
+        final List<?> copy = List.copyOf(copyRecords(list));
+
+        ENTRIES.compute(key, (k, existing) -> {
+            Entry entry = existing;
+
+            if (GENERATION.get() == generation) {
+                if (entry == null || now - entry.created() > LIFETIME_MS) {
+                    entry = new Entry(new ConcurrentHashMap<>(10), now);
+                }
+                entry.lists().put(name, copy);
+            }
+
+            return entry;
+        });
+    }
+
+    /**
+     * Removes expired entries, and then the oldest entries until entries remain for at most {@code EVICT_TO} students.
+     * Evicting an entry does not advance the generation number, since the data in it was still current.
+     *
+     * @param now the current time
+     */
+    private static void evict(final long now) {
+
+        ENTRIES.values().removeIf(entry -> now - entry.created() > LIFETIME_MS);
+
+        final int excess = ENTRIES.size() - EVICT_TO;
+        if (excess > 0) {
+            final List<Map.Entry<StudentKey, Entry>> all = new ArrayList<>(ENTRIES.entrySet());
+            all.sort(Comparator.comparingLong(mapEntry -> mapEntry.getValue().created()));
+
+            final int count = Math.min(excess, all.size());
+            for (int i = 0; i < count; ++i) {
+                final Map.Entry<StudentKey, Entry> oldest = all.get(i);
+                ENTRIES.remove(oldest.getKey(), oldest.getValue());
+            }
+        }
+    }
+
+    /**
+     * Copies a list, copying each record (object that extends {@code RecBase}) in it.  Other objects are assumed to be
+     * immutable and are not copied.
+     *
+     * @param list the list
+     * @param <T>  the type of object in the list
+     * @return the new list
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> copyRecords(final List<T> list) {
+
+        final List<T> result = new ArrayList<>(list.size());
+
+        for (final T item : list) {
+            if (item instanceof final RecBase rec) {
+                result.add((T) rec.copy());
+            } else {
+                result.add(item);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the number of students for which entries are cached.
+     *
+     * @return the number of students
+     */
+    static int size() {
+
+        return ENTRIES.size();
+    }
+
+    /**
+     * Invalidates all cached lists for a student.  This should be called after any change to the student's data is
+     * committed.
+     *
+     * @param cache the data cache
+     * @param stuId the student ID
+     */
+    public static void invalidate(final Cache cache, final String stuId) {
+
+        if (stuId == null) {
+            clear();
+        } else {
+            ENTRIES.compute(new StudentKey(cache.profile.id, stuId), (k, existing) -> {
+                GENERATION.incrementAndGet();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Clears all cached lists.  This is used after changes that can affect many students.
+     */
+    public static void clear() {
+
+        GENERATION.incrementAndGet();
+        ENTRIES.clear();
+    }
+
+    /**
+     * Gets the number of lists found in the cache since the last reset.
+     *
+     * @return the number of hits
+     */
+    public static long getHits() {
+
+        return HITS.sum();
+    }
+
+    /**
+     * Gets the number of lists that had to be queried since the last reset.
+     *
+     * @return the number of misses
+     */
+    public static long getMisses() {
+
+        return MISSES.sum();
+    }
+
+    /**
+     * Gets the fraction of list loads since the last reset that were found in the cache.
+     *
+     * @return the hit ratio, from 0 to 1 (0 if nothing has been loaded)
+     */
+    public static double getHitRatio() {
+
+        final long hits = HITS.sum();
+        final long total = hits + MISSES.sum();
+
+        return total == 0L ? 0.0 : (double) hits / (double) total;
+    }
+
+    /**
+     * Resets the hit and miss counts.
+     */
+    public static void resetCounts() {
+
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    /**
+     * Invalidates cached lists when changes to student data are announced.
+     */
+    private static final class Listener implements IStudentDataListener {
+
+        /**
+         * Constructs a new {@code Listener}.
+         */
+        Listener() {
+
+            // No action
+        }
+
+        /**
+         * Called after data for a student has changed.
+         *
+         * @param cache the data cache through which the change was made
+         * @param stuId the student ID; {@code null} if the student is not known
+         */
+        @Override
+        public void studentChanged(final Cache cache, final String stuId) {
+
+            invalidate(cache, stuId);
+        }
+
+        /**
+         * Called after a student's work in a course has changed.
+         *
+         * @param cache  the data cache through which the change was made
+         * @param stuId  the student ID
+         * @param course the course ID; {@code null} if the change may affect any of the student's courses
+         */
+        @Override
+        public void courseWorkChanged(final Cache cache, final String stuId, final String course) {
+
+            invalidate(cache, stuId);
+        }
+
+        /**
+         * Called after a change that may affect any number of students.
+         */
+        @Override
+        public void allChanged() {
+
+            clear();
+        }
+    }
+
+    /**
+     * The key for a student's entry.
+     *
+     * @param profileId the ID of the database profile (so data from different databases is not mixed)
+     * @param stuId     the student ID
+     */
+    private record StudentKey(String profileId, String stuId) {
+    }
+
+    /**
+     * The cached lists for a student.
+     *
+     * @param lists   map from list name to the cached (unmodifiable) list
+     * @param created the time the entry was created
+     */
+    private record Entry(Map<String, List<?>> lists, long created) {
+    }
+}
@@ -0,0 +1,164 @@
+package dev.mathops.db.logic;
+
+import dev.mathops.db.Cache;
+import dev.mathops.db.schema.main.impl.MasteryAttemptLogic;
+import dev.mathops.db.schema.main.impl.MasteryAttemptQaLogic;
+import dev.mathops.db.schema.term.rec.MasteryAttemptQaRec;
+import dev.mathops.db.schema.term.rec.MasteryAttemptRec;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All mastery attempts by a student, grouped by exam ID, along with the question answers for those attempts.
+ *
+ * <p>
+ * Attempts are loaded with a single query when this object is constructed.  Question answers for all attempts are
+ * loaded with a single (joined) query the first time any are requested, rather than with one query per attempt.
+ */
+public final class StudentMasteryAttempts {
+
+    /** The data cache. */
+    private final Cache cache;
+
+    /** The student ID. */
+    private final String studentId;
+
+    /** All attempts, in the order returned by the database. */
+    private final List<MasteryAttemptRec> attempts;
+
+    /** Map from exam ID to the attempts on that exam. */
+    private final Map<String, List<MasteryAttemptRec>> attemptsByExam;
+
+    /** Map from exam ID to a map from attempt serial number to question answers; null until first needed. */
+    private Map<String, Map<Integer, List<MasteryAttemptQaRec>>> qaByExamAndSerial = null;
+
+    /**
+     * Constructs a new {@code StudentMasteryAttempts}, querying for all the student's attempts.
+     *
+     * @param theCache     the data cache
+     * @param theStudentId the student ID
+     * @throws SQLException if there is an error accessing the database
+     */
+    public StudentMasteryAttempts(final Cache theCache, final String theStudentId) throws SQLException {
+
+        this.cache = theCache;
+        this.studentId = theStudentId;
+        this.attempts = Collections.unmodifiableList(MasteryAttemptLogic.INSTANCE.queryByStudent(theCache,
+                theStudentId));
+
+        this.attemptsByExam = new HashMap<>(20);
+        for (final MasteryAttemptRec attempt : this.attempts) {
+            this.attemptsByExam.computeIfAbsent(attempt.examId, key -> new ArrayList<>(4)).add(attempt);
+        }
+    }
+
+    /**
+     * Gets all the student's attempts.  The list cannot be modified (an attempt to modify it throws
+     * {@code UnsupportedOperationException}); a caller that needs to sort or filter it should make a copy.
+     *
+     * @return the unmodifiable list of attempts
+     */
+    public List<MasteryAttemptRec> getAttempts() {
+
+        return this.attempts;
+    }
+
+    /**
+     * Gets the student's attempts on a single exam.
+     *
+     * @param examId the exam ID
+     * @return the unmodifiable list of attempts (empty if there are none)
+     */
+    public List<MasteryAttemptRec> getAttemptsByExam(final String examId) {
+
+        final List<MasteryAttemptRec> list = this.attemptsByExam.get(examId);
+
+        return list == null ? List.of() : Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Gets the question answers for a single attempt.
+     *
+     * @param serialNbr the attempt serial number
+     * @param examId    the exam ID
+     * @return the unmodifiable list of question answers (empty if there are none)
+     * @throws SQLException if there is an error accessing the database
+     */
+    public List<MasteryAttemptQaRec> getQaByAttempt(final Integer serialNbr, final String examId)
+            throws SQLException {
+
+        final Map<Integer, List<MasteryAttemptQaRec>> bySerial = getQa().get(examId);
+        final List<MasteryAttemptQaRec> list = bySerial == null ? null : bySerial.get(serialNbr);
+
+        return list == null ? List.of() : Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Gets the question answers for all the student's attempts on a single exam, in the order of the attempts.
+     *
+     * @param examId the exam ID
+     * @return the list of question answers (empty if there are none)
+     * @throws SQLException if there is an error accessing the database
+     */
+    public List<MasteryAttemptQaRec> getQaByExam(final String examId) throws SQLException {
+
+        final List<MasteryAttemptRec> examAttempts = getAttemptsByExam(examId);
+        final List<MasteryAttemptQaRec> result = new ArrayList<>(examAttempts.size() << 1);
+
+        final Map<Integer, List<MasteryAttemptQaRec>> bySerial = getQa().get(examId);
+        if (bySerial != null) {
+            for (final MasteryAttemptRec attempt : examAttempts) {
+                final List<MasteryAttemptQaRec> list = bySerial.get(attempt.serialNbr);
+                if (list != null) {
+                    result.addAll(list);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the question answers for all attempts, grouped by exam ID and serial number, querying for them on first
+     * use.
+     *
+     * @return the map from exam ID to a map from serial number to question answers
+     * @throws SQLException if there is an error accessing the database
+     */
+    private Map<String, Map<Integer, List<MasteryAttemptQaRec>>> getQa() throws SQLException {
+
+        if (this.qaByExamAndSerial == null) {
+            final List<MasteryAttemptQaRec> all = MasteryAttemptQaLogic.INSTANCE.queryByStudent(this.cache,
+                    this.studentId);
+
+            this.qaByExamAndSerial = groupByExamAndSerial(all);
+        }
+
+        return this.qaByExamAndSerial;
+    }
+
+    /**
+     * Groups question answers by exam ID and attempt serial number.  Answers for the same attempt remain in the order
+     * they appear in the list.
+     *
+     * @param all the question answers
+     * @return the map from exam ID to a map from serial number to question answers
+     */
+    static Map<String, Map<Integer, List<MasteryAttemptQaRec>>> groupByExamAndSerial(
+            final Iterable<MasteryAttemptQaRec> all) {
+
+        final Map<String, Map<Integer, List<MasteryAttemptQaRec>>> map = new HashMap<>(20);
+
+        for (final MasteryAttemptQaRec qa : all) {
+            map.computeIfAbsent(qa.examId, key -> new HashMap<>(8))
+                    .computeIfAbsent(qa.serialNbr, key -> new ArrayList<>(10)).add(qa);
+        }
+
+        return map;
+    }
+}
@@ -0,0 +1,240 @@
+package dev.mathops.db.logic;
+
+import dev.mathops.db.Cache;
+import dev.mathops.db.schema.legacy.impl.RawMilestoneAppealLogic;
+import dev.mathops.db.schema.legacy.rec.RawMilestoneAppeal;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All milestone appeals by a student, loaded with a single query and grouped by pace track, pace, course index, unit,
+ * objective, and milestone type.
+ *
+ * <p>
+ * Milestone numbers are decoded when appeals are grouped: a number less than 1000 is a legacy milestone (432 means pace
+ * 4, course index 3, unit 2), and is grouped with objective 0; a larger number is a standards-based milestone (4321
+ * means pace 4, course index 3, unit 2, objective 1).  Since a standards-based number can also have objective 0,
+ * checks on legacy milestones should use {@code hasLegacyAppeal}.  Appeals with no pace or milestone number are
+ * retained in the list of all appeals but not grouped.
+ */
+public final class StudentMilestoneAppeals {
+
+    /** All appeals. */
+    private final List<RawMilestoneAppeal> appeals;
+
+    /** Map from course key to the appeals on milestones in that course. */
+    private final Map<CourseKey, List<RawMilestoneAppeal>> byCourse;
+
+    /** Map from milestone key to the appeals on that milestone. */
+    private final Map<MilestoneKey, List<RawMilestoneAppeal>> byMilestone;
+
+    /**
+     * Constructs a new {@code StudentMilestoneAppeals}, querying for all the student's milestone appeals.
+     *
+     * @param theCache     the data cache
+     * @param theStudentId the student ID
+     * @throws SQLException if there is an error accessing the database
+     */
+    public StudentMilestoneAppeals(final Cache theCache, final String theStudentId) throws SQLException {
+
+        this(RawMilestoneAppealLogic.queryByStudent(theCache, theStudentId));
+    }
+
+    /**
+     * Constructs a new {@code StudentMilestoneAppeals} from a list of a student's milestone appeals.
+     *
+     * @param theAppeals the appeals
+     */
+    public StudentMilestoneAppeals(final Iterable<RawMilestoneAppeal> theAppeals) {
+
+        this.appeals = new ArrayList<>(10);
+        this.byCourse = new HashMap<>(10);
+        this.byMilestone = new HashMap<>(20);
+
+        for (final RawMilestoneAppeal appeal : theAppeals) {
+            add(appeal);
+        }
+    }
+
+    /**
+     * Adds an appeal (for example, one that has just been inserted into the database).
+     *
+     * @param appeal the appeal to add
+     */
+    public void add(final RawMilestoneAppeal appeal) {
+
+        this.appeals.add(appeal);
+
+        if (appeal.pace != null && appeal.msNbr != null) {
+            final int pace = appeal.pace.intValue();
+            final int number = appeal.msNbr.intValue();
+
+            final int index;
+            final int unit;
+            final int objective;
+            if (number >= 1000) {
+                index = (number / 100) % 10;
+                unit = (number / 10) % 10;
+                objective = number % 10;
+            } else {
+                index = (number / 10) % 10;
+                unit = number % 10;
+                objective = 0;
+            }
+
+            this.byCourse.computeIfAbsent(new CourseKey(appeal.paceTrack, pace, index), key -> new ArrayList<>(5))
+                    .add(appeal);
+            this.byMilestone.computeIfAbsent(new MilestoneKey(appeal.paceTrack, pace, index, unit, objective,
+                    appeal.msType), key -> new ArrayList<>(2)).add(appeal);
+        }
+    }
+
+    /**
+     * Gets all the student's milestone appeals.
+     *
+     * @return the unmodifiable list of appeals
+     */
+    public List<RawMilestoneAppeal> getAppeals() {
+
+        return Collections.unmodifiableList(this.appeals);
+    }
+
+    /**
+     * Gets the appeals on milestones in a single course.
+     *
+     * @param paceTrack the pace track
+     * @param pace      the pace
+     * @param index     the course index within the pace
+     * @return the unmodifiable list of appeals (empty if there are none)
+     */
+    public List<RawMilestoneAppeal> getCourseAppeals(final String paceTrack, final int pace, final int index) {
+
+        final List<RawMilestoneAppeal> list = this.byCourse.get(new CourseKey(paceTrack, pace, index));
+
+        return list == null ? List.of() : Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Gets the appeals on a single milestone.
+     *
+     * @param paceTrack the pace track
+     * @param pace      the pace
+     * @param index     the course index within the pace
+     * @param unit      the unit
+     * @param objective the objective (0 for a legacy milestone)
+     * @param msType    the milestone type
+     * @return the unmodifiable list of appeals (empty if there are none)
+     */
+    public List<RawMilestoneAppeal> getMilestoneAppeals(final String paceTrack, final int pace, final int index,
+                                                        final int unit, final int objective, final String msType) {
+
+        final List<RawMilestoneAppeal> list = this.byMilestone.get(new MilestoneKey(paceTrack, pace, index, unit,
+                objective, msType));
+
+        return list == null ? List.of() : Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Tests whether there is an appeal of any of a set of appeal types on a single milestone.
+     *
+     * @param paceTrack   the pace track
+     * @param pace        the pace
+     * @param index       the course index within the pace
+     * @param unit        the unit
+     * @param objective   the objective (0 for a legacy milestone)
+     * @param msType      the milestone type
+     * @param appealTypes the appeal types
+     * @return true if there is an appeal of one of the specified types
+     */
+    public boolean hasAppeal(final String paceTrack, final int pace, final int index, final int unit,
+                             final int objective, final String msType, final String... appealTypes) {
+
+        boolean result = false;
+
+        for (final RawMilestoneAppeal appeal : getMilestoneAppeals(paceTrack, pace, index, unit, objective, msType)) {
+            if (isOfType(appeal, appealTypes)) {
+                result = true;
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Tests whether there is an appeal of any of a set of appeal types on a single legacy milestone.  Only appeals
+     * with legacy milestone numbers (less than 1000) are considered, so a standards-based appeal on objective 0 is not
+     * mistaken for a legacy appeal.
+     *
+     * @param paceTrack   the pace track
+     * @param pace        the pace
+     * @param index       the course index within the pace
+     * @param unit        the unit
+     * @param msType      the milestone type
+     * @param appealTypes the appeal types
+     * @return true if there is an appeal of one of the specified types
+     */
+    public boolean hasLegacyAppeal(final String paceTrack, final int pace, final int index, final int unit,
+                                   final String msType, final String... appealTypes) {
+
+        boolean result = false;
+
+        for (final RawMilestoneAppeal appeal : getMilestoneAppeals(paceTrack, pace, index, unit, 0, msType)) {
+            if (appeal.msNbr.intValue() < 1000 && isOfType(appeal, appealTypes)) {
+                result = true;
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Tests whether an appeal has one of a set of appeal types.
+     *
+     * @param appeal      the appeal
+     * @param appealTypes the appeal types
+     * @return true if the appeal has one of the specified types
+     */
+    private static boolean isOfType(final RawMilestoneAppeal appeal, final String... appealTypes) {
+
+        boolean result = false;
+
+        for (final String type : appealTypes) {
+            if (type.equals(appeal.appealType)) {
+                result = true;
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The key for the appeals in a course.
+     *
+     * @param paceTrack the pace track
+     * @param pace      the pace
+     * @param index     the course index within the pace
+     */
+    private record CourseKey(String paceTrack, int pace, int index) {
+    }
+
+    /**
+     * The key for the appeals on a milestone.
+     *
+     * @param paceTrack the pace track
+     * @param pace      the pace
+     * @param index     the course index within the pace
+     * @param unit      the unit
+     * @param objective the objective (0 for a legacy milestone)
+     * @param msType    the milestone type
+     */
+    private record MilestoneKey(String paceTrack, int pace, int index, int unit, int objective, String msType) {
+    }
+}
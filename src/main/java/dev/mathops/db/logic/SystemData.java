@@ -99,6 +99,9 @@ public final class SystemData {
     /** All term week records. */
     private List<TermWeekRec> termWeeks = null;
 
+    /** The index of open days in the term. */
+    private TermCalendarIndex termCalendarIndex = null;
+
     /** All courses. */
     private List<RawCourse> courses = null;
 
@@ -444,6 +447,24 @@ public final class SystemData {
         return this.termWeeks;
     }
 
+    /**
+     * Gets the index of "open" days in the term, built from the term weeks and holidays.  The index is shared with
+     * other requests that see the same calendar data.
+     *
+     * @return the term calendar index
+     * @throws SQLException if there is an error accessing the database
+     */
+    public TermCalendarIndex getTermCalendarIndex() throws SQLException {
+
+        if (this.termCalendarIndex == null) {
+            final List<TermWeekRec> weeks = getTermWeeks();
+            final List<RawCampusCalendar> holidays = getCampusCalendarsByType(RawCampusCalendar.DT_DESC_HOLIDAY);
+            this.termCalendarIndex = TermCalendarIndex.get(weeks, holidays);
+        }
+
+        return this.termCalendarIndex;
+    }
+
     /**
      * Gets the list of all courses.
      *
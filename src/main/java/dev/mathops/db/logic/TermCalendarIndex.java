@@ -0,0 +1,320 @@
+package dev.mathops.db.logic;
+
+import dev.mathops.commons.log.Log;
+import dev.mathops.db.schema.legacy.rec.RawCampusCalendar;
+import dev.mathops.db.schema.term.rec.TermWeekRec;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.chrono.ChronoLocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable, precomputed index of the "open" days in a term (weekdays between the first and last class dates that
+ * are not holidays), built from the term weeks and holidays.
+ *
+ * <p>
+ * Open days are stored in a bit set indexed by epoch day (relative to the first open day), with a prefix count array
+ * that gives the number of open days before each day.  This allows questions like "what is the N-th open day after
+ * date D" to be answered in constant time, rather than by rebuilding a list of holidays and scanning day by day.
+ *
+ * <p>
+ * Indexes are shared between requests: {@code get} returns an existing index if one was built from the same term weeks
+ * and holidays, so the index is built once per term (and rebuilt automatically if the calendar data changes).
+ */
+public final class TermCalendarIndex {
+
+    /** The maximum number of indexes to retain (enough for several terms). */
+    private static final int MAX_SHARED = 8;
+
+    /** Shared indexes, keyed by the data from which they were built. */
+    private static final Map<List<Object>, TermCalendarIndex> SHARED = new ConcurrentHashMap<>(MAX_SHARED);
+
+    /** The first class date; null if not known. */
+    private final LocalDate firstClassDate;
+
+    /** The last class date; null if not known. */
+    private final LocalDate lastClassDate;
+
+    /** The open dates, in order. */
+    private final List<LocalDate> openDates;
+
+    /** The epoch day of the first open date. */
+    private final long baseEpochDay;
+
+    /** Bits indicating open days, indexed by epoch day minus {@code baseEpochDay}. */
+    private final BitSet open;
+
+    /**
+     * The number of open days before each day, indexed by epoch day minus {@code baseEpochDay} (with one extra entry at
+     * the end holding the total count).
+     */
+    private final int[] prefixCounts;
+
+    /**
+     * Constructs a new {@code TermCalendarIndex}.
+     *
+     * @param weeks    the term weeks, sorted by week number
+     * @param holidays the set of holiday dates
+     */
+    private TermCalendarIndex(final List<TermWeekRec> weeks, final Set<LocalDate> holidays) {
+
+        this.firstClassDate = computeFirstClassDate(weeks, holidays);
+        this.lastClassDate = computeLastClassDate(weeks, holidays);
+        this.openDates = List.copyOf(computeOpenDates(weeks, holidays));
+
+        if (this.openDates.isEmpty()) {
+            this.baseEpochDay = 0L;
+            this.open = new BitSet(0);
+            this.prefixCounts = new int[]{0};
+        } else {
+            this.baseEpochDay = this.openDates.getFirst().toEpochDay();
+            final int span = (int) (this.openDates.getLast().toEpochDay() - this.baseEpochDay) + 1;
+
+            this.open = new BitSet(span);
+            for (final LocalDate date : this.openDates) {
+                this.open.set((int) (date.toEpochDay() - this.baseEpochDay));
+            }
+
+            this.prefixCounts = new int[span + 1];
+            for (int i = 0; i < span; ++i) {
+                this.prefixCounts[i + 1] = this.prefixCounts[i] + (this.open.get(i) ? 1 : 0);
+            }
+        }
+    }
+
+    /**
+     * Gets the index for a set of term weeks and holidays, building it only if no index has been built from the same
+     * data.
+     *
+     * @param weeks    the term weeks, sorted by week number
+     * @param holidays the holiday campus calendar records
+     * @return the index
+     */
+    public static TermCalendarIndex get(final List<TermWeekRec> weeks, final List<RawCampusCalendar> holidays) {
+
+        final Set<LocalDate> holidayDates = new HashSet<>(holidays.size() * 2);
+        for (final RawCampusCalendar row : holidays) {
+            holidayDates.add(row.campusDt);
+        }
+
+        final List<Object> key = List.of(List.copyOf(weeks), Set.copyOf(holidayDates));
+
+        TermCalendarIndex result = SHARED.get(key);
+
+        if (result == null) {
+            result = new TermCalendarIndex(weeks, holidayDates);
+            if (SHARED.size() >= MAX_SHARED) {
+                SHARED.clear();
+            }
+            SHARED.put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the first class date: the first weekday in week 1 that is not a holiday.
+     *
+     * @param weeks    the term weeks
+     * @param holidays the holiday dates
+     * @return the first class date; null if there is no week 1
+     */
+    private static LocalDate computeFirstClassDate(final Iterable<TermWeekRec> weeks,
+                                                   final Set<LocalDate> holidays) {
+
+        LocalDate result = null;
+
+        for (final TermWeekRec test : weeks) {
+            if (test.weekNbr.intValue() == 1) {
+                result = test.startDate;
+                if (result.getDayOfWeek() == DayOfWeek.SATURDAY) {
+                    result = result.plusDays(2L);
+                } else if (result.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    result = result.plusDays(1L);
+                }
+                while (holidays.contains(result)) {
+                    result = result.plusDays(1L);
+                }
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the last class date: the last non-holiday weekday in the last week before finals week.
+     *
+     * @param weeks    the term weeks
+     * @param holidays the holiday dates
+     * @return the last class date; null if there are too few weeks
+     */
+    private static LocalDate computeLastClassDate(final List<TermWeekRec> weeks, final Set<LocalDate> holidays) {
+
+        LocalDate result = null;
+
+        final int numSemesterRows = weeks.size();
+        if (numSemesterRows > 2) {
+            final TermWeekRec lastClassWeek = weeks.get(numSemesterRows - 2);
+
+            result = lastClassWeek.endDate;
+            if (result.getDayOfWeek() == DayOfWeek.SATURDAY) {
+                result = result.minusDays(1L);
+            }
+            while (holidays.contains(result)) {
+                result = result.minusDays(1L);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the list of open dates: all non-holiday weekdays in weeks other than week 0 and the final week.
+     *
+     * @param weeks    the term weeks
+     * @param holidays the holiday dates
+     * @return the list of open dates, in order
+     */
+    private static List<LocalDate> computeOpenDates(final List<TermWeekRec> weeks, final Set<LocalDate> holidays) {
+
+        final List<LocalDate> result = new ArrayList<>(80);
+
+        if (!weeks.isEmpty()) {
+            final int last = weeks.getLast().weekNbr.intValue();
+
+            for (final TermWeekRec row : weeks) {
+                final int weekNbr = row.weekNbr.intValue();
+                if (weekNbr == 0 || weekNbr == last) {
+                    continue;
+                }
+
+                LocalDate date = row.startDate;
+                final DayOfWeek day = date.getDayOfWeek();
+                if (day == DayOfWeek.SATURDAY) {
+                    date = date.plusDays(2L);
+                } else if (day == DayOfWeek.SUNDAY) {
+                    date = date.plusDays(1L);
+                }
+                while (!date.isAfter(row.endDate)) {
+                    if (!holidays.contains(date)) {
+                        result.add(date);
+                    }
+                    final DayOfWeek day2 = date.getDayOfWeek();
+                    if (day2 == DayOfWeek.FRIDAY) {
+                        date = date.plusDays(3L);
+                    } else {
+                        date = date.plusDays(1L);
+                    }
+                }
+
+                if (result.size() > 100) {
+                    Log.warning("Found 100 'open' dates in a single term - error!");
+                    break;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the first class date.
+     *
+     * @return the first class date; null if not known
+     */
+    public LocalDate getFirstClassDate() {
+
+        return this.firstClassDate;
+    }
+
+    /**
+     * Gets the last class date.
+     *
+     * @return the last class date; null if not known
+     */
+    public LocalDate getLastClassDate() {
+
+        return this.lastClassDate;
+    }
+
+    /**
+     * Gets the list of open dates.
+     *
+     * @return the unmodifiable list of open dates, in order
+     */
+    public List<LocalDate> getOpenDates() {
+
+        return this.openDates;
+    }
+
+    /**
+     * Tests whether a date is an open day.
+     *
+     * @param date the date
+     * @return true if the date is an open day
+     */
+    public boolean isOpenDay(final ChronoLocalDate date) {
+
+        final long offset = date.toEpochDay() - this.baseEpochDay;
+
+        return offset >= 0L && offset < (long) this.open.length() && this.open.get((int) offset);
+    }
+
+    /**
+     * Counts the open days that fall strictly after a date.
+     *
+     * @param date the date
+     * @return the number of open days after the date
+     */
+    public int countOpenDaysAfter(final ChronoLocalDate date) {
+
+        return this.openDates.size() - countOpenDaysThrough(date);
+    }
+
+    /**
+     * Counts the open days that fall on or before a date.
+     *
+     * @param date the date
+     * @return the number of open days on or before the date
+     */
+    private int countOpenDaysThrough(final ChronoLocalDate date) {
+
+        final long offset = date.toEpochDay() - this.baseEpochDay + 1L;
+        final int span = this.prefixCounts.length - 1;
+
+        final int result;
+        if (offset <= 0L) {
+            result = 0;
+        } else if (offset >= (long) span) {
+            result = this.prefixCounts[span];
+        } else {
+            result = this.prefixCounts[(int) offset];
+        }
+
+        return result;
+    }
+
+    /**
+     * Given a date, finds an "open" date some number of open days after that date.
+     *
+     * @param date  the date
+     * @param count the number of times to find the next open days (1 to find the next open day, 2 to find the second
+     *              open day after the given date, etc.) - must be positive and at least 1
+     * @return the specified "open" date after the given date; {@code null} if the search ran past the end of the term
+     *         before finding the requested open date
+     */
+    public LocalDate nextOpenDay(final ChronoLocalDate date, final int count) {
+
+        final int wantedIndex = countOpenDaysThrough(date) + count - 1;
+
+        return wantedIndex >= 0 && wantedIndex < this.openDates.size() ? this.openDates.get(wantedIndex) : null;
+    }
+}
@@ -1,22 +1,20 @@
 package dev.mathops.db.logic;
 
-import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
-import dev.mathops.db.schema.legacy.rec.RawCampusCalendar;
-import dev.mathops.db.schema.term.rec.TermWeekRec;
 
 import java.sql.SQLException;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.chrono.ChronoLocalDate;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 /**
  * Logic related to the term calendar.  This class draws data from the SEMESTER_CALENDAR, CAMPUS_CALENDAR, and TERM
  * tables.  It has the ability to generate an ordered list of the non-holiday weekdays in the term, and to take a given
  * date and find the next "open" date in the term, if any.
+ *
+ * <p>
+ * All methods use the {@code TermCalendarIndex} obtained from {@code SystemData}, which is built once per term and
+ * shared between requests.
  */
 public enum TermCalendarLogic {
     ;
@@ -30,35 +28,7 @@ public enum TermCalendarLogic {
      */
     public static LocalDate getFirstClassDate(final Cache cache) throws SQLException {
 
-        LocalDate result = null;
-        final SystemData systemData = cache.getSystemData();
-
-        // Gather a list of holidays
-        final List<RawCampusCalendar> holidays = systemData.getCampusCalendarsByType(RawCampusCalendar.DT_DESC_HOLIDAY);
-        final int size = holidays.size();
-        final Collection<LocalDate> holidayDates = new ArrayList<>(size);
-        for (final RawCampusCalendar row : holidays) {
-            holidayDates.add(row.campusDt);
-        }
-
-        final List<TermWeekRec> all = systemData.getTermWeeks();
-
-        for (final TermWeekRec test : all) {
-            if (test.weekNbr.intValue() == 1) {
-                result = test.startDate;
-                if (result.getDayOfWeek() == DayOfWeek.SATURDAY) {
-                    result = result.plusDays(2L);
-                } else if (result.getDayOfWeek() == DayOfWeek.SUNDAY) {
-                    result = result.plusDays(1L);
-                }
-                while (holidayDates.contains(result)) {
-                    result = result.plusDays(1L);
-                }
-                break;
-            }
-        }
-
-        return result;
+        return cache.getSystemData().getTermCalendarIndex().getFirstClassDate();
     }
 
     /**
@@ -70,32 +40,7 @@ public enum TermCalendarLogic {
      */
     public static LocalDate getLastClassDate(final Cache cache) throws SQLException {
 
-        LocalDate result = null;
-        final SystemData systemData = cache.getSystemData();
-
-        // Gather a list of holidays
-        final List<RawCampusCalendar> holidays = systemData.getCampusCalendarsByType(RawCampusCalendar.DT_DESC_HOLIDAY);
-        final int size = holidays.size();
-        final Collection<LocalDate> holidayDates = new ArrayList<>(size);
-        for (final RawCampusCalendar row : holidays) {
-            holidayDates.add(row.campusDt);
-        }
-
-        final List<TermWeekRec> all = systemData.getTermWeeks();
-        final int numSemesterRows = all.size();
-        if (numSemesterRows > 2) {
-            final TermWeekRec lastClassWeek = all.get(numSemesterRows - 2);
-
-            result = lastClassWeek.endDate;
-            if (result.getDayOfWeek() == DayOfWeek.SATURDAY) {
-                result = result.minusDays(1L);
-            }
-            while (holidayDates.contains(result)) {
-                result = result.minusDays(1L);
-            }
-        }
-
-        return result;
+        return cache.getSystemData().getTermCalendarIndex().getLastClassDate();
     }
 
     /**
@@ -103,59 +48,12 @@ public enum TermCalendarLogic {
      * class date that are weekdays and are not holidays.
      *
      * @param cache the data cache
-     * @return the list of "open" days in the term (ordered by date)
+     * @return the unmodifiable list of "open" days in the term (ordered by date)
      * @throws SQLException if there is an error accessing the database
      */
     public static List<LocalDate> getOpenDates(final Cache cache) throws SQLException {
 
-        final List<LocalDate> result = new ArrayList<>(60);
-        final SystemData systemData = cache.getSystemData();
-
-        // Gather a list of holidays
-        final List<RawCampusCalendar> holidays = systemData.getCampusCalendarsByType(RawCampusCalendar.DT_DESC_HOLIDAY);
-        final int size = holidays.size();
-        final Collection<LocalDate> holidayDates = new ArrayList<>(size);
-        for (final RawCampusCalendar row : holidays) {
-            holidayDates.add(row.campusDt);
-        }
-
-        final List<TermWeekRec> all = systemData.getTermWeeks();
-        if (!all.isEmpty()) {
-            final int last = all.getLast().weekNbr.intValue();
-
-            for (final TermWeekRec row : all) {
-                final int weekNbr = row.weekNbr.intValue();
-                if (weekNbr == 0 || weekNbr == last) {
-                    continue;
-                }
-
-                LocalDate date = row.startDate;
-                final DayOfWeek day = date.getDayOfWeek();
-                if (day == DayOfWeek.SATURDAY) {
-                    date = date.plusDays(2L);
-                } else if (day == DayOfWeek.SUNDAY) {
-                    date = date.plusDays(1L);
-                }
-                while (!date.isAfter(row.endDate)) {
-                    if (!holidayDates.contains(date)) {
-                        result.add(date);
-                    }
-                    final DayOfWeek day2 = date.getDayOfWeek();
-                    if (day2 == DayOfWeek.FRIDAY) {
-                        date = date.plusDays(3L);
-                    } else {
-                        date = date.plusDays(1L);
-                    }
-                }
-
-                if (result.size() > 100) {
-                    Log.warning("Found 100 'open' dates in a single term - error!");
-                    break;
-                }
-            }
-        }
-
-        return result;
+        return cache.getSystemData().getTermCalendarIndex().getOpenDates();
     }
 
     /**
@@ -172,26 +70,6 @@ public enum TermCalendarLogic {
     public static LocalDate nextOpenDay(final Cache cache, final ChronoLocalDate date, final int count)
             throws SQLException {
 
-        final List<LocalDate> openDates = getOpenDates(cache);
-        final int size = openDates.size();
-
-        // Find the first "open" date that is after the specified date
-        int indexOfFirstOpen = -1;
-        for (int i = 0; i < size; ++i) {
-            if (openDates.get(i).isAfter(date)) {
-                indexOfFirstOpen = i;
-                break;
-            }
-        }
-
-        LocalDate result = null;
-        if (indexOfFirstOpen > -1) {
-            final int wantedIndex = indexOfFirstOpen + count - 1;
-            if (wantedIndex < size) {
-                result = openDates.get(wantedIndex);
-            }
-        }
-
-        return result;
+        return cache.getSystemData().getTermCalendarIndex().nextOpenDay(date, count);
     }
 }
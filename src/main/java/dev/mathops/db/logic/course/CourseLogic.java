@@ -287,14 +287,6 @@ public enum CourseLogic {
         final int pace = PaceTrackLogic.determinePace(paced);
         final String track = PaceTrackLogic.determinePaceTrack(paced, pace);
 
-        final SystemData systemData = cache.getSystemData();
-        final Integer paceObj = Integer.valueOf(pace);
-
-        final List<RawMilestone> milestones = systemData.getMilestones(reg.termKey, paceObj, track);
-        final List<RawStmilestone> stmilestones = RawStmilestoneLogic.getStudentMilestones(cache, reg.termKey, track,
-                reg.stuId);
-        stmilestones.sort(null);
-
         int index = 1;
         if (reg.paceOrder == null) {
             final int count = paced.size();
@@ -309,6 +301,42 @@ public enum CourseLogic {
             index = reg.paceOrder.intValue();
         }
 
+        final CourseStatus.LegacyCourseStatus cached = CourseStatusCache.get(cache, reg, pace, track, index);
+        final CourseStatus.LegacyCourseStatus legacy;
+        if (cached == null) {
+            final long generation = CourseStatusCache.generation();
+            legacy = computeLegacyStatus(cache, reg, pace, track, index);
+            CourseStatusCache.put(cache, reg, pace, track, index, legacy, generation);
+        } else {
+            legacy = cached;
+        }
+
+        return new CourseStatus(reg, csection, legacy);
+    }
+
+    /**
+     * Computes the status of a current-term legacy course from the student's milestones and exams.
+     *
+     * @param cache the cache
+     * @param reg   the registration record
+     * @param pace  the student's pace
+     * @param track the student's pace track
+     * @param index the index of the course within the pace
+     * @return the legacy course status
+     * @throws SQLException if there is an error accessing the database
+     */
+    private static CourseStatus.LegacyCourseStatus computeLegacyStatus(final Cache cache, final RawStcourse reg,
+                                                                       final int pace, final String track,
+                                                                       final int index) throws SQLException {
+
+        final SystemData systemData = cache.getSystemData();
+        final Integer paceObj = Integer.valueOf(pace);
+
+        final List<RawMilestone> milestones = systemData.getMilestones(reg.termKey, paceObj, track);
+        final List<RawStmilestone> stmilestones = RawStmilestoneLogic.getStudentMilestones(cache, reg.termKey, track,
+                reg.stuId);
+        stmilestones.sort(null);
+
         LocalDate re1 = null;
         LocalDate re2 = null;
         LocalDate re3 = null;
@@ -490,11 +518,8 @@ public enum CourseLogic {
             totalScore += 3;
         }
 
-        final CourseStatus.LegacyCourseStatus legacy = new CourseStatus.LegacyCourseStatus(re1, re2, re3, re4, fe,
-                re1OnTime, re2OnTime, re3OnTime, re4OnTime, bestPassingU1,
-                bestPassingU2, bestPassingU3, bestPassingU4, bestPassingFE, bestFailedU1, bestFailedU2,
-                bestFailedU3, bestFailedU4, bestFailedFE, totalScore, numU1, numU2, numU3, numU4, numFE);
-
-        return new CourseStatus(reg, csection, legacy);
+        return new CourseStatus.LegacyCourseStatus(re1, re2, re3, re4, fe, re1OnTime, re2OnTime, re3OnTime,
+                re4OnTime, bestPassingU1, bestPassingU2, bestPassingU3, bestPassingU4, bestPassingFE, bestFailedU1,
+                bestFailedU2, bestFailedU3, bestFailedU4, bestFailedFE, totalScore, numU1, numU2, numU3, numU4, numFE);
     }
 }
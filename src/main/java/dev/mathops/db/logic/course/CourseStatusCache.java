@@ -0,0 +1,318 @@
+package dev.mathops.db.logic.course;
+
+import dev.mathops.db.Cache;
+import dev.mathops.db.IStudentDataListener;
+import dev.mathops.db.StudentDataEvents;
+import dev.mathops.db.field.TermKey;
+import dev.mathops.db.schema.legacy.rec.RawStcourse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of computed legacy course status, shared between requests, keyed by student, course, and term.
+ *
+ * <p>
+ * Each entry records the pace, pace track, and course index for which it was computed, and is used only if those still
+ * match the student's registrations, so adding or dropping a course does not return a stale status.  The cache listens
+ * for changes announced through {@code StudentDataEvents}: writes to student exams and student milestones (through
+ * {@code RawStexamLogic} and {@code RawStmilestoneLogic}) announce a change to course work after they are committed,
+ * which invalidates the affected entries.  Writes to term milestone dates (through {@code RawMilestoneLogic}) announce
+ * a change to all students, which clears the cache, since every status depends on those dates.  Entries also expire
+ * after a fixed lifetime so changes made outside this process are eventually picked up.
+ *
+ * <p>
+ * To ensure that a status computed from data read before a write cannot be stored after the write has invalidated the
+ * student, each invalidation advances a generation number, and a status is stored only if no invalidation occurred
+ * while it was being computed (as in {@code StudentDataCache}).
+ *
+ * <p>
+ * When the cache holds entries for {@code MAX_STUDENTS} students, expired entries are removed, and then the students
+ * whose newest entries are oldest, until it holds entries for three quarters of that number.
+ */
+public enum CourseStatusCache {
+    ;
+
+    /** The lifetime of an entry, in milliseconds. */
+    static final long LIFETIME_MS = 10L * 60L * 1000L;
+
+    /** The maximum number of students for which to retain entries. */
+    private static final int MAX_STUDENTS = 20000;
+
+    /** The number of students for which to retain entries after evicting entries. */
+    private static final int EVICT_TO = MAX_STUDENTS * 3 / 4;
+
+    /** Map from student key to map from course key to cached status. */
+    private static final Map<StudentKey, Map<CourseKey, Entry>> ENTRIES = new ConcurrentHashMap<>(1000);
+
+    /** A generation number advanced on every invalidation. */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    static {
+        StudentDataEvents.addListener(new Listener());
+    }
+
+    /**
+     * Gets the current generation number.  A caller reads this before computing a status and passes it to {@code put}.
+     *
+     * @return the generation number
+     */
+    static long generation() {
+
+        return GENERATION.get();
+    }
+
+    /**
+     * Gets a cached legacy course status.
+     *
+     * @param cache the data cache
+     * @param reg   the registration
+     * @param pace  the student's pace
+     * @param track the student's pace track
+     * @param index the index of the course within the pace
+     * @return the cached status; {@code null} if there is no current entry computed for the same pace, track, and index
+     */
+    static CourseStatus.LegacyCourseStatus get(final Cache cache, final RawStcourse reg, final int pace,
+                                               final String track, final int index) {
+
+        return get(cache, reg, pace, track, index, System.currentTimeMillis());
+    }
+
+    /**
+     * Gets a cached legacy course status as of a specified time.
+     *
+     * @param cache the data cache
+     * @param reg   the registration
+     * @param pace  the student's pace
+     * @param track the student's pace track
+     * @param index the index of the course within the pace
+     * @param now   the current time, used to test whether the entry has expired
+     * @return the cached status; {@code null} if there is no current entry computed for the same pace, track, and index
+     */
+    static CourseStatus.LegacyCourseStatus get(final Cache cache, final RawStcourse reg, final int pace,
+                                               final String track, final int index, final long now) {
+
+        CourseStatus.LegacyCourseStatus result = null;
+
+        final Map<CourseKey, Entry> courses = ENTRIES.get(new StudentKey(cache.profile.id, reg.stuId));
+        if (courses != null) {
+            final CourseKey key = new CourseKey(reg.course, reg.termKey);
+            final Entry entry = courses.get(key);
+
+            if (entry != null) {
+                if (now - entry.created() > LIFETIME_MS) {
+                    courses.remove(key, entry);
+                } else if (entry.pace() == pace && entry.index() == index && entry.track().equals(track)) {
+                    result = entry.status();
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Stores a computed legacy course status, if no invalidation has occurred since the computation started.  The check
+     * and the store are done atomically with respect to invalidation of the same student.
+     *
+     * @param cache      the data cache
+     * @param reg        the registration
+     * @param pace       the student's pace
+     * @param track      the student's pace track
+     * @param index      the index of the course within the pace
+     * @param status     the computed status
+     * @param generation the generation number read before the computation started
+     */
+    static void put(final Cache cache, final RawStcourse reg, final int pace, final String track, final int index,
+                    final CourseStatus.LegacyCourseStatus status, final long generation) {
+
+        if (reg.stuId != null && reg.course != null && reg.termKey != null && track != null) {
+            final long now = System.currentTimeMillis();
+            if (ENTRIES.size() >= MAX_STUDENTS) {
+                evict(now);
+            }
+
+            final CourseKey courseKey = new CourseKey(reg.course, reg.termKey);
+            final Entry entry = new Entry(pace, track, index, status, now);
+
+            ENTRIES.compute(new StudentKey(cache.profile.id, reg.stuId), (key, existing) -> {
+                Map<CourseKey, Entry> courses = existing;
+
+                if (GENERATION.get() == generation) {
+                    if (courses == null) {
+                        courses = new ConcurrentHashMap<>(4);
+                    }
+                    courses.put(courseKey, entry);
+                }
+
+                return courses;
+            });
+        }
+    }
+
+    /**
+     * Removes expired entries, and then the entries for the students whose newest entries are oldest, until entries
+     * remain for at most {@code EVICT_TO} students.  Evicting an entry does not advance the generation number, since
+     * the status in it was still current.
+     *
+     * @param now the current time
+     */
+    private static void evict(final long now) {
+
+        for (final Map<CourseKey, Entry> courses : ENTRIES.values()) {
+            courses.values().removeIf(entry -> now - entry.created() > LIFETIME_MS);
+        }
+        ENTRIES.values().removeIf(Map::isEmpty);
+
+        final int excess = ENTRIES.size() - EVICT_TO;
+        if (excess > 0) {
+            final List<Map.Entry<StudentKey, Long>> newest = new ArrayList<>(ENTRIES.size());
+            for (final Map.Entry<StudentKey, Map<CourseKey, Entry>> mapEntry : ENTRIES.entrySet()) {
+                long latest = 0L;
+                for (final Entry entry : mapEntry.getValue().values()) {
+                    latest = Math.max(latest, entry.created());
+                }
+                newest.add(Map.entry(mapEntry.getKey(), Long.valueOf(latest)));
+            }
+            newest.sort(Map.Entry.comparingByValue());
+
+            final int count = Math.min(excess, newest.size());
+            for (int i = 0; i < count; ++i) {
+                ENTRIES.remove(newest.get(i).getKey());
+            }
+        }
+    }
+
+    /**
+     * Invalidates any cached status for a student in a course (in any term).
+     *
+     * @param cache  the data cache
+     * @param stuId  the student ID
+     * @param course the course ID; if {@code null}, all entries for the student are invalidated
+     */
+    public static void invalidate(final Cache cache, final String stuId, final String course) {
+
+        if (course == null) {
+            invalidateStudent(cache, stuId);
+        } else if (stuId != null) {
+            ENTRIES.compute(new StudentKey(cache.profile.id, stuId), (key, existing) -> {
+                GENERATION.incrementAndGet();
+                if (existing != null) {
+                    existing.keySet().removeIf(courseKey -> course.equals(courseKey.course()));
+                }
+                return existing == null || existing.isEmpty() ? null : existing;
+            });
+        }
+    }
+
+    /**
+     * Invalidates all cached status for a student.  This is used when a change (like a student milestone) can affect
+     * every course in the student's pace.
+     *
+     * @param cache the data cache
+     * @param stuId the student ID
+     */
+    public static void invalidateStudent(final Cache cache, final String stuId) {
+
+        if (stuId != null) {
+            ENTRIES.compute(new StudentKey(cache.profile.id, stuId), (key, existing) -> {
+                GENERATION.incrementAndGet();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Clears all cached status.
+     */
+    public static void clear() {
+
+        GENERATION.incrementAndGet();
+        ENTRIES.clear();
+    }
+
+    /**
+     * Invalidates entries when changes to student data are announced.
+     */
+    private static final class Listener implements IStudentDataListener {
+
+        /**
+         * Constructs a new {@code Listener}.
+         */
+        Listener() {
+
+            // No action
+        }
+
+        /**
+         * Called after data for a student has changed.  Changes that do not involve course work (exams or milestones)
+         * do not invalidate a status unless the student is unknown, since a change to registrations is detected when
+         * the pace, track, or index no longer match.
+         *
+         * @param cache the data cache through which the change was made
+         * @param stuId the student ID; {@code null} if the student is not known
+         */
+        @Override
+        public void studentChanged(final Cache cache, final String stuId) {
+
+            if (stuId == null) {
+                clear();
+            }
+        }
+
+        /**
+         * Called after a student's work in a course has changed.
+         *
+         * @param cache  the data cache through which the change was made
+         * @param stuId  the student ID
+         * @param course the course ID; {@code null} if the change may affect any of the student's courses
+         */
+        @Override
+        public void courseWorkChanged(final Cache cache, final String stuId, final String course) {
+
+            invalidate(cache, stuId, course);
+        }
+
+        /**
+         * Called after a change that may affect any number of students.
+         */
+        @Override
+        public void allChanged() {
+
+            clear();
+        }
+    }
+
+    /**
+     * The key for a student's entries.
+     *
+     * @param profileId the ID of the database profile (so data from different databases is not mixed)
+     * @param stuId     the student ID
+     */
+    private record StudentKey(String profileId, String stuId) {
+    }
+
+    /**
+     * The key for an entry within a student's entries.
+     *
+     * @param course  the course ID
+     * @param termKey the term key
+     */
+    private record CourseKey(String course, TermKey termKey) {
+    }
+
+    /**
+     * A cached status and the data from which it was computed.
+     *
+     * @param pace    the student's pace
+     * @param track   the student's pace track
+     * @param index   the index of the course within the pace
+     * @param status  the computed status
+     * @param created the time the entry was created
+     */
+    private record Entry(int pace, String track, int index, CourseStatus.LegacyCourseStatus status, long created) {
+    }
+}
@@ -4,10 +4,10 @@ import dev.mathops.commons.CoreConstants;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.logic.StudentData;
+import dev.mathops.db.logic.StudentMilestoneAppeals;
 import dev.mathops.db.logic.SystemData;
 import dev.mathops.db.logic.TermCalendarLogic;
 import dev.mathops.db.schema.legacy.impl.RawMilestoneAppealLogic;
-import dev.mathops.db.schema.legacy.impl.RawPaceAppealsLogic;
 import dev.mathops.db.schema.legacy.impl.RawStmilestoneLogic;
 import dev.mathops.db.schema.legacy.rec.RawMilestone;
 import dev.mathops.db.schema.legacy.rec.RawMilestoneAppeal;
@@ -327,33 +327,12 @@ public enum MilestoneLogic {
             throw new IllegalArgumentException("Invalid course index value for pace " + pace + " (" + index + ")");
         }
 
-        final List<RawMilestoneAppeal> all = RawMilestoneAppealLogic.queryByStudent(cache, stuId);
-        final int count = all.size();
-        final int min = Math.min(10, count);
-        final List<RawMilestoneAppeal> matching = new ArrayList<>(min);
-
-        for (final RawMilestoneAppeal test : all) {
-            if (Objects.equals(test.paceTrack, paceTrack) && test.pace != null && test.pace.intValue() == pace
-                && test.msNbr != null) {
-                final int number = test.msNbr.intValue();
-
-                final int numberIndex;
-                if (number >= 1000) {
-                    // 4321 means pace 4, course index 3, unit 2, objective 1
-                    numberIndex = (number / 100) % 10;
-                } else {
-                    // 432 means pace 4, course index 3, unit 2
-                    numberIndex = (number / 10) % 10;
-                }
-
-                if (numberIndex == index) {
-                    matching.add(test);
-                }
-            }
-        }
+        final StudentData studentData = cache.getStudent(stuId);
+        final List<RawMilestoneAppeal> matching = new ArrayList<>(
+                studentData.getMilestoneAppealData().getCourseAppeals(paceTrack, pace, index));
 
         // Create synthetic "RawMilestoneAppeal" records for legacy "RawPaceAppeals" records
-        final List<RawPaceAppeals> legacy = RawPaceAppealsLogic.queryByStudent(cache, stuId);
+        final List<RawPaceAppeals> legacy = studentData.getDeadlineAppeals();
 
         for (final RawPaceAppeals test : legacy) {
             if (Objects.equals(test.paceTrack, paceTrack) && test.pace != null && test.pace.intValue() == pace
@@ -451,25 +430,10 @@ public enum MilestoneLogic {
             } else {
                 result = stu.extensionDays;
 
-                final List<RawMilestoneAppeal> all = RawMilestoneAppealLogic.queryByStudent(cache, stuId);
-                for (final RawMilestoneAppeal test : all) {
-
-                    if (RawMilestoneAppeal.APPEAL_TYPE_ACC.equals(test.appealType)
-                        && Objects.equals(test.paceTrack, paceTrack) && test.pace != null
-                        && test.pace.intValue() == pace && test.msNbr != null && test.msType.equals(msType)) {
-
-                        final int number = test.msNbr.intValue();
-                        if (number < 1000) {
-                            // This is a legacy extension: 432 means pace 4, course index 3, unit 2
-                            final int numberIndex = (number / 10) % 10;
-                            final int numberUnit = number % 10;
-
-                            if (numberIndex == index && numberUnit == unit) {
-                                // Already used the accommodation appeal on this milestone.
-                                result = 0;
-                            }
-                        }
-                    }
+                if (studentData.getMilestoneAppealData().hasLegacyAppeal(paceTrack, pace, index, unit, msType,
+                        RawMilestoneAppeal.APPEAL_TYPE_ACC)) {
+                    // Already used the accommodation appeal on this milestone.
+                    result = 0;
                 }
             }
         }
@@ -540,27 +504,10 @@ public enum MilestoneLogic {
                 } else {
                     result = pacing.freeExtensionDays.intValue();
 
-                    final List<RawMilestoneAppeal> all = RawMilestoneAppealLogic.queryByStudent(cache, stuId);
-                    for (final RawMilestoneAppeal test : all) {
-
-                        if ((RawMilestoneAppeal.APPEAL_TYPE_REQ.equals(test.appealType)
-                             || RawMilestoneAppeal.APPEAL_TYPE_AUT.equals(test.appealType))
-                            && test.paceTrack.equals(paceTrack)
-                            && test.pace != null && test.pace.intValue() == pace && test.msNbr != null
-                            && test.msType.equals(msType)) {
-
-                            final int number = test.msNbr.intValue();
-                            if (number < 1000) {
-                                // This is a legacy extension: 432 means pace 4, course index 3, unit 2
-                                final int numberIndex = (number / 10) % 10;
-                                final int numberUnit = number % 10;
-
-                                if (numberIndex == index && numberUnit == unit) {
-                                    // Already used the free appeal on this milestone.
-                                    result = 0;
-                                }
-                            }
-                        }
+                    if (studentData.getMilestoneAppealData().hasLegacyAppeal(paceTrack, pace, index, unit, msType,
+                            RawMilestoneAppeal.APPEAL_TYPE_REQ, RawMilestoneAppeal.APPEAL_TYPE_AUT)) {
+                        // Already used the free appeal on this milestone.
+                        result = 0;
                     }
                 }
             }
@@ -627,26 +574,10 @@ public enum MilestoneLogic {
             } else {
                 result = stu.extensionDays;
 
-                final List<RawMilestoneAppeal> all = RawMilestoneAppealLogic.queryByStudent(cache, stuId);
-                for (final RawMilestoneAppeal test : all) {
-
-                    if (RawMilestoneAppeal.APPEAL_TYPE_ACC.equals(test.appealType) && test.paceTrack.equals(paceTrack)
-                        && test.pace != null && test.pace.intValue() == pace && test.msNbr != null
-                        && test.msType.equals(msType)) {
-
-                        final int number = test.msNbr.intValue();
-                        if (number >= 1000) {
-                            // This is a standards-based extension: 4321 means pace 4, course index 3, unit 2, obj. 1
-                            final int numberIndex = (number / 100) % 10;
-                            final int numberUnit = (number / 10) % 10;
-                            final int numberObj = number % 10;
-
-                            if (numberIndex == index && numberUnit == unit && numberObj == objective) {
-                                // Already used the accommodation appeal on this milestone.
-                                result = 0;
-                            }
-                        }
-                    }
+                if (studentData.getMilestoneAppealData().hasAppeal(paceTrack, pace, index, unit, objective, msType,
+                        RawMilestoneAppeal.APPEAL_TYPE_ACC)) {
+                    // Already used the accommodation appeal on this milestone.
+                    result = 0;
                 }
             }
         }
@@ -719,29 +650,10 @@ public enum MilestoneLogic {
                 } else {
                     result = pacing.freeExtensionDays.intValue();
 
-                    final List<RawMilestoneAppeal> all = RawMilestoneAppealLogic.queryByStudent(cache, stuId);
-                    for (final RawMilestoneAppeal test : all) {
-
-                        if ((RawMilestoneAppeal.APPEAL_TYPE_REQ.equals(test.appealType)
-                             || RawMilestoneAppeal.APPEAL_TYPE_AUT.equals(test.appealType))
-                            && test.paceTrack.equals(paceTrack)
-                            && test.pace != null && test.pace.intValue() == pace && test.msNbr != null
-                            && test.msType.equals(msType)) {
-
-                            final int number = test.msNbr.intValue();
-                            if (number >= 1000) {
-                                // This is a standards-based extension:
-                                // 4321 means pace 4, course index 3, unit 2, objective 1
-                                final int numberIndex = (number / 100) % 10;
-                                final int numberUnit = (number / 10) % 10;
-                                final int numberObj = number % 10;
-
-                                if (numberIndex == index && numberUnit == unit && numberObj == objective) {
-                                    // Already used the free appeal on this milestone.
-                                    result = 0;
-                                }
-                            }
-                        }
+                    if (studentData.getMilestoneAppealData().hasAppeal(paceTrack, pace, index, unit, objective, msType,
+                            RawMilestoneAppeal.APPEAL_TYPE_REQ, RawMilestoneAppeal.APPEAL_TYPE_AUT)) {
+                        // Already used the free appeal on this milestone.
+                        result = 0;
                     }
                 }
             }
@@ -961,7 +873,7 @@ public enum MilestoneLogic {
                         paceTrack, msNbr, msType, current, shortExtension, null, "Requested extension via website",
                         comment, "websites");
 
-                if (!RawMilestoneAppealLogic.insert(cache, appealRecord)) {
+                if (!insertAppeal(cache, appealRecord)) {
                     Log.warning("Failed to insert MILESTONE_APPEAL record for requested extension");
                 }
 
@@ -987,7 +899,7 @@ public enum MilestoneLogic {
                     paceTrack, msNbr, msType, current, newDeadline, null, "Requested extension via website",
                     CoreConstants.EMPTY, "websites");
 
-            if (!RawMilestoneAppealLogic.insert(cache, appealRecord)) {
+            if (!insertAppeal(cache, appealRecord)) {
                 Log.warning("Failed to insert MILESTONE_APPEAL record for requested extension");
             }
 
@@ -1009,6 +921,29 @@ public enum MilestoneLogic {
         return added;
     }
 
+    /**
+     * Inserts a milestone appeal record and adds it to the student's milestone appeal data, so later availability
+     * checks see it without a re-query.
+     *
+     * @param cache        the data cache
+     * @param appealRecord the appeal record to insert
+     * @return true if the record was inserted; false if not
+     * @throws SQLException if there is an error accessing the database
+     */
+    private static boolean insertAppeal(final Cache cache, final RawMilestoneAppeal appealRecord)
+            throws SQLException {
+
+        // Load the appeal data before inserting so the new record is not loaded along with the existing records
+        final StudentMilestoneAppeals appeals = cache.getStudent(appealRecord.stuId).getMilestoneAppealData();
+
+        final boolean result = RawMilestoneAppealLogic.insert(cache, appealRecord);
+        if (result) {
+            appeals.add(appealRecord);
+        }
+
+        return result;
+    }
+
     /**
      * Builds the STMILESTONE record by either updating an existing record in place or adding a new record.
      *
@@ -1222,7 +1157,7 @@ public enum MilestoneLogic {
                         paceTrack, msNbr, msType, current, shortExtension, null, "Requested extension via website",
                         comment, "websites");
 
-                if (!RawMilestoneAppealLogic.insert(cache, appealRecord)) {
+                if (!insertAppeal(cache, appealRecord)) {
                     Log.warning("Failed to insert MILESTONE_APPEAL record for requested extension");
                 }
 
@@ -1239,7 +1174,7 @@ public enum MilestoneLogic {
                     paceTrack, msNbr, msType, current, newDeadline, null, "Requested extension via website",
                     CoreConstants.EMPTY, "websites");
 
-            if (!RawMilestoneAppealLogic.insert(cache, appealRecord)) {
+            if (!insertAppeal(cache, appealRecord)) {
                 Log.warning("Failed to insert MILESTONE_APPEAL record for requested extension");
             }
 
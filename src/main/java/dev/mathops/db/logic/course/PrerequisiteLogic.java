@@ -4,6 +4,7 @@ import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.cfg.Contexts;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.PendingQuery;
 import dev.mathops.db.cfg.DatabaseConfig;
 import dev.mathops.db.cfg.Profile;
 import dev.mathops.db.logic.SystemData;
@@ -70,11 +71,24 @@ public final class PrerequisiteLogic {
 
         this.studentId = theStudentId;
 
-        this.allPlacementCredit = RawMpeCreditLogic.queryByStudent(cache, theStudentId);
-
-        this.allHistory = RawStcourseLogic.getHistory(cache, theStudentId);
-        this.allCompletions = RawStcourseLogic.getAllPriorCompleted(cache, theStudentId);
-        this.allTransfer = RawFfrTrnsLogic.queryByStudent(cache, theStudentId);
+        // Test students are served synthetic data built from the active term, which is loaded lazily and is not safe
+        // to load from several threads at once, so load it here before any query starts
+        cache.getSystemData().getActiveTerm();
+
+        // These queries are independent, so they run concurrently if the cache allows
+        final PendingQuery<List<RawMpeCredit>> placementCredit = cache.submit(() ->
+                RawMpeCreditLogic.queryByStudent(cache, theStudentId));
+        final PendingQuery<List<RawStcourse>> history = cache.submit(() ->
+                RawStcourseLogic.getHistory(cache, theStudentId));
+        final PendingQuery<List<RawStcourse>> completions = cache.submit(() ->
+                RawStcourseLogic.getAllPriorCompleted(cache, theStudentId));
+        final PendingQuery<List<RawFfrTrns>> transfer = cache.submit(() ->
+                RawFfrTrnsLogic.queryByStudent(cache, theStudentId));
+
+        this.allPlacementCredit = placementCredit.get();
+        this.allHistory = history.get();
+        this.allCompletions = completions.get();
+        this.allTransfer = transfer.get();
 
         this.satisfied = new ArrayList<>(5);
         this.satisfiedByTransfer = new ArrayList<>(5);
@@ -1,14 +1,13 @@
 package dev.mathops.db.logic.course;
 
 import dev.mathops.db.Cache;
+import dev.mathops.db.logic.StudentMasteryAttempts;
 import dev.mathops.db.logic.SystemData;
 import dev.mathops.db.schema.legacy.impl.RawSthomeworkLogic;
 import dev.mathops.db.schema.legacy.rec.RawSthomework;
 import dev.mathops.db.schema.term.rec.MasteryAttemptQaRec;
 import dev.mathops.db.schema.term.rec.MasteryAttemptRec;
 import dev.mathops.db.schema.main.rec.MasteryExamRec;
-import dev.mathops.db.schema.main.impl.MasteryAttemptLogic;
-import dev.mathops.db.schema.main.impl.MasteryAttemptQaLogic;
 import dev.mathops.text.builder.SimpleBuilder;
 
 import java.sql.SQLException;
@@ -61,26 +60,20 @@ public final class StandardsMasteryLogic {
         this.masteryAttemptQuestions = new HashMap<>(numExams);
         this.mastered = new HashMap<>(numExams);
 
+        final StudentMasteryAttempts attemptData = cache.getStudent(stuId).getMasteryAttemptData();
+
         for (final MasteryExamRec exam : this.masteryExams) {
-            final List<MasteryAttemptRec> attempts = MasteryAttemptLogic.INSTANCE.queryByStudentExam(cache, stuId,
-                    exam.examId, false);
+            final List<MasteryAttemptRec> attempts = attemptData.getAttemptsByExam(exam.examId);
 
             this.masteryAttempts.put(exam.examId, attempts);
-            final int numAttempts = attempts.size();
-
-            final List<MasteryAttemptQaRec> qaList = new ArrayList<>(numAttempts << 1);
-            this.masteryAttemptQuestions.put(exam.examId, qaList);
+            this.masteryAttemptQuestions.put(exam.examId, attemptData.getQaByExam(exam.examId));
 
             boolean isMastered = false;
             for (final MasteryAttemptRec attempt : attempts) {
-
                 if ("Y".equals(attempt.passed)) {
                     isMastered = true;
+                    break;
                 }
-
-                final List<MasteryAttemptQaRec> qa = MasteryAttemptQaLogic.INSTANCE.queryByAttempt(cache,
-                        attempt.serialNbr, attempt.examId);
-                qaList.addAll(qa);
             }
 
             final Boolean masteredObj = Boolean.valueOf(isMastered);
@@ -0,0 +1,174 @@
+package dev.mathops.db.logic.mathplan;
+
+import dev.mathops.commons.CoreConstants;
+import dev.mathops.db.Cache;
+import dev.mathops.db.logic.StudentData;
+import dev.mathops.db.logic.mathplan.majors.Major;
+import dev.mathops.db.schema.legacy.impl.RawFfrTrnsLogic;
+import dev.mathops.db.schema.legacy.impl.RawMpeCreditLogic;
+import dev.mathops.db.schema.legacy.impl.RawStcourseLogic;
+import dev.mathops.db.schema.legacy.impl.RawStmathplanLogic;
+import dev.mathops.db.schema.legacy.impl.RawStmpeLogic;
+import dev.mathops.db.schema.legacy.rec.RawFfrTrns;
+import dev.mathops.db.schema.legacy.rec.RawMpeCredit;
+import dev.mathops.db.schema.legacy.rec.RawStcourse;
+import dev.mathops.db.schema.legacy.rec.RawStmathplan;
+import dev.mathops.db.schema.legacy.rec.RawStmpe;
+import dev.mathops.db.schema.legacy.rec.RawStudent;
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes Math Plans for a cohort of students (for example, an entire incoming class) at once.
+ *
+ * <p>
+ * Rather than querying transfer credit, placement credit, registrations, placement attempts, and Math Plan responses
+ * separately for each student, as {@code MathPlanLogic.queryPlan} does, each of those tables is queried for the
+ * cohort's students in blocks of up to 500 students, and the rows are grouped by student.  Test students are served
+ * from generated data, as they are for a single student.  Plans are then computed in parallel from the loaded data.
+ * {@code Requirements} objects depend only on the list of majors and the set of courses completed, and thousands of
+ * students share the same combination, so they are computed once per combination and shared.
+ *
+ * <p>
+ * Loading uses the calling thread (and the cache's connections); only the computation of plans from loaded data runs
+ * in parallel.
+ */
+public final class MathPlanBatch {
+
+    /** The data cache. */
+    private final Cache cache;
+
+    /** Requirements, keyed by the list of majors and the set of completed courses from which they were computed. */
+    private final Map<List<Object>, Requirements> requirements;
+
+    /**
+     * Constructs a new {@code MathPlanBatch}.
+     *
+     * @param theCache the data cache
+     */
+    public MathPlanBatch(final Cache theCache) {
+
+        if (theCache == null) {
+            throw new IllegalArgumentException("Cache may not be null");
+        }
+
+        this.cache = theCache;
+        this.requirements = new ConcurrentHashMap<>(100);
+    }
+
+    /**
+     * Computes Math Plans for a cohort of students.
+     *
+     * @param cohort the student records of the students in the cohort
+     * @return a map from student ID to Math Plan, in the order of the cohort
+     * @throws SQLException if there is an error accessing the database
+     */
+    public Map<String, StudentMathPlan> evaluate(final Collection<RawStudent> cohort) throws SQLException {
+
+        final int size = cohort.size();
+        final Map<String, RawStudent> students = new LinkedHashMap<>(size * 2);
+        for (final RawStudent student : cohort) {
+            students.put(student.stuId, student);
+        }
+
+        final Collection<String> stuIds = students.keySet();
+        final Map<String, List<RawFfrTrns>> transfer = RawFfrTrnsLogic.queryByStudents(this.cache, stuIds);
+        final Map<String, List<RawMpeCredit>> credit = RawMpeCreditLogic.queryByStudents(this.cache, stuIds);
+        final Map<String, List<RawStcourse>> regs = RawStcourseLogic.queryByStudents(this.cache, stuIds);
+        final Map<String, List<RawStmpe>> attempts = RawStmpeLogic.queryByStudents(this.cache, stuIds);
+        final Map<String, List<RawStmathplan>> responses = RawStmathplanLogic.queryByStudents(this.cache, stuIds);
+
+        final List<RawStudent> ordered = new ArrayList<>(students.values());
+        final List<StudentStatus> statuses = new ArrayList<>(ordered.size());
+        for (final RawStudent student : ordered) {
+            final String stuId = student.stuId;
+            final List<RawStmpe> stuAttempts = attempts.getOrDefault(stuId, List.of());
+
+            statuses.add(new StudentStatus(student, transfer.getOrDefault(stuId, List.of()),
+                    credit.getOrDefault(stuId, List.of()),
+                    StudentData.getCompletedRegistrations(regs.getOrDefault(stuId, List.of())),
+                    StudentData.getLegalPlacementAttempts(stuAttempts).size(),
+                    responses.getOrDefault(stuId, List.of())));
+        }
+
+        final List<StudentMathPlan> plans = statuses.parallelStream().map(this::computePlan).toList();
+
+        final Map<String, StudentMathPlan> result = new LinkedHashMap<>(size * 2);
+        final int count = ordered.size();
+        for (int i = 0; i < count; ++i) {
+            result.put(ordered.get(i).stuId, plans.get(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the Math Plan for a single student from that student's status.
+     *
+     * @param stuStatus the student status
+     * @return the Math Plan
+     */
+    private StudentMathPlan computePlan(final StudentStatus stuStatus) {
+
+        final RawStudent student = stuStatus.student;
+        final List<Major> majors = MathPlanLogic.determineMajors(student.stuId, stuStatus.majorsResponses, student);
+
+        final Requirements reqs;
+        if (majors.isEmpty()) {
+            reqs = new Requirements();
+        } else {
+            final List<Object> key = List.of(List.copyOf(majors), stuStatus.getCompleted());
+            reqs = this.requirements.computeIfAbsent(key, k -> new Requirements(majors, stuStatus));
+        }
+
+        return new StudentMathPlan(majors, stuStatus, reqs);
+    }
+
+    /**
+     * Gets the number of distinct {@code Requirements} objects computed so far.
+     *
+     * @return the number of distinct requirements
+     */
+    public int getNumDistinctRequirements() {
+
+        return this.requirements.size();
+    }
+
+    /**
+     * Writes a summary table of plans in comma-separated format, with one row per student giving the student ID,
+     * declared program code, question numbers of the majors that contributed to the plan, the recommended next step,
+     * and whether placement is needed.
+     *
+     * @param htm   the {@code HtmlBuilder} to which to append
+     * @param plans the map from student ID to Math Plan
+     */
+    public static void appendSummaryTable(final HtmlBuilder htm, final Map<String, StudentMathPlan> plans) {
+
+        htm.addln("stu_id,program_code,majors,next_step,placement_needed");
+
+        for (final Map.Entry<String, StudentMathPlan> entry : plans.entrySet()) {
+            final StudentMathPlan plan = entry.getValue();
+            final String programCode = plan.stuStatus.student.programCode;
+
+            htm.add(entry.getKey(), CoreConstants.COMMA, programCode == null ? CoreConstants.EMPTY : programCode,
+                    CoreConstants.COMMA);
+            boolean first = true;
+            for (final Major major : plan.majorsOfInterest) {
+                if (!first) {
+                    htm.add(CoreConstants.SPC_CHAR);
+                }
+                htm.add(major.questionNumbers[0]);
+                first = false;
+            }
+            htm.addln(CoreConstants.COMMA, plan.nextSteps.nextStep.name(), CoreConstants.COMMA,
+                    plan.nextSteps.placementNeeded ? "Y" : "N");
+        }
+    }
+}
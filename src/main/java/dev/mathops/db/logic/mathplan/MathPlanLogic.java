@@ -133,50 +133,19 @@ public enum MathPlanLogic {
 
         final StudentData studentData = cache.getStudent(studentId);
 
-        final List<Major> majors = new ArrayList<>(10);
-        final Collection<Integer> mainKeys = new ArrayList<>(10);
+        Map<Integer, RawStmathplan> planResponses = null;
+        RawStudent student = null;
         boolean good = true;
 
         try {
-            final Map<Integer, RawStmathplan> planResponses = studentData.getLatestMathPlanResponsesByPage(
-                    MathPlanConstants.MAJORS_PROFILE);
-
-            for (final Integer key : planResponses.keySet()) {
-                final int code = key.intValue();
-                final Major major = Majors.getMajorByNumericCode(code);
-                if (major == null) {
-                    Log.warning("No major found with code ", key, " (student ", studentId, ")");
-                } else if (!majors.contains(major) && !mainKeys.contains(key)) {
-                    majors.add(major);
-                    mainKeys.add(key);
-                }
-            }
+            planResponses = studentData.getLatestMathPlanResponsesByPage(MathPlanConstants.MAJORS_PROFILE);
         } catch (final SQLException ex) {
             Log.warning("Failed to query Math Plan 'majors' responses.", ex);
             good = false;
         }
 
         try {
-            final RawStudent student = studentData.getStudentRecord();
-            if (student != null) {
-                final String declaredCode = student.programCode;
-                if (declaredCode != null) {
-                    if (!isProgramCodeIgnored(declaredCode)) {
-                        final Major declared = Majors.getMajorByProgramCode(declaredCode);
-                        if (declared == null) {
-                            Log.warning("Failed to identify declared major '", declaredCode, "' for student ",
-                                    studentId);
-                        } else if (!majors.contains(declared)) {
-                            final int code = declared.questionNumbers[0];
-                            final Integer key = Integer.valueOf(code);
-                            if (!mainKeys.contains(key)) {
-                                majors.add(declared);
-                                mainKeys.add(key);
-                            }
-                        }
-                    }
-                }
-            }
+            student = studentData.getStudentRecord();
         } catch (final SQLException ex) {
             Log.warning("Failed to look up declared major.", ex);
             good = false;
@@ -185,6 +154,8 @@ public enum MathPlanLogic {
         StudentMathPlan result = null;
 
         if (good) {
+            final List<Major> majors = determineMajors(studentId, planResponses, student);
+
             try {
                 final StudentStatus stuStatus = new StudentStatus(cache, studentId);
                 final Requirements requirements = majors.isEmpty() ? new Requirements() : new Requirements(majors,
@@ -199,6 +170,55 @@ public enum MathPlanLogic {
         return result;
     }
 
+    /**
+     * Determines the list of majors for which a student has expressed interest, plus the student's current declared
+     * major (unless its program code is ignored).
+     *
+     * @param studentId       the student ID
+     * @param majorsResponses the student's latest responses to the "Majors" item
+     * @param student         the student record (null if not found)
+     * @return the list of majors
+     */
+    static List<Major> determineMajors(final String studentId, final Map<Integer, RawStmathplan> majorsResponses,
+                                       final RawStudent student) {
+
+        final List<Major> majors = new ArrayList<>(10);
+        final Collection<Integer> mainKeys = new ArrayList<>(10);
+
+        for (final Integer key : majorsResponses.keySet()) {
+            final int code = key.intValue();
+            final Major major = Majors.getMajorByNumericCode(code);
+            if (major == null) {
+                Log.warning("No major found with code ", key, " (student ", studentId, ")");
+            } else if (!majors.contains(major) && !mainKeys.contains(key)) {
+                majors.add(major);
+                mainKeys.add(key);
+            }
+        }
+
+        if (student != null) {
+            final String declaredCode = student.programCode;
+            if (declaredCode != null) {
+                if (!isProgramCodeIgnored(declaredCode)) {
+                    final Major declared = Majors.getMajorByProgramCode(declaredCode);
+                    if (declared == null) {
+                        Log.warning("Failed to identify declared major '", declaredCode, "' for student ",
+                                studentId);
+                    } else if (!majors.contains(declared)) {
+                        final int code = declared.questionNumbers[0];
+                        final Integer key = Integer.valueOf(code);
+                        if (!mainKeys.contains(key)) {
+                            majors.add(declared);
+                            mainKeys.add(key);
+                        }
+                    }
+                }
+            }
+        }
+
+        return majors;
+    }
+
     /**
      * Stores a set of Math Plan responses.
      *
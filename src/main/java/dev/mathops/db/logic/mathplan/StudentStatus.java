@@ -1,6 +1,7 @@
 package dev.mathops.db.logic.mathplan;
 
 import dev.mathops.db.Cache;
+import dev.mathops.db.PendingQuery;
 import dev.mathops.db.logic.StudentData;
 import dev.mathops.db.logic.mathplan.types.ECourse;
 import dev.mathops.db.schema.legacy.rec.RawFfrTrns;
@@ -8,7 +9,6 @@ import dev.mathops.db.schema.legacy.rec.RawMpeCredit;
 import dev.mathops.db.schema.RawRecordConstants;
 import dev.mathops.db.schema.legacy.rec.RawStcourse;
 import dev.mathops.db.schema.legacy.rec.RawStmathplan;
-import dev.mathops.db.schema.legacy.rec.RawStmpe;
 import dev.mathops.db.schema.legacy.rec.RawStudent;
 
 import java.sql.SQLException;
@@ -73,23 +73,84 @@ public final class StudentStatus {
      */
     StudentStatus(final Cache cache, final String studentId) throws SQLException {
 
-        final StudentData studentData = cache.getStudent(studentId);
+        this(prefetch(cache, cache.getStudent(studentId)));
+    }
+
+    /**
+     * Loads the data needed to construct a {@code StudentStatus} into a student data object.  The queries are
+     * independent, so they run concurrently if the cache allows.
+     *
+     * @param cache       the data cache
+     * @param studentData the student data
+     * @return {@code studentData}, with all needed data loaded
+     * @throws SQLException if there is an error accessing the database
+     */
+    private static StudentData prefetch(final Cache cache, final StudentData studentData) throws SQLException {
 
-        this.student = studentData.getStudentRecord();
-        this.transferCredit = studentData.getTransferCredit();
-        this.placementCredit = studentData.getPlacementCredit();
-        this.completedCourses = studentData.getCompletedRegistrations();
+        // Test students are served synthetic data built from the active term, which is loaded lazily and is not safe
+        // to load from several threads at once, so load it here before any query starts
+        cache.getSystemData().getActiveTerm();
 
-        final List<RawStmpe> placementAttempts = studentData.getLegalPlacementAttempts();
-        this.numPlacementAttempts = placementAttempts.size();
+        final List<PendingQuery<?>> pending = List.of(cache.submit(studentData::getStudentRecord),
+                cache.submit(studentData::getTransferCredit), cache.submit(studentData::getPlacementCredit),
+                cache.submit(studentData::getRegistrations), cache.submit(studentData::getPlacementAttempts),
+                cache.submit(studentData::getMathPlanResponses));
 
-        this.majorsResponses = studentData.getLatestMathPlanResponsesByPage(MathPlanConstants.MAJORS_PROFILE);
-        this.planSummaryResponses = studentData.getLatestMathPlanResponsesByPage(MathPlanConstants.PLAN_PROFILE);
-        this.onlyRecResponses = studentData.getLatestMathPlanResponsesByPage(MathPlanConstants.ONLY_RECOM_PROFILE);
-        this.existingWorkResponses = studentData.getLatestMathPlanResponsesByPage(MathPlanConstants.EXISTING_PROFILE);
-        this.intentionsResponses = studentData.getLatestMathPlanResponsesByPage(MathPlanConstants.INTENTIONS_PROFILE);
-        this.reviewedResponses = studentData.getLatestMathPlanResponsesByPage(MathPlanConstants.REVIEWED_PROFILE);
-        this.resultsResponses = studentData.getLatestMathPlanResponsesByPage(MathPlanConstants.CHECKED_RESULTS_PROFILE);
+        for (final PendingQuery<?> query : pending) {
+            query.get();
+        }
+
+        return studentData;
+    }
+
+    /**
+     * Constructs a {@code StudentStatus}.
+     *
+     * @param studentData the student data
+     * @throws SQLException if there is an error accessing the database
+     */
+    private StudentStatus(final StudentData studentData) throws SQLException {
+
+        this(studentData.getStudentRecord(), studentData.getTransferCredit(), studentData.getPlacementCredit(),
+                studentData.getCompletedRegistrations(), studentData.getLegalPlacementAttempts().size(),
+                studentData.getMathPlanResponses());
+    }
+
+    /**
+     * Constructs a {@code StudentStatus} from data that has already been loaded (for example, for a batch of
+     * students).
+     *
+     * @param theStudent              the student record
+     * @param theTransferCredit       the student's transfer credit
+     * @param thePlacementCredit      the student's placement credit
+     * @param theCompletedCourses     the student's completed courses
+     * @param theNumPlacementAttempts the number of legal placement attempts on record
+     * @param mathPlanResponses       all the student's Math Plan responses
+     */
+    StudentStatus(final RawStudent theStudent, final List<RawFfrTrns> theTransferCredit,
+                  final List<RawMpeCredit> thePlacementCredit, final List<RawStcourse> theCompletedCourses,
+                  final int theNumPlacementAttempts, final Iterable<RawStmathplan> mathPlanResponses) {
+
+        this.student = theStudent;
+        this.transferCredit = theTransferCredit;
+        this.placementCredit = thePlacementCredit;
+        this.completedCourses = theCompletedCourses;
+        this.numPlacementAttempts = theNumPlacementAttempts;
+
+        this.majorsResponses = StudentData.getLatestMathPlanResponsesByPage(mathPlanResponses,
+                MathPlanConstants.MAJORS_PROFILE);
+        this.planSummaryResponses = StudentData.getLatestMathPlanResponsesByPage(mathPlanResponses,
+                MathPlanConstants.PLAN_PROFILE);
+        this.onlyRecResponses = StudentData.getLatestMathPlanResponsesByPage(mathPlanResponses,
+                MathPlanConstants.ONLY_RECOM_PROFILE);
+        this.existingWorkResponses = StudentData.getLatestMathPlanResponsesByPage(mathPlanResponses,
+                MathPlanConstants.EXISTING_PROFILE);
+        this.intentionsResponses = StudentData.getLatestMathPlanResponsesByPage(mathPlanResponses,
+                MathPlanConstants.INTENTIONS_PROFILE);
+        this.reviewedResponses = StudentData.getLatestMathPlanResponsesByPage(mathPlanResponses,
+                MathPlanConstants.REVIEWED_PROFILE);
+        this.resultsResponses = StudentData.getLatestMathPlanResponsesByPage(mathPlanResponses,
+                MathPlanConstants.CHECKED_RESULTS_PROFILE);
     }
 
     /**
@@ -0,0 +1,191 @@
+package dev.mathops.db.logic.mathplan.majors;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable index of current and deactivated majors, built once, that supports constant-time lookup by program code
+ * or numeric code.
+ *
+ * <p>
+ * Lookups give the same results as searching current majors, then deactivated majors, then (for a program code with a
+ * "-DD-" dual-degree annotation) current and deactivated majors again with the annotation removed.  Entries for
+ * annotated codes are precomputed, so each lookup is a single hash or array access.
+ */
+final class MajorRegistry {
+
+    /** The single instance. */
+    static final MajorRegistry INSTANCE = new MajorRegistry(MajorsCurrent.INSTANCE.getMajors(),
+            MajorsDeactivated.INSTANCE.getMajors());
+
+    /** The dual-degree annotation in program codes. */
+    private static final String DUAL_DEGREE = "-DD-";
+
+    /** Map from program code (with or without a dual-degree annotation) to major. */
+    private final Map<String, Major> byProgramCode;
+
+    /** Majors indexed by numeric code (question number); entries are null where no major has that number. */
+    private final Major[] byNumericCode;
+
+    /** Map from negative numeric code (used as a placeholder by some deactivated majors) to major. */
+    private final Map<Integer, Major> byNegativeCode;
+
+    /**
+     * Constructs a new {@code MajorRegistry}.
+     *
+     * @param current     the current majors
+     * @param deactivated the deactivated majors
+     */
+    private MajorRegistry(final List<Major> current, final List<Major> deactivated) {
+
+        final Map<String, Major> codes = new HashMap<>(600);
+        addProgramCodes(codes, current);
+        addProgramCodes(codes, deactivated);
+
+        final Map<String, Major> annotated = new HashMap<>(600);
+        addAnnotatedCodes(annotated, current);
+        addAnnotatedCodes(annotated, deactivated);
+        for (final Map.Entry<String, Major> entry : annotated.entrySet()) {
+            codes.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+
+        this.byProgramCode = Map.copyOf(codes);
+
+        int maxNumeric = -1;
+        for (final Major major : current) {
+            maxNumeric = Math.max(maxNumeric, maxQuestionNumber(major));
+        }
+        for (final Major major : deactivated) {
+            maxNumeric = Math.max(maxNumeric, maxQuestionNumber(major));
+        }
+
+        this.byNumericCode = new Major[maxNumeric + 1];
+        final Map<Integer, Major> negative = new HashMap<>(10);
+        addNumericCodes(this.byNumericCode, negative, current);
+        addNumericCodes(this.byNumericCode, negative, deactivated);
+        this.byNegativeCode = Map.copyOf(negative);
+    }
+
+    /**
+     * Adds the program codes of a list of majors to a map, keeping any existing mapping for a code.
+     *
+     * @param map    the map to which to add codes
+     * @param majors the majors
+     */
+    private static void addProgramCodes(final Map<? super String, Major> map, final Iterable<Major> majors) {
+
+        for (final Major major : majors) {
+            for (final String code : major.programCodes) {
+                map.putIfAbsent(code, major);
+            }
+        }
+    }
+
+    /**
+     * Adds every program code with a dual-degree annotation that {@code removeAnnotation} would map to a program code
+     * of a major in a list, keeping any existing mapping for a code.
+     *
+     * @param map    the map to which to add codes
+     * @param majors the majors
+     */
+    private static void addAnnotatedCodes(final Map<? super String, Major> map, final Iterable<Major> majors) {
+
+        for (final Major major : majors) {
+            for (final String code : major.programCodes) {
+                int dash = code.indexOf('-', 1);
+                while (dash > 0) {
+                    final String annotated = code.substring(0, dash) + "-DD" + code.substring(dash);
+                    if (code.equals(removeAnnotation(annotated))) {
+                        map.putIfAbsent(annotated, major);
+                    }
+                    dash = code.indexOf('-', dash + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the first dual-degree annotation from a program code.
+     *
+     * @param programCode the program code
+     * @return the code with the annotation removed; null if the code has no annotation after its first character
+     */
+    private static String removeAnnotation(final String programCode) {
+
+        final int ddIndex = programCode.indexOf(DUAL_DEGREE);
+
+        return ddIndex > 0 ? programCode.substring(0, ddIndex) + programCode.substring(ddIndex + 3) : null;
+    }
+
+    /**
+     * Finds the largest question number of a major.
+     *
+     * @param major the major
+     * @return the largest question number; -1 if the major has none
+     */
+    private static int maxQuestionNumber(final Major major) {
+
+        int max = -1;
+
+        for (final int nbr : major.questionNumbers) {
+            max = Math.max(max, nbr);
+        }
+
+        return max;
+    }
+
+    /**
+     * Adds the numeric codes of a list of majors to an array (or a map, for negative codes), keeping any existing entry
+     * for a code.
+     *
+     * @param array    the array to which to add majors
+     * @param negative the map to which to add majors with negative codes
+     * @param majors   the majors
+     */
+    private static void addNumericCodes(final Major[] array, final Map<? super Integer, Major> negative,
+                                        final Iterable<Major> majors) {
+
+        for (final Major major : majors) {
+            for (final int nbr : major.questionNumbers) {
+                if (nbr < 0) {
+                    negative.putIfAbsent(Integer.valueOf(nbr), major);
+                } else if (array[nbr] == null) {
+                    array[nbr] = major;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the major with a specified program code.
+     *
+     * @param programCode the program code
+     * @return the major; {@code null} if none matches the program code
+     */
+    Major getMajor(final String programCode) {
+
+        return programCode == null ? null : this.byProgramCode.get(programCode);
+    }
+
+    /**
+     * Gets the major with a specified numeric code.
+     *
+     * @param numericCode the numeric code
+     * @return the major; {@code null} if none matches the numeric code
+     */
+    Major getMajor(final int numericCode) {
+
+        final Major result;
+
+        if (numericCode < 0) {
+            result = this.byNegativeCode.get(Integer.valueOf(numericCode));
+        } else if (numericCode < this.byNumericCode.length) {
+            result = this.byNumericCode[numericCode];
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+}
@@ -8,36 +8,15 @@ public enum Majors {
 
     /**
      * Attempts to look up a {@code Major} by its program code, checking first in current majors, then in deactivated
-     * majors.
+     * majors.  If neither has the program code and the code has a "-DD-" dual degree annotation, the annotation is
+     * removed and current and deactivated majors are checked again.
      *
      * @param programCode the program code
      * @return the major; null if none found or the given program code is null
      */
     public static Major getMajorByProgramCode(final String programCode) {
 
-        Major result = null;
-
-        if (programCode != null) {
-            result = MajorsCurrent.INSTANCE.getMajor(programCode);
-            if (result == null) {
-                result = MajorsDeactivated.INSTANCE.getMajor(programCode);
-
-                if (result == null) {
-                    // Do some processing to try to pick up "dual degree" annotations
-                    final int ddIndex = programCode.indexOf("-DD-");
-
-                    if (ddIndex > 0) {
-                        final String newCode = programCode.substring(0, ddIndex) + programCode.substring(ddIndex + 3);
-                        result = MajorsCurrent.INSTANCE.getMajor(newCode);
-                        if (result == null) {
-                            result = MajorsDeactivated.INSTANCE.getMajor(newCode);
-                        }
-                    }
-                }
-            }
-        }
-
-        return result;
+        return MajorRegistry.INSTANCE.getMajor(programCode);
     }
 
     /**
@@ -49,11 +28,6 @@ public enum Majors {
      */
     public static Major getMajorByNumericCode(final int numericCode) {
 
-        Major result = MajorsCurrent.INSTANCE.getMajor(numericCode);
-        if (result == null) {
-            result = MajorsDeactivated.INSTANCE.getMajor(numericCode);
-        }
-
-        return result;
+        return MajorRegistry.INSTANCE.getMajor(numericCode);
     }
 }
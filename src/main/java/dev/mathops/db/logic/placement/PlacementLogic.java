@@ -4,6 +4,7 @@ import dev.mathops.commons.TemporalUtils;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.PendingQuery;
 import dev.mathops.db.cfg.Contexts;
 import dev.mathops.db.cfg.DatabaseConfig;
 import dev.mathops.db.cfg.Profile;
@@ -187,10 +188,24 @@ public class PlacementLogic {
         this.studentId = theStudentId;
         this.applicationTerm = theApplicationTerm;
         this.status = new PlacementStatus();
-        this.student = RawStudentLogic.query(cache, this.studentId, false);
-        this.allAttempts = RawStmpeLogic.queryLegalByStudent(cache, this.studentId);
-        this.allPlacementCredit = RawMpeCreditLogic.queryByStudent(cache, this.studentId);
-        this.allSpecials = RawSpecialStusLogic.queryByStudent(cache, this.studentId);
+
+        // Test students are served synthetic data built from the active term, which is loaded lazily and is not safe
+        // to load from several threads at once, so load it here before any query starts
+        cache.getSystemData().getActiveTerm();
+
+        // These queries are independent, so they run concurrently if the cache allows
+        final PendingQuery<RawStudent> stu = cache.submit(() -> RawStudentLogic.query(cache, theStudentId, false));
+        final PendingQuery<List<RawStmpe>> attempts = cache.submit(() ->
+                RawStmpeLogic.queryLegalByStudent(cache, theStudentId));
+        final PendingQuery<List<RawMpeCredit>> placementCredit = cache.submit(() ->
+                RawMpeCreditLogic.queryByStudent(cache, theStudentId));
+        final PendingQuery<List<RawSpecialStus>> specials = cache.submit(() ->
+                RawSpecialStusLogic.queryByStudent(cache, theStudentId));
+
+        this.student = stu.get();
+        this.allAttempts = attempts.get();
+        this.allPlacementCredit = placementCredit.get();
+        this.allSpecials = specials.get();
 
         final LocalDate today = now.toLocalDate();
         computeStatus(cache, today);
@@ -14,8 +14,14 @@ import java.time.LocalDateTime;
 
 /**
  * A base class for records with utility methods for extracting fields from result sets.
+ *
+ * <p>
+ * Field values can be retrieved by column name or by 1-based column index.  Retrieval by name has the driver resolve
+ * the name for every value; code that reads many rows can instead resolve names to indexes once per result set with
+ * {@code ResultSetColumns} and retrieve values by index.  String and integer values are passed through
+ * {@code ValueCanonicalizer}, which shares instances of common values when that mode is enabled.
  */
-public abstract class RecBase {
+public abstract class RecBase implements Cloneable {
 
     /** The field divider for text representations. */
     public static final String DIVIDER = "\u001F";
@@ -34,6 +40,22 @@ public abstract class RecBase {
         this.synthetic = false;
     }
 
+    /**
+     * Creates a shallow copy of this record.  Most record fields (including all fields of legacy records) hold
+     * immutable values such as strings, numbers, dates, and term keys, so changing a field in the copy does not change
+     * the original.  A record with a field that holds a mutable object should override this method to copy it.
+     *
+     * @return the copy, of the same class as this record
+     */
+    public RecBase copy() {
+
+        try {
+            return (RecBase) clone();
+        } catch (final CloneNotSupportedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
     /**
      * Retrieves a String field value from a result set, returning null if the result set indicates a null value was
      * present. The string is trimmed to remove leading or trailing whitespace.
@@ -45,9 +67,23 @@ public abstract class RecBase {
      */
     public static String getStringField(final ResultSet rs, final String name) throws SQLException {
 
-        final String tmp = rs.getString(name);
+        return getStringField(rs, rs.findColumn(name));
+    }
 
-        return tmp == null ? null : tmp.trim();
+    /**
+     * Retrieves a String field value from a result set, returning null if the result set indicates a null value was
+     * present. The string is trimmed to remove leading or trailing whitespace.
+     *
+     * @param rs    the result set
+     * @param index the 1-based column index
+     * @return the value
+     * @throws SQLException if there is an error retrieving the value
+     */
+    public static String getStringField(final ResultSet rs, final int index) throws SQLException {
+
+        final String tmp = rs.getString(index);
+
+        return tmp == null ? null : ValueCanonicalizer.canonical(tmp.trim());
     }
 
     /**
@@ -61,7 +97,21 @@ public abstract class RecBase {
      */
     protected static Long getLongField(final ResultSet rs, final String name) throws SQLException {
 
-        final long tmp = rs.getLong(name);
+        return getLongField(rs, rs.findColumn(name));
+    }
+
+    /**
+     * Retrieves a Long field value from a result set, returning null if the result set indicates a null value was
+     * present.
+     *
+     * @param rs    the result set
+     * @param index the 1-based column index
+     * @return the value
+     * @throws SQLException if there is an error retrieving the value
+     */
+    protected static Long getLongField(final ResultSet rs, final int index) throws SQLException {
+
+        final long tmp = rs.getLong(index);
 
         return rs.wasNull() ? null : Long.valueOf(tmp);
     }
@@ -77,9 +127,23 @@ public abstract class RecBase {
      */
     public static Integer getIntegerField(final ResultSet rs, final String name) throws SQLException {
 
-        final int tmp = rs.getInt(name);
+        return getIntegerField(rs, rs.findColumn(name));
+    }
+
+    /**
+     * Retrieves an Integer field value from a result set, returning null if the result set indicates a null value was
+     * present.
+     *
+     * @param rs    the result set
+     * @param index the 1-based column index
+     * @return the value
+     * @throws SQLException if there is an error retrieving the value
+     */
+    public static Integer getIntegerField(final ResultSet rs, final int index) throws SQLException {
+
+        final int tmp = rs.getInt(index);
 
-        return rs.wasNull() ? null : Integer.valueOf(tmp);
+        return rs.wasNull() ? null : ValueCanonicalizer.canonical(tmp);
     }
 
     /**
@@ -93,7 +157,21 @@ public abstract class RecBase {
      */
     public static Float getFloatField(final ResultSet rs, final String name) throws SQLException {
 
-        final float tmp = rs.getFloat(name);
+        return getFloatField(rs, rs.findColumn(name));
+    }
+
+    /**
+     * Retrieves a Float field value from a result set, returning null if the result set indicates a null value was
+     * present.
+     *
+     * @param rs    the result set
+     * @param index the 1-based column index
+     * @return the value
+     * @throws SQLException if there is an error retrieving the value
+     */
+    public static Float getFloatField(final ResultSet rs, final int index) throws SQLException {
+
+        final float tmp = rs.getFloat(index);
 
         return rs.wasNull() ? null : Float.valueOf(tmp);
     }
@@ -109,7 +187,21 @@ public abstract class RecBase {
      */
     public static LocalDate getDateField(final ResultSet rs, final String name) throws SQLException {
 
-        final Date tmp = rs.getDate(name);
+        return getDateField(rs, rs.findColumn(name));
+    }
+
+    /**
+     * Retrieves a LocalDate field value from a result set, returning null if the result set indicates a null value was
+     * present.
+     *
+     * @param rs    the result set
+     * @param index the 1-based column index
+     * @return the value
+     * @throws SQLException if there is an error retrieving the value
+     */
+    public static LocalDate getDateField(final ResultSet rs, final int index) throws SQLException {
+
+        final Date tmp = rs.getDate(index);
 
         return tmp == null ? null : tmp.toLocalDate();
     }
@@ -125,7 +217,21 @@ public abstract class RecBase {
      */
     protected static LocalDateTime getDateTimeField(final ResultSet rs, final String name) throws SQLException {
 
-        final Timestamp tmp = rs.getTimestamp(name);
+        return getDateTimeField(rs, rs.findColumn(name));
+    }
+
+    /**
+     * Retrieves a LocalDateTime field value from a result set, returning null if the result set indicates a null value
+     * was present.
+     *
+     * @param rs    the result set
+     * @param index the 1-based column index
+     * @return the value
+     * @throws SQLException if there is an error retrieving the value
+     */
+    protected static LocalDateTime getDateTimeField(final ResultSet rs, final int index) throws SQLException {
+
+        final Timestamp tmp = rs.getTimestamp(index);
 
         return tmp == null ? null : tmp.toLocalDateTime();
     }
@@ -141,14 +247,28 @@ public abstract class RecBase {
      */
     protected static TermKey getShortTermStringField(final ResultSet rs, final String name) throws SQLException {
 
+        return getShortTermStringField(rs, rs.findColumn(name));
+    }
+
+    /**
+     * Retrieves a TermKey field value from a result set, returning null if the result set indicates a null value was
+     * present, or the value found could not be parsed.
+     *
+     * @param rs    the result set
+     * @param index the 1-based column index
+     * @return the value
+     * @throws SQLException if there is an error retrieving the value
+     */
+    protected static TermKey getShortTermStringField(final ResultSet rs, final int index) throws SQLException {
+
         TermKey result = null;
 
         try {
-            final String str = rs.getString(name);
+            final String str = rs.getString(index);
             if (str != null) {
                 final String trim = str.trim();
                 if (!trim.isEmpty()) {
-                    result = new TermKey(trim);
+                    result = TermKey.ofShortString(trim);
                 }
             }
         } catch (final IllegalArgumentException ex) {
@@ -171,10 +291,26 @@ public abstract class RecBase {
     protected static TermKey getTermAndYear(final ResultSet rs, final String termName,
                                             final String termYrName) throws SQLException {
 
+        return getTermAndYear(rs, rs.findColumn(termName), rs.findColumn(termYrName));
+    }
+
+    /**
+     * Retrieves a TermKey field value from two specified columns in a result set, returning null if the result set
+     * indicates a null value was present for either.
+     *
+     * @param rs          the result set
+     * @param termIndex   the 1-based index of the column with the 2-character term name
+     * @param termYrIndex the 1-based index of the column with the 2-digit term year
+     * @return the value
+     * @throws SQLException if there is an error retrieving the value
+     */
+    protected static TermKey getTermAndYear(final ResultSet rs, final int termIndex,
+                                            final int termYrIndex) throws SQLException {
+
         final TermKey result;
 
-        final String term = rs.getString(termName);
-        final int termYr = rs.getInt(termYrName);
+        final String term = rs.getString(termIndex);
+        final int termYr = rs.getInt(termYrIndex);
 
         if (term == null || rs.wasNull()) {
             result = null;
@@ -182,15 +318,53 @@ public abstract class RecBase {
             final ETermName parsedTerm = ETermName.forName(term);
 
             if (termYr > 80) {
-                result = new TermKey(parsedTerm, 1900 + termYr);
+                result = TermKey.of(parsedTerm, 1900 + termYr);
             } else {
-                result = new TermKey(parsedTerm, 2000 + termYr);
+                result = TermKey.of(parsedTerm, 2000 + termYr);
             }
         }
 
         return result;
     }
 
+    /**
+     * Retrieves a String field value from a column that may not be present in a result set (for example, a column
+     * that has not yet been added to all copies of a table), returning null if the column is not present or the result
+     * set indicates a null value was present.  Column presence is determined once per result set, rather than by
+     * catching an exception for every row.
+     *
+     * @param rs      the result set
+     * @param columns the column mapping for the result set
+     * @param name    the field name
+     * @return the value
+     * @throws SQLException if there is an error retrieving the value
+     */
+    protected static String getOptionalStringField(final ResultSet rs, final ResultSetColumns columns,
+                                                   final String name) throws SQLException {
+
+        final int index = columns.indexOfOptional(name);
+
+        return index == 0 ? null : getStringField(rs, index);
+    }
+
+    /**
+     * Retrieves an Integer field value from a column that may not be present in a result set, returning null if the
+     * column is not present or the result set indicates a null value was present.
+     *
+     * @param rs      the result set
+     * @param columns the column mapping for the result set
+     * @param name    the field name
+     * @return the value
+     * @throws SQLException if there is an error retrieving the value
+     */
+    protected static Integer getOptionalIntegerField(final ResultSet rs, final ResultSetColumns columns,
+                                                     final String name) throws SQLException {
+
+        final int index = columns.indexOfOptional(name);
+
+        return index == 0 ? null : getIntegerField(rs, index);
+    }
+
     /**
      * Performs an order comparison between two objects, either of which could be null.
      *
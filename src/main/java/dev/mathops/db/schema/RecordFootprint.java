@@ -0,0 +1,366 @@
+package dev.mathops.db.schema;
+
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the heap used by collections of records, grouped by record type, to show the effect of decoding with
+ * {@code ValueCanonicalizer} enabled.
+ *
+ * <p>
+ * Sizes are estimated for a 64-bit JVM with compressed references (12-byte object headers, 4-byte references, and
+ * objects aligned to 8 bytes).  For each record type, the estimate has two parts: the records themselves, and the
+ * values they refer to (strings, boxed numbers, dates, term keys, and so on).  A value referred to by several records
+ * of a type is counted once, so shared values reduce the estimate.  Enumerated values are shared by every record and
+ * are not counted.
+ */
+public enum RecordFootprint {
+    ;
+
+    /** The size of an object header. */
+    private static final int HEADER = 12;
+
+    /** The size of an array header. */
+    private static final int ARRAY_HEADER = 16;
+
+    /** The size of a reference. */
+    private static final int REFERENCE = 4;
+
+    /** Map from class to the shallow size of its instances. */
+    private static final Map<Class<?>, Long> SHALLOW_SIZES = new ConcurrentHashMap<>(100);
+
+    /** Map from class to its readable instance fields. */
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>(100);
+
+    /**
+     * Estimates the footprint of a collection of records, grouped by record type.
+     *
+     * @param records the records
+     * @return the footprint of each record type, in the order types are first encountered
+     */
+    public static List<Footprint> measure(final Iterable<?> records) {
+
+        final Map<Class<?>, Accumulator> byType = new LinkedHashMap<>(10);
+
+        for (final Object rec : records) {
+            if (rec != null) {
+                final Accumulator acc = byType.computeIfAbsent(rec.getClass(), key -> new Accumulator());
+                ++acc.records;
+                acc.recordBytes += shallowSize(rec.getClass());
+
+                for (final Field field : instanceFields(rec.getClass())) {
+                    if (!field.getType().isPrimitive()) {
+                        final Object value = readField(field, rec);
+                        if (value != null && !isShared(value)) {
+                            ++acc.values;
+                            if (acc.seen.add(value)) {
+                                ++acc.distinctValues;
+                                acc.valueBytes += retainedSize(value, acc.seen);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        final List<Footprint> result = new ArrayList<>(byType.size());
+        for (final Map.Entry<Class<?>, Accumulator> entry : byType.entrySet()) {
+            final Accumulator acc = entry.getValue();
+            result.add(new Footprint(entry.getKey().getSimpleName(), acc.records, acc.recordBytes, acc.values,
+                    acc.distinctValues, acc.valueBytes));
+        }
+
+        return result;
+    }
+
+    /**
+     * Generates a report of estimated footprints, one line per record type.
+     *
+     * @param footprints the footprints
+     * @return the report
+     */
+    public static String report(final Iterable<Footprint> footprints) {
+
+        final HtmlBuilder htm = new HtmlBuilder(500);
+
+        htm.addln(String.format("%-20s %9s %12s %12s %10s %10s %8s", "Record type", "Records", "Record KB",
+                "Value KB", "Values", "Distinct", "B/rec"));
+        for (final Footprint fp : footprints) {
+            htm.addln(String.format("%-20s %9d %12d %12d %10d %10d %8d", fp.type(), Integer.valueOf(fp.records()),
+                    Long.valueOf(fp.recordBytes() / 1024L), Long.valueOf(fp.valueBytes() / 1024L),
+                    Long.valueOf(fp.values()), Long.valueOf(fp.distinctValues()), Long.valueOf(fp.bytesPerRecord())));
+        }
+
+        return htm.toString();
+    }
+
+    /**
+     * Tests whether a value is shared by all records, and so is not counted.
+     *
+     * @param value the value
+     * @return true if the value is an enumerated value, a class, or a {@code Boolean}
+     */
+    private static boolean isShared(final Object value) {
+
+        return value instanceof Enum || value instanceof Class || value instanceof Boolean;
+    }
+
+    /**
+     * Estimates the size of an object and the objects it refers to that have not already been counted.  The caller has
+     * already added the object to the set of counted objects.
+     *
+     * @param value the object
+     * @param seen  the set of objects already counted, to which referenced objects are added
+     * @return the estimated size, in bytes
+     */
+    private static long retainedSize(final Object value, final Set<Object> seen) {
+
+        final long result;
+
+        if (value instanceof final String str) {
+            boolean latin1 = true;
+            final int len = str.length();
+            for (int i = 0; latin1 && i < len; ++i) {
+                latin1 = str.charAt(i) < 256;
+            }
+            // String object (header, array reference, hash, coder, hashIsZero) plus its byte array
+            result = align(HEADER + REFERENCE + 4 + 2) + align(ARRAY_HEADER + (long) (latin1 ? len : 2 * len));
+        } else if (value instanceof Long || value instanceof Double) {
+            result = align(HEADER + 8);
+        } else if (value instanceof Number || value instanceof Character) {
+            result = align(HEADER + 4);
+        } else if (value instanceof LocalDate || value instanceof LocalTime) {
+            result = align(HEADER + 8);
+        } else if (value instanceof final LocalDateTime dateTime) {
+            long total = align(HEADER + 2 * REFERENCE);
+            if (seen.add(dateTime.toLocalDate())) {
+                total += align(HEADER + 8);
+            }
+            if (seen.add(dateTime.toLocalTime())) {
+                total += align(HEADER + 8);
+            }
+            result = total;
+        } else if (value instanceof final Object[] array) {
+            long total = align(ARRAY_HEADER + (long) REFERENCE * array.length);
+            for (final Object element : array) {
+                if (element != null && !isShared(element) && seen.add(element)) {
+                    total += retainedSize(element, seen);
+                }
+            }
+            result = total;
+        } else if (value.getClass().isArray()) {
+            result = align(ARRAY_HEADER + primitiveArrayBytes(value));
+        } else {
+            long total = shallowSize(value.getClass());
+            for (final Field field : instanceFields(value.getClass())) {
+                if (!field.getType().isPrimitive()) {
+                    final Object child = readField(field, value);
+                    if (child != null && !isShared(child) && seen.add(child)) {
+                        total += retainedSize(child, seen);
+                    }
+                }
+            }
+            result = total;
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the number of bytes of data in a primitive array.
+     *
+     * @param array the array
+     * @return the number of bytes
+     */
+    private static long primitiveArrayBytes(final Object array) {
+
+        final long len = Array.getLength(array);
+        final Class<?> type = array.getClass().getComponentType();
+
+        return len * (long) primitiveSize(type);
+    }
+
+    /**
+     * Gets the estimated shallow size of instances of a class: the header plus all instance fields, aligned.
+     *
+     * @param cls the class
+     * @return the size, in bytes
+     */
+    private static long shallowSize(final Class<?> cls) {
+
+        return SHALLOW_SIZES.computeIfAbsent(cls, key -> {
+            long size = HEADER;
+            for (Class<?> current = key; current != null; current = current.getSuperclass()) {
+                for (final Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        final Class<?> type = field.getType();
+                        size += type.isPrimitive() ? primitiveSize(type) : REFERENCE;
+                    }
+                }
+            }
+            return Long.valueOf(align(size));
+        }).longValue();
+    }
+
+    /**
+     * Gets the size of a primitive type.
+     *
+     * @param type the type
+     * @return the size, in bytes
+     */
+    private static int primitiveSize(final Class<?> type) {
+
+        final int size;
+
+        if (type == long.class || type == double.class) {
+            size = 8;
+        } else if (type == int.class || type == float.class) {
+            size = 4;
+        } else if (type == short.class || type == char.class) {
+            size = 2;
+        } else {
+            size = 1;
+        }
+
+        return size;
+    }
+
+    /**
+     * Gets the instance fields of a class and its superclasses whose values can be read.  Fields of classes in modules
+     * that do not allow reflective access (like the JDK) are omitted.  Fields are determined once per class.
+     *
+     * @param cls the class
+     * @return the fields
+     */
+    private static List<Field> instanceFields(final Class<?> cls) {
+
+        return FIELDS.computeIfAbsent(cls, key -> {
+            final List<Field> fields = new ArrayList<>(40);
+            for (Class<?> current = key; current != null; current = current.getSuperclass()) {
+                for (final Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        try {
+                            field.setAccessible(true);
+                            fields.add(field);
+                        } catch (final InaccessibleObjectException | SecurityException ex) {
+                            // Field is not readable; its value is not counted
+                        }
+                    }
+                }
+            }
+            return List.copyOf(fields);
+        });
+    }
+
+    /**
+     * Reads a field value.
+     *
+     * @param field  the field (already made accessible)
+     * @param target the object whose field to read
+     * @return the value ({@code null} if it could not be read)
+     */
+    private static Object readField(final Field field, final Object target) {
+
+        Object result;
+
+        try {
+            result = field.get(target);
+        } catch (final IllegalAccessException ex) {
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Rounds a size up to a multiple of 8.
+     *
+     * @param size the size
+     * @return the aligned size
+     */
+    private static long align(final long size) {
+
+        return (size + 7L) & ~7L;
+    }
+
+    /**
+     * The estimated footprint of the records of one type.
+     *
+     * @param type           the record type (simple class name)
+     * @param records        the number of records
+     * @param recordBytes    the estimated size of the records themselves, in bytes
+     * @param values         the number of references from records to counted values
+     * @param distinctValues the number of distinct counted values (fewer than {@code values} when values are shared)
+     * @param valueBytes     the estimated size of the distinct values and the objects they refer to, in bytes
+     */
+    public record Footprint(String type, int records, long recordBytes, long values, long distinctValues,
+                            long valueBytes) {
+
+        /**
+         * Gets the estimated total size.
+         *
+         * @return the total size, in bytes
+         */
+        public long totalBytes() {
+
+            return this.recordBytes + this.valueBytes;
+        }
+
+        /**
+         * Gets the estimated size per record, including values.
+         *
+         * @return the size per record, in bytes (0 if there are no records)
+         */
+        public long bytesPerRecord() {
+
+            return this.records == 0 ? 0L : totalBytes() / (long) this.records;
+        }
+    }
+
+    /**
+     * Totals for one record type, accumulated while measuring.
+     */
+    private static final class Accumulator {
+
+        /** The objects already counted. */
+        final Set<Object> seen;
+
+        /** The number of records. */
+        int records;
+
+        /** The size of the records. */
+        long recordBytes;
+
+        /** The number of references to counted values. */
+        long values;
+
+        /** The number of distinct counted values. */
+        long distinctValues;
+
+        /** The size of the distinct values. */
+        long valueBytes;
+
+        /**
+         * Constructs a new {@code Accumulator}.
+         */
+        Accumulator() {
+
+            this.seen = Collections.newSetFromMap(new IdentityHashMap<>(1000));
+        }
+    }
+}
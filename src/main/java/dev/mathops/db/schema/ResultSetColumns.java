@@ -0,0 +1,126 @@
+package dev.mathops.db.schema;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A map from column name to column index for the columns of a result set, built once from the result set's
+ * {@code ResultSetMetaData}.
+ *
+ * <p>
+ * JDBC drivers resolve a column name every time a value is fetched by name, which (for drivers like Informix that scan
+ * the column list with a case-insensitive comparison) adds up when a record with 30 columns is built for each of
+ * thousands of rows.  This class resolves names to indexes once per result set.  It also allows optional columns (which
+ * may not exist in older copies of a table) to be tested for presence, rather than by catching an exception for every
+ * row.
+ *
+ * <p>
+ * A logic class that reads many rows builds the mapping once after executing its query, and passes it to the record
+ * class's {@code fromResultSet} method for each row.
+ */
+public final class ResultSetColumns {
+
+    /** Map from column label (as reported by the driver) to 1-based column index. */
+    private final Map<String, Integer> indexes;
+
+    /** Map from lowercase column label to 1-based column index. */
+    private final Map<String, Integer> lowercaseIndexes;
+
+    /**
+     * Constructs a new {@code ResultSetColumns}.
+     *
+     * @param rs the result set
+     * @throws SQLException if there is an error accessing result set metadata
+     */
+    private ResultSetColumns(final ResultSet rs) throws SQLException {
+
+        final ResultSetMetaData meta = rs.getMetaData();
+        final int count = meta.getColumnCount();
+
+        this.indexes = new HashMap<>(count * 2);
+        this.lowercaseIndexes = new HashMap<>(count * 2);
+
+        // Iterate in reverse so the first column with a given name wins, as it does in "ResultSet.findColumn"
+        for (int i = count; i > 0; --i) {
+            final String label = meta.getColumnLabel(i);
+            if (label != null) {
+                final Integer index = Integer.valueOf(i);
+                this.indexes.put(label, index);
+                this.lowercaseIndexes.put(label.toLowerCase(Locale.ROOT), index);
+            }
+        }
+    }
+
+    /**
+     * Builds the column mapping for a result set.  This should be called once per result set, not once per row.
+     *
+     * @param rs the result set
+     * @return the column mapping
+     * @throws SQLException if there is an error accessing result set metadata
+     */
+    public static ResultSetColumns of(final ResultSet rs) throws SQLException {
+
+        return new ResultSetColumns(rs);
+    }
+
+    /**
+     * Finds the index of a column, ignoring case.
+     *
+     * @param name the column name
+     * @return the 1-based column index; 0 if the result set has no such column
+     */
+    private int find(final String name) {
+
+        Integer index = this.indexes.get(name);
+
+        if (index == null) {
+            index = this.lowercaseIndexes.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        return index == null ? 0 : index.intValue();
+    }
+
+    /**
+     * Tests whether the result set has a column.
+     *
+     * @param name the column name
+     * @return true if the column is present
+     */
+    public boolean contains(final String name) {
+
+        return find(name) > 0;
+    }
+
+    /**
+     * Gets the index of a column.
+     *
+     * @param name the column name
+     * @return the 1-based column index
+     * @throws SQLException if the result set has no such column
+     */
+    public int indexOf(final String name) throws SQLException {
+
+        final int index = find(name);
+
+        if (index == 0) {
+            throw new SQLException("The column name " + name + " was not found in this ResultSet.");
+        }
+
+        return index;
+    }
+
+    /**
+     * Gets the index of a column that may not be present.
+     *
+     * @param name the column name
+     * @return the 1-based column index; 0 if the result set has no such column
+     */
+    public int indexOfOptional(final String name) {
+
+        return find(name);
+    }
+}
@@ -0,0 +1,172 @@
+package dev.mathops.db.schema;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A decoding mode in which the short strings and small integers read from result sets by {@code RecBase} are replaced
+ * by shared canonical instances, for jobs that hold many thousands of records in memory at once.
+ *
+ * <p>
+ * Most string columns in record tables hold a few distinct short values (like "Y", "N", "OT", "001", or "M 117"), but
+ * every record decoded normally holds its own copies.  When enabled, strings up to {@code MAX_STRING_LENGTH} characters
+ * are looked up in a shared table, so records share one instance of each distinct value.  Longer strings (like student
+ * IDs, names, and e-mail addresses) are rarely repeated and are not canonicalized.  The table is bounded: once it holds
+ * {@code MAX_STRINGS} values, strings not already in the table are returned as they are.
+ *
+ * <p>
+ * {@code Integer.valueOf} shares instances only from -128 to 127; when enabled, integers from 0 to
+ * {@code MAX_CACHED_INTEGER} (which covers times of day stored as minutes, scores, and counts) are also shared.
+ * {@code TermKey} values are always shared through {@code TermKey.of}.
+ *
+ * <p>
+ * The mode is global, and affects records decoded on any thread while it is enabled.  Canonical values are never
+ * modified, so there is no harm in leaving the mode enabled.
+ */
+public enum ValueCanonicalizer {
+    ;
+
+    /** The maximum length of strings that are canonicalized. */
+    public static final int MAX_STRING_LENGTH = 8;
+
+    /** The maximum number of strings in the canonical table. */
+    public static final int MAX_STRINGS = 100000;
+
+    /** The largest integer that is canonicalized. */
+    public static final int MAX_CACHED_INTEGER = 4095;
+
+    /** The canonical strings. */
+    private static final Map<String, String> STRINGS = new ConcurrentHashMap<>(1000);
+
+    /** The canonical integers, created as needed. */
+    private static final Integer[] INTEGERS = new Integer[MAX_CACHED_INTEGER + 1];
+
+    /** The number of values looked up. */
+    private static final LongAdder LOOKUPS = new LongAdder();
+
+    /** The number of values looked up for which a canonical instance already existed. */
+    private static final LongAdder HITS = new LongAdder();
+
+    /** True if values are being canonicalized. */
+    private static volatile boolean enabled = false;
+
+    /**
+     * Tests whether values are being canonicalized.
+     *
+     * @return true if values are being canonicalized
+     */
+    public static boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Enables or disables canonicalization.  Only records decoded while canonicalization is enabled share values.
+     *
+     * @param isEnabled true to canonicalize values
+     */
+    public static void setEnabled(final boolean isEnabled) {
+
+        enabled = isEnabled;
+    }
+
+    /**
+     * Gets the canonical instance of a string, if canonicalization is enabled and the string is short enough.
+     *
+     * @param value the string (may be {@code null})
+     * @return the canonical instance, or {@code value} if the string is not canonicalized
+     */
+    public static String canonical(final String value) {
+
+        String result = value;
+
+        if (enabled && value != null && value.length() <= MAX_STRING_LENGTH) {
+            LOOKUPS.increment();
+            final String existing = STRINGS.get(value);
+
+            if (existing == null) {
+                if (STRINGS.size() < MAX_STRINGS) {
+                    final String raced = STRINGS.putIfAbsent(value, value);
+                    if (raced != null) {
+                        result = raced;
+                    }
+                }
+            } else {
+                HITS.increment();
+                result = existing;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the canonical instance of an integer, if canonicalization is enabled and the integer is in range.
+     *
+     * @param value the integer
+     * @return the canonical instance, or the result of {@code Integer.valueOf} if the integer is not canonicalized
+     */
+    public static Integer canonical(final int value) {
+
+        final Integer result;
+
+        if (enabled && value > 127 && value <= MAX_CACHED_INTEGER) {
+            LOOKUPS.increment();
+            final Integer cached = INTEGERS[value];
+            if (cached == null) {
+                // A race here can create two equal instances, which is harmless
+                result = Integer.valueOf(value);
+                INTEGERS[value] = result;
+            } else {
+                HITS.increment();
+                result = cached;
+            }
+        } else {
+            result = Integer.valueOf(value);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the number of distinct strings in the canonical table.
+     *
+     * @return the number of strings
+     */
+    public static int getNumStrings() {
+
+        return STRINGS.size();
+    }
+
+    /**
+     * Gets the number of values looked up since the last reset.
+     *
+     * @return the number of lookups
+     */
+    public static long getLookups() {
+
+        return LOOKUPS.sum();
+    }
+
+    /**
+     * Gets the number of values looked up since the last reset that were replaced by an existing canonical instance
+     * (each of which is an object that did not need to be retained).
+     *
+     * @return the number of hits
+     */
+    public static long getHits() {
+
+        return HITS.sum();
+    }
+
+    /**
+     * Discards all canonical strings and resets counts.  Records decoded earlier keep the values they have.
+     */
+    public static void reset() {
+
+        STRINGS.clear();
+        LOOKUPS.reset();
+        HITS.reset();
+    }
+}
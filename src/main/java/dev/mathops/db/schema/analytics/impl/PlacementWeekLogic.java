@@ -0,0 +1,351 @@
+package dev.mathops.db.schema.analytics.impl;
+
+import dev.mathops.db.Cache;
+import dev.mathops.db.DbConnection;
+import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.analytics.rec.PlacementWeekRec;
+import dev.mathops.db.schema.legacy.impl.RawStmpeLogic;
+import dev.mathops.db.schema.legacy.rec.RawStmpe;
+import dev.mathops.text.builder.SimpleBuilder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A utility class to work with "placement_week" records, which hold weekly counts of placement attempts by exam version
+ * and result.
+ *
+ * <p>
+ * Counts are updated incrementally as placement attempts are inserted or deleted through {@code RawStmpeLogic}, and as
+ * students' rows are deleted through {@code StudentRowsLogic}, so reports can read weekly totals without scanning the
+ * "stmpe" table.  Attempts removed from "stmpe" when old data is archived at rollover are deliberately not subtracted,
+ * so the weekly history outlives the detailed records.  {@code rebuild} recomputes counts for a range of dates from
+ * "stmpe" records, to initialize the table or repair it after attempts are changed by other means.
+ */
+public final class PlacementWeekLogic implements IAnalyticsRecLogic<PlacementWeekRec> {
+
+    /** A single instance. */
+    public static final PlacementWeekLogic INSTANCE = new PlacementWeekLogic();
+
+    /** A field name. */
+    private static final String FLD_WEEK_START = "week_start";
+
+    /** A field name. */
+    private static final String FLD_VERSION = "version";
+
+    /** A field name. */
+    private static final String FLD_PLACED = "placed";
+
+    /** A field name. */
+    private static final String FLD_NBR_ATTEMPTS = "nbr_attempts";
+
+    /**
+     * Private constructor to prevent direct instantiation.
+     */
+    private PlacementWeekLogic() {
+
+        super();
+    }
+
+    /**
+     * Gets the qualified table name for an ANALYTICS table based on the Cache being used.
+     *
+     * @param cache the data cache
+     * @return the table name
+     */
+    public static String getTableName(final Cache cache) {
+
+        final String schemaPrefix = cache.getSchemaPrefix(ESchema.ANALYTICS);
+
+        return schemaPrefix == null ? "placement_week" : (schemaPrefix + ".placement_week");
+    }
+
+    /**
+     * Tests whether the ANALYTICS schema is configured in the profile a cache uses.
+     *
+     * @param cache the data cache
+     * @return true if the ANALYTICS schema is available
+     */
+    public static boolean isAvailable(final Cache cache) {
+
+        return cache.getProfile().getFacet(ESchema.ANALYTICS) != null;
+    }
+
+    /**
+     * Gets the start of the week (the Sunday on or before a date) that contains a date.
+     *
+     * @param date the date
+     * @return the date of the Sunday that starts the week
+     */
+    public static LocalDate getWeekStart(final LocalDate date) {
+
+        return date.minusDays((long) (date.getDayOfWeek().getValue() % 7));
+    }
+
+    /**
+     * Inserts a new record.
+     *
+     * @param cache  the data cache
+     * @param record the record to insert
+     * @return {@code true} if successful; {@code false} if not
+     * @throws SQLException if there is an error accessing the database
+     */
+    @Override
+    public boolean insert(final Cache cache, final PlacementWeekRec record) throws SQLException {
+
+        return doUpdateOneRow(cache, makeInsertSql(getTableName(cache), record));
+    }
+
+    /**
+     * Generates the SQL to insert a record.
+     *
+     * @param tableName the table name
+     * @param record    the record to insert
+     * @return the SQL
+     */
+    private String makeInsertSql(final String tableName, final PlacementWeekRec record) {
+
+        return SimpleBuilder.concat("INSERT INTO ", tableName,
+                " (week_start,version,placed,nbr_attempts) VALUES (",
+                sqlDateValue(record.weekStart), ",",
+                sqlStringValue(record.version), ",",
+                sqlStringValue(record.placed), ",",
+                sqlIntegerValue(record.nbrAttempts), ")");
+    }
+
+    /**
+     * Deletes a record.
+     *
+     * @param cache  the data cache
+     * @param record the record to delete
+     * @return {@code true} if successful; {@code false} if not
+     * @throws SQLException if there is an error accessing the database
+     */
+    @Override
+    public boolean delete(final Cache cache, final PlacementWeekRec record) throws SQLException {
+
+        final String tableName = getTableName(cache);
+
+        final String sql = SimpleBuilder.concat("DELETE FROM ", tableName,
+                " WHERE week_start=", sqlDateValue(record.weekStart),
+                " AND version=", sqlStringValue(record.version),
+                " AND placed=", sqlStringValue(record.placed));
+
+        return doUpdateOneRow(cache, sql);
+    }
+
+    /**
+     * Queries every record in the database.
+     *
+     * @param cache the data cache
+     * @return the complete set of records in the database
+     * @throws SQLException if there is an error performing the query
+     */
+    @Override
+    public List<PlacementWeekRec> queryAll(final Cache cache) throws SQLException {
+
+        final String tableName = getTableName(cache);
+
+        return doListQuery(cache, "SELECT * FROM " + tableName);
+    }
+
+    /**
+     * Queries for all records for weeks that start in a range of dates.
+     *
+     * @param cache the data cache
+     * @param first the earliest week start date to return
+     * @param last  the latest week start date to return
+     * @return the list of records, ordered by week start date, version, and result
+     * @throws SQLException if there is an error performing the query
+     */
+    public List<PlacementWeekRec> queryByDateRange(final Cache cache, final LocalDate first, final LocalDate last)
+            throws SQLException {
+
+        final String tableName = getTableName(cache);
+
+        final String sql = SimpleBuilder.concat("SELECT * FROM ", tableName,
+                " WHERE week_start>=", sqlDateValue(first),
+                " AND week_start<=", sqlDateValue(last),
+                " ORDER BY week_start,version,placed");
+
+        return doListQuery(cache, sql);
+    }
+
+    /**
+     * Adds one attempt to the count for the week, version, and result of a placement attempt.
+     *
+     * @param cache   the data cache
+     * @param attempt the placement attempt
+     * @return {@code true} if successful; {@code false} if not
+     * @throws SQLException if there is an error accessing the database
+     */
+    public boolean recordAttempt(final Cache cache, final RawStmpe attempt) throws SQLException {
+
+        if (attempt.examDt == null || attempt.version == null || attempt.placed == null) {
+            throw new SQLException("Null value in exam date, version, or placed field.");
+        }
+
+        final String tableName = getTableName(cache);
+        final LocalDate weekStart = getWeekStart(attempt.examDt);
+
+        final String update = SimpleBuilder.concat("UPDATE ", tableName, " SET nbr_attempts=nbr_attempts+1",
+                " WHERE week_start=", sqlDateValue(weekStart),
+                " AND version=", sqlStringValue(attempt.version),
+                " AND placed=", sqlStringValue(attempt.placed));
+
+        boolean result = doUpdateOneRow(cache, update);
+
+        if (!result) {
+            final PlacementWeekRec rec = new PlacementWeekRec(weekStart, attempt.version, attempt.placed,
+                    Integer.valueOf(1));
+            try {
+                result = insert(cache, rec);
+            } catch (final SQLException ex) {
+                // Another process may have inserted the row since the update - try the update once more
+                result = doUpdateOneRow(cache, update);
+                if (!result) {
+                    throw ex;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Subtracts counts of deleted placement attempts from the weekly counts, in a single transaction.  A count is not
+     * reduced below zero (attempts that were never counted, because they predate the table, are ignored).
+     *
+     * @param cache  the data cache
+     * @param counts the counts to subtract, as computed by {@code tally} from the deleted attempts
+     * @throws SQLException if there is an error accessing the database (in which case no counts are changed)
+     */
+    public void removeAttempts(final Cache cache, final Iterable<PlacementWeekRec> counts) throws SQLException {
+
+        final String tableName = getTableName(cache);
+
+        final DbConnection conn = cache.checkOutConnection(ESchema.ANALYTICS);
+
+        try (final Statement stmt = conn.createStatement()) {
+            for (final PlacementWeekRec rec : counts) {
+                final String num = sqlIntegerValue(rec.nbrAttempts);
+
+                final String sql = SimpleBuilder.concat("UPDATE ", tableName,
+                        " SET nbr_attempts=CASE WHEN nbr_attempts>", num, " THEN nbr_attempts-", num, " ELSE 0 END",
+                        " WHERE week_start=", sqlDateValue(rec.weekStart),
+                        " AND version=", sqlStringValue(rec.version),
+                        " AND placed=", sqlStringValue(rec.placed));
+
+                stmt.executeUpdate(sql);
+            }
+            conn.commit();
+        } catch (final SQLException ex) {
+            conn.rollback();
+            throw ex;
+        } finally {
+            Cache.checkInConnection(conn);
+        }
+    }
+
+    /**
+     * Computes weekly counts from a collection of placement attempts.
+     *
+     * @param attempts the placement attempts (those with no exam date, version, or result are ignored)
+     * @return the list of records, ordered by week start date, version, and result
+     */
+    public static List<PlacementWeekRec> tally(final Iterable<RawStmpe> attempts) {
+
+        final Map<List<Object>, int[]> counts = new HashMap<>(500);
+
+        for (final RawStmpe attempt : attempts) {
+            if (attempt.examDt != null && attempt.version != null && attempt.placed != null) {
+                final List<Object> key = List.of(getWeekStart(attempt.examDt), attempt.version, attempt.placed);
+                ++counts.computeIfAbsent(key, k -> new int[1])[0];
+            }
+        }
+
+        final List<PlacementWeekRec> result = new ArrayList<>(counts.size());
+        for (final Map.Entry<List<Object>, int[]> entry : counts.entrySet()) {
+            final List<Object> key = entry.getKey();
+            result.add(new PlacementWeekRec((LocalDate) key.get(0), (String) key.get(1), (String) key.get(2),
+                    Integer.valueOf(entry.getValue()[0])));
+        }
+        result.sort(null);
+
+        return result;
+    }
+
+    /**
+     * Recomputes the counts for all weeks that start in a range of dates from "stmpe" records, replacing any existing
+     * counts for those weeks.  The old counts are deleted and the new counts inserted in a single transaction, so
+     * readers never see the range empty or partly written, and a failure leaves the old counts in place.
+     *
+     * @param cache the data cache
+     * @param first the earliest week start date to rebuild (if not a Sunday, the week containing this date is used)
+     * @param last  the latest week start date to rebuild
+     * @return the number of records written
+     * @throws SQLException if there is an error accessing the database
+     */
+    public int rebuild(final Cache cache, final LocalDate first, final LocalDate last) throws SQLException {
+
+        final LocalDate firstWeek = getWeekStart(first);
+        final List<PlacementWeekRec> tallied = tally(RawStmpeLogic.queryByDateRange(cache, firstWeek,
+                last.plusDays(6L)));
+
+        final String tableName = getTableName(cache);
+        final String sql = SimpleBuilder.concat("DELETE FROM ", tableName,
+                " WHERE week_start>=", sqlDateValue(firstWeek),
+                " AND week_start<=", sqlDateValue(last));
+
+        int count = 0;
+
+        final DbConnection conn = cache.checkOutConnection(ESchema.ANALYTICS);
+
+        try (final Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(sql);
+
+            for (final PlacementWeekRec rec : tallied) {
+                if (!rec.weekStart.isAfter(last)) {
+                    count += stmt.executeUpdate(makeInsertSql(tableName, rec));
+                }
+            }
+
+            conn.commit();
+        } catch (final SQLException ex) {
+            conn.rollback();
+            throw ex;
+        } finally {
+            Cache.checkInConnection(conn);
+        }
+
+        return count;
+    }
+
+    /**
+     * Extracts a record from a result set.
+     *
+     * @param rs the result set from which to retrieve the record
+     * @return the record
+     * @throws SQLException if there is an error accessing the database
+     */
+    @Override
+    public PlacementWeekRec fromResultSet(final ResultSet rs) throws SQLException {
+
+        final LocalDate weekStart = getDateField(rs, FLD_WEEK_START);
+        final String version = getStringField(rs, FLD_VERSION);
+        final String placed = getStringField(rs, FLD_PLACED);
+        final Integer nbrAttempts = getIntegerField(rs, FLD_NBR_ATTEMPTS);
+
+        if (weekStart == null || version == null || placed == null || nbrAttempts == null) {
+            throw new SQLException("Placement week record found with null field");
+        }
+
+        return new PlacementWeekRec(weekStart, version, placed, nbrAttempts);
+    }
+}
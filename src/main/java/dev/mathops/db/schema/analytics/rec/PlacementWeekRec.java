@@ -0,0 +1,150 @@
+package dev.mathops.db.schema.analytics.rec;
+
+import dev.mathops.db.schema.RecBase;
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.time.LocalDate;
+
+/**
+ * An immutable "placement_week" record, which holds the number of placement attempts on one exam version with one
+ * result in one week.  Weeks start on Sunday.
+ */
+public final class PlacementWeekRec extends RecBase implements Comparable<PlacementWeekRec> {
+
+    /** A field name. */
+    private static final String FLD_WEEK_START = "week_start";
+
+    /** A field name. */
+    private static final String FLD_VERSION = "version";
+
+    /** A field name. */
+    private static final String FLD_PLACED = "placed";
+
+    /** A field name. */
+    private static final String FLD_NBR_ATTEMPTS = "nbr_attempts";
+
+    /** The date of the Sunday that starts the week. */
+    public final LocalDate weekStart;
+
+    /** The exam version. */
+    public final String version;
+
+    /** The result of the attempts ("Y" if placement was achieved, "N" if not, or another code from "stmpe"). */
+    public final String placed;
+
+    /** The number of attempts. */
+    public final Integer nbrAttempts;
+
+    /**
+     * Constructs a new {@code PlacementWeekRec}.
+     *
+     * @param theWeekStart   the date of the Sunday that starts the week (may not be {@code null})
+     * @param theVersion     the exam version (may not be {@code null})
+     * @param thePlaced      the result of the attempts (may not be {@code null})
+     * @param theNbrAttempts the number of attempts (may not be {@code null})
+     */
+    public PlacementWeekRec(final LocalDate theWeekStart, final String theVersion, final String thePlaced,
+                            final Integer theNbrAttempts) {
+
+        super();
+
+        if (theWeekStart == null) {
+            throw new IllegalArgumentException("Week start date may not be null");
+        }
+        if (theVersion == null) {
+            throw new IllegalArgumentException("Version may not be null");
+        }
+        if (thePlaced == null) {
+            throw new IllegalArgumentException("Placed value may not be null");
+        }
+        if (theNbrAttempts == null) {
+            throw new IllegalArgumentException("Number of attempts may not be null");
+        }
+
+        this.weekStart = theWeekStart;
+        this.version = theVersion;
+        this.placed = thePlaced;
+        this.nbrAttempts = theNbrAttempts;
+    }
+
+    /**
+     * Compares two records for order.  Order is based on week start date, then version, then result.
+     *
+     * @param o the object to be compared
+     * @return a negative integer, zero, or a positive integer as this object is less than, equal to, or greater than
+     *         the specified object
+     */
+    @Override
+    public int compareTo(final PlacementWeekRec o) {
+
+        int result = this.weekStart.compareTo(o.weekStart);
+
+        if (result == 0) {
+            result = this.version.compareTo(o.version);
+            if (result == 0) {
+                result = this.placed.compareTo(o.placed);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Generates a string serialization of the record. Each concrete subclass should have a constructor that accepts a
+     * single {@code String} to reconstruct the object from this string.
+     *
+     * @return the string
+     */
+    @Override
+    public String toString() {
+
+        final HtmlBuilder htm = new HtmlBuilder(60);
+
+        appendField(htm, FLD_WEEK_START, this.weekStart);
+        htm.add(DIVIDER);
+        appendField(htm, FLD_VERSION, this.version);
+        htm.add(DIVIDER);
+        appendField(htm, FLD_PLACED, this.placed);
+        htm.add(DIVIDER);
+        appendField(htm, FLD_NBR_ATTEMPTS, this.nbrAttempts);
+
+        return htm.toString();
+    }
+
+    /**
+     * Generates a hash code for the object.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+
+        return this.weekStart.hashCode() + this.version.hashCode() + this.placed.hashCode()
+               + this.nbrAttempts.hashCode();
+    }
+
+    /**
+     * Tests whether this object is equal to another.
+     *
+     * @param obj the other object
+     * @return true if equal; false if not
+     */
+    @Override
+    public boolean equals(final Object obj) {
+
+        final boolean equal;
+
+        if (obj == this) {
+            equal = true;
+        } else if (obj instanceof final PlacementWeekRec rec) {
+            equal = this.weekStart.equals(rec.weekStart)
+                    && this.version.equals(rec.version)
+                    && this.placed.equals(rec.placed)
+                    && this.nbrAttempts.equals(rec.nbrAttempts);
+        } else {
+            equal = false;
+        }
+
+        return equal;
+    }
+}
@@ -0,0 +1,98 @@
+package dev.mathops.db.schema.legacy.impl;
+
+import dev.mathops.commons.CoreConstants;
+import dev.mathops.db.Cache;
+import dev.mathops.db.DbConnection;
+import dev.mathops.db.IColumnRowMapper;
+import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.ResultSetColumns;
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Queries the rows in a legacy student table that belong to a cohort of students, for the {@code queryByStudents}
+ * methods of the logic classes.  Rows are selected by "stu_id IN (...)" lists evaluated by the database, so a cohort
+ * takes one query per block of IDs rather than one query per student or a query of the whole table.
+ */
+enum CohortQueryLogic {
+    ;
+
+    /** The maximum number of student IDs to include in a single "IN" list. */
+    private static final int IDS_PER_STATEMENT = 500;
+
+    /**
+     * Queries the rows in a student table that belong to a set of students, using one query for each block of up to
+     * {@code IDS_PER_STATEMENT} IDs, and groups the rows by student.  Callers handle test students themselves and pass
+     * only the remaining IDs.
+     *
+     * @param cache     the data cache
+     * @param tableName the table name (qualified by the schema prefix if there is one)
+     * @param stuIds    the student IDs
+     * @param mapper    the function that constructs a record from each row
+     * @param idGetter  a function that extracts the student ID from a record
+     * @param result    the map to which to add each student's list of records (students with no rows are not added)
+     * @param <T>       the record type
+     * @throws SQLException if there is an error accessing the database
+     */
+    static <T> void queryByStudents(final Cache cache, final String tableName, final Collection<String> stuIds,
+                                    final IColumnRowMapper<? extends T> mapper,
+                                    final Function<? super T, String> idGetter, final Map<String, List<T>> result)
+            throws SQLException {
+
+        if (!stuIds.isEmpty()) {
+            final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+            try (final Statement stmt = conn.createStatement()) {
+                for (final String predicate : makePredicates(conn, stuIds)) {
+                    try (final ResultSet rs = stmt.executeQuery("SELECT * FROM " + tableName + predicate)) {
+                        final ResultSetColumns columns = ResultSetColumns.of(rs);
+
+                        while (rs.next()) {
+                            final T rec = mapper.map(rs, columns);
+                            result.computeIfAbsent(idGetter.apply(rec), key -> new ArrayList<>(10)).add(rec);
+                        }
+                    }
+                }
+            } finally {
+                Cache.checkInConnection(conn);
+            }
+        }
+    }
+
+    /**
+     * Generates the WHERE clauses that together select all rows for a set of students, one for each block of up to
+     * {@code IDS_PER_STATEMENT} IDs.
+     *
+     * @param conn   the database connection
+     * @param stuIds the student IDs (not empty)
+     * @return the list of WHERE clauses (each starting with " WHERE ")
+     */
+    private static List<String> makePredicates(final DbConnection conn, final Collection<String> stuIds) {
+
+        final List<String> ids = new ArrayList<>(stuIds);
+        final int numIds = ids.size();
+        final List<String> result = new ArrayList<>(1 + numIds / IDS_PER_STATEMENT);
+
+        for (int start = 0; start < numIds; start += IDS_PER_STATEMENT) {
+            final int end = Math.min(numIds, start + IDS_PER_STATEMENT);
+
+            final HtmlBuilder sql = new HtmlBuilder(20 + 12 * (end - start));
+            sql.add(" WHERE stu_id IN (", conn.sqlStringValue(ids.get(start)));
+            for (int i = start + 1; i < end; ++i) {
+                sql.add(CoreConstants.COMMA_CHAR).add(conn.sqlStringValue(ids.get(i)));
+            }
+            sql.add(')');
+            result.add(sql.toString());
+        }
+
+        return result;
+    }
+}
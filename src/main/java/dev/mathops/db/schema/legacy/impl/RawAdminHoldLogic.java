@@ -4,6 +4,7 @@ import dev.mathops.commons.CoreConstants;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.legacy.rec.RawAdminHold;
 import dev.mathops.text.builder.HtmlBuilder;
@@ -266,6 +267,7 @@ public enum RawAdminHoldLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, record.stuId);
             }
         }
 
@@ -306,6 +308,7 @@ public enum RawAdminHoldLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return result;
@@ -484,6 +487,7 @@ public enum RawAdminHoldLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.allChanged();
         }
 
         return count;
@@ -529,6 +533,7 @@ public enum RawAdminHoldLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, record.stuId);
             }
         }
 
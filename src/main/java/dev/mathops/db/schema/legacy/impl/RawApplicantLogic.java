@@ -2,6 +2,7 @@ package dev.mathops.db.schema.legacy.impl;
 
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.legacy.rec.RawApplicant;
 import dev.mathops.text.builder.HtmlBuilder;
@@ -122,6 +123,7 @@ public enum RawApplicantLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, record.stuId);
             }
         }
 
@@ -160,6 +162,7 @@ public enum RawApplicantLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return result;
@@ -2,6 +2,7 @@ package dev.mathops.db.schema.legacy.impl;
 
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.legacy.rec.RawCalcs;
 import dev.mathops.text.builder.SimpleBuilder;
@@ -84,6 +85,7 @@ public enum RawCalcsLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -123,6 +125,7 @@ public enum RawCalcsLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
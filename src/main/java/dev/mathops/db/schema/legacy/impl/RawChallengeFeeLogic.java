@@ -2,6 +2,7 @@ package dev.mathops.db.schema.legacy.impl;
 
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.legacy.rec.RawChallengeFee;
 import dev.mathops.text.builder.SimpleBuilder;
@@ -81,6 +82,7 @@ public enum RawChallengeFeeLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -117,6 +119,7 @@ public enum RawChallengeFeeLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -2,6 +2,7 @@ package dev.mathops.db.schema.legacy.impl;
 
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.LogicUtils;
 import dev.mathops.db.schema.legacy.rec.RawDiscipline;
@@ -102,6 +103,7 @@ public enum RawDisciplineLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return result;
@@ -145,6 +147,7 @@ public enum RawDisciplineLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return result;
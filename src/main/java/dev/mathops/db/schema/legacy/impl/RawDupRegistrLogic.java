@@ -2,7 +2,9 @@ package dev.mathops.db.schema.legacy.impl;
 
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.ResultSetColumns;
 import dev.mathops.db.schema.legacy.rec.RawDupRegistr;
 import dev.mathops.text.builder.HtmlBuilder;
 import dev.mathops.text.builder.SimpleBuilder;
@@ -141,6 +143,7 @@ public enum RawDupRegistrLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -196,6 +199,7 @@ public enum RawDupRegistrLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return result;
@@ -221,8 +225,10 @@ public enum RawDupRegistrLogic {
         try (final Statement stmt = conn.createStatement();
              final ResultSet rs = stmt.executeQuery(sql)) {
 
+            final ResultSetColumns columns = ResultSetColumns.of(rs);
+
             while (rs.next()) {
-                result.add(RawDupRegistr.fromResultSet(rs));
+                result.add(RawDupRegistr.fromResultSet(rs, columns));
             }
         } finally {
             Cache.checkInConnection(conn);
@@ -252,6 +258,7 @@ public enum RawDupRegistrLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.allChanged();
         }
 
         return true;
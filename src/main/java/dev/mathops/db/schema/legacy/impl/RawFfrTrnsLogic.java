@@ -3,6 +3,7 @@ package dev.mathops.db.schema.legacy.impl;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.legacy.rec.RawFfrTrns;
 import dev.mathops.db.schema.RawRecordConstants;
@@ -15,7 +16,9 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A utility class to work with "ffr_trns" records.
@@ -112,6 +115,7 @@ public enum RawFfrTrnsLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, record.stuId);
             }
         }
 
@@ -159,6 +163,7 @@ public enum RawFfrTrnsLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, record.stuId);
             }
         }
 
@@ -198,6 +203,7 @@ public enum RawFfrTrnsLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -253,6 +259,36 @@ public enum RawFfrTrnsLogic {
         return result;
     }
 
+    /**
+     * Retrieves all transfer credit records for a collection of students, using one query for each block of up to 500
+     * students rather than one query per student.  Test students are served from generated data, as they are by
+     * {@code queryByStudent}.
+     *
+     * @param cache  the data cache
+     * @param stuIds the student IDs
+     * @return a map from student ID to that student's records (students with no records may have no entry)
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static Map<String, List<RawFfrTrns>> queryByStudents(final Cache cache, final Collection<String> stuIds)
+            throws SQLException {
+
+        final Map<String, List<RawFfrTrns>> result = new HashMap<>(stuIds.size());
+        final Collection<String> realIds = new ArrayList<>(stuIds.size());
+
+        for (final String stuId : stuIds) {
+            if (!stuId.isEmpty() && stuId.charAt(0) == '9') {
+                result.put(stuId, queryByTestStudent(stuId));
+            } else {
+                realIds.add(stuId);
+            }
+        }
+
+        CohortQueryLogic.queryByStudents(cache, getTableName(cache), realIds,
+                (rs, columns) -> RawFfrTrns.fromResultSet(rs), rec -> rec.stuId, result);
+
+        return result;
+    }
+
     /**
      * Executes a query that returns a list of records.
      *
@@ -2,7 +2,9 @@ package dev.mathops.db.schema.legacy.impl;
 
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.ResultSetColumns;
 import dev.mathops.db.schema.legacy.rec.RawFinalCroll;
 import dev.mathops.text.builder.HtmlBuilder;
 import dev.mathops.text.builder.SimpleBuilder;
@@ -140,6 +142,7 @@ public enum RawFinalCrollLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -195,6 +198,7 @@ public enum RawFinalCrollLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return result;
@@ -220,8 +224,10 @@ public enum RawFinalCrollLogic {
         try (final Statement stmt = conn.createStatement();
              final ResultSet rs = stmt.executeQuery(sql)) {
 
+            final ResultSetColumns columns = ResultSetColumns.of(rs);
+
             while (rs.next()) {
-                result.add(RawFinalCroll.fromResultSet(rs));
+                result.add(RawFinalCroll.fromResultSet(rs, columns));
             }
         } finally {
             Cache.checkInConnection(conn);
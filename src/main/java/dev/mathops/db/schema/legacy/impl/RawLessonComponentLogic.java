@@ -14,12 +14,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * A utility class to work with lesson component records.
  *
  * <p>
- * There is currently no table for this data - it is hard-coded into this class.
+ * There is currently no table for this data - it is hard-coded into this class.  Components are built one course at a
+ * time, when a lesson in that course is first queried, rather than all at once when this class is initialized.
  */
 public enum RawLessonComponentLogic {
     ;
@@ -252,24 +255,159 @@ public enum RawLessonComponentLogic {
     /** The sequence number of the model currently being constructed. */
     private static int seqNumber;
 
-    /** The map of hard-coded lesson components. */
-    private static final Map<String, Map<Integer, RawLessonComponent>> lessonComponents;
+    /** Lock held while building components, since the builders use the static "current lesson" fields above. */
+    private static final Object BUILD_LOCK = new Object();
+
+    /** Builders for the hard-coded components of each course, keyed by the lesson ID prefix for the course. */
+    private static final Map<String, Consumer<Collection<? super RawLessonComponent>>> BUILDERS = Map.ofEntries(
+            Map.entry("M100T", RawLessonComponentLogic::build100T),
+            Map.entry("M100R", RawLessonComponentLogic::build100R),
+            Map.entry("M117", RawLessonComponentLogic::build117),
+            Map.entry("M1170", RawLessonComponentLogic::build1170),
+            Map.entry("M118", RawLessonComponentLogic::build118),
+            Map.entry("M1180", RawLessonComponentLogic::build1180),
+            Map.entry("M124", RawLessonComponentLogic::build124),
+            Map.entry("M1240", RawLessonComponentLogic::build1240),
+            Map.entry("M125", RawLessonComponentLogic::build125),
+            Map.entry("M1250", RawLessonComponentLogic::build1250),
+            Map.entry("M126", RawLessonComponentLogic::build126),
+            Map.entry("M1260", RawLessonComponentLogic::build1260));
 
-    static {
-        final Collection<RawLessonComponent> lst = new ArrayList<>(4000);
+    /**
+     * The hard-coded lesson components of each course whose components have been built, keyed by lesson ID prefix.
+     * Each inner map holds an immutable list of components (in sequence number order) for each lesson ID.
+     */
+    private static final Map<String, Map<String, List<RawLessonComponent>>> courseComponents =
+            new ConcurrentHashMap<>(20);
+
+    /**
+     * Inserts a new record.
+     *
+     * @param cache  the data cache
+     * @param record the record to insert
+     * @return {@code true} if successful; {@code false} if not
+     */
+    public static boolean insert(final Cache cache, final RawLessonComponent record) {
+
+        Log.warning("Unable to insert lesson_component record: no underlying table.");
+
+        return false;
+    }
 
-        build117(lst);
-        build1170(lst);
-        build118(lst);
-        build1180(lst);
-        build124(lst);
-        build1240(lst);
-        build125(lst);
-        build1250(lst);
-        build126(lst);
-        build1260(lst);
+    /**
+     * Deletes a record.
+     *
+     * @param cache  the data cache
+     * @param record the record to delete
+     * @return {@code true} if successful; {@code false} if not
+     */
+    public static boolean delete(final Cache cache, final RawLessonComponent record) {
+
+        Log.warning("Unable to delete lesson_component record: no underlying table.");
+
+        return false;
+    }
+
+    /**
+     * Gets all records.
+     *
+     * @param cache the data cache
+     * @return the list of records
+     */
+    public static List<RawLessonComponent> queryAll(final Cache cache) {
+
+        final List<RawLessonComponent> result = new ArrayList<>(0);
+
+        Log.warning("Unable to query all lesson_component records: no underlying table.");
+
+        return result;
+    }
+
+    /**
+     * Queries all components for a particular lesson. Results are ordered by sequence number.
+     *
+     * <p>
+     * Components are built the first time any lesson in a course is queried, and the lists returned are shared between
+     * callers.
+     *
+     * @param theLessonId the ID of the lesson to query
+     * @return the immutable list of records that matched the criteria, a zero-length list if none matched
+     */
+    public static List<RawLessonComponent> queryByLesson(final String theLessonId) {
+
+        List<RawLessonComponent> result = List.of();
+
+        if (theLessonId != null) {
+            final int dot = theLessonId.indexOf('.');
+            final String prefix = dot == -1 ? theLessonId : theLessonId.substring(0, dot);
+
+            Map<String, List<RawLessonComponent>> course = courseComponents.get(prefix);
+            if (course == null) {
+                final Consumer<Collection<? super RawLessonComponent>> builder = BUILDERS.get(prefix);
+                if (builder != null) {
+                    course = buildCourse(prefix, builder);
+                }
+            }
+
+            if (course != null) {
+                result = course.getOrDefault(theLessonId, result);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Builds the components for a course and stores them for use by later queries.
+     *
+     * @param prefix  the lesson ID prefix for the course
+     * @param builder the builder that generates the course's components
+     * @return the map from lesson ID to the immutable list of components for that lesson
+     */
+    private static Map<String, List<RawLessonComponent>> buildCourse(
+            final String prefix, final Consumer<? super Collection<? super RawLessonComponent>> builder) {
+
+        synchronized (BUILD_LOCK) {
+            Map<String, List<RawLessonComponent>> result = courseComponents.get(prefix);
+
+            if (result == null) {
+                final Collection<RawLessonComponent> lst = new ArrayList<>(600);
+                builder.accept(lst);
+
+                final Map<String, Map<Integer, RawLessonComponent>> byLesson = new HashMap<>(40);
+                for (final RawLessonComponent lcomp : lst) {
+                    final String lessId = lcomp.lessonId;
+                    final Integer seq = Integer.valueOf(lcomp.seqNbr.intValue());
+
+                    final Map<Integer, RawLessonComponent> inner = byLesson.computeIfAbsent(lessId,
+                            s -> new TreeMap<>());
+
+                    if (inner.get(seq) != null) {
+                        Log.warning("Duplicate ", lessId, CoreConstants.DOT, seq);
+                    }
+
+                    inner.put(seq, lcomp);
+                }
+
+                result = new HashMap<>(byLesson.size() * 2);
+                for (final Map.Entry<String, Map<Integer, RawLessonComponent>> entry : byLesson.entrySet()) {
+                    result.put(entry.getKey(), List.copyOf(entry.getValue().values()));
+                }
+
+                courseComponents.put(prefix, result);
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Builds lesson components for the ELM Tutorial.
+     *
+     * @param lst the list to which to add components
+     */
+    private static void build100T(final Collection<? super RawLessonComponent> lst) {
 
-        //  ELM Tutorial
         courseId = RawRecordConstants.M100T;
 
         // 1:
@@ -636,8 +774,15 @@ public enum RawLessonComponentLogic {
         lst.add(mkETT("MT4BE2", EX2));
         lst.add(mkETT("MT4BT1", TT1));
         lst.add(mkETT("MT4BT2", TT2));
+    }
+
+    /**
+     * Builds lesson components for the MPE Review.
+     *
+     * @param lst the list to which to add components
+     */
+    private static void build100R(final Collection<? super RawLessonComponent> lst) {
 
-        // MPE Review
         courseId = "M 100R";
         final String prefix = courseId.replace("M ", "M");
 
@@ -749,87 +894,7 @@ public enum RawLessonComponentLogic {
         lst.add(mkLH2("Section 3: Functions and Graphs", "Topic 6", "Solving Equations"));
         startLesson(prefix + ".37", 3, 7);
         lst.add(mkLH2("Section 3: Functions and Graphs", "Topic 7", "Mathematical Models"));
-
-        lessonComponents = new HashMap<>(200);
-
-        for (final RawLessonComponent lcomp : lst) {
-            final String lessId = lcomp.lessonId;
-            final Integer seq = Integer.valueOf(lcomp.seqNbr.intValue());
-
-            final Map<Integer, RawLessonComponent> inner = lessonComponents.computeIfAbsent(lessId,
-                    s -> new TreeMap<>());
-
-            if (inner.get(seq) != null) {
-                Log.warning("Duplicate ", lessId, CoreConstants.DOT, seq);
-            }
-
-            inner.put(seq, lcomp);
-        }
-    }
-
-    /**
-     * Inserts a new record.
-     *
-     * @param cache  the data cache
-     * @param record the record to insert
-     * @return {@code true} if successful; {@code false} if not
-     */
-    public static boolean insert(final Cache cache, final RawLessonComponent record) {
-
-        Log.warning("Unable to insert lesson_component record: no underlying table.");
-
-        return false;
-    }
-
-    /**
-     * Deletes a record.
-     *
-     * @param cache  the data cache
-     * @param record the record to delete
-     * @return {@code true} if successful; {@code false} if not
-     */
-    public static boolean delete(final Cache cache, final RawLessonComponent record) {
-
-        Log.warning("Unable to delete lesson_component record: no underlying table.");
-
-        return false;
-    }
-
-    /**
-     * Gets all records.
-     *
-     * @param cache the data cache
-     * @return the list of records
-     */
-    public static List<RawLessonComponent> queryAll(final Cache cache) {
-
-        final List<RawLessonComponent> result = new ArrayList<>(0);
-
-        Log.warning("Unable to query all lesson_component records: no underlying table.");
-
-        return result;
     }
-
-    /**
-     * Queries all components for a particular lesson. Results are ordered by sequence number.
-     *
-     * @param theLessonId the ID of the lesson to query
-     * @return the list of records that matched the criteria, a zero-length array if none matched
-     */
-    public static List<RawLessonComponent> queryByLesson(final String theLessonId) {
-
-        final List<RawLessonComponent> result;
-        final Map<Integer, RawLessonComponent> inner = lessonComponents.get(theLessonId);
-
-        if (inner == null) {
-            result = new ArrayList<>(0);
-        } else {
-            result = new ArrayList<>(inner.values());
-        }
-
-        return result;
-    }
-
     /**
      * Builds lesson components for MATH 117.
      *
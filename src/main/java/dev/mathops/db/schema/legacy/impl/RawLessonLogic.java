@@ -15,7 +15,7 @@ import java.util.Map;
  * A utility class to work with lesson records.
  *
  * <p>
- * There is currently no table for this data - it is hard-coded into this class.
+ * There is currently no table for this data - it is hard-coded into this class, and built when first queried.
  */
 public enum RawLessonLogic {
     ;
@@ -23,10 +23,38 @@ public enum RawLessonLogic {
     /** A commonly used string. */
     private static final String SR_MAT = "Skills Review materials";
 
-    /** The map of hard-coded lessons. */
-    private static final Map<String, RawLesson> lessons;
+    /** The map of hard-coded lessons; null until first needed. */
+    private static volatile Map<String, RawLesson> lessons = null;
+
+    /**
+     * Gets the map of hard-coded lessons, building it on first use.
+     *
+     * @return the map from lesson ID to lesson
+     */
+    private static Map<String, RawLesson> getLessons() {
+
+        Map<String, RawLesson> result = lessons;
+
+        if (result == null) {
+            synchronized (RawLessonLogic.class) {
+                result = lessons;
+                if (result == null) {
+                    result = buildLessons();
+                    lessons = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Builds the map of hard-coded lessons.
+     *
+     * @return the immutable map from lesson ID to lesson
+     */
+    private static Map<String, RawLesson> buildLessons() {
 
-    static {
         final Collection<RawLesson> tempList = new ArrayList<>(200);
 
         try {
@@ -1184,77 +1212,79 @@ public enum RawLessonLogic {
             Log.warning("Static data for lesson has validation error", ex);
         }
 
-        lessons = new HashMap<>(tempList.size());
+        final Map<String, RawLesson> map = new HashMap<>(tempList.size() + 100);
 
         for (final RawLesson lesson : tempList) {
-            lessons.put(lesson.lessonId, lesson);
+            map.put(lesson.lessonId, lesson);
         }
 
-        lessons.put("C41S1", new RawLesson("C41S1", "C", CoreConstants.EMPTY));
-        lessons.put("C41S2", new RawLesson("C41S2", "C", CoreConstants.EMPTY));
-        lessons.put("C41S3", new RawLesson("C41S3", "C", CoreConstants.EMPTY));
-        lessons.put("C42S1", new RawLesson("C42S1", "C", CoreConstants.EMPTY));
-        lessons.put("C42S2", new RawLesson("C42S2", "C", CoreConstants.EMPTY));
-        lessons.put("C42S3", new RawLesson("C42S3", "C", CoreConstants.EMPTY));
-        lessons.put("C43S1", new RawLesson("C43S1", "C", CoreConstants.EMPTY));
-        lessons.put("C43S2", new RawLesson("C43S2", "C", CoreConstants.EMPTY));
-        lessons.put("C43S3", new RawLesson("C43S3", "C", CoreConstants.EMPTY));
-        lessons.put("C44S1", new RawLesson("C44S1", "C", CoreConstants.EMPTY));
-        lessons.put("C44S2", new RawLesson("C44S2", "C", CoreConstants.EMPTY));
-        lessons.put("C44S3", new RawLesson("C44S3", "C", CoreConstants.EMPTY));
-        lessons.put("C45S1", new RawLesson("C45S1", "C", CoreConstants.EMPTY));
-        lessons.put("C45S2", new RawLesson("C45S2", "C", CoreConstants.EMPTY));
-        lessons.put("C45S3", new RawLesson("C45S3", "C", CoreConstants.EMPTY));
-        lessons.put("C46S1", new RawLesson("C46S1", "C", CoreConstants.EMPTY));
-        lessons.put("C46S2", new RawLesson("C46S2", "C", CoreConstants.EMPTY));
-        lessons.put("C46S3", new RawLesson("C46S3", "C", CoreConstants.EMPTY));
-        lessons.put("C47S1", new RawLesson("C47S1", "C", CoreConstants.EMPTY));
-        lessons.put("C47S2", new RawLesson("C47S2", "C", CoreConstants.EMPTY));
-        lessons.put("C47S3", new RawLesson("C47S3", "C", CoreConstants.EMPTY));
-        lessons.put("C48S1", new RawLesson("C48S1", "C", CoreConstants.EMPTY));
-        lessons.put("C48S2", new RawLesson("C48S2", "C", CoreConstants.EMPTY));
-        lessons.put("C48S3", new RawLesson("C48S3", "C", CoreConstants.EMPTY));
-        lessons.put("C49S1", new RawLesson("C49S1", "C", CoreConstants.EMPTY));
-        lessons.put("C49S2", new RawLesson("C49S2", "C", CoreConstants.EMPTY));
-        lessons.put("C49S3", new RawLesson("C49S3", "C", CoreConstants.EMPTY));
-        lessons.put("C50S1", new RawLesson("C50S1", "C", CoreConstants.EMPTY));
-        lessons.put("C50S2", new RawLesson("C50S2", "C", CoreConstants.EMPTY));
-        lessons.put("C50S3", new RawLesson("C50S3", "C", CoreConstants.EMPTY));
-        lessons.put("C45EX", new RawLesson("C45EX", "C", CoreConstants.EMPTY));
-        lessons.put("C50EX", new RawLesson("C50EX", "C", CoreConstants.EMPTY));
-
-        lessons.put("C51S1", new RawLesson("C51S1", "C", CoreConstants.EMPTY));
-        lessons.put("C51S2", new RawLesson("C51S2", "C", CoreConstants.EMPTY));
-        lessons.put("C51S3", new RawLesson("C51S3", "C", CoreConstants.EMPTY));
-        lessons.put("C52S1", new RawLesson("C52S1", "C", CoreConstants.EMPTY));
-        lessons.put("C52S2", new RawLesson("C52S2", "C", CoreConstants.EMPTY));
-        lessons.put("C52S3", new RawLesson("C52S3", "C", CoreConstants.EMPTY));
-        lessons.put("C53S1", new RawLesson("C53S1", "C", CoreConstants.EMPTY));
-        lessons.put("C53S2", new RawLesson("C53S2", "C", CoreConstants.EMPTY));
-        lessons.put("C53S3", new RawLesson("C53S3", "C", CoreConstants.EMPTY));
-        lessons.put("C54S1", new RawLesson("C54S1", "C", CoreConstants.EMPTY));
-        lessons.put("C54S2", new RawLesson("C54S2", "C", CoreConstants.EMPTY));
-        lessons.put("C54S3", new RawLesson("C54S3", "C", CoreConstants.EMPTY));
-        lessons.put("C55S1", new RawLesson("C55S1", "C", CoreConstants.EMPTY));
-        lessons.put("C55S2", new RawLesson("C55S2", "C", CoreConstants.EMPTY));
-        lessons.put("C55S3", new RawLesson("C55S3", "C", CoreConstants.EMPTY));
-        lessons.put("C56S1", new RawLesson("C56S1", "C", CoreConstants.EMPTY));
-        lessons.put("C56S2", new RawLesson("C56S2", "C", CoreConstants.EMPTY));
-        lessons.put("C56S3", new RawLesson("C56S3", "C", CoreConstants.EMPTY));
-        lessons.put("C57S1", new RawLesson("C57S1", "C", CoreConstants.EMPTY));
-        lessons.put("C57S2", new RawLesson("C57S2", "C", CoreConstants.EMPTY));
-        lessons.put("C57S3", new RawLesson("C57S3", "C", CoreConstants.EMPTY));
-        lessons.put("C58S1", new RawLesson("C58S1", "C", CoreConstants.EMPTY));
-        lessons.put("C58S2", new RawLesson("C58S2", "C", CoreConstants.EMPTY));
-        lessons.put("C58S3", new RawLesson("C58S3", "C", CoreConstants.EMPTY));
-        lessons.put("C59S1", new RawLesson("C59S1", "C", CoreConstants.EMPTY));
-        lessons.put("C59S2", new RawLesson("C59S2", "C", CoreConstants.EMPTY));
-        lessons.put("C59S3", new RawLesson("C59S3", "C", CoreConstants.EMPTY));
-        lessons.put("C60S1", new RawLesson("C60S1", "C", CoreConstants.EMPTY));
-        lessons.put("C60S2", new RawLesson("C60S2", "C", CoreConstants.EMPTY));
-        lessons.put("C60S3", new RawLesson("C60S3", "C", CoreConstants.EMPTY));
-        lessons.put("C55EX", new RawLesson("C55EX", "C", CoreConstants.EMPTY));
-        lessons.put("C60EX", new RawLesson("C60EX", "C", CoreConstants.EMPTY));
+        map.put("C41S1", new RawLesson("C41S1", "C", CoreConstants.EMPTY));
+        map.put("C41S2", new RawLesson("C41S2", "C", CoreConstants.EMPTY));
+        map.put("C41S3", new RawLesson("C41S3", "C", CoreConstants.EMPTY));
+        map.put("C42S1", new RawLesson("C42S1", "C", CoreConstants.EMPTY));
+        map.put("C42S2", new RawLesson("C42S2", "C", CoreConstants.EMPTY));
+        map.put("C42S3", new RawLesson("C42S3", "C", CoreConstants.EMPTY));
+        map.put("C43S1", new RawLesson("C43S1", "C", CoreConstants.EMPTY));
+        map.put("C43S2", new RawLesson("C43S2", "C", CoreConstants.EMPTY));
+        map.put("C43S3", new RawLesson("C43S3", "C", CoreConstants.EMPTY));
+        map.put("C44S1", new RawLesson("C44S1", "C", CoreConstants.EMPTY));
+        map.put("C44S2", new RawLesson("C44S2", "C", CoreConstants.EMPTY));
+        map.put("C44S3", new RawLesson("C44S3", "C", CoreConstants.EMPTY));
+        map.put("C45S1", new RawLesson("C45S1", "C", CoreConstants.EMPTY));
+        map.put("C45S2", new RawLesson("C45S2", "C", CoreConstants.EMPTY));
+        map.put("C45S3", new RawLesson("C45S3", "C", CoreConstants.EMPTY));
+        map.put("C46S1", new RawLesson("C46S1", "C", CoreConstants.EMPTY));
+        map.put("C46S2", new RawLesson("C46S2", "C", CoreConstants.EMPTY));
+        map.put("C46S3", new RawLesson("C46S3", "C", CoreConstants.EMPTY));
+        map.put("C47S1", new RawLesson("C47S1", "C", CoreConstants.EMPTY));
+        map.put("C47S2", new RawLesson("C47S2", "C", CoreConstants.EMPTY));
+        map.put("C47S3", new RawLesson("C47S3", "C", CoreConstants.EMPTY));
+        map.put("C48S1", new RawLesson("C48S1", "C", CoreConstants.EMPTY));
+        map.put("C48S2", new RawLesson("C48S2", "C", CoreConstants.EMPTY));
+        map.put("C48S3", new RawLesson("C48S3", "C", CoreConstants.EMPTY));
+        map.put("C49S1", new RawLesson("C49S1", "C", CoreConstants.EMPTY));
+        map.put("C49S2", new RawLesson("C49S2", "C", CoreConstants.EMPTY));
+        map.put("C49S3", new RawLesson("C49S3", "C", CoreConstants.EMPTY));
+        map.put("C50S1", new RawLesson("C50S1", "C", CoreConstants.EMPTY));
+        map.put("C50S2", new RawLesson("C50S2", "C", CoreConstants.EMPTY));
+        map.put("C50S3", new RawLesson("C50S3", "C", CoreConstants.EMPTY));
+        map.put("C45EX", new RawLesson("C45EX", "C", CoreConstants.EMPTY));
+        map.put("C50EX", new RawLesson("C50EX", "C", CoreConstants.EMPTY));
+
+        map.put("C51S1", new RawLesson("C51S1", "C", CoreConstants.EMPTY));
+        map.put("C51S2", new RawLesson("C51S2", "C", CoreConstants.EMPTY));
+        map.put("C51S3", new RawLesson("C51S3", "C", CoreConstants.EMPTY));
+        map.put("C52S1", new RawLesson("C52S1", "C", CoreConstants.EMPTY));
+        map.put("C52S2", new RawLesson("C52S2", "C", CoreConstants.EMPTY));
+        map.put("C52S3", new RawLesson("C52S3", "C", CoreConstants.EMPTY));
+        map.put("C53S1", new RawLesson("C53S1", "C", CoreConstants.EMPTY));
+        map.put("C53S2", new RawLesson("C53S2", "C", CoreConstants.EMPTY));
+        map.put("C53S3", new RawLesson("C53S3", "C", CoreConstants.EMPTY));
+        map.put("C54S1", new RawLesson("C54S1", "C", CoreConstants.EMPTY));
+        map.put("C54S2", new RawLesson("C54S2", "C", CoreConstants.EMPTY));
+        map.put("C54S3", new RawLesson("C54S3", "C", CoreConstants.EMPTY));
+        map.put("C55S1", new RawLesson("C55S1", "C", CoreConstants.EMPTY));
+        map.put("C55S2", new RawLesson("C55S2", "C", CoreConstants.EMPTY));
+        map.put("C55S3", new RawLesson("C55S3", "C", CoreConstants.EMPTY));
+        map.put("C56S1", new RawLesson("C56S1", "C", CoreConstants.EMPTY));
+        map.put("C56S2", new RawLesson("C56S2", "C", CoreConstants.EMPTY));
+        map.put("C56S3", new RawLesson("C56S3", "C", CoreConstants.EMPTY));
+        map.put("C57S1", new RawLesson("C57S1", "C", CoreConstants.EMPTY));
+        map.put("C57S2", new RawLesson("C57S2", "C", CoreConstants.EMPTY));
+        map.put("C57S3", new RawLesson("C57S3", "C", CoreConstants.EMPTY));
+        map.put("C58S1", new RawLesson("C58S1", "C", CoreConstants.EMPTY));
+        map.put("C58S2", new RawLesson("C58S2", "C", CoreConstants.EMPTY));
+        map.put("C58S3", new RawLesson("C58S3", "C", CoreConstants.EMPTY));
+        map.put("C59S1", new RawLesson("C59S1", "C", CoreConstants.EMPTY));
+        map.put("C59S2", new RawLesson("C59S2", "C", CoreConstants.EMPTY));
+        map.put("C59S3", new RawLesson("C59S3", "C", CoreConstants.EMPTY));
+        map.put("C60S1", new RawLesson("C60S1", "C", CoreConstants.EMPTY));
+        map.put("C60S2", new RawLesson("C60S2", "C", CoreConstants.EMPTY));
+        map.put("C60S3", new RawLesson("C60S3", "C", CoreConstants.EMPTY));
+        map.put("C55EX", new RawLesson("C55EX", "C", CoreConstants.EMPTY));
+        map.put("C60EX", new RawLesson("C60EX", "C", CoreConstants.EMPTY));
+
+        return Map.copyOf(map);
     }
 
     /**
@@ -1325,7 +1355,7 @@ public enum RawLessonLogic {
      */
     public static RawLesson query(final String lessonId) {
 
-        return lessons.get(lessonId);
+        return lessonId == null ? null : getLessons().get(lessonId);
     }
 
     /**
@@ -1336,7 +1366,7 @@ public enum RawLessonLogic {
      */
     public static List<RawLesson> queryAll(final Cache cache) {
 
-        final Collection<RawLesson> values = lessons.values();
+        final Collection<RawLesson> values = getLessons().values();
 
         return new ArrayList<>(values);
     }
@@ -3,6 +3,7 @@ package dev.mathops.db.schema.legacy.impl;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.LogicUtils;
 import dev.mathops.db.schema.legacy.rec.RawMilestoneAppeal;
@@ -111,6 +112,7 @@ public enum RawMilestoneAppealLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, record.stuId);
             }
         }
 
@@ -154,6 +156,7 @@ public enum RawMilestoneAppealLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return result;
@@ -212,6 +215,7 @@ public enum RawMilestoneAppealLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return result;
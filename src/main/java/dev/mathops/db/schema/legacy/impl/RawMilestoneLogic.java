@@ -2,6 +2,7 @@ package dev.mathops.db.schema.legacy.impl;
 
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.legacy.rec.RawMilestone;
 import dev.mathops.db.field.TermKey;
@@ -81,6 +82,8 @@ public enum RawMilestoneLogic {
 
             if (result) {
                 conn.commit();
+                // Milestone dates are used in every student's course status
+                StudentDataEvents.allChanged();
             } else {
                 conn.rollback();
             }
@@ -121,6 +124,8 @@ public enum RawMilestoneLogic {
 
             if (result) {
                 conn.commit();
+                // Milestone dates are used in every student's course status
+                StudentDataEvents.allChanged();
             } else {
                 conn.rollback();
             }
@@ -242,6 +247,8 @@ public enum RawMilestoneLogic {
 
             if (result) {
                 conn.commit();
+                // Milestone dates are used in every student's course status
+                StudentDataEvents.allChanged();
             } else {
                 conn.rollback();
             }
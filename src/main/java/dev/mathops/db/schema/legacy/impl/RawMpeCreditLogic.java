@@ -3,6 +3,7 @@ package dev.mathops.db.schema.legacy.impl;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.cfg.EDbProduct;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.LogicUtils;
@@ -17,7 +18,9 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A utility class to work with mpe_credit records.
@@ -154,6 +157,7 @@ public enum RawMpeCreditLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, record.stuId);
             }
         }
 
@@ -196,6 +200,7 @@ public enum RawMpeCreditLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return result;
@@ -254,6 +259,36 @@ public enum RawMpeCreditLogic {
         return result;
     }
 
+    /**
+     * Retrieves all placement credit records for a collection of students, using one query for each block of up to 500
+     * students rather than one query per student.  Test students are served from generated data, as they are by
+     * {@code queryByStudent}.
+     *
+     * @param cache  the data cache
+     * @param stuIds the student IDs
+     * @return a map from student ID to that student's records (students with no records may have no entry)
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static Map<String, List<RawMpeCredit>> queryByStudents(final Cache cache, final Collection<String> stuIds)
+            throws SQLException {
+
+        final Map<String, List<RawMpeCredit>> result = new HashMap<>(stuIds.size());
+        final Collection<String> realIds = new ArrayList<>(stuIds.size());
+
+        for (final String stuId : stuIds) {
+            if (stuId.startsWith("99")) {
+                result.put(stuId, queryByTestStudent(stuId));
+            } else {
+                realIds.add(stuId);
+            }
+        }
+
+        CohortQueryLogic.queryByStudents(cache, getTableName(cache), realIds,
+                (rs, columns) -> RawMpeCredit.fromResultSet(rs), rec -> rec.stuId, result);
+
+        return result;
+    }
+
     /**
      * Queries for all records for a single exam.
      *
@@ -279,6 +314,32 @@ public enum RawMpeCreditLogic {
         }
     }
 
+    /**
+     * Queries for all records with exam dates in a specified range.
+     *
+     * @param cache the data cache
+     * @param first the earliest exam date to return
+     * @param last  the latest exam date to return
+     * @return the list of records that matched the criteria, an empty list if none matched
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static List<RawMpeCredit> queryByDateRange(final Cache cache, final LocalDate first,
+                                                      final LocalDate last) throws SQLException {
+
+        final String tableName = getTableName(cache);
+
+        final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+        final String sql = SimpleBuilder.concat("SELECT * FROM ", tableName, " WHERE exam_dt>=",
+                conn.sqlDateValue(first), " AND exam_dt<=", conn.sqlDateValue(last));
+
+        try {
+            return executeSimpleQuery(conn, sql);
+        } finally {
+            Cache.checkInConnection(conn);
+        }
+    }
+
     /**
      * Queries for the set of placement credits on record for a course.
      *
@@ -374,6 +435,7 @@ public enum RawMpeCreditLogic {
                 }
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, credit.stuId);
             }
         }
     }
@@ -432,6 +494,7 @@ public enum RawMpeCreditLogic {
             }
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, credit.stuId);
         }
     }
 
@@ -502,6 +565,7 @@ public enum RawMpeCreditLogic {
             }
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, credit.stuId);
         }
     }
 
@@ -543,6 +607,7 @@ public enum RawMpeCreditLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, credit.stuId);
             }
 
         } else if ("P".equals(orig) && "C".equals(credit.examPlaced)) {
@@ -566,6 +631,7 @@ public enum RawMpeCreditLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, credit.stuId);
             }
 
         } else if ("C".equals(orig) && "P".equals(credit.examPlaced)) {
@@ -591,6 +657,7 @@ public enum RawMpeCreditLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, credit.stuId);
             }
         }
     }
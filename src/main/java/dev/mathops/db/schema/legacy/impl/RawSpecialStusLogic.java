@@ -3,6 +3,7 @@ package dev.mathops.db.schema.legacy.impl;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.legacy.rec.RawSpecialStus;
 import dev.mathops.text.builder.SimpleBuilder;
@@ -84,6 +85,7 @@ public enum RawSpecialStusLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -120,6 +122,7 @@ public enum RawSpecialStusLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -3,6 +3,7 @@ package dev.mathops.db.schema.legacy.impl;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.logic.challenge.ChallengeExamLogic;
 import dev.mathops.db.schema.LogicUtils;
@@ -128,6 +129,7 @@ public enum RawStchallengeLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -166,6 +168,7 @@ public enum RawStchallengeLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -3,7 +3,9 @@ package dev.mathops.db.schema.legacy.impl;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.ResultSetColumns;
 import dev.mathops.db.logic.SystemData;
 import dev.mathops.db.schema.RawRecordConstants;
 import dev.mathops.db.schema.legacy.rec.RawStcourse;
@@ -17,9 +19,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A utility class to work with "stcourse" records.
@@ -186,6 +191,7 @@ public enum RawStcourseLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -243,6 +249,7 @@ public enum RawStcourseLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return result;
@@ -458,6 +465,36 @@ public enum RawStcourseLogic {
         return result;
     }
 
+    /**
+     * Retrieves all registrations (including dropped and "OT" registrations) for a collection of students, using one
+     * query for each block of up to 500 students rather than one query per student.  Test students are served from
+     * generated data, as they are by {@code queryByStudent}.
+     *
+     * @param cache  the data cache
+     * @param stuIds the student IDs
+     * @return a map from student ID to that student's records (students with no records may have no entry)
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static Map<String, List<RawStcourse>> queryByStudents(final Cache cache, final Collection<String> stuIds)
+            throws SQLException {
+
+        final Map<String, List<RawStcourse>> result = new HashMap<>(stuIds.size());
+        final Collection<String> realIds = new ArrayList<>(stuIds.size());
+
+        for (final String stuId : stuIds) {
+            if (stuId.startsWith("99")) {
+                result.put(stuId, queryByStudentTestData(cache, stuId));
+            } else {
+                realIds.add(stuId);
+            }
+        }
+
+        CohortQueryLogic.queryByStudents(cache, getTableName(cache), realIds,
+                (rs, columns) -> RawStcourse.fromResultSet(rs, columns), rec -> rec.stuId, result);
+
+        return result;
+    }
+
     /**
      * Queries for all courses the student is registered in a particular term.
      *
@@ -745,6 +782,7 @@ public enum RawStcourseLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, stuId);
             }
         }
 
@@ -808,6 +846,7 @@ public enum RawStcourseLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, stuId);
             }
         }
 
@@ -865,6 +904,7 @@ public enum RawStcourseLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, stuId);
             }
         }
 
@@ -927,6 +967,7 @@ public enum RawStcourseLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, stuId);
             }
         }
 
@@ -985,6 +1026,7 @@ public enum RawStcourseLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, stuId);
             }
         }
 
@@ -1045,6 +1087,7 @@ public enum RawStcourseLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, stuId);
             }
         }
 
@@ -1103,6 +1146,7 @@ public enum RawStcourseLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, stuId);
             }
         }
 
@@ -1161,6 +1205,7 @@ public enum RawStcourseLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, stuId);
             }
         }
 
@@ -1220,6 +1265,7 @@ public enum RawStcourseLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, stuId);
             }
         }
 
@@ -1241,8 +1287,10 @@ public enum RawStcourseLogic {
         try (final Statement stmt = conn.createStatement();
              final ResultSet rs = stmt.executeQuery(sql)) {
 
+            final ResultSetColumns columns = ResultSetColumns.of(rs);
+
             while (rs.next()) {
-                result.add(RawStcourse.fromResultSet(rs));
+                result.add(RawStcourse.fromResultSet(rs, columns));
             }
         }
 
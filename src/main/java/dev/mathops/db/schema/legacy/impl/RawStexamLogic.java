@@ -5,7 +5,9 @@ import dev.mathops.commons.TemporalUtils;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.ResultSetColumns;
 import dev.mathops.db.schema.LogicUtils;
 import dev.mathops.db.schema.RawRecordConstants;
 import dev.mathops.db.schema.legacy.rec.RawStchallenge;
@@ -26,6 +28,7 @@ import java.time.Period;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * A utility class to work with "stexam" records.
@@ -173,6 +176,7 @@ public enum RawStexamLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.courseWorkChanged(cache, record.stuId, record.course);
             }
         }
 
@@ -213,11 +217,14 @@ public enum RawStexamLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.courseWorkChanged(cache, record.stuId, record.course);
         }
     }
 
     /**
-     * Deletes a record but does not do a commit.
+     * Deletes a record but does not do a commit.  The caller should announce the change with
+     * {@code StudentDataEvents.courseWorkChanged} after committing (so a status computed from the data before the
+     * delete cannot be cached after the announcement invalidates it).
      *
      * @param cache  the data cache
      * @param conn   a connection checked out from the cache (for the LEGACY schema)
@@ -263,6 +270,28 @@ public enum RawStexamLogic {
         }
     }
 
+    /**
+     * Reads all records, passing each to a consumer as it is read rather than collecting them into a list.
+     *
+     * @param cache    the data cache
+     * @param consumer the consumer that receives each record
+     * @return the number of records read
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static int streamAll(final Cache cache, final Consumer<? super RawStexam> consumer) throws SQLException {
+
+        final String tableName = getTableName(cache);
+
+        final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+        try {
+            return conn.streamQuery("SELECT * FROM " + tableName,
+                    (rs, columns) -> RawStexam.fromResultSet(rs, columns), consumer);
+        } finally {
+            Cache.checkInConnection(conn);
+        }
+    }
+
     /**
      * Queries for all exam records for a student. Results are sorted by exam date, then finish time.
      *
@@ -747,6 +776,7 @@ public enum RawStexamLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.courseWorkChanged(cache, rec.stuId, rec.course);
             }
         }
 
@@ -798,6 +828,7 @@ public enum RawStexamLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.courseWorkChanged(cache, rec.stuId, rec.course);
             }
         }
 
@@ -841,6 +872,7 @@ public enum RawStexamLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, rec.stuId);
             }
         }
 
@@ -892,6 +924,7 @@ public enum RawStexamLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.courseWorkChanged(cache, rec.stuId, rec.course);
             }
         }
 
@@ -934,6 +967,7 @@ public enum RawStexamLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, rec.stuId);
             }
         }
     }
@@ -974,6 +1008,7 @@ public enum RawStexamLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, rec.stuId);
             }
         }
     }
@@ -1192,8 +1227,10 @@ public enum RawStexamLogic {
         try (final Statement stmt = conn.createStatement();
              final ResultSet rs = stmt.executeQuery(sql)) {
 
+            final ResultSetColumns columns = ResultSetColumns.of(rs);
+
             while (rs.next()) {
-                result.add(RawStexam.fromResultSet(rs));
+                result.add(RawStexam.fromResultSet(rs, columns));
             }
         }
 
@@ -4,6 +4,7 @@ import dev.mathops.commons.CoreConstants;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.legacy.rec.RawSthomework;
 import dev.mathops.text.builder.HtmlBuilder;
@@ -17,6 +18,7 @@ import java.time.Period;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * A utility class to work with "sthomework" records.
@@ -141,6 +143,7 @@ public enum RawSthomeworkLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, record.stuId);
             }
         }
 
@@ -181,11 +184,13 @@ public enum RawSthomeworkLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
     /**
-     * Deletes a record but does not do a commit.
+     * Deletes a record but does not do a commit.  The caller should announce the change with
+     * {@code StudentDataEvents.studentChanged} after committing.
      *
      * @param cache  the data cache
      * @param conn   a connection checked out from the cache (for the LEGACY schema)
@@ -231,6 +236,27 @@ public enum RawSthomeworkLogic {
         }
     }
 
+    /**
+     * Reads all records, passing each to a consumer as it is read rather than collecting them into a list.
+     *
+     * @param cache    the data cache
+     * @param consumer the consumer that receives each record
+     * @return the number of records read
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static int streamAll(final Cache cache, final Consumer<? super RawSthomework> consumer) throws SQLException {
+
+        final String tableName = getTableName(cache);
+
+        final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+        try {
+            return conn.streamQuery("SELECT * FROM " + tableName, RawSthomework::fromResultSet, consumer);
+        } finally {
+            Cache.checkInConnection(conn);
+        }
+    }
+
     /**
      * Gets all records for a student. Results are sorted by homework date, then finish time.
      *
@@ -560,6 +586,7 @@ public enum RawSthomeworkLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, stuId);
         }
     }
 
@@ -606,6 +633,7 @@ public enum RawSthomeworkLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, rec.stuId);
             }
         }
 
@@ -3,6 +3,7 @@ package dev.mathops.db.schema.legacy.impl;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.legacy.rec.RawSthomework;
 import dev.mathops.db.schema.legacy.rec.RawSthwqa;
@@ -13,6 +14,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * A utility class to work with "sthwqa" records.
@@ -96,6 +98,7 @@ public enum RawSthwqaLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, record.stuId);
             }
         }
 
@@ -136,11 +139,13 @@ public enum RawSthwqaLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
     /**
-     * Deletes a record but does not do a commit.
+     * Deletes a record but does not do a commit.  The caller should announce the change with
+     * {@code StudentDataEvents.studentChanged} after committing.
      *
      * @param cache  the data cache
      * @param conn   a connection checked out from the cache (for the LEGACY schema)
@@ -186,6 +191,27 @@ public enum RawSthwqaLogic {
         }
     }
 
+    /**
+     * Reads all records, passing each to a consumer as it is read rather than collecting them into a list.
+     *
+     * @param cache    the data cache
+     * @param consumer the consumer that receives each record
+     * @return the number of records read
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static int streamAll(final Cache cache, final Consumer<? super RawSthwqa> consumer) throws SQLException {
+
+        final String tableName = getTableName(cache);
+
+        final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+        try {
+            return conn.streamQuery("SELECT * FROM " + tableName, RawSthwqa::fromResultSet, consumer);
+        } finally {
+            Cache.checkInConnection(conn);
+        }
+    }
+
     /**
      * Gets all records for a student.
      *
@@ -260,6 +286,7 @@ public enum RawSthwqaLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return true;
@@ -3,6 +3,7 @@ package dev.mathops.db.schema.legacy.impl;
 import dev.mathops.commons.TemporalUtils;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.logic.mathplan.MathPlanConstants;
 import dev.mathops.db.schema.legacy.rec.RawStmathplan;
@@ -351,6 +352,7 @@ public enum RawStmathplanLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -390,6 +392,7 @@ public enum RawStmathplanLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
 
         return result;
@@ -439,6 +442,26 @@ public enum RawStmathplanLogic {
         }
     }
 
+    /**
+     * Retrieves all Math Plan responses for a collection of students, using one query for each block of up to 500
+     * students rather than one query per student.
+     *
+     * @param cache  the data cache
+     * @param stuIds the student IDs
+     * @return a map from student ID to that student's records (students with no records may have no entry)
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static Map<String, List<RawStmathplan>> queryByStudents(final Cache cache, final Collection<String> stuIds)
+            throws SQLException {
+
+        final Map<String, List<RawStmathplan>> result = new HashMap<>(stuIds.size());
+
+        CohortQueryLogic.queryByStudents(cache, getTableName(cache), stuIds,
+                (rs, columns) -> RawStmathplan.fromResultSet(rs), rec -> rec.stuId, result);
+
+        return result;
+    }
+
     /**
      * Queries for the most recent set of survey responses submitted by a student for a particular survey version.
      * Responses are ordered by question number.
@@ -574,6 +597,7 @@ public enum RawStmathplanLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, stuId);
             }
         }
 
@@ -2,6 +2,7 @@ package dev.mathops.db.schema.legacy.impl;
 
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.legacy.rec.RawStmilestone;
 import dev.mathops.db.field.TermKey;
@@ -92,6 +93,7 @@ public enum RawStmilestoneLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.courseWorkChanged(cache, record.stuId, null);
         }
     }
 
@@ -134,6 +136,7 @@ public enum RawStmilestoneLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.courseWorkChanged(cache, record.stuId, null);
         }
     }
 
@@ -317,6 +320,7 @@ public enum RawStmilestoneLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.courseWorkChanged(cache, record.stuId, null);
         }
     }
 }
@@ -4,8 +4,10 @@ import dev.mathops.commons.TemporalUtils;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.schema.LogicUtils;
+import dev.mathops.db.schema.analytics.impl.PlacementWeekLogic;
 import dev.mathops.db.schema.legacy.rec.RawStmpe;
 import dev.mathops.text.builder.SimpleBuilder;
 
@@ -18,7 +20,9 @@ import java.time.Period;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A utility class to work with "stmpe" records.
@@ -225,6 +229,16 @@ public enum RawStmpeLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, record.stuId);
+            }
+
+            if (result && PlacementWeekLogic.isAvailable(cache)) {
+                // The weekly totals are a convenience for reports - failing to update them must not fail the insert
+                try {
+                    PlacementWeekLogic.INSTANCE.recordAttempt(cache, record);
+                } catch (final SQLException ex) {
+                    Log.warning("Failed to update weekly placement totals", ex);
+                }
             }
         }
 
@@ -251,23 +265,35 @@ public enum RawStmpeLogic {
                 " AND exam_dt=", conn.sqlDateValue(record.examDt),
                 " AND finish_time=", conn.sqlIntegerValue(record.finishTime));
 
+        final boolean result;
+
         try (final Statement stmt = conn.createStatement()) {
 
-            final boolean result = stmt.executeUpdate(sql) == 1;
+            result = stmt.executeUpdate(sql) == 1;
 
             if (result) {
                 conn.commit();
             } else {
                 conn.rollback();
             }
-
-            return result;
         } catch (final SQLException ex) {
             conn.rollback();
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
+
+        if (result && PlacementWeekLogic.isAvailable(cache)) {
+            // The weekly totals are a convenience for reports - failing to update them must not fail the delete
+            try {
+                PlacementWeekLogic.INSTANCE.removeAttempts(cache, PlacementWeekLogic.tally(List.of(record)));
+            } catch (final SQLException ex) {
+                Log.warning("Failed to update weekly placement totals", ex);
+            }
+        }
+
+        return result;
     }
 
     /**
@@ -337,6 +363,36 @@ public enum RawStmpeLogic {
         return result;
     }
 
+    /**
+     * Retrieves all placement attempts for a collection of students, using one query for each block of up to 500
+     * students rather than one query per student.  Test students are served from generated data, as they are by
+     * {@code queryByStudent}.
+     *
+     * @param cache  the data cache
+     * @param stuIds the student IDs
+     * @return a map from student ID to that student's records (students with no records may have no entry)
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static Map<String, List<RawStmpe>> queryByStudents(final Cache cache, final Collection<String> stuIds)
+            throws SQLException {
+
+        final Map<String, List<RawStmpe>> result = new HashMap<>(stuIds.size());
+        final Collection<String> realIds = new ArrayList<>(stuIds.size());
+
+        for (final String stuId : stuIds) {
+            if (stuId.startsWith("99")) {
+                result.put(stuId, queryByTestStudent(stuId));
+            } else {
+                realIds.add(stuId);
+            }
+        }
+
+        CohortQueryLogic.queryByStudents(cache, getTableName(cache), realIds,
+                (rs, columns) -> RawStmpe.fromResultSet(rs), rec -> rec.stuId, result);
+
+        return result;
+    }
+
     /**
      * Retrieves all placement exams for a student.
      *
@@ -810,6 +866,32 @@ public enum RawStmpeLogic {
         }
     }
 
+    /**
+     * Retrieves all records (regardless of whether placement was achieved) with exam dates in a specified range.
+     *
+     * @param cache the data cache
+     * @param first the earliest date to return
+     * @param last  the latest date to return
+     * @return the list of matching records
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static List<RawStmpe> queryByDateRange(final Cache cache, final LocalDate first, final LocalDate last)
+            throws SQLException {
+
+        final String tableName = getTableName(cache);
+
+        final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+        final String sql = SimpleBuilder.concat("SELECT * FROM ", tableName, " WHERE exam_dt>=",
+                conn.sqlDateValue(first), " AND exam_dt<=", conn.sqlDateValue(last));
+
+        try {
+            return executeQuery(conn, sql);
+        } finally {
+            Cache.checkInConnection(conn);
+        }
+    }
+
     /**
      * Retrieves all records that occurred on or after a specified date.
      *
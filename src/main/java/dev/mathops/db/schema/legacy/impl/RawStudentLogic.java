@@ -1,9 +1,12 @@
 package dev.mathops.db.schema.legacy.impl;
 
+import dev.mathops.commons.CoreConstants;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.ResultSetColumns;
 import dev.mathops.db.field.ETermName;
 import dev.mathops.db.schema.LogicUtils;
 import dev.mathops.db.schema.legacy.rec.RawFfrTrns;
@@ -25,6 +28,7 @@ import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -94,6 +98,9 @@ public enum RawStudentLogic {
     /** Shortest time between subsequent live queries for a single student (ms). */
     private static final long TIMEOUT = 30L * 60L * 1000L; // 30 minutes
 
+    /** The maximum number of student IDs to include in a single query. */
+    private static final int IDS_PER_QUERY = 500;
+
     /** The set of students IDs for which a live query has been done, and the time it was done. */
     private static final Map<String, Long> LIVE_QUERIED_STUDENTS = new ConcurrentHashMap<>(1000);
 
@@ -350,6 +357,7 @@ public enum RawStudentLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -409,6 +417,7 @@ public enum RawStudentLogic {
             throw ex;
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.studentChanged(cache, record.stuId);
         }
     }
 
@@ -489,6 +498,67 @@ public enum RawStudentLogic {
         return result;
     }
 
+    /**
+     * Retrieves the student records for a collection of student IDs, using one query for each block of up to
+     * {@code IDS_PER_QUERY} IDs rather than one query per student.  No live refresh is performed.
+     *
+     * @param cache  the data cache
+     * @param stuIds the student IDs
+     * @return a map from student ID to student record (students that were not found have no entry)
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static Map<String, RawStudent> queryByIds(final Cache cache, final Collection<String> stuIds)
+            throws SQLException {
+
+        final Map<String, RawStudent> result = new HashMap<>(stuIds.size());
+        final List<String> realIds = new ArrayList<>(stuIds.size());
+
+        for (final String stuId : stuIds) {
+            if (stuId.startsWith("99")) {
+                final RawStudent test = getTestStudent(cache, stuId);
+                if (test != null) {
+                    result.put(stuId, test);
+                }
+            } else {
+                realIds.add(stuId);
+            }
+        }
+
+        final int numIds = realIds.size();
+        if (numIds > 0) {
+            final String tableName = getTableName(cache);
+
+            final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+            try (final Statement stmt = conn.createStatement()) {
+                for (int start = 0; start < numIds; start += IDS_PER_QUERY) {
+                    final int end = Math.min(numIds, start + IDS_PER_QUERY);
+
+                    final HtmlBuilder sql = new HtmlBuilder(100 + 12 * (end - start));
+                    sql.add("SELECT * FROM ", tableName, " WHERE stu_id IN (",
+                            conn.sqlStringValue(realIds.get(start)));
+                    for (int i = start + 1; i < end; ++i) {
+                        sql.add(CoreConstants.COMMA_CHAR).add(conn.sqlStringValue(realIds.get(i)));
+                    }
+                    sql.add(')');
+
+                    try (final ResultSet rs = stmt.executeQuery(sql.toString())) {
+                        final ResultSetColumns columns = ResultSetColumns.of(rs);
+
+                        while (rs.next()) {
+                            final RawStudent stu = RawStudent.fromResultSet(rs, columns);
+                            result.put(stu.stuId, stu);
+                        }
+                    }
+                }
+            } finally {
+                Cache.checkInConnection(conn);
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Gets the record with a specified PIDM.
      *
@@ -647,6 +717,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -705,6 +776,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -751,6 +823,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -797,6 +870,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -850,6 +924,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -896,6 +971,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -942,6 +1018,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -995,6 +1072,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1045,6 +1123,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1091,6 +1170,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1137,6 +1217,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1183,6 +1264,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1229,6 +1311,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1275,6 +1358,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1321,6 +1405,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1367,6 +1452,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1413,6 +1499,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1466,6 +1553,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1512,6 +1600,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1558,6 +1647,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1604,6 +1694,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1644,6 +1735,7 @@ public enum RawStudentLogic {
                 throw ex;
             } finally {
                 Cache.checkInConnection(conn);
+                StudentDataEvents.studentChanged(cache, studentId);
             }
         }
 
@@ -1664,8 +1756,10 @@ public enum RawStudentLogic {
         try (final Statement stmt = conn.createStatement();
              final ResultSet rs = stmt.executeQuery(sql)) {
 
+            final ResultSetColumns columns = ResultSetColumns.of(rs);
+
             while (rs.next()) {
-                result.add(RawStudent.fromResultSet(rs));
+                result.add(RawStudent.fromResultSet(rs, columns));
             }
         }
 
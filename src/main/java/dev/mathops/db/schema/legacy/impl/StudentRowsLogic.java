@@ -0,0 +1,222 @@
+package dev.mathops.db.schema.legacy.impl;
+
+import dev.mathops.commons.CoreConstants;
+import dev.mathops.commons.log.Log;
+import dev.mathops.db.Cache;
+import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
+import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.analytics.impl.PlacementWeekLogic;
+import dev.mathops.db.schema.legacy.rec.RawStmpe;
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Operations on the rows that belong to a set of students across all tables in the legacy schema that are keyed by
+ * student ID.  Rows are selected by a predicate on "stu_id" evaluated by the database, so only matching rows are
+ * touched.
+ */
+public enum StudentRowsLogic {
+    ;
+
+    /**
+     * The tables that have a "stu_id" column holding per-student data, with tables of answers before the tables of
+     * exams and assignments they belong to.
+     */
+    public static final List<String> STUDENT_TABLES = List.of("admin_hold", "mpe_credit", "mpecr_denied", "mpe_log",
+            "pace_appeals", "pending_exam", "stchallengeqa", "stchallenge", "stcourse", "stcuobjective", "stetext",
+            "stqa", "stexam", "sthwqa", "sthomework", "stmathplan", "stmilestone", "stmpeqa", "stmpe", "stmsg",
+            "stresource", "stsurveyqa", "stterm", "users");
+
+    /** The maximum number of student IDs to include in a single "IN" list. */
+    private static final int IDS_PER_STATEMENT = 500;
+
+    /**
+     * Counts the rows in each student table that belong to a set of students.
+     *
+     * @param cache    the data cache
+     * @param stuIds   the student IDs
+     * @param idPrefix a prefix such that all students whose IDs start with the prefix are included; {@code null} for
+     *                 none
+     * @return a map from table name to the number of matching rows, in the order of {@code STUDENT_TABLES}
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static Map<String, Integer> countByStudents(final Cache cache, final Collection<String> stuIds,
+                                                       final String idPrefix) throws SQLException {
+
+        final Map<String, Integer> result = new LinkedHashMap<>(STUDENT_TABLES.size());
+
+        final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+        try (final Statement stmt = conn.createStatement()) {
+            final List<String> predicates = makePredicates(conn, stuIds, idPrefix);
+
+            for (final String table : STUDENT_TABLES) {
+                final String tableName = qualify(cache, table);
+
+                int count = 0;
+                for (final String predicate : predicates) {
+                    try (final ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + tableName + predicate)) {
+                        if (rs.next()) {
+                            count += rs.getInt(1);
+                        }
+                    }
+                }
+                result.put(table, Integer.valueOf(count));
+            }
+        } finally {
+            Cache.checkInConnection(conn);
+        }
+
+        return result;
+    }
+
+    /**
+     * Deletes the rows in every student table that belong to a set of students, in a single transaction.
+     *
+     * @param cache  the data cache
+     * @param stuIds the student IDs
+     * @return a map from table name to the number of rows deleted, in the order of {@code STUDENT_TABLES}
+     * @throws SQLException if there is an error accessing the database (in which case nothing is deleted)
+     */
+    public static Map<String, Integer> deleteByStudents(final Cache cache, final Collection<String> stuIds)
+            throws SQLException {
+
+        return deleteByStudents(cache, stuIds, null);
+    }
+
+    /**
+     * Deletes the rows in every student table that belong to a set of students, in a single transaction.  The deleted
+     * placement attempts are then subtracted from the weekly placement counts (if the ANALYTICS schema is configured).
+     *
+     * @param cache    the data cache
+     * @param stuIds   the student IDs
+     * @param idPrefix a prefix such that all students whose IDs start with the prefix are included; {@code null} for
+     *                 none
+     * @return a map from table name to the number of rows deleted, in the order of {@code STUDENT_TABLES}
+     * @throws SQLException if there is an error accessing the database (in which case nothing is deleted)
+     */
+    public static Map<String, Integer> deleteByStudents(final Cache cache, final Collection<String> stuIds,
+                                                        final String idPrefix) throws SQLException {
+
+        final Map<String, Integer> result = new LinkedHashMap<>(STUDENT_TABLES.size());
+        final List<RawStmpe> attempts = new ArrayList<>(10);
+        final boolean countAttempts = PlacementWeekLogic.isAvailable(cache);
+
+        final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+        try (final Statement stmt = conn.createStatement()) {
+            final List<String> predicates = makePredicates(conn, stuIds, idPrefix);
+
+            if (countAttempts) {
+                final String stmpeName = qualify(cache, "stmpe");
+                for (final String predicate : predicates) {
+                    try (final ResultSet rs = stmt.executeQuery("SELECT * FROM " + stmpeName + predicate)) {
+                        while (rs.next()) {
+                            attempts.add(RawStmpe.fromResultSet(rs));
+                        }
+                    }
+                }
+            }
+
+            for (final String table : STUDENT_TABLES) {
+                final String tableName = qualify(cache, table);
+
+                int count = 0;
+                for (final String predicate : predicates) {
+                    count += stmt.executeUpdate("DELETE FROM " + tableName + predicate);
+                }
+                result.put(table, Integer.valueOf(count));
+            }
+
+            conn.commit();
+        } catch (final SQLException ex) {
+            conn.rollback();
+            throw ex;
+        } finally {
+            Cache.checkInConnection(conn);
+
+            if (idPrefix == null) {
+                for (final String stuId : stuIds) {
+                    StudentDataEvents.courseWorkChanged(cache, stuId, null);
+                }
+            } else {
+                StudentDataEvents.allChanged();
+            }
+        }
+
+        if (!attempts.isEmpty()) {
+            // The weekly totals are a convenience for reports - failing to update them must not fail the delete
+            try {
+                PlacementWeekLogic.INSTANCE.removeAttempts(cache, PlacementWeekLogic.tally(attempts));
+            } catch (final SQLException ex) {
+                Log.warning("Failed to update weekly placement totals", ex);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Generates the table name for a student table, qualified by the schema prefix if there is one.
+     *
+     * @param cache the data cache
+     * @param table the unqualified table name
+     * @return the table name
+     */
+    private static String qualify(final Cache cache, final String table) {
+
+        final String schemaPrefix = cache.getSchemaPrefix(ESchema.LEGACY);
+
+        return schemaPrefix == null ? table : (schemaPrefix + "." + table);
+    }
+
+    /**
+     * Generates the WHERE clauses that together select all rows for a set of students, with no row selected by more
+     * than one clause.  IDs that start with the prefix are left to the prefix clause.
+     *
+     * @param conn     the database connection
+     * @param stuIds   the student IDs
+     * @param idPrefix the student ID prefix; {@code null} for none
+     * @return the list of WHERE clauses (each starting with " WHERE ")
+     */
+    private static List<String> makePredicates(final DbConnection conn, final Collection<String> stuIds,
+                                               final String idPrefix) {
+
+        final List<String> ids = new ArrayList<>(stuIds.size());
+        for (final String stuId : stuIds) {
+            if (idPrefix == null || !stuId.startsWith(idPrefix)) {
+                ids.add(stuId);
+            }
+        }
+
+        final int numIds = ids.size();
+        final List<String> result = new ArrayList<>(1 + numIds / IDS_PER_STATEMENT);
+
+        if (idPrefix != null) {
+            result.add(" WHERE stu_id LIKE " + conn.sqlStringValue(idPrefix + "%"));
+        }
+
+        for (int start = 0; start < numIds; start += IDS_PER_STATEMENT) {
+            final int end = Math.min(numIds, start + IDS_PER_STATEMENT);
+
+            final HtmlBuilder sql = new HtmlBuilder(20 + 12 * (end - start));
+            sql.add(" WHERE stu_id IN (", conn.sqlStringValue(ids.get(start)));
+            for (int i = start + 1; i < end; ++i) {
+                sql.add(CoreConstants.COMMA_CHAR).add(conn.sqlStringValue(ids.get(i)));
+            }
+            sql.add(')');
+            result.add(sql.toString());
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,327 @@
+package dev.mathops.db.schema.legacy.impl;
+
+import dev.mathops.db.Cache;
+import dev.mathops.db.DbConnection;
+import dev.mathops.db.IColumnRowMapper;
+import dev.mathops.db.IRowMapper;
+import dev.mathops.db.cfg.EDbProduct;
+import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.ResultSetColumns;
+import dev.mathops.db.schema.legacy.rec.RawAdminHold;
+import dev.mathops.db.schema.legacy.rec.RawPaceAppeals;
+import dev.mathops.db.schema.legacy.rec.RawPendingExam;
+import dev.mathops.db.schema.legacy.rec.RawSpecialStus;
+import dev.mathops.db.schema.legacy.rec.RawStcourse;
+import dev.mathops.db.schema.legacy.rec.RawStexam;
+import dev.mathops.db.schema.legacy.rec.RawSthomework;
+import dev.mathops.db.schema.legacy.rec.RawStmilestone;
+import dev.mathops.db.schema.legacy.rec.RawStterm;
+import dev.mathops.db.schema.legacy.rec.RawStudent;
+import dev.mathops.text.builder.SimpleBuilder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Queries the rows a student's dashboard needs from several legacy tables (the student record, holds, registrations,
+ * term records, special categories, milestone overrides, deadline appeals, pending exams, exams, and homework) using a
+ * single connection checkout.
+ *
+ * <p>
+ * On PostgreSQL, the queries are sent as one statement that returns multiple result sets, so the snapshot takes one
+ * round trip to the server.  On other products, the queries are executed in sequence on one statement.  Each query
+ * matches the one used by the corresponding {@code queryByStudent} method.  A caller that already has some of the data
+ * (for example, from a cache) can request only the parts it still needs.
+ *
+ * <p>
+ * Test students (whose IDs start with "99") are served from generated data by the individual logic classes rather than
+ * the database, so this class should not be used for them.
+ */
+public enum StudentSnapshotLogic {
+    ;
+
+    /**
+     * Queries a snapshot of all of a student's data.
+     *
+     * @param cache the data cache
+     * @param stuId the student ID
+     * @return the snapshot
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static StudentSnapshot query(final Cache cache, final String stuId) throws SQLException {
+
+        return query(cache, stuId, EnumSet.allOf(EPart.class));
+    }
+
+    /**
+     * Queries a snapshot of selected parts of a student's data.  If no parts are selected, no connection is checked
+     * out.
+     *
+     * @param cache the data cache
+     * @param stuId the student ID
+     * @param which the parts to query
+     * @return the snapshot, in which the lists for parts that were not queried are {@code null} (as is the student
+     *         record, if it was not queried)
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static StudentSnapshot query(final Cache cache, final String stuId, final Set<EPart> which)
+            throws SQLException {
+
+        final StudentSnapshot result;
+
+        if (which.isEmpty()) {
+            result = new StudentSnapshot(null, null, null, null, null, null, null, null, null, null);
+        } else {
+            final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+            try {
+                final String where = " WHERE stu_id=" + conn.sqlStringValue(stuId);
+
+                final Part<RawStudent> student = new Part<>(EPart.STUDENT, SimpleBuilder.concat("SELECT * FROM ",
+                        RawStudentLogic.getTableName(cache), where),
+                        (rs, columns) -> RawStudent.fromResultSet(rs, columns));
+                final Part<RawAdminHold> holds = new Part<>(EPart.HOLDS, SimpleBuilder.concat("SELECT * FROM ",
+                        RawAdminHoldLogic.getTableName(cache), where), RawAdminHold::fromResultSet);
+                final Part<RawStcourse> registrations = new Part<>(EPart.REGISTRATIONS, SimpleBuilder.concat(
+                        "SELECT * FROM ", RawStcourseLogic.getTableName(cache), where),
+                        (rs, columns) -> RawStcourse.fromResultSet(rs, columns));
+                final Part<RawStterm> terms = new Part<>(EPart.STUDENT_TERMS, SimpleBuilder.concat("SELECT * FROM ",
+                        RawSttermLogic.getTableName(cache), where), RawStterm::fromResultSet);
+                final Part<RawSpecialStus> specials = new Part<>(EPart.SPECIAL_CATEGORIES, SimpleBuilder.concat(
+                        "SELECT * FROM ", RawSpecialStusLogic.getTableName(cache), where),
+                        RawSpecialStus::fromResultSet);
+                final Part<RawStmilestone> milestones = new Part<>(EPart.MILESTONES, SimpleBuilder.concat(
+                        "SELECT * FROM ", RawStmilestoneLogic.getTableName(cache), where),
+                        RawStmilestone::fromResultSet);
+                final Part<RawPaceAppeals> appeals = new Part<>(EPart.DEADLINE_APPEALS, SimpleBuilder.concat(
+                        "SELECT * FROM ", RawPaceAppealsLogic.getTableName(cache), where),
+                        RawPaceAppeals::fromResultSet);
+                final Part<RawPendingExam> pending = new Part<>(EPart.PENDING_EXAMS, SimpleBuilder.concat(
+                        "SELECT * FROM ", RawPendingExamLogic.getTableName(cache), where),
+                        RawPendingExam::fromResultSet);
+                final Part<RawStexam> exams = new Part<>(EPart.EXAMS, SimpleBuilder.concat("SELECT * FROM ",
+                        RawStexamLogic.getTableName(cache), where, " ORDER BY exam_dt,finish_time"),
+                        (rs, columns) -> RawStexam.fromResultSet(rs, columns));
+                final Part<RawSthomework> homework = new Part<>(EPart.HOMEWORK, SimpleBuilder.concat(
+                        "SELECT * FROM ", RawSthomeworkLogic.getTableName(cache), where,
+                        " ORDER BY hw_dt,finish_time"), RawSthomework::fromResultSet);
+
+                final List<Part<?>> parts = new ArrayList<>(which.size());
+                for (final Part<?> part : List.of(student, holds, registrations, terms, specials, milestones, appeals,
+                        pending, exams, homework)) {
+                    if (which.contains(part.kind)) {
+                        parts.add(part);
+                    }
+                }
+
+                if (conn.getProduct() == EDbProduct.POSTGRESQL) {
+                    executeCombined(conn, parts);
+                } else {
+                    executeSequential(conn, parts);
+                }
+
+                final RawStudent studentRecord = student.rows.isEmpty() ? null : student.rows.getFirst();
+
+                result = new StudentSnapshot(studentRecord, rowsOf(which, holds), rowsOf(which, registrations),
+                        rowsOf(which, terms), rowsOf(which, specials), rowsOf(which, milestones),
+                        rowsOf(which, appeals), rowsOf(which, pending), rowsOf(which, exams), rowsOf(which, homework));
+            } finally {
+                Cache.checkInConnection(conn);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the rows read by a part of a snapshot.
+     *
+     * @param which the parts that were queried
+     * @param part  the part
+     * @param <T>   the record type
+     * @return the rows; {@code null} if the part was not queried
+     */
+    private static <T> List<T> rowsOf(final Set<EPart> which, final Part<T> part) {
+
+        return which.contains(part.kind) ? part.rows : null;
+    }
+
+    /**
+     * Executes all queries as a single statement that returns one result set per query.
+     *
+     * @param conn  the connection
+     * @param parts the parts of the snapshot
+     * @throws SQLException if there is an error accessing the database, or the server did not return one result set
+     *                      per query
+     */
+    private static void executeCombined(final DbConnection conn, final List<Part<?>> parts) throws SQLException {
+
+        final List<String> queries = new ArrayList<>(parts.size());
+        for (final Part<?> part : parts) {
+            queries.add(part.sql);
+        }
+        final String sql = String.join(";", queries);
+
+        try (final Statement stmt = conn.createStatement()) {
+            boolean isResultSet = stmt.execute(sql);
+            int index = 0;
+
+            while (index < parts.size()) {
+                if (isResultSet) {
+                    try (final ResultSet rs = stmt.getResultSet()) {
+                        parts.get(index).read(rs);
+                    }
+                    ++index;
+                } else if (stmt.getUpdateCount() == -1) {
+                    throw new SQLException("Expected " + parts.size() + " result sets, received " + index);
+                }
+                isResultSet = stmt.getMoreResults();
+            }
+        }
+    }
+
+    /**
+     * Executes the queries in sequence on one statement.
+     *
+     * @param conn  the connection
+     * @param parts the parts of the snapshot
+     * @throws SQLException if there is an error accessing the database
+     */
+    private static void executeSequential(final DbConnection conn, final Iterable<Part<?>> parts)
+            throws SQLException {
+
+        try (final Statement stmt = conn.createStatement()) {
+            for (final Part<?> part : parts) {
+                try (final ResultSet rs = stmt.executeQuery(part.sql)) {
+                    part.read(rs);
+                }
+            }
+        }
+    }
+
+    /**
+     * The parts of a snapshot that can be queried.
+     */
+    public enum EPart {
+
+        /** The student record. */
+        STUDENT,
+
+        /** The administrative holds. */
+        HOLDS,
+
+        /** The registrations. */
+        REGISTRATIONS,
+
+        /** The student term records. */
+        STUDENT_TERMS,
+
+        /** The special student categories. */
+        SPECIAL_CATEGORIES,
+
+        /** The student milestone overrides. */
+        MILESTONES,
+
+        /** The deadline appeals. */
+        DEADLINE_APPEALS,
+
+        /** The pending exams. */
+        PENDING_EXAMS,
+
+        /** The exams. */
+        EXAMS,
+
+        /** The homework assignments. */
+        HOMEWORK
+    }
+
+    /**
+     * One query in a snapshot and the rows it returned.
+     *
+     * @param <T> the record type
+     */
+    private static final class Part<T> {
+
+        /** The part of the snapshot. */
+        final EPart kind;
+
+        /** The query SQL. */
+        final String sql;
+
+        /** The function that constructs a record from a row. */
+        private final IColumnRowMapper<? extends T> mapper;
+
+        /** The rows read. */
+        final List<T> rows;
+
+        /**
+         * Constructs a new {@code Part}.
+         *
+         * @param theKind   the part of the snapshot
+         * @param theSql    the query SQL
+         * @param theMapper the function that constructs a record from a row, given the column mapping
+         */
+        Part(final EPart theKind, final String theSql, final IColumnRowMapper<? extends T> theMapper) {
+
+            this.kind = theKind;
+            this.sql = theSql;
+            this.mapper = theMapper;
+            this.rows = new ArrayList<>(20);
+        }
+
+        /**
+         * Constructs a new {@code Part} for a record type that does not use a column mapping.
+         *
+         * @param theKind   the part of the snapshot
+         * @param theSql    the query SQL
+         * @param theMapper the function that constructs a record from a row
+         */
+        Part(final EPart theKind, final String theSql, final IRowMapper<? extends T> theMapper) {
+
+            this(theKind, theSql, (rs, columns) -> theMapper.map(rs));
+        }
+
+        /**
+         * Reads all rows from a result set.
+         *
+         * @param rs the result set
+         * @throws SQLException if there is an error reading a row
+         */
+        void read(final ResultSet rs) throws SQLException {
+
+            final ResultSetColumns columns = ResultSetColumns.of(rs);
+
+            while (rs.next()) {
+                this.rows.add(this.mapper.map(rs, columns));
+            }
+        }
+    }
+
+    /**
+     * A snapshot of a student's data.  Lists are in the same order as those returned by the corresponding
+     * {@code queryByStudent} methods, with all records included (including dropped and "OT" registrations, and exams
+     * and homework that were not passed or failed).  Lists for parts that were not queried are {@code null}.
+     *
+     * @param student           the student record; {@code null} if not found
+     * @param holds             the administrative holds
+     * @param registrations     the registrations
+     * @param studentTerms      the student term records
+     * @param specialCategories the special student categories
+     * @param milestones        the student milestone overrides
+     * @param deadlineAppeals   the deadline appeals
+     * @param pendingExams      the pending exams
+     * @param exams             the exams, in the order they were taken
+     * @param homework          the homework assignments, in the order they were taken
+     */
+    public record StudentSnapshot(RawStudent student, List<RawAdminHold> holds, List<RawStcourse> registrations,
+                                  List<RawStterm> studentTerms, List<RawSpecialStus> specialCategories,
+                                  List<RawStmilestone> milestones, List<RawPaceAppeals> deadlineAppeals,
+                                  List<RawPendingExam> pendingExams, List<RawStexam> exams,
+                                  List<RawSthomework> homework) {
+    }
+}
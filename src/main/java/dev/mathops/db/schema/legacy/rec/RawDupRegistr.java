@@ -1,6 +1,7 @@
 package dev.mathops.db.schema.legacy.rec;
 
 import dev.mathops.db.field.TermKey;
+import dev.mathops.db.schema.ResultSetColumns;
 import dev.mathops.text.builder.HtmlBuilder;
 
 import java.sql.ResultSet;
@@ -303,7 +304,9 @@ public final class RawDupRegistr extends RawTermRecordBase implements Comparable
     }
 
     /**
-     * Extracts a "dup_registr" record from a result set.
+     * Extracts a "dup_registr" record from a result set.  This builds a column mapping for the result set, so a caller
+     * that reads many rows should build the mapping once with {@code ResultSetColumns.of} and call
+     * {@code fromResultSet(ResultSet, ResultSetColumns)} for each row.
      *
      * @param rs the result set from which to retrieve the record
      * @return the record
@@ -311,48 +314,49 @@ public final class RawDupRegistr extends RawTermRecordBase implements Comparable
      */
     public static RawDupRegistr fromResultSet(final ResultSet rs) throws SQLException {
 
+        return fromResultSet(rs, ResultSetColumns.of(rs));
+    }
+
+    /**
+     * Extracts a "dup_registr" record from a result set.
+     *
+     * @param rs      the result set from which to retrieve the record
+     * @param columns the column mapping for the result set
+     * @return the record
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static RawDupRegistr fromResultSet(final ResultSet rs, final ResultSetColumns columns) throws SQLException {
+
         final RawDupRegistr result = new RawDupRegistr();
 
-        result.stuId = getStringField(rs, FLD_STU_ID);
-        result.course = getStringField(rs, FLD_COURSE);
-        result.sect = getStringField(rs, FLD_SECT);
-        result.termKey = getTermAndYear(rs, FLD_TERM, FLD_TERM_YR);
-        try {
-            result.paceOrder = getIntegerField(rs, FLD_PACE_ORDER);
-        } catch (final SQLException ex) {
-            result.paceOrder = null;
-        }
-        result.openStatus = getStringField(rs, FLD_OPEN_STATUS);
-        result.gradingOption = getStringField(rs, FLD_GRADING_OPTION);
-        result.completed = getStringField(rs, FLD_COMPLETED);
-        result.score = getIntegerField(rs, FLD_SCORE);
-        result.courseGrade = getStringField(rs, FLD_COURSE_GRADE);
-        result.prereqSatis = getStringField(rs, FLD_PREREQ_SATIS);
-        result.initClassRoll = getStringField(rs, FLD_INIT_CLASS_ROLL);
-        result.stuProvided = getStringField(rs, FLD_STU_PROVIDED);
-        result.finalClassRoll = getStringField(rs, FLD_FINAL_CLASS_ROLL);
-        result.examPlaced = getStringField(rs, FLD_EXAM_PLACED);
-        result.zeroUnit = getIntegerField(rs, FLD_ZERO_UNIT);
-        result.timeoutFactor = getFloatField(rs, FLD_TIMEOUT_FACTOR);
-        result.forfeitI = getStringField(rs, FLD_FORFEIT_I);
-        result.iInProgress = getStringField(rs, FLD_I_IN_PROGRESS);
-        try {
-            result.iCounted = getStringField(rs, FLD_I_COUNTED);
-        } catch (final SQLException ex) {
-            result.iCounted = null;
-        }
-        result.ctrlTest = getStringField(rs, FLD_CTRL_TEST);
-        result.deferredFDt = getDateField(rs, FLD_DEFERRED_F_DT);
-        result.bypassTimeout = getIntegerField(rs, FLD_BYPASS_TIMEOUT);
-        result.instrnType = getStringField(rs, FLD_INSTRN_TYPE);
-        try {
-            result.registrationStatus = getStringField(rs, FLD_REGISTRATION_STATUS);
-        } catch (final SQLException ex) {
-            result.registrationStatus = null;
-        }
-        result.lastClassRollDt = getDateField(rs, FLD_LAST_CLASS_ROLL_DT);
-        result.iTermKey = getTermAndYear(rs, FLD_I_TERM, FLD_I_TERM_YR);
-        result.iDeadlineDt = getDateField(rs, FLD_I_DEADLINE_DT);
+        result.stuId = getStringField(rs, columns.indexOf(FLD_STU_ID));
+        result.course = getStringField(rs, columns.indexOf(FLD_COURSE));
+        result.sect = getStringField(rs, columns.indexOf(FLD_SECT));
+        result.termKey = getTermAndYear(rs, columns.indexOf(FLD_TERM), columns.indexOf(FLD_TERM_YR));
+        result.paceOrder = getOptionalIntegerField(rs, columns, FLD_PACE_ORDER);
+        result.openStatus = getStringField(rs, columns.indexOf(FLD_OPEN_STATUS));
+        result.gradingOption = getStringField(rs, columns.indexOf(FLD_GRADING_OPTION));
+        result.completed = getStringField(rs, columns.indexOf(FLD_COMPLETED));
+        result.score = getIntegerField(rs, columns.indexOf(FLD_SCORE));
+        result.courseGrade = getStringField(rs, columns.indexOf(FLD_COURSE_GRADE));
+        result.prereqSatis = getStringField(rs, columns.indexOf(FLD_PREREQ_SATIS));
+        result.initClassRoll = getStringField(rs, columns.indexOf(FLD_INIT_CLASS_ROLL));
+        result.stuProvided = getStringField(rs, columns.indexOf(FLD_STU_PROVIDED));
+        result.finalClassRoll = getStringField(rs, columns.indexOf(FLD_FINAL_CLASS_ROLL));
+        result.examPlaced = getStringField(rs, columns.indexOf(FLD_EXAM_PLACED));
+        result.zeroUnit = getIntegerField(rs, columns.indexOf(FLD_ZERO_UNIT));
+        result.timeoutFactor = getFloatField(rs, columns.indexOf(FLD_TIMEOUT_FACTOR));
+        result.forfeitI = getStringField(rs, columns.indexOf(FLD_FORFEIT_I));
+        result.iInProgress = getStringField(rs, columns.indexOf(FLD_I_IN_PROGRESS));
+        result.iCounted = getOptionalStringField(rs, columns, FLD_I_COUNTED);
+        result.ctrlTest = getStringField(rs, columns.indexOf(FLD_CTRL_TEST));
+        result.deferredFDt = getDateField(rs, columns.indexOf(FLD_DEFERRED_F_DT));
+        result.bypassTimeout = getIntegerField(rs, columns.indexOf(FLD_BYPASS_TIMEOUT));
+        result.instrnType = getStringField(rs, columns.indexOf(FLD_INSTRN_TYPE));
+        result.registrationStatus = getOptionalStringField(rs, columns, FLD_REGISTRATION_STATUS);
+        result.lastClassRollDt = getDateField(rs, columns.indexOf(FLD_LAST_CLASS_ROLL_DT));
+        result.iTermKey = getTermAndYear(rs, columns.indexOf(FLD_I_TERM), columns.indexOf(FLD_I_TERM_YR));
+        result.iDeadlineDt = getDateField(rs, columns.indexOf(FLD_I_DEADLINE_DT));
 
         return result;
     }
@@ -2,6 +2,7 @@ package dev.mathops.db.schema.legacy.rec;
 
 import dev.mathops.commons.TemporalUtils;
 import dev.mathops.db.schema.RecBase;
+import dev.mathops.db.schema.ResultSetColumns;
 import dev.mathops.text.builder.HtmlBuilder;
 
 import java.sql.ResultSet;
@@ -284,7 +285,9 @@ public final class RawStexam extends RecBase implements Comparable<RawStexam> {
     }
 
     /**
-     * Extracts a "stexam" record from a result set.
+     * Extracts a "stexam" record from a result set.  This builds a column mapping for the result set, so a caller
+     * that reads many rows should build the mapping once with {@code ResultSetColumns.of} and call
+     * {@code fromResultSet(ResultSet, ResultSetColumns)} for each row.
      *
      * @param rs the result set from which to retrieve the record
      * @return the record
@@ -292,41 +295,49 @@ public final class RawStexam extends RecBase implements Comparable<RawStexam> {
      */
     public static RawStexam fromResultSet(final ResultSet rs) throws SQLException {
 
+        return fromResultSet(rs, ResultSetColumns.of(rs));
+    }
+
+    /**
+     * Extracts a "stexam" record from a result set.
+     *
+     * @param rs      the result set from which to retrieve the record
+     * @param columns the column mapping for the result set
+     * @return the record
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static RawStexam fromResultSet(final ResultSet rs, final ResultSetColumns columns) throws SQLException {
+
         final RawStexam result = new RawStexam();
 
-        result.serialNbr = getLongField(rs, FLD_SERIAL_NBR);
-        result.version = getStringField(rs, FLD_VERSION);
-        result.stuId = getStringField(rs, FLD_STU_ID);
-        result.examDt = getDateField(rs, FLD_EXAM_DT);
-        result.examScore = getIntegerField(rs, FLD_EXAM_SCORE);
-
-        try {
-            result.masteryScore = getIntegerField(rs, FLD_MASTERY_SCORE);
-        } catch (final SQLException ex) {
-            if (result.unit != null) {
-                if (result.unit.intValue() < 5) {
-                    result.masteryScore = Integer.valueOf(8);
-                } else {
-                    result.masteryScore = Integer.valueOf(16);
-                }
+        result.serialNbr = getLongField(rs, columns.indexOf(FLD_SERIAL_NBR));
+        result.version = getStringField(rs, columns.indexOf(FLD_VERSION));
+        result.stuId = getStringField(rs, columns.indexOf(FLD_STU_ID));
+        result.examDt = getDateField(rs, columns.indexOf(FLD_EXAM_DT));
+        result.examScore = getIntegerField(rs, columns.indexOf(FLD_EXAM_SCORE));
+
+        result.startTime = getIntegerField(rs, columns.indexOf(FLD_START_TIME));
+        result.finishTime = getIntegerField(rs, columns.indexOf(FLD_FINISH_TIME));
+        result.timeOk = getStringField(rs, columns.indexOf(FLD_TIME_OK));
+        result.passed = getStringField(rs, columns.indexOf(FLD_PASSED));
+        result.seqNbr = getIntegerField(rs, columns.indexOf(FLD_SEQ_NBR));
+        result.course = getStringField(rs, columns.indexOf(FLD_COURSE));
+        result.unit = getIntegerField(rs, columns.indexOf(FLD_UNIT));
+
+        if (columns.contains(FLD_MASTERY_SCORE)) {
+            result.masteryScore = getIntegerField(rs, columns.indexOf(FLD_MASTERY_SCORE));
+        } else if (result.unit != null) {
+            if (result.unit.intValue() < 5) {
+                result.masteryScore = Integer.valueOf(8);
+            } else {
+                result.masteryScore = Integer.valueOf(16);
             }
         }
 
-        result.startTime = getIntegerField(rs, FLD_START_TIME);
-        result.finishTime = getIntegerField(rs, FLD_FINISH_TIME);
-        result.timeOk = getStringField(rs, FLD_TIME_OK);
-        result.passed = getStringField(rs, FLD_PASSED);
-        result.seqNbr = getIntegerField(rs, FLD_SEQ_NBR);
-        result.course = getStringField(rs, FLD_COURSE);
-        result.unit = getIntegerField(rs, FLD_UNIT);
-        result.examType = getStringField(rs, FLD_EXAM_TYPE);
-        result.isFirstPassed = getStringField(rs, FLD_IS_FIRST_PASSED);
-        try {
-            result.examSource = getStringField(rs, FLD_EXAM_SOURCE);
-        } catch (final SQLException ex) {
-            result.examSource = null;
-        }
-        result.calcNbr = getStringField(rs, FLD_CALC_NBR);
+        result.examType = getStringField(rs, columns.indexOf(FLD_EXAM_TYPE));
+        result.isFirstPassed = getStringField(rs, columns.indexOf(FLD_IS_FIRST_PASSED));
+        result.examSource = getOptionalStringField(rs, columns, FLD_EXAM_SOURCE);
+        result.calcNbr = getStringField(rs, columns.indexOf(FLD_CALC_NBR));
 
         return result;
     }
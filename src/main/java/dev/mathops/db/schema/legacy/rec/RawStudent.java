@@ -2,6 +2,7 @@ package dev.mathops.db.schema.legacy.rec;
 
 import dev.mathops.commons.CoreConstants;
 import dev.mathops.db.schema.RecBase;
+import dev.mathops.db.schema.ResultSetColumns;
 import dev.mathops.db.field.TermKey;
 import dev.mathops.text.builder.HtmlBuilder;
 
@@ -393,7 +394,9 @@ public final class RawStudent extends RecBase implements Comparable<RawStudent>
     }
 
     /**
-     * Extracts a "student" record from a result set.
+     * Extracts a "student" record from a result set.  This builds a column mapping for the result set, so a caller
+     * that reads many rows should build the mapping once with {@code ResultSetColumns.of} and call
+     * {@code fromResultSet(ResultSet, ResultSetColumns)} for each row.
      *
      * @param rs the result set from which to retrieve the record
      * @return the record
@@ -401,58 +404,63 @@ public final class RawStudent extends RecBase implements Comparable<RawStudent>
      */
     public static RawStudent fromResultSet(final ResultSet rs) throws SQLException {
 
+        return fromResultSet(rs, ResultSetColumns.of(rs));
+    }
+
+    /**
+     * Extracts a "student" record from a result set.
+     *
+     * @param rs      the result set from which to retrieve the record
+     * @param columns the column mapping for the result set
+     * @return the record
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static RawStudent fromResultSet(final ResultSet rs, final ResultSetColumns columns) throws SQLException {
+
         final RawStudent result = new RawStudent();
 
-        result.stuId = getStringField(rs, FLD_STU_ID);
-        result.pidm = getIntegerField(rs, FLD_PIDM);
-        result.lastName = getStringField(rs, FLD_LAST_NAME);
-        result.firstName = getStringField(rs, FLD_FIRST_NAME);
-        result.prefName = getStringField(rs, FLD_PREF_NAME);
-        result.middleInitial = getStringField(rs, FLD_MIDDLE_INITIAL);
-        result.aplnTerm = getShortTermStringField(rs, FLD_APLN_TERM);
-        result.clazz = getStringField(rs, FLD_CLASS);
-        result.college = getStringField(rs, FLD_COLLEGE);
-        result.dept = getStringField(rs, FLD_DEPT);
-        result.programCode = getStringField(rs, FLD_PROGRAM_CODE);
-        result.minor = getStringField(rs, FLD_MINOR);
-        result.estGraduation = getShortTermStringField(rs, FLD_EST_GRADUATION);
-        result.trCredits = getStringField(rs, FLD_TR_CREDITS);
-        result.hsCode = getStringField(rs, FLD_HS_CODE);
-        result.hsGpa = getStringField(rs, FLD_HS_GPA);
-        result.hsClassRank = getIntegerField(rs, FLD_HS_CLASS_RANK);
-        result.hsSizeClass = getIntegerField(rs, FLD_HS_SIZE_CLASS);
-        result.actScore = getIntegerField(rs, FLD_ACT_SCORE);
-        result.satScore = getIntegerField(rs, FLD_SAT_SCORE);
-        result.apScore = getStringField(rs, FLD_AP_SCORE);
-        result.resident = getStringField(rs, FLD_RESIDENT);
-        result.birthdate = getDateField(rs, FLD_BIRTHDATE);
-        result.ethnicity = getStringField(rs, FLD_ETHNICITY);
-        result.gender = getStringField(rs, FLD_GENDER);
-        result.discipHistory = getStringField(rs, FLD_DISCIP_HISTORY);
-        result.discipStatus = getStringField(rs, FLD_DISCIP_STATUS);
-        result.sevAdminHold = getStringField(rs, FLD_SEV_ADMIN_HOLD);
-        result.timelimitFactor = getFloatField(rs, FLD_TIMELIMIT_FACTOR);
-        result.licensed = getStringField(rs, FLD_LICENSED);
-        result.campus = getStringField(rs, FLD_CAMPUS);
-        result.stuEmail = getStringField(rs, FLD_STU_EMAIL);
-        result.adviserEmail = getStringField(rs, FLD_ADVISER_EMAIL);
-        result.password = getStringField(rs, FLD_PASSWORD);
-        result.admitType = getStringField(rs, FLD_ADMIT_TYPE);
-        result.orderEnforce = getStringField(rs, FLD_ORDER_ENFORCE);
-        result.pacingStructure = getStringField(rs, FLD_PACING_STRUCTURE);
-        result.createDt = getDateField(rs, FLD_CREATE_DT);
-
-        // Temporary catch blocks until tables are altered to match
-        try {
-            result.extensionDays = getIntegerField(rs, FLD_EXTENSION_DAYS);
-        } catch (final SQLException ex) {
-            result.extensionDays = null;
-        }
-        try {
-            result.canvasId = getStringField(rs, FLD_CANVAS_ID);
-        } catch (final SQLException ex) {
-            result.canvasId = null;
-        }
+        result.stuId = getStringField(rs, columns.indexOf(FLD_STU_ID));
+        result.pidm = getIntegerField(rs, columns.indexOf(FLD_PIDM));
+        result.lastName = getStringField(rs, columns.indexOf(FLD_LAST_NAME));
+        result.firstName = getStringField(rs, columns.indexOf(FLD_FIRST_NAME));
+        result.prefName = getStringField(rs, columns.indexOf(FLD_PREF_NAME));
+        result.middleInitial = getStringField(rs, columns.indexOf(FLD_MIDDLE_INITIAL));
+        result.aplnTerm = getShortTermStringField(rs, columns.indexOf(FLD_APLN_TERM));
+        result.clazz = getStringField(rs, columns.indexOf(FLD_CLASS));
+        result.college = getStringField(rs, columns.indexOf(FLD_COLLEGE));
+        result.dept = getStringField(rs, columns.indexOf(FLD_DEPT));
+        result.programCode = getStringField(rs, columns.indexOf(FLD_PROGRAM_CODE));
+        result.minor = getStringField(rs, columns.indexOf(FLD_MINOR));
+        result.estGraduation = getShortTermStringField(rs, columns.indexOf(FLD_EST_GRADUATION));
+        result.trCredits = getStringField(rs, columns.indexOf(FLD_TR_CREDITS));
+        result.hsCode = getStringField(rs, columns.indexOf(FLD_HS_CODE));
+        result.hsGpa = getStringField(rs, columns.indexOf(FLD_HS_GPA));
+        result.hsClassRank = getIntegerField(rs, columns.indexOf(FLD_HS_CLASS_RANK));
+        result.hsSizeClass = getIntegerField(rs, columns.indexOf(FLD_HS_SIZE_CLASS));
+        result.actScore = getIntegerField(rs, columns.indexOf(FLD_ACT_SCORE));
+        result.satScore = getIntegerField(rs, columns.indexOf(FLD_SAT_SCORE));
+        result.apScore = getStringField(rs, columns.indexOf(FLD_AP_SCORE));
+        result.resident = getStringField(rs, columns.indexOf(FLD_RESIDENT));
+        result.birthdate = getDateField(rs, columns.indexOf(FLD_BIRTHDATE));
+        result.ethnicity = getStringField(rs, columns.indexOf(FLD_ETHNICITY));
+        result.gender = getStringField(rs, columns.indexOf(FLD_GENDER));
+        result.discipHistory = getStringField(rs, columns.indexOf(FLD_DISCIP_HISTORY));
+        result.discipStatus = getStringField(rs, columns.indexOf(FLD_DISCIP_STATUS));
+        result.sevAdminHold = getStringField(rs, columns.indexOf(FLD_SEV_ADMIN_HOLD));
+        result.timelimitFactor = getFloatField(rs, columns.indexOf(FLD_TIMELIMIT_FACTOR));
+        result.licensed = getStringField(rs, columns.indexOf(FLD_LICENSED));
+        result.campus = getStringField(rs, columns.indexOf(FLD_CAMPUS));
+        result.stuEmail = getStringField(rs, columns.indexOf(FLD_STU_EMAIL));
+        result.adviserEmail = getStringField(rs, columns.indexOf(FLD_ADVISER_EMAIL));
+        result.password = getStringField(rs, columns.indexOf(FLD_PASSWORD));
+        result.admitType = getStringField(rs, columns.indexOf(FLD_ADMIT_TYPE));
+        result.orderEnforce = getStringField(rs, columns.indexOf(FLD_ORDER_ENFORCE));
+        result.pacingStructure = getStringField(rs, columns.indexOf(FLD_PACING_STRUCTURE));
+        result.createDt = getDateField(rs, columns.indexOf(FLD_CREATE_DT));
+
+        // Optional columns until tables are altered to match
+        result.extensionDays = getOptionalIntegerField(rs, columns, FLD_EXTENSION_DAYS);
+        result.canvasId = getOptionalStringField(rs, columns, FLD_CANVAS_ID);
 
         return result;
     }
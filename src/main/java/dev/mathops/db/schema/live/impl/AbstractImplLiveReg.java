@@ -216,7 +216,7 @@ abstract class AbstractImplLiveReg extends AbstractImpl<LiveReg> {
                 }
 
                 if (name != null) {
-                    result = new TermKey(name, Integer.valueOf(termCode.substring(0, 4)));
+                    result = TermKey.of(name, Integer.parseInt(termCode.substring(0, 4)));
                 }
             } catch (final NumberFormatException ex) {
                 Log.warning(Res.fmt(Res.BAD_TERM, termCode), ex);
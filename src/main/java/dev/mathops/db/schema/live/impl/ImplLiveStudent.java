@@ -232,7 +232,7 @@ public final class ImplLiveStudent extends AbstractImpl<LiveStudent> {
                 }
 
                 if (name != null) {
-                    result = new TermKey(name, Integer.valueOf(termCode.substring(0, 4)));
+                    result = TermKey.of(name, Integer.parseInt(termCode.substring(0, 4)));
                 }
             } catch (final NumberFormatException ex) {
                 Log.warning(Res.fmt(Res.BAD_TERM, termCode), ex);
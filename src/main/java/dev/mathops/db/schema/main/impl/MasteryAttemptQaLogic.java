@@ -156,6 +156,26 @@ public final class MasteryAttemptQaLogic implements ILegacyRecLogic<MasteryAttem
         return doListQuery(cache, sql);
     }
 
+    /**
+     * Queries for all question answers for all mastery attempts by a student, using a single query that joins with
+     * the mastery_attempt table.
+     *
+     * @param cache the data cache
+     * @param stuId the student ID
+     * @return the list of records returned
+     * @throws SQLException if there is an error performing the query
+     */
+    public List<MasteryAttemptQaRec> queryByStudent(final Cache cache, final String stuId) throws SQLException {
+
+        final String tableName = getTableName(cache);
+        final String attemptTableName = MasteryAttemptLogic.getTableName(cache);
+
+        final String sql = SimpleBuilder.concat("SELECT q.* FROM ", tableName, " q INNER JOIN ", attemptTableName,
+                " a ON q.serial_nbr=a.serial_nbr AND q.exam_id=a.exam_id WHERE a.stu_id=", sqlStringValue(stuId));
+
+        return doListQuery(cache, sql);
+    }
+
     /**
      * Queries for a single mastery attempt record.
      *
@@ -277,7 +277,7 @@ public final class TermLogic implements ILegacyRecLogic<TermRec> {
             throw new SQLException("Term record found with invalid term: " + term);
         }
 
-        final TermKey theTermKey = new TermKey(termName, 2000 + termYr.intValue());
+        final TermKey theTermKey = TermKey.of(termName, 2000 + termYr.intValue());
         final LocalDate theStartDate = getDateField(rs, FLD_START_DT);
         final LocalDate theEndDate = getDateField(rs, FLD_END_DT);
         final String theAcademicYear = getStringField(rs, FLD_ACADEMIC_YR);
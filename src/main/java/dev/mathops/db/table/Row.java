@@ -80,6 +80,16 @@ public final class Row {
         }
     }
 
+    /**
+     * Gets the table to which this row belongs.
+     *
+     * @return the table
+     */
+    public Table getTable() {
+
+        return this.table;
+    }
+
     /**
      * Gets a particular field value.
      *
@@ -1,6 +1,7 @@
 package dev.mathops.db.table;
 
 import dev.mathops.db.table.criteria.AbstractFieldCriterion;
+import dev.mathops.db.table.criteria.CompiledCriteria;
 import dev.mathops.text.builder.SimpleBuilder;
 
 import java.util.Arrays;
@@ -35,6 +36,9 @@ public final class SelectionCriteria {
     /** A collection of criteria that fields may match (only rows matching all criteria are matched). */
     private final AbstractFieldCriterion[] criteria;
 
+    /** The compiled form of the criteria, created when first needed. */
+    private volatile CompiledCriteria compiled;
+
     /**
      * Constructs a new {@code SelectionCriteria}.
      *
@@ -90,6 +94,26 @@ public final class SelectionCriteria {
         return this.criteria[index];
     }
 
+    /**
+     * Gets the compiled form of these criteria, which can be used to test rows efficiently or to generate
+     * parameterized SQL.  The compiled form is created on the first call and reused after that.
+     *
+     * @return the compiled criteria
+     * @throws IllegalArgumentException if a criterion refers to a field that is not part of the table, or a criterion
+     *                                  is not one of the predefined criterion types
+     */
+    public CompiledCriteria compile() {
+
+        CompiledCriteria result = this.compiled;
+
+        if (result == null) {
+            result = CompiledCriteria.compile(this.table, this.criteria);
+            this.compiled = result;
+        }
+
+        return result;
+    }
+
     /**
      * Generates a diagnostic string representation of the object.
      *
@@ -74,7 +74,7 @@ public final class UpdatedValues {
             final Field field = theTable.getField(i);
             final FieldDef def = field.getDef();
             if (value instanceof NullValue) {
-                if (field.getRole().isNullable()) {
+                if (!field.getRole().isNullable()) {
                     throw new IllegalArgumentException("May not update a non-nullable field to a null value.");
                 }
             } else if (def.isValidType(value)) {
@@ -102,6 +102,28 @@ public final class UpdatedValues {
         }
     }
 
+    /**
+     * Gets the table whose rows are being updated.
+     *
+     * @return the table
+     */
+    public Table getTable() {
+
+        return this.table;
+    }
+
+    /**
+     * Gets the updated value for a particular field.
+     *
+     * @param index the field index
+     * @return the value ({@code null} if the field is not to be updated; {@code NullValue.INSTANCE} if the field is to
+     *         be updated to NULL)
+     */
+    public Object getFieldValue(final int index) {
+
+        return this.fieldValues[index];
+    }
+
     /**
      * Generates a diagnostic string representation of the object.
      *
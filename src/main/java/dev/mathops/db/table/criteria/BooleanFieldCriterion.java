@@ -32,4 +32,14 @@ public class BooleanFieldCriterion extends AbstractFieldCriterion {
 
         this.matchType = theMatchType;
     }
+
+    /**
+     * Gets the match type.
+     *
+     * @return the match type
+     */
+    public final EBooleanMatchType getMatchType() {
+
+        return this.matchType;
+    }
 }
@@ -0,0 +1,88 @@
+package dev.mathops.db.table.criteria;
+
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.util.List;
+
+/**
+ * A compiled criterion on a Boolean field.
+ */
+final class CompiledBooleanCriterion extends CompiledCriterion {
+
+    /** The match type. */
+    private final EBooleanMatchType matchType;
+
+    /**
+     * Constructs a new {@code CompiledBooleanCriterion}.
+     *
+     * @param theFieldIndex the index of the field within its table
+     * @param theFieldName  the field name
+     * @param theMatchType  the match type
+     */
+    CompiledBooleanCriterion(final int theFieldIndex, final String theFieldName,
+                             final EBooleanMatchType theMatchType) {
+
+        super(theFieldIndex, theFieldName);
+
+        this.matchType = theMatchType;
+    }
+
+    /**
+     * Tests whether a null field value matches the criterion.
+     *
+     * @return true if a null value matches
+     */
+    @Override
+    public boolean matchesNull() {
+
+        return this.matchType == EBooleanMatchType.IS_NULL;
+    }
+
+    /**
+     * Tests whether a non-null field value matches the criterion.
+     *
+     * @param value the field value (not {@code null})
+     * @return true if the value matches
+     */
+    @Override
+    public boolean matches(final Object value) {
+
+        return matchesLong(encodeLong(value));
+    }
+
+    /**
+     * Tests whether a non-null field value, encoded as a {@code long} (1 for TRUE, 0 for FALSE), matches the criterion.
+     *
+     * @param value the encoded field value
+     * @return true if the value matches
+     */
+    @Override
+    public boolean matchesLong(final long value) {
+
+        return switch (this.matchType) {
+            case IS_NULL -> false;
+            case IS_NOT_NULL -> true;
+            case IS_TRUE -> value != 0L;
+            case IS_FALSE -> value == 0L;
+        };
+    }
+
+    /**
+     * Appends a SQL condition for this criterion to a builder.  Boolean conditions have no parameters.
+     *
+     * @param sql    the builder to which to append SQL
+     * @param params the list to which to add parameter values
+     */
+    @Override
+    public void appendSql(final HtmlBuilder sql, final List<Object> params) {
+
+        final String name = getFieldName();
+
+        switch (this.matchType) {
+            case IS_NULL -> sql.add(name, " IS NULL");
+            case IS_NOT_NULL -> sql.add(name, " IS NOT NULL");
+            case IS_TRUE -> sql.add(name, "=TRUE");
+            case IS_FALSE -> sql.add(name, "=FALSE");
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package dev.mathops.db.table.criteria;
+
+import dev.mathops.db.table.Field;
+import dev.mathops.db.table.Row;
+import dev.mathops.db.table.Table;
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, compiled form of a set of field criteria on a table.  Rows match if they satisfy ALL criteria.
+ *
+ * <p>
+ * Compiling resolves the index of each criterion's field within the table and converts each criterion into a
+ * {@code CompiledCriterion} that can be tested against field values without repeating per-criterion work for every
+ * row.  It also renders a parameterized SQL "WHERE" clause and the list of parameter values to bind to it.  The SQL
+ * text depends only on the fields, match types, and number of match values, so it is suitable as a key for caching
+ * prepared statements.
+ */
+public final class CompiledCriteria {
+
+    /** The table. */
+    private final Table table;
+
+    /** The compiled criteria. */
+    private final CompiledCriterion[] criteria;
+
+    /** The SQL condition (without the "WHERE" keyword); empty if there are no criteria. */
+    private final String sqlCondition;
+
+    /** The parameters for the SQL condition. */
+    private final List<Object> sqlParameters;
+
+    /**
+     * Constructs a new {@code CompiledCriteria}.
+     *
+     * @param theTable    the table
+     * @param theCriteria the compiled criteria
+     */
+    private CompiledCriteria(final Table theTable, final CompiledCriterion[] theCriteria) {
+
+        this.table = theTable;
+        this.criteria = theCriteria;
+
+        final List<Object> params = new ArrayList<>(theCriteria.length * 2);
+        final HtmlBuilder sql = new HtmlBuilder(50 * theCriteria.length);
+        for (int i = 0; i < theCriteria.length; ++i) {
+            if (i > 0) {
+                sql.add(" AND ");
+            }
+            theCriteria[i].appendSql(sql, params);
+        }
+
+        this.sqlCondition = sql.toString();
+        this.sqlParameters = Collections.unmodifiableList(params);
+    }
+
+    /**
+     * Compiles a set of field criteria.
+     *
+     * @param table    the table
+     * @param criteria the criteria (may be {@code null} or empty to match all rows)
+     * @return the compiled criteria
+     * @throws IllegalArgumentException if the table is null, a criterion refers to a field that is not part of the
+     *                                  table, or a criterion is not one of the predefined criterion types
+     */
+    public static CompiledCriteria compile(final Table table, final AbstractFieldCriterion... criteria) {
+
+        if (table == null) {
+            throw new IllegalArgumentException("Table may not be null");
+        }
+
+        final int count = criteria == null ? 0 : criteria.length;
+        final CompiledCriterion[] compiled = new CompiledCriterion[count];
+
+        for (int i = 0; i < count; ++i) {
+            final AbstractFieldCriterion criterion = criteria[i];
+            if (criterion == null) {
+                throw new IllegalArgumentException("Field criteria array may not contain null values");
+            }
+            final int fieldIndex = indexOfField(table, criterion.getField());
+            compiled[i] = CompiledCriterion.compile(criterion, fieldIndex);
+        }
+
+        return new CompiledCriteria(table, compiled);
+    }
+
+    /**
+     * Finds the index of a field within a table.
+     *
+     * @param table the table
+     * @param field the field
+     * @return the field index
+     * @throws IllegalArgumentException if the field is not part of the table
+     */
+    private static int indexOfField(final Table table, final Field field) {
+
+        final int numFields = table.getNumFields();
+        for (int i = 0; i < numFields; ++i) {
+            if (table.getField(i).equals(field)) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("Criterion field is not part of table '" + table.getName() + "'");
+    }
+
+    /**
+     * Gets the table.
+     *
+     * @return the table
+     */
+    public Table getTable() {
+
+        return this.table;
+    }
+
+    /**
+     * Gets the number of compiled criteria.
+     *
+     * @return the number of criteria
+     */
+    public int getNumCriteria() {
+
+        return this.criteria.length;
+    }
+
+    /**
+     * Gets a compiled criterion.
+     *
+     * @param index the zero-based index
+     * @return the compiled criterion
+     */
+    public CompiledCriterion getCriterion(final int index) {
+
+        return this.criteria[index];
+    }
+
+    /**
+     * Tests whether a row satisfies all criteria.
+     *
+     * @param row the row
+     * @return true if the row matches
+     */
+    public boolean test(final Row row) {
+
+        for (final CompiledCriterion criterion : this.criteria) {
+            final Object value = row.getFieldValue(criterion.getFieldIndex());
+            final boolean matches = value == null ? criterion.matchesNull() : criterion.matches(value);
+            if (!matches) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the parameterized SQL condition, without the "WHERE" keyword.
+     *
+     * @return the condition; an empty string if there are no criteria
+     */
+    public String getSqlCondition() {
+
+        return this.sqlCondition;
+    }
+
+    /**
+     * Gets the parameterized SQL "WHERE" clause, with a leading space.
+     *
+     * @return the clause; an empty string if there are no criteria
+     */
+    public String getWhereClause() {
+
+        return this.sqlCondition.isEmpty() ? this.sqlCondition : " WHERE " + this.sqlCondition;
+    }
+
+    /**
+     * Gets the values of the parameters in the SQL condition, in order.
+     *
+     * @return the unmodifiable list of parameter values
+     */
+    public List<Object> getSqlParameters() {
+
+        return this.sqlParameters;
+    }
+
+    /**
+     * Binds the SQL parameter values to a prepared statement.
+     *
+     * @param stmt       the prepared statement
+     * @param firstIndex the 1-based index of the first parameter to bind
+     * @return the index of the next parameter after those bound
+     * @throws SQLException if there is an error binding parameters
+     */
+    public int bindParameters(final PreparedStatement stmt, final int firstIndex) throws SQLException {
+
+        int index = firstIndex;
+
+        for (final Object param : this.sqlParameters) {
+            stmt.setObject(index, param);
+            ++index;
+        }
+
+        return index;
+    }
+}
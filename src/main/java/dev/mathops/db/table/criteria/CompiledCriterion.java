@@ -0,0 +1,291 @@
+package dev.mathops.db.table.criteria;
+
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * The base class for a field criterion that has been "compiled" into a form that can be evaluated efficiently against
+ * many field values, and rendered into parameterized SQL.
+ *
+ * <p>
+ * Compiled criteria are immutable, and are created from {@code AbstractFieldCriterion} objects by the
+ * {@code compile} method.  Work that depends only on the criterion (converting match values to primitive form,
+ * converting strings to lowercase, building hash sets for long lists of match values) is done once, at compile time,
+ * rather than once per row tested.
+ *
+ * <p>
+ * Field values are presented to a compiled criterion in one of three ways: as an object (the value stored in a
+ * {@code Row}), as a {@code long} (for integral, Boolean, and temporal fields, encoded as described in
+ * {@code encodeLong}), or as a {@code double} (for floating-point fields).  Null values are tested with
+ * {@code matchesNull}.
+ */
+public abstract class CompiledCriterion {
+
+    /**
+     * The number of match values above which a hash set or sorted array is used to test membership rather than a
+     * linear search.
+     */
+    static final int SET_THRESHOLD = 8;
+
+    /** The number of nanoseconds in a second. */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /** The index of the field within its table. */
+    private final int fieldIndex;
+
+    /** The field name (used when rendering SQL). */
+    private final String fieldName;
+
+    /**
+     * Constructs a new {@code CompiledCriterion}.
+     *
+     * @param theFieldIndex the index of the field within its table
+     * @param theFieldName  the field name
+     */
+    CompiledCriterion(final int theFieldIndex, final String theFieldName) {
+
+        this.fieldIndex = theFieldIndex;
+        this.fieldName = theFieldName;
+    }
+
+    /**
+     * Compiles a field criterion.
+     *
+     * @param criterion  the criterion
+     * @param fieldIndex the index of the criterion's field within its table
+     * @return the compiled criterion
+     * @throws IllegalArgumentException if the criterion is not one of the predefined criterion types
+     */
+    public static CompiledCriterion compile(final AbstractFieldCriterion criterion, final int fieldIndex) {
+
+        final String name = criterion.getField().getDef().getName();
+
+        final CompiledCriterion result;
+
+        if (criterion instanceof final StringFieldCriterion str) {
+            result = new CompiledStringCriterion(fieldIndex, name, str.matchType, str.strings);
+        } else if (criterion instanceof final BooleanFieldCriterion bool) {
+            result = new CompiledBooleanCriterion(fieldIndex, name, bool.matchType);
+        } else if (criterion instanceof final IntegerFieldCriterion integer) {
+            result = new CompiledLongCriterion(fieldIndex, name, integer.matchType, integer.integers);
+        } else if (criterion instanceof final LongFieldCriterion lng) {
+            result = new CompiledLongCriterion(fieldIndex, name, lng.matchType, lng.longs);
+        } else if (criterion instanceof final LocalDateFieldCriterion date) {
+            result = new CompiledLongCriterion(fieldIndex, name, toNumeric(date.matchType), date.localDates);
+        } else if (criterion instanceof final LocalTimeFieldCriterion time) {
+            result = new CompiledLongCriterion(fieldIndex, name, toNumeric(time.matchType), time.localTimes);
+        } else if (criterion instanceof final LocaDateTimeFieldCriterion dateTime) {
+            result = new CompiledLongCriterion(fieldIndex, name, toNumeric(dateTime.matchType),
+                    dateTime.localDateTimes);
+        } else if (criterion instanceof final FloatFieldCriterion flt) {
+            result = new CompiledDoubleCriterion(fieldIndex, name, flt.matchType, flt.floats);
+        } else if (criterion instanceof final DoubleFieldCriterion dbl) {
+            result = new CompiledDoubleCriterion(fieldIndex, name, dbl.matchType, dbl.doubles);
+        } else {
+            final String clsName = criterion.getClass().getSimpleName();
+            throw new IllegalArgumentException("Unsupported criterion type: " + clsName);
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts a temporal match type to the equivalent numeric match type.
+     *
+     * @param type the temporal match type
+     * @return the numeric match type
+     */
+    public static ENumericMatchType toNumeric(final ETemporalMatchType type) {
+
+        return switch (type) {
+            case IS_NULL -> ENumericMatchType.IS_NULL;
+            case IS_NOT_NULL -> ENumericMatchType.IS_NOT_NULL;
+            case EXACT_IN -> ENumericMatchType.EXACT_IN;
+            case EXACT_NOT_IN -> ENumericMatchType.EXACT_NOT_IN;
+            case GREATER_THAN -> ENumericMatchType.GREATER_THAN;
+            case GREATER_THAN_OR_EQUAL -> ENumericMatchType.GREATER_THAN_OR_EQUAL;
+            case LESS_THAN -> ENumericMatchType.LESS_THAN;
+            case LESS_THAN_OR_EQUAL -> ENumericMatchType.LESS_THAN_OR_EQUAL;
+            case BETWEEN_EXCLUDE_BOUNDS -> ENumericMatchType.BETWEEN_EXCLUDE_BOUNDS;
+            case BETWEEN_EXCLUDE_LOWER_BOUND -> ENumericMatchType.BETWEEN_EXCLUDE_LOWER_BOUND;
+            case BETWEEN_EXCLUDE_UPPER_BOUND -> ENumericMatchType.BETWEEN_EXCLUDE_UPPER_BOUND;
+            case BETWEEN_INCLUDE_BOUNDS -> ENumericMatchType.BETWEEN_INCLUDE_BOUNDS;
+        };
+    }
+
+    /**
+     * Gets the index of the field within its table.
+     *
+     * @return the field index
+     */
+    public final int getFieldIndex() {
+
+        return this.fieldIndex;
+    }
+
+    /**
+     * Gets the field name.
+     *
+     * @return the field name
+     */
+    public final String getFieldName() {
+
+        return this.fieldName;
+    }
+
+    /**
+     * Tests whether a null field value matches the criterion.
+     *
+     * @return true if a null value matches
+     */
+    public abstract boolean matchesNull();
+
+    /**
+     * Tests whether a non-null field value matches the criterion.
+     *
+     * @param value the field value (not {@code null})
+     * @return true if the value matches
+     */
+    public abstract boolean matches(Object value);
+
+    /**
+     * Tests whether a non-null field value, encoded as a {@code long} (see {@code encodeLong}), matches the criterion.
+     * Criteria on fields that are not stored in this form always return false.
+     *
+     * @param value the encoded field value
+     * @return true if the value matches
+     */
+    public boolean matchesLong(final long value) {
+
+        return false;
+    }
+
+    /**
+     * Tests whether a non-null floating-point field value matches the criterion.  Criteria on fields that are not
+     * floating-point always return false.
+     *
+     * @param value the field value
+     * @return true if the value matches
+     */
+    public boolean matchesDouble(final double value) {
+
+        return false;
+    }
+
+    /**
+     * Appends a parameterized SQL condition for this criterion to a builder, and appends the corresponding parameter
+     * values to a list.  The SQL text depends only on the field, the match type, and the number of match values, so
+     * the text generated for criteria that differ only in their match values is identical (and can be used as a key
+     * for a prepared statement cache).
+     *
+     * @param sql    the builder to which to append SQL
+     * @param params the list to which to add parameter values
+     */
+    public abstract void appendSql(HtmlBuilder sql, List<Object> params);
+
+    /**
+     * Appends the condition for a match against an empty list of values, which no value matches.  A list such as
+     * "IN ()" is not valid SQL, so a constant condition is used instead.
+     *
+     * @param sql      the builder
+     * @param positive true for a positive match ("IN" or "starts with"), which is always false; false for a negated
+     *                 match ("NOT IN" or "does not start with"), which is always true
+     */
+    static void appendEmptyList(final HtmlBuilder sql, final boolean positive) {
+
+        sql.add(positive ? "1=0" : "1=1");
+    }
+
+    /**
+     * Appends a list of parameter placeholders of the form "(?,?,?)" to a builder.
+     *
+     * @param sql   the builder
+     * @param count the number of placeholders
+     */
+    static void appendPlaceholders(final HtmlBuilder sql, final int count) {
+
+        sql.add('(');
+        for (int i = 0; i < count; ++i) {
+            if (i > 0) {
+                sql.add(',');
+            }
+            sql.add('?');
+        }
+        sql.add(')');
+    }
+
+    /**
+     * Encodes an integral, Boolean, or temporal value as a {@code long}.  Dates are encoded as epoch days, times as
+     * nanoseconds since midnight, and date/times as nanoseconds since the epoch (in UTC).  Values of the
+     * {@code java.sql} temporal types are encoded the same way as their {@code java.time} equivalents.
+     *
+     * @param value the value (not {@code null})
+     * @return the encoded value
+     * @throws IllegalArgumentException if the value cannot be encoded as a long
+     */
+    public static long encodeLong(final Object value) {
+
+        final long result;
+
+        if (value instanceof final Number num) {
+            result = num.longValue();
+        } else if (value instanceof final Boolean bool) {
+            result = bool.booleanValue() ? 1L : 0L;
+        } else if (value instanceof final LocalDate date) {
+            result = date.toEpochDay();
+        } else if (value instanceof final Date sqlDate) {
+            result = sqlDate.toLocalDate().toEpochDay();
+        } else if (value instanceof final LocalTime time) {
+            result = time.toNanoOfDay();
+        } else if (value instanceof final Time sqlTime) {
+            result = sqlTime.toLocalTime().toNanoOfDay();
+        } else if (value instanceof final LocalDateTime dateTime) {
+            result = encodeDateTime(dateTime);
+        } else if (value instanceof final Timestamp sqlTimestamp) {
+            result = encodeDateTime(sqlTimestamp.toLocalDateTime());
+        } else {
+            final String clsName = value.getClass().getSimpleName();
+            throw new IllegalArgumentException("Unable to encode a " + clsName + " value as a long");
+        }
+
+        return result;
+    }
+
+    /**
+     * Encodes a date/time as nanoseconds since the epoch (in UTC).
+     *
+     * @param dateTime the date/time
+     * @return the encoded value
+     */
+    private static long encodeDateTime(final LocalDateTime dateTime) {
+
+        final long seconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+
+        return seconds * NANOS_PER_SECOND + (long) dateTime.getNano();
+    }
+
+    /**
+     * Encodes a numeric value as a {@code double}.
+     *
+     * @param value the value (not {@code null})
+     * @return the encoded value
+     * @throws IllegalArgumentException if the value is not numeric
+     */
+    public static double encodeDouble(final Object value) {
+
+        if (value instanceof final Number num) {
+            return num.doubleValue();
+        }
+
+        final String clsName = value.getClass().getSimpleName();
+        throw new IllegalArgumentException("Unable to encode a " + clsName + " value as a double");
+    }
+}
@@ -0,0 +1,220 @@
+package dev.mathops.db.table.criteria;
+
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compiled criterion on a floating-point field.  Match values are converted to primitive {@code double} form when
+ * the criterion is compiled, so tests require no boxing.  Long lists of values for "IN" matches are sorted so
+ * membership can be tested with a binary search.
+ */
+final class CompiledDoubleCriterion extends CompiledCriterion {
+
+    /** The match type. */
+    private final ENumericMatchType matchType;
+
+    /** The original match values (used as SQL parameters). */
+    private final Object[] values;
+
+    /** The encoded match values (sorted if {@code sorted} is true). */
+    private final double[] encoded;
+
+    /** True if {@code encoded} is sorted and should be searched with a binary search. */
+    private final boolean sorted;
+
+    /** The lower (or only) bound for range matches. */
+    private final double low;
+
+    /** The upper bound for range matches. */
+    private final double high;
+
+    /**
+     * Constructs a new {@code CompiledDoubleCriterion}.
+     *
+     * @param theFieldIndex the index of the field within its table
+     * @param theFieldName  the field name
+     * @param theMatchType  the match type
+     * @param theValues     the match values
+     */
+    CompiledDoubleCriterion(final int theFieldIndex, final String theFieldName, final ENumericMatchType theMatchType,
+                            final Object[] theValues) {
+
+        super(theFieldIndex, theFieldName);
+
+        this.matchType = theMatchType;
+        this.values = theValues.clone();
+
+        final int count = theValues.length;
+        final double[] enc = new double[count];
+        for (int i = 0; i < count; ++i) {
+            enc[i] = encodeDouble(theValues[i]);
+        }
+
+        this.sorted = count > SET_THRESHOLD;
+        if (this.sorted) {
+            Arrays.sort(enc);
+        }
+        this.encoded = enc;
+
+        this.low = count > 0 ? encodeDouble(theValues[0]) : 0.0;
+        this.high = count > 1 ? encodeDouble(theValues[1]) : this.low;
+    }
+
+    /**
+     * Tests whether a null field value matches the criterion.
+     *
+     * @return true if a null value matches
+     */
+    @Override
+    public boolean matchesNull() {
+
+        return this.matchType == ENumericMatchType.IS_NULL;
+    }
+
+    /**
+     * Tests whether a non-null field value matches the criterion.
+     *
+     * @param value the field value (not {@code null})
+     * @return true if the value matches
+     */
+    @Override
+    public boolean matches(final Object value) {
+
+        return matchesDouble(encodeDouble(value));
+    }
+
+    /**
+     * Tests whether a non-null floating-point field value matches the criterion.
+     *
+     * @param value the field value
+     * @return true if the value matches
+     */
+    @Override
+    public boolean matchesDouble(final double value) {
+
+        return switch (this.matchType) {
+            case IS_NULL -> false;
+            case IS_NOT_NULL -> true;
+            case EXACT_IN -> contains(value);
+            case EXACT_NOT_IN -> !contains(value);
+            case GREATER_THAN -> value > this.low;
+            case GREATER_THAN_OR_EQUAL -> value >= this.low;
+            case LESS_THAN -> value < this.low;
+            case LESS_THAN_OR_EQUAL -> value <= this.low;
+            case BETWEEN_EXCLUDE_BOUNDS -> value > this.low && value < this.high;
+            case BETWEEN_EXCLUDE_LOWER_BOUND -> value > this.low && value <= this.high;
+            case BETWEEN_EXCLUDE_UPPER_BOUND -> value >= this.low && value < this.high;
+            case BETWEEN_INCLUDE_BOUNDS -> value >= this.low && value <= this.high;
+        };
+    }
+
+    /**
+     * Tests whether a value is one of the match values.
+     *
+     * @param value the value
+     * @return true if the value is one of the match values
+     */
+    private boolean contains(final double value) {
+
+        boolean result = false;
+
+        if (this.sorted) {
+            result = Arrays.binarySearch(this.encoded, value) >= 0;
+        } else {
+            for (final double test : this.encoded) {
+                if (Double.compare(test, value) == 0) {
+                    result = true;
+                    break;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Appends a parameterized SQL condition for this criterion to a builder.
+     *
+     * @param sql    the builder to which to append SQL
+     * @param params the list to which to add parameter values
+     */
+    @Override
+    public void appendSql(final HtmlBuilder sql, final List<Object> params) {
+
+        appendNumericSql(sql, params, getFieldName(), this.matchType, this.values);
+    }
+
+    /**
+     * Appends a parameterized SQL condition for a numeric or temporal criterion to a builder.
+     *
+     * @param sql       the builder to which to append SQL
+     * @param params    the list to which to add parameter values
+     * @param name      the field name
+     * @param matchType the match type
+     * @param values    the match values
+     */
+    static void appendNumericSql(final HtmlBuilder sql, final List<Object> params, final String name,
+                                 final ENumericMatchType matchType, final Object[] values) {
+
+        switch (matchType) {
+            case IS_NULL -> sql.add(name, " IS NULL");
+            case IS_NOT_NULL -> sql.add(name, " IS NOT NULL");
+            case EXACT_IN, EXACT_NOT_IN -> {
+                final boolean in = matchType == ENumericMatchType.EXACT_IN;
+                if (values.length == 0) {
+                    appendEmptyList(sql, in);
+                } else if (values.length == 1) {
+                    sql.add(name, in ? "=?" : "<>?");
+                } else {
+                    sql.add(name, in ? " IN " : " NOT IN ");
+                    appendPlaceholders(sql, values.length);
+                }
+                params.addAll(Arrays.asList(values));
+            }
+            case GREATER_THAN -> appendComparison(sql, params, name, ">?", values[0]);
+            case GREATER_THAN_OR_EQUAL -> appendComparison(sql, params, name, ">=?", values[0]);
+            case LESS_THAN -> appendComparison(sql, params, name, "<?", values[0]);
+            case LESS_THAN_OR_EQUAL -> appendComparison(sql, params, name, "<=?", values[0]);
+            case BETWEEN_EXCLUDE_BOUNDS -> appendBetween(sql, params, name, ">?", "<?", values);
+            case BETWEEN_EXCLUDE_LOWER_BOUND -> appendBetween(sql, params, name, ">?", "<=?", values);
+            case BETWEEN_EXCLUDE_UPPER_BOUND -> appendBetween(sql, params, name, ">=?", "<?", values);
+            case BETWEEN_INCLUDE_BOUNDS -> appendBetween(sql, params, name, ">=?", "<=?", values);
+        }
+    }
+
+    /**
+     * Appends a single comparison.
+     *
+     * @param sql      the builder to which to append SQL
+     * @param params   the list to which to add parameter values
+     * @param name     the field name
+     * @param operator the operator and placeholder
+     * @param value    the parameter value
+     */
+    private static void appendComparison(final HtmlBuilder sql, final List<Object> params, final String name,
+                                         final String operator, final Object value) {
+
+        sql.add(name, operator);
+        params.add(value);
+    }
+
+    /**
+     * Appends a pair of comparisons that select values between two bounds.
+     *
+     * @param sql       the builder to which to append SQL
+     * @param params    the list to which to add parameter values
+     * @param name      the field name
+     * @param lowerOp   the lower bound operator and placeholder
+     * @param upperOp   the upper bound operator and placeholder
+     * @param values    the match values (the lower bound followed by the upper bound)
+     */
+    private static void appendBetween(final HtmlBuilder sql, final List<Object> params, final String name,
+                                      final String lowerOp, final String upperOp, final Object[] values) {
+
+        sql.add('(', name, lowerOp, " AND ", name, upperOp, ')');
+        params.add(values[0]);
+        params.add(values[1]);
+    }
+}
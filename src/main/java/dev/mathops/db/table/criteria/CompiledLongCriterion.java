@@ -0,0 +1,149 @@
+package dev.mathops.db.table.criteria;
+
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compiled criterion on an integral or temporal field.  Match values are converted to primitive {@code long} form
+ * (see {@code CompiledCriterion.encodeLong}) when the criterion is compiled, so tests against encoded field values
+ * require no boxing.  Long lists of values for "IN" matches are sorted so membership can be tested with a binary
+ * search.
+ */
+final class CompiledLongCriterion extends CompiledCriterion {
+
+    /** The match type. */
+    private final ENumericMatchType matchType;
+
+    /** The original match values (used as SQL parameters). */
+    private final Object[] values;
+
+    /** The encoded match values (sorted if {@code sorted} is true). */
+    private final long[] encoded;
+
+    /** True if {@code encoded} is sorted and should be searched with a binary search. */
+    private final boolean sorted;
+
+    /** The lower (or only) bound for range matches. */
+    private final long low;
+
+    /** The upper bound for range matches. */
+    private final long high;
+
+    /**
+     * Constructs a new {@code CompiledLongCriterion}.
+     *
+     * @param theFieldIndex the index of the field within its table
+     * @param theFieldName  the field name
+     * @param theMatchType  the match type
+     * @param theValues     the match values
+     */
+    CompiledLongCriterion(final int theFieldIndex, final String theFieldName, final ENumericMatchType theMatchType,
+                          final Object[] theValues) {
+
+        super(theFieldIndex, theFieldName);
+
+        this.matchType = theMatchType;
+        this.values = theValues.clone();
+
+        final int count = theValues.length;
+        final long[] enc = new long[count];
+        for (int i = 0; i < count; ++i) {
+            enc[i] = encodeLong(theValues[i]);
+        }
+
+        this.sorted = count > SET_THRESHOLD;
+        if (this.sorted) {
+            Arrays.sort(enc);
+        }
+        this.encoded = enc;
+
+        this.low = count > 0 ? encodeLong(theValues[0]) : 0L;
+        this.high = count > 1 ? encodeLong(theValues[1]) : this.low;
+    }
+
+    /**
+     * Tests whether a null field value matches the criterion.
+     *
+     * @return true if a null value matches
+     */
+    @Override
+    public boolean matchesNull() {
+
+        return this.matchType == ENumericMatchType.IS_NULL;
+    }
+
+    /**
+     * Tests whether a non-null field value matches the criterion.
+     *
+     * @param value the field value (not {@code null})
+     * @return true if the value matches
+     */
+    @Override
+    public boolean matches(final Object value) {
+
+        return matchesLong(encodeLong(value));
+    }
+
+    /**
+     * Tests whether a non-null field value, encoded as a {@code long}, matches the criterion.
+     *
+     * @param value the encoded field value
+     * @return true if the value matches
+     */
+    @Override
+    public boolean matchesLong(final long value) {
+
+        return switch (this.matchType) {
+            case IS_NULL -> false;
+            case IS_NOT_NULL -> true;
+            case EXACT_IN -> contains(value);
+            case EXACT_NOT_IN -> !contains(value);
+            case GREATER_THAN -> value > this.low;
+            case GREATER_THAN_OR_EQUAL -> value >= this.low;
+            case LESS_THAN -> value < this.low;
+            case LESS_THAN_OR_EQUAL -> value <= this.low;
+            case BETWEEN_EXCLUDE_BOUNDS -> value > this.low && value < this.high;
+            case BETWEEN_EXCLUDE_LOWER_BOUND -> value > this.low && value <= this.high;
+            case BETWEEN_EXCLUDE_UPPER_BOUND -> value >= this.low && value < this.high;
+            case BETWEEN_INCLUDE_BOUNDS -> value >= this.low && value <= this.high;
+        };
+    }
+
+    /**
+     * Tests whether a value is one of the match values.
+     *
+     * @param value the encoded value
+     * @return true if the value is one of the match values
+     */
+    private boolean contains(final long value) {
+
+        boolean result = false;
+
+        if (this.sorted) {
+            result = Arrays.binarySearch(this.encoded, value) >= 0;
+        } else {
+            for (final long test : this.encoded) {
+                if (test == value) {
+                    result = true;
+                    break;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Appends a parameterized SQL condition for this criterion to a builder.
+     *
+     * @param sql    the builder to which to append SQL
+     * @param params the list to which to add parameter values
+     */
+    @Override
+    public void appendSql(final HtmlBuilder sql, final List<Object> params) {
+
+        CompiledDoubleCriterion.appendNumericSql(sql, params, getFieldName(), this.matchType, this.values);
+    }
+}
@@ -0,0 +1,257 @@
+package dev.mathops.db.table.criteria;
+
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A compiled criterion on a String field.  Match strings for case-insensitive matches are converted to lowercase when
+ * the criterion is compiled, and long lists of strings for "IN" matches are stored in a hash set.
+ *
+ * <p>
+ * Every case-insensitive comparison converts the value with {@code toLowerCase(Locale.ROOT)} and compares it exactly
+ * to the lowercase match strings, so the linear search, the hash set, and prefix matching always agree (methods like
+ * {@code equalsIgnoreCase} fold case differently for some non-ASCII characters).
+ */
+final class CompiledStringCriterion extends CompiledCriterion {
+
+    /** The match type. */
+    private final EStringMatchType matchType;
+
+    /** The match strings (converted to lowercase for case-insensitive match types). */
+    private final String[] strings;
+
+    /** A set of the match strings for "IN" match types with many strings; null if not used. */
+    private final Set<String> stringSet;
+
+    /**
+     * Constructs a new {@code CompiledStringCriterion}.
+     *
+     * @param theFieldIndex the index of the field within its table
+     * @param theFieldName  the field name
+     * @param theMatchType  the match type
+     * @param theStrings    the match strings
+     */
+    CompiledStringCriterion(final int theFieldIndex, final String theFieldName, final EStringMatchType theMatchType,
+                            final String[] theStrings) {
+
+        super(theFieldIndex, theFieldName);
+
+        this.matchType = theMatchType;
+
+        final boolean caseInsensitive = theMatchType == EStringMatchType.CASE_INSENSITIVE_IN
+                                        || theMatchType == EStringMatchType.CASE_INSENSITIVE_NOT_IN
+                                        || theMatchType == EStringMatchType.CASE_INSENSITIVE_STARTS_WITH
+                                        || theMatchType == EStringMatchType.CASE_INSENSITIVE_NOT_STARTS_WITH;
+
+        final int count = theStrings.length;
+        this.strings = new String[count];
+        for (int i = 0; i < count; ++i) {
+            this.strings[i] = caseInsensitive ? theStrings[i].toLowerCase(Locale.ROOT) : theStrings[i];
+        }
+
+        final boolean isIn = theMatchType == EStringMatchType.EXACT_IN || theMatchType == EStringMatchType.EXACT_NOT_IN
+                             || theMatchType == EStringMatchType.CASE_INSENSITIVE_IN
+                             || theMatchType == EStringMatchType.CASE_INSENSITIVE_NOT_IN;
+
+        if (isIn && count > SET_THRESHOLD) {
+            this.stringSet = new HashSet<>(count * 2);
+            for (final String str : this.strings) {
+                this.stringSet.add(str);
+            }
+        } else {
+            this.stringSet = null;
+        }
+    }
+
+    /**
+     * Tests whether a null field value matches the criterion.
+     *
+     * @return true if a null value matches
+     */
+    @Override
+    public boolean matchesNull() {
+
+        return this.matchType == EStringMatchType.IS_NULL;
+    }
+
+    /**
+     * Tests whether a non-null field value matches the criterion.
+     *
+     * @param value the field value (not {@code null})
+     * @return true if the value matches
+     */
+    @Override
+    public boolean matches(final Object value) {
+
+        final String str = value.toString();
+
+        return switch (this.matchType) {
+            case IS_NULL -> false;
+            case IS_NOT_NULL -> true;
+            case EXACT_IN -> isExactIn(str);
+            case EXACT_NOT_IN -> !isExactIn(str);
+            case CASE_INSENSITIVE_IN -> isCaseInsensitiveIn(str);
+            case CASE_INSENSITIVE_NOT_IN -> !isCaseInsensitiveIn(str);
+            case EXACT_STARTS_WITH -> startsWithAny(str, false);
+            case EXACT_NOT_STARTS_WITH -> !startsWithAny(str, false);
+            case CASE_INSENSITIVE_STARTS_WITH -> startsWithAny(str, true);
+            case CASE_INSENSITIVE_NOT_STARTS_WITH -> !startsWithAny(str, true);
+        };
+    }
+
+    /**
+     * Tests whether a string is exactly equal to one of the match strings.
+     *
+     * @param str the string
+     * @return true if the string is one of the match strings
+     */
+    private boolean isExactIn(final String str) {
+
+        boolean result = false;
+
+        if (this.stringSet == null) {
+            for (final String test : this.strings) {
+                if (test.equals(str)) {
+                    result = true;
+                    break;
+                }
+            }
+        } else {
+            result = this.stringSet.contains(str);
+        }
+
+        return result;
+    }
+
+    /**
+     * Tests whether a string is a case-insensitive match to one of the match strings.
+     *
+     * @param str the string
+     * @return true if the string matches one of the match strings
+     */
+    private boolean isCaseInsensitiveIn(final String str) {
+
+        boolean result = false;
+
+        final String lower = str.toLowerCase(Locale.ROOT);
+
+        if (this.stringSet == null) {
+            for (final String test : this.strings) {
+                if (test.equals(lower)) {
+                    result = true;
+                    break;
+                }
+            }
+        } else {
+            result = this.stringSet.contains(lower);
+        }
+
+        return result;
+    }
+
+    /**
+     * Tests whether a string starts with one of the match strings.  Case-insensitive tests convert the string to
+     * lowercase and compare it to the (precomputed) lowercase match strings.
+     *
+     * @param str             the string
+     * @param caseInsensitive true for a case-insensitive test
+     * @return true if the string starts with one of the match strings
+     */
+    private boolean startsWithAny(final String str, final boolean caseInsensitive) {
+
+        boolean result = false;
+
+        final String target = caseInsensitive ? str.toLowerCase(Locale.ROOT) : str;
+
+        for (final String prefix : this.strings) {
+            if (target.startsWith(prefix)) {
+                result = true;
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Appends a parameterized SQL condition for this criterion to a builder.
+     *
+     * @param sql    the builder to which to append SQL
+     * @param params the list to which to add parameter values
+     */
+    @Override
+    public void appendSql(final HtmlBuilder sql, final List<Object> params) {
+
+        final String name = getFieldName();
+        final int count = this.strings.length;
+
+        switch (this.matchType) {
+            case IS_NULL -> sql.add(name, " IS NULL");
+            case IS_NOT_NULL -> sql.add(name, " IS NOT NULL");
+            case EXACT_IN, EXACT_NOT_IN, CASE_INSENSITIVE_IN, CASE_INSENSITIVE_NOT_IN -> {
+                final boolean in = this.matchType == EStringMatchType.EXACT_IN
+                                   || this.matchType == EStringMatchType.CASE_INSENSITIVE_IN;
+                final boolean exact = this.matchType == EStringMatchType.EXACT_IN
+                                      || this.matchType == EStringMatchType.EXACT_NOT_IN;
+                final String target = exact ? name : "LOWER(" + name + ")";
+
+                if (count == 0) {
+                    appendEmptyList(sql, in);
+                } else if (count == 1) {
+                    sql.add(target, in ? "=?" : "<>?");
+                } else {
+                    sql.add(target, in ? " IN " : " NOT IN ");
+                    appendPlaceholders(sql, count);
+                }
+                params.addAll(List.of(this.strings));
+            }
+            default -> {
+                final boolean negate = this.matchType == EStringMatchType.EXACT_NOT_STARTS_WITH
+                                       || this.matchType == EStringMatchType.CASE_INSENSITIVE_NOT_STARTS_WITH;
+                final boolean exact = this.matchType == EStringMatchType.EXACT_STARTS_WITH
+                                      || this.matchType == EStringMatchType.EXACT_NOT_STARTS_WITH;
+                final String target = exact ? name : "LOWER(" + name + ")";
+
+                if (count == 0) {
+                    appendEmptyList(sql, !negate);
+                } else {
+                    sql.add(negate ? "NOT (" : "(");
+                    for (int i = 0; i < count; ++i) {
+                        if (i > 0) {
+                            sql.add(" OR ");
+                        }
+                        sql.add(target, " LIKE ? ESCAPE '\\'");
+                        params.add(escapeLike(this.strings[i]) + "%");
+                    }
+                    sql.add(')');
+                }
+            }
+        }
+    }
+
+    /**
+     * Escapes the characters in a string that have special meaning in a SQL "LIKE" pattern.
+     *
+     * @param str the string
+     * @return the escaped string
+     */
+    private static String escapeLike(final String str) {
+
+        final int len = str.length();
+        final StringBuilder result = new StringBuilder(len + 4);
+
+        for (int i = 0; i < len; ++i) {
+            final char ch = str.charAt(i);
+            if (ch == '%' || ch == '_' || ch == '\\') {
+                result.append('\\');
+            }
+            result.append(ch);
+        }
+
+        return result.toString();
+    }
+}
@@ -51,4 +51,35 @@ public class DoubleFieldCriterion extends AbstractFieldCriterion {
         this.matchType = theMatchType;
         this.doubles = theDoubles == null || theDoubles.length == 0 ? new Double[0] : theDoubles.clone();
     }
+
+    /**
+     * Gets the match type.
+     *
+     * @return the match type
+     */
+    public final ENumericMatchType getMatchType() {
+
+        return this.matchType;
+    }
+
+    /**
+     * Gets the number of doubles in the criterion.
+     *
+     * @return the number of doubles
+     */
+    public final int getNumDoubles() {
+
+        return this.doubles.length;
+    }
+
+    /**
+     * Gets a specified double from the list of doubles in the criterion.
+     *
+     * @param index the index (from 0 to one less than the value returned by {@code getNumDoubles})
+     * @return the double
+     */
+    public final Double getDouble(final int index) {
+
+        return this.doubles[index];
+    }
 }
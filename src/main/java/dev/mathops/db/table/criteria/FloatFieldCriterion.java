@@ -50,4 +50,35 @@ public class FloatFieldCriterion extends AbstractFieldCriterion {
         this.matchType = theMatchType;
         this.floats = theFloats == null || theFloats.length == 0 ? new Float[0] : theFloats.clone();
     }
+
+    /**
+     * Gets the match type.
+     *
+     * @return the match type
+     */
+    public final ENumericMatchType getMatchType() {
+
+        return this.matchType;
+    }
+
+    /**
+     * Gets the number of floats in the criterion.
+     *
+     * @return the number of floats
+     */
+    public final int getNumFloats() {
+
+        return this.floats.length;
+    }
+
+    /**
+     * Gets a specified float from the list of floats in the criterion.
+     *
+     * @param index the index (from 0 to one less than the value returned by {@code getNumFloats})
+     * @return the float
+     */
+    public final Float getFloat(final int index) {
+
+        return this.floats[index];
+    }
 }
@@ -54,4 +54,35 @@ public class LocaDateTimeFieldCriterion extends AbstractFieldCriterion {
         this.localDateTimes = theLocalDateTimes == null || theLocalDateTimes.length == 0 ? new LocalDateTime[0]
                 : theLocalDateTimes.clone();
     }
+
+    /**
+     * Gets the match type.
+     *
+     * @return the match type
+     */
+    public final ETemporalMatchType getMatchType() {
+
+        return this.matchType;
+    }
+
+    /**
+     * Gets the number of local date/times in the criterion.
+     *
+     * @return the number of local date/times
+     */
+    public final int getNumLocalDateTimes() {
+
+        return this.localDateTimes.length;
+    }
+
+    /**
+     * Gets a specified local date/time from the list of local date/times in the criterion.
+     *
+     * @param index the index (from 0 to one less than the value returned by {@code getNumLocalDateTimes})
+     * @return the local date/time
+     */
+    public final LocalDateTime getLocalDateTime(final int index) {
+
+        return this.localDateTimes[index];
+    }
 }
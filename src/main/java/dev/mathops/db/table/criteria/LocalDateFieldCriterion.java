@@ -53,4 +53,35 @@ public class LocalDateFieldCriterion extends AbstractFieldCriterion {
         this.matchType = theMatchType;
         this.localDates = theLocalDates == null || theLocalDates.length == 0 ? new LocalDate[0] : theLocalDates.clone();
     }
+
+    /**
+     * Gets the match type.
+     *
+     * @return the match type
+     */
+    public final ETemporalMatchType getMatchType() {
+
+        return this.matchType;
+    }
+
+    /**
+     * Gets the number of local dates in the criterion.
+     *
+     * @return the number of local dates
+     */
+    public final int getNumLocalDates() {
+
+        return this.localDates.length;
+    }
+
+    /**
+     * Gets a specified local date from the list of local dates in the criterion.
+     *
+     * @param index the index (from 0 to one less than the value returned by {@code getNumLocalDates})
+     * @return the local date
+     */
+    public final LocalDate getLocalDate(final int index) {
+
+        return this.localDates[index];
+    }
 }
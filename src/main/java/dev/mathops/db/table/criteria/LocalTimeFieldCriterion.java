@@ -53,4 +53,35 @@ public class LocalTimeFieldCriterion extends AbstractFieldCriterion {
         this.matchType = theMatchType;
         this.localTimes = theLocalTimes == null || theLocalTimes.length == 0 ? new LocalTime[0] : theLocalTimes.clone();
     }
+
+    /**
+     * Gets the match type.
+     *
+     * @return the match type
+     */
+    public final ETemporalMatchType getMatchType() {
+
+        return this.matchType;
+    }
+
+    /**
+     * Gets the number of local times in the criterion.
+     *
+     * @return the number of local times
+     */
+    public final int getNumLocalTimes() {
+
+        return this.localTimes.length;
+    }
+
+    /**
+     * Gets a specified local time from the list of local times in the criterion.
+     *
+     * @param index the index (from 0 to one less than the value returned by {@code getNumLocalTimes})
+     * @return the local time
+     */
+    public final LocalTime getLocalTime(final int index) {
+
+        return this.localTimes[index];
+    }
 }
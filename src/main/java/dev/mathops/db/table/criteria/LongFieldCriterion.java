@@ -50,4 +50,35 @@ public class LongFieldCriterion extends AbstractFieldCriterion {
         this.matchType = theMatchType;
         this.longs = theLongs == null || theLongs.length == 0 ? new Long[0] : theLongs.clone();
     }
+
+    /**
+     * Gets the match type.
+     *
+     * @return the match type
+     */
+    public final ENumericMatchType getMatchType() {
+
+        return this.matchType;
+    }
+
+    /**
+     * Gets the number of longs in the criterion.
+     *
+     * @return the number of longs
+     */
+    public final int getNumLongs() {
+
+        return this.longs.length;
+    }
+
+    /**
+     * Gets a specified long from the list of longs in the criterion.
+     *
+     * @param index the index (from 0 to one less than the value returned by {@code getNumLongs})
+     * @return the long
+     */
+    public final Long getLong(final int index) {
+
+        return this.longs[index];
+    }
 }
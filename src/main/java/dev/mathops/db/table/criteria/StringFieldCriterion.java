@@ -50,4 +50,35 @@ public class StringFieldCriterion extends AbstractFieldCriterion {
         this.matchType = theMatchType;
         this.strings = theStrings == null || theStrings.length == 0 ? new String[0] : theStrings.clone();
     }
+
+    /**
+     * Gets the match type.
+     *
+     * @return the match type
+     */
+    public final EStringMatchType getMatchType() {
+
+        return this.matchType;
+    }
+
+    /**
+     * Gets the number of strings in the criterion.
+     *
+     * @return the number of strings
+     */
+    public final int getNumStrings() {
+
+        return this.strings.length;
+    }
+
+    /**
+     * Gets a specified string from the list of strings in the criterion.
+     *
+     * @param index the index (from 0 to one less than the value returned by {@code getNumStrings})
+     * @return the string
+     */
+    public final String getString(final int index) {
+
+        return this.strings[index];
+    }
 }
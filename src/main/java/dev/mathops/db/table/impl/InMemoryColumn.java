@@ -0,0 +1,341 @@
+package dev.mathops.db.table.impl;
+
+import dev.mathops.db.table.EFieldType;
+import dev.mathops.db.table.criteria.CompiledCriterion;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Columnar storage for the values of a single field in an {@code InMemoryTable}.
+ *
+ * <p>
+ * Integral, Boolean, and temporal values are stored in a {@code long[]} array (dates as epoch days, times as nanosecond
+ * of day, and date/times as nanoseconds since the epoch in UTC), floating-point values are stored in a
+ * {@code double[]} array, and all other values are stored in an {@code Object[]} array.  Null values are tracked in a
+ * separate bit set, so primitive arrays never need boxed values.
+ *
+ * <p>
+ * Values are encoded by the static methods in {@code CompiledCriterion}, so compiled criteria can be tested against
+ * stored values without boxing.
+ */
+final class InMemoryColumn {
+
+    /** The initial capacity. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The field type. */
+    private final EFieldType type;
+
+    /** The storage kind. */
+    private final EKind kind;
+
+    /** Values for LONG_KIND columns. */
+    private long[] longs;
+
+    /** Values for DOUBLE_KIND columns. */
+    private double[] doubles;
+
+    /** Values for OBJECT_KIND columns. */
+    private Object[] objects;
+
+    /** Flags indicating positions whose value is null. */
+    private final BitSet nulls;
+
+    /** The number of values stored. */
+    private int size;
+
+    /**
+     * Constructs a new {@code InMemoryColumn}.
+     *
+     * @param theType the field type
+     */
+    InMemoryColumn(final EFieldType theType) {
+
+        this.type = theType;
+        this.kind = kindOf(theType);
+        this.nulls = new BitSet(INITIAL_CAPACITY);
+
+        switch (this.kind) {
+            case LONG_KIND -> this.longs = new long[INITIAL_CAPACITY];
+            case DOUBLE_KIND -> this.doubles = new double[INITIAL_CAPACITY];
+            case OBJECT_KIND -> this.objects = new Object[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Gets the storage kind used for a field type.
+     *
+     * @param type the field type
+     * @return the storage kind
+     */
+    static EKind kindOf(final EFieldType type) {
+
+        return switch (type) {
+            case INTEGER, LONG, BOOLEAN, LOCAL_DATE, LOCAL_TIME, LOCAL_DATE_TIME -> EKind.LONG_KIND;
+            case FLOAT, DOUBLE -> EKind.DOUBLE_KIND;
+            case DECIMAL, STRING, BINARY -> EKind.OBJECT_KIND;
+        };
+    }
+
+    /**
+     * Gets the field type.
+     *
+     * @return the field type
+     */
+    EFieldType getType() {
+
+        return this.type;
+    }
+
+    /**
+     * Gets the storage kind.
+     *
+     * @return the storage kind
+     */
+    EKind getKind() {
+
+        return this.kind;
+    }
+
+    /**
+     * Gets the number of values stored.
+     *
+     * @return the number of values
+     */
+    int size() {
+
+        return this.size;
+    }
+
+    /**
+     * Removes all stored values.
+     */
+    void clear() {
+
+        this.size = 0;
+        this.nulls.clear();
+        if (this.objects != null) {
+            Arrays.fill(this.objects, null);
+        }
+    }
+
+    /**
+     * Appends a value to the column.
+     *
+     * @param value the field value (may be {@code null})
+     */
+    void append(final Object value) {
+
+        ensureCapacity(this.size + 1);
+        final int pos = this.size;
+
+        if (value == null) {
+            this.nulls.set(pos);
+            if (this.objects != null) {
+                this.objects[pos] = null;
+            }
+        } else {
+            this.nulls.clear(pos);
+            switch (this.kind) {
+                case LONG_KIND -> this.longs[pos] = CompiledCriterion.encodeLong(value);
+                case DOUBLE_KIND -> this.doubles[pos] = CompiledCriterion.encodeDouble(value);
+                case OBJECT_KIND -> this.objects[pos] = value;
+            }
+        }
+
+        ++this.size;
+    }
+
+    /**
+     * Ensures the arrays have at least a specified capacity.
+     *
+     * @param capacity the required capacity
+     */
+    private void ensureCapacity(final int capacity) {
+
+        final int current = switch (this.kind) {
+            case LONG_KIND -> this.longs.length;
+            case DOUBLE_KIND -> this.doubles.length;
+            case OBJECT_KIND -> this.objects.length;
+        };
+
+        if (capacity > current) {
+            final int newCapacity = Math.max(capacity, current + (current >> 1));
+            switch (this.kind) {
+                case LONG_KIND -> this.longs = Arrays.copyOf(this.longs, newCapacity);
+                case DOUBLE_KIND -> this.doubles = Arrays.copyOf(this.doubles, newCapacity);
+                case OBJECT_KIND -> this.objects = Arrays.copyOf(this.objects, newCapacity);
+            }
+        }
+    }
+
+    /**
+     * Tests whether the value at a position is null.
+     *
+     * @param pos the position
+     * @return true if the value is null
+     */
+    boolean isNull(final int pos) {
+
+        return this.nulls.get(pos);
+    }
+
+    /**
+     * Gets the encoded value at a position in a LONG_KIND column.
+     *
+     * @param pos the position
+     * @return the encoded value
+     */
+    long getLong(final int pos) {
+
+        return this.longs[pos];
+    }
+
+    /**
+     * Gets the value at a position in a DOUBLE_KIND column.
+     *
+     * @param pos the position
+     * @return the value
+     */
+    double getDouble(final int pos) {
+
+        return this.doubles[pos];
+    }
+
+    /**
+     * Gets the value at a position in an OBJECT_KIND column.
+     *
+     * @param pos the position
+     * @return the value
+     */
+    Object getObject(final int pos) {
+
+        return this.objects[pos];
+    }
+
+    /**
+     * Gets a key that can be used in a hash index for the value at a position.  Keys are consistent with those
+     * generated by {@code keyOf(Object)} for the same value.
+     *
+     * @param pos the position
+     * @return the key; {@code null} if the value is null
+     */
+    Object keyAt(final int pos) {
+
+        final Object result;
+
+        if (this.nulls.get(pos)) {
+            result = null;
+        } else {
+            result = switch (this.kind) {
+                case LONG_KIND -> Long.valueOf(this.longs[pos]);
+                case DOUBLE_KIND -> Double.valueOf(this.doubles[pos]);
+                case OBJECT_KIND -> this.objects[pos];
+            };
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a key that can be used in a hash index for a value.
+     *
+     * @param value the value (not {@code null})
+     * @return the key
+     */
+    Object keyOf(final Object value) {
+
+        return switch (this.kind) {
+            case LONG_KIND -> Long.valueOf(CompiledCriterion.encodeLong(value));
+            case DOUBLE_KIND -> Double.valueOf(CompiledCriterion.encodeDouble(value));
+            case OBJECT_KIND -> value;
+        };
+    }
+
+    /**
+     * Compares the values at two positions.  Null values sort before all non-null values.
+     *
+     * @param pos1 the first position
+     * @param pos2 the second position
+     * @return a negative integer, zero, or a positive integer as the first value is less than, equal to, or greater
+     *         than the second
+     */
+    int compareAt(final int pos1, final int pos2) {
+
+        final boolean null1 = this.nulls.get(pos1);
+        final boolean null2 = this.nulls.get(pos2);
+
+        final int result;
+
+        if (null1) {
+            result = null2 ? 0 : -1;
+        } else if (null2) {
+            result = 1;
+        } else {
+            result = switch (this.kind) {
+                case LONG_KIND -> Long.compare(this.longs[pos1], this.longs[pos2]);
+                case DOUBLE_KIND -> Double.compare(this.doubles[pos1], this.doubles[pos2]);
+                case OBJECT_KIND -> compareObjects(this.objects[pos1], this.objects[pos2]);
+            };
+        }
+
+        return result;
+    }
+
+    /**
+     * Compares the (non-null) value at a position with a key generated by {@code keyOf}.
+     *
+     * @param pos the position
+     * @param key the key
+     * @return a negative integer, zero, or a positive integer as the value is less than, equal to, or greater than the
+     *         key
+     */
+    int compareToKey(final int pos, final Object key) {
+
+        return switch (this.kind) {
+            case LONG_KIND -> Long.compare(this.longs[pos], ((Long) key).longValue());
+            case DOUBLE_KIND -> Double.compare(this.doubles[pos], ((Double) key).doubleValue());
+            case OBJECT_KIND -> compareObjects(this.objects[pos], key);
+        };
+    }
+
+    /**
+     * Compares two non-null object values.  Strings and decimals use their natural ordering; other values (binary
+     * data) are not ordered and compare as equal.
+     *
+     * @param o1 the first object
+     * @param o2 the second object
+     * @return the comparison result
+     */
+    private static int compareObjects(final Object o1, final Object o2) {
+
+        final int result;
+
+        if (o1 instanceof final String s1 && o2 instanceof final String s2) {
+            result = s1.compareTo(s2);
+        } else if (o1 instanceof final BigDecimal d1 && o2 instanceof final BigDecimal d2) {
+            result = d1.compareTo(d2);
+        } else {
+            result = 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * Storage kinds.
+     */
+    enum EKind {
+
+        /** Values stored in a {@code long[]}. */
+        LONG_KIND,
+
+        /** Values stored in a {@code double[]}. */
+        DOUBLE_KIND,
+
+        /** Values stored in an {@code Object[]}. */
+        OBJECT_KIND,
+    }
+}
@@ -0,0 +1,246 @@
+package dev.mathops.db.table.impl;
+
+import dev.mathops.commons.log.Log;
+import dev.mathops.db.table.ETableValidationAction;
+import dev.mathops.db.table.ETableValidity;
+import dev.mathops.db.table.PersistenceException;
+import dev.mathops.db.table.Row;
+import dev.mathops.db.table.Table;
+import dev.mathops.db.table.TableValidationStatus;
+import dev.mathops.db.table.UpdatedValues;
+import dev.mathops.db.table.criteria.AbstractFieldCriterion;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An implementation that stores rows in memory, using columnar storage with hash indexes on partition key fields and
+ * sorted indexes on clustering key fields (see {@code InMemoryTable}).
+ *
+ * <p>
+ * This implementation can be used in two ways:
+ * <ul>
+ *     <li>Stand-alone (constructed with no backing implementation), as a fast substitute for a database in tests and
+ *     benchmarks.  Tables are created on demand, and data is lost when the object is discarded.</li>
+ *     <li>As a read-through, write-through cache in front of another implementation (such as
+ *     {@code GeneralPostgreSQLImpl}).  The first access to a table in a context loads all of that table's rows from
+ *     the backing implementation.  Writes are sent to the backing implementation first, and are applied to the cached
+ *     copy only if they succeed there.</li>
+ * </ul>
+ *
+ * <p>
+ * This class is thread-safe.  Operations on a single table are serialized; operations on different tables may proceed
+ * concurrently.
+ */
+public final class InMemoryImpl implements IImplementation {
+
+    /** The backing implementation; null if this is a stand-alone in-memory implementation. */
+    private final IImplementation backing;
+
+    /** A map from context to a map from table to that table's in-memory storage. */
+    private final Map<Integer, Map<Table, InMemoryTable>> contexts;
+
+    /**
+     * Constructs a new stand-alone {@code InMemoryImpl}.
+     */
+    public InMemoryImpl() {
+
+        this(null);
+    }
+
+    /**
+     * Constructs a new {@code InMemoryImpl} that acts as a cache in front of a backing implementation.
+     *
+     * @param theBacking the backing implementation; null for a stand-alone in-memory implementation
+     */
+    public InMemoryImpl(final IImplementation theBacking) {
+
+        this.backing = theBacking;
+        this.contexts = new HashMap<>(10);
+    }
+
+    /**
+     * Gets the in-memory storage for a table, creating it if needed.
+     *
+     * @param context the context
+     * @param table   the table
+     * @return the table storage
+     */
+    private InMemoryTable getTable(final int context, final Table table) {
+
+        synchronized (this.contexts) {
+            final Integer key = Integer.valueOf(context);
+            final Map<Table, InMemoryTable> tables = this.contexts.computeIfAbsent(key, k -> new HashMap<>(50));
+
+            return tables.computeIfAbsent(table, InMemoryTable::new);
+        }
+    }
+
+    /**
+     * Ensures a table's storage has been loaded from the backing implementation, if there is one.  The caller must
+     * hold the lock on the storage object.
+     *
+     * @param context the context
+     * @param table   the table
+     * @param storage the table storage
+     * @throws PersistenceException if there was an error loading the table from the backing implementation
+     */
+    private void ensureLoaded(final int context, final Table table, final InMemoryTable storage)
+            throws PersistenceException {
+
+        if (this.backing != null && !storage.isLoaded()) {
+            final List<Row> all = this.backing.query(context, table);
+            storage.clear();
+            storage.insert(all.toArray(EMPTY_ROW_ARRAY));
+            storage.setLoaded();
+        }
+    }
+
+    /**
+     * Discards any cached rows for a table so they will be reloaded from the backing implementation on the next access.
+     * This should be called if the data in the backing implementation may have been changed by some other process.
+     *
+     * @param context the context
+     * @param table   the table
+     */
+    public void forget(final int context, final Table table) {
+
+        synchronized (this.contexts) {
+            final Map<Table, InMemoryTable> tables = this.contexts.get(Integer.valueOf(context));
+            if (tables != null) {
+                tables.remove(table);
+            }
+        }
+    }
+
+    /**
+     * Discards all cached rows for all tables in all contexts.
+     */
+    public void forgetAll() {
+
+        synchronized (this.contexts) {
+            this.contexts.clear();
+        }
+    }
+
+    @Override
+    public TableValidationStatus validateTable(final int context, final Table table,
+                                               final ETableValidationAction action) throws PersistenceException {
+
+        final TableValidationStatus result;
+
+        if (this.backing == null) {
+            final boolean present;
+            synchronized (this.contexts) {
+                final Map<Table, InMemoryTable> tables = this.contexts.get(Integer.valueOf(context));
+                present = tables != null && tables.containsKey(table);
+            }
+
+            if (present) {
+                result = new TableValidationStatus(ETableValidity.VALID);
+            } else if (action == ETableValidationAction.CHECK_ONLY) {
+                result = new TableValidationStatus(ETableValidity.NOT_PRESENT);
+            } else {
+                getTable(context, table);
+                result = new TableValidationStatus(ETableValidity.VALID_AFTER_CHANGES);
+            }
+        } else {
+            result = this.backing.validateTable(context, table, action);
+        }
+
+        return result;
+    }
+
+    @Override
+    public int count(final int context, final Table table,
+                     final AbstractFieldCriterion... criteria) throws PersistenceException {
+
+        final InMemoryTable storage = getTable(context, table);
+
+        synchronized (storage) {
+            ensureLoaded(context, table, storage);
+            return storage.count(criteria);
+        }
+    }
+
+    @Override
+    public List<Row> query(final int context, final Table table,
+                           final AbstractFieldCriterion... criteria) throws PersistenceException {
+
+        final InMemoryTable storage = getTable(context, table);
+
+        synchronized (storage) {
+            ensureLoaded(context, table, storage);
+            return storage.query(criteria);
+        }
+    }
+
+    @Override
+    public int delete(final int context, final Table table,
+                      final AbstractFieldCriterion... criteria) throws PersistenceException {
+
+        final InMemoryTable storage = getTable(context, table);
+
+        synchronized (storage) {
+            ensureLoaded(context, table, storage);
+
+            final int backingResult = this.backing == null ? -1 : this.backing.delete(context, table, criteria);
+            final int result = storage.delete(criteria);
+
+            if (this.backing != null && backingResult != result) {
+                Log.warning("In-memory delete from '", table.getName(), "' affected ", Integer.toString(result),
+                        " rows, but backing store reported ", Integer.toString(backingResult));
+                storage.clearLoaded();
+            }
+
+            return result;
+        }
+    }
+
+    @Override
+    public int update(final int context, final Table table, final UpdatedValues newValues,
+                      final AbstractFieldCriterion... criteria) throws PersistenceException {
+
+        final InMemoryTable storage = getTable(context, table);
+
+        synchronized (storage) {
+            ensureLoaded(context, table, storage);
+            if (this.backing != null) {
+                this.backing.update(context, table, newValues, criteria);
+            }
+
+            try {
+                return storage.update(newValues, criteria);
+            } catch (final PersistenceException ex) {
+                if (this.backing != null) {
+                    // The backing store accepted a change we could not apply locally - reload on next access
+                    storage.clearLoaded();
+                }
+                throw ex;
+            }
+        }
+    }
+
+    @Override
+    public int insert(final int context, final Table table, final Row... toInsert) throws PersistenceException {
+
+        final InMemoryTable storage = getTable(context, table);
+
+        synchronized (storage) {
+            ensureLoaded(context, table, storage);
+            if (this.backing != null) {
+                this.backing.insert(context, table, toInsert);
+            }
+
+            try {
+                return storage.insert(toInsert);
+            } catch (final PersistenceException ex) {
+                if (this.backing != null) {
+                    storage.clearLoaded();
+                }
+                throw ex;
+            }
+        }
+    }
+}
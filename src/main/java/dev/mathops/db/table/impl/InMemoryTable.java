@@ -0,0 +1,855 @@
+package dev.mathops.db.table.impl;
+
+import dev.mathops.db.table.EFieldRole;
+import dev.mathops.db.table.EFieldType;
+import dev.mathops.db.table.Field;
+import dev.mathops.db.table.NullValue;
+import dev.mathops.db.table.PersistenceException;
+import dev.mathops.db.table.Row;
+import dev.mathops.db.table.Table;
+import dev.mathops.db.table.UpdatedValues;
+import dev.mathops.db.table.criteria.AbstractFieldCriterion;
+import dev.mathops.db.table.criteria.CompiledCriteria;
+import dev.mathops.db.table.criteria.CompiledCriterion;
+import dev.mathops.db.table.criteria.DoubleFieldCriterion;
+import dev.mathops.db.table.criteria.ENumericMatchType;
+import dev.mathops.db.table.criteria.EStringMatchType;
+import dev.mathops.db.table.criteria.FloatFieldCriterion;
+import dev.mathops.db.table.criteria.IntegerFieldCriterion;
+import dev.mathops.db.table.criteria.LocaDateTimeFieldCriterion;
+import dev.mathops.db.table.criteria.LocalDateFieldCriterion;
+import dev.mathops.db.table.criteria.LocalTimeFieldCriterion;
+import dev.mathops.db.table.criteria.LongFieldCriterion;
+import dev.mathops.db.table.criteria.StringFieldCriterion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The in-memory storage for the rows of a single table within a single context.
+ *
+ * <p>
+ * Field values are stored in one {@code InMemoryColumn} per field.  The original (immutable) {@code Row} objects are
+ * retained as well so query results can be returned without re-validating field values.
+ *
+ * <p>
+ * A hash index (from value to the list of row positions having that value) is maintained for every field whose role
+ * is {@code PARTITION_KEY}, and a sorted index (an array of row positions, ordered by field value) is maintained for
+ * every field whose role is {@code CLUSTERING_KEY}.  Sorted indexes are rebuilt lazily, on the first query that needs
+ * them after a change.
+ *
+ * <p>
+ * Instances are not thread-safe; {@code InMemoryImpl} synchronizes on the instance around every operation.
+ */
+final class InMemoryTable {
+
+    /** The table. */
+    private final Table table;
+
+    /** The columns, one per field, in field order. */
+    private final InMemoryColumn[] columns;
+
+    /** The rows, in insertion order. */
+    private final List<Row> rows;
+
+    /** Hash indexes, indexed by field index ({@code null} for fields that are not partition keys). */
+    private final Map<Object, IntList>[] hashIndexes;
+
+    /** Sorted indexes, indexed by field index ({@code null} for fields that are not clustering keys). */
+    private final int[][] sortedIndexes;
+
+    /** Flags indicating sorted indexes that need to be rebuilt, indexed by field index. */
+    private final boolean[] sortedDirty;
+
+    /** The set of primary keys present, used to reject duplicate inserts. */
+    private final Map<List<Object>, Row> primaryKeys;
+
+    /** True if the rows have been loaded from a backing implementation. */
+    private boolean loaded;
+
+    /**
+     * Constructs a new {@code InMemoryTable}.
+     *
+     * @param theTable the table
+     */
+    @SuppressWarnings("unchecked")
+    InMemoryTable(final Table theTable) {
+
+        this.table = theTable;
+
+        final int numFields = theTable.getNumFields();
+        this.columns = new InMemoryColumn[numFields];
+        this.hashIndexes = new Map[numFields];
+        this.sortedIndexes = new int[numFields][];
+        this.sortedDirty = new boolean[numFields];
+
+        for (int i = 0; i < numFields; ++i) {
+            final Field field = theTable.getField(i);
+            this.columns[i] = new InMemoryColumn(field.getDef().getType());
+
+            final EFieldRole role = field.getRole();
+            if (role == EFieldRole.PARTITION_KEY) {
+                this.hashIndexes[i] = new HashMap<>(100);
+            } else if (role == EFieldRole.CLUSTERING_KEY) {
+                this.sortedIndexes[i] = new int[0];
+            }
+        }
+
+        this.rows = new ArrayList<>(100);
+        this.primaryKeys = new HashMap<>(100);
+    }
+
+    /**
+     * Gets the number of rows stored.
+     *
+     * @return the number of rows
+     */
+    int size() {
+
+        return this.rows.size();
+    }
+
+    /**
+     * Tests whether the rows have been loaded from a backing implementation.
+     *
+     * @return true if loaded
+     */
+    boolean isLoaded() {
+
+        return this.loaded;
+    }
+
+    /**
+     * Marks the rows as having been loaded from a backing implementation.
+     */
+    void setLoaded() {
+
+        this.loaded = true;
+    }
+
+    /**
+     * Marks the rows as needing to be reloaded from a backing implementation.
+     */
+    void clearLoaded() {
+
+        this.loaded = false;
+    }
+
+    /**
+     * Removes all rows.
+     */
+    void clear() {
+
+        this.rows.clear();
+        this.primaryKeys.clear();
+        for (final InMemoryColumn column : this.columns) {
+            column.clear();
+        }
+        for (final Map<Object, IntList> index : this.hashIndexes) {
+            if (index != null) {
+                index.clear();
+            }
+        }
+        Arrays.fill(this.sortedDirty, true);
+    }
+
+    /**
+     * Inserts rows.  If any row would duplicate the primary key of an existing row (or of another row being inserted),
+     * no rows are inserted.
+     *
+     * @param toInsert the rows to insert
+     * @return the number of rows inserted
+     * @throws PersistenceException if a row belongs to a different table or would duplicate a primary key
+     */
+    int insert(final Row... toInsert) throws PersistenceException {
+
+        final Map<List<Object>, Row> newKeys = new HashMap<>(toInsert.length);
+
+        for (final Row row : toInsert) {
+            if (!this.table.equals(row.getTable())) {
+                throw new PersistenceException("Row does not belong to table '" + this.table.getName() + "'");
+            }
+            final List<Object> key = primaryKeyOf(row);
+            if (key != null && (this.primaryKeys.containsKey(key) || newKeys.put(key, row) != null)) {
+                throw new PersistenceException("Insert would duplicate a primary key in '" + this.table.getName()
+                                               + "'");
+            }
+        }
+
+        for (final Row row : toInsert) {
+            append(row);
+        }
+
+        return toInsert.length;
+    }
+
+    /**
+     * Appends a row to storage and updates all indexes.
+     *
+     * @param row the row
+     */
+    private void append(final Row row) {
+
+        final int pos = this.rows.size();
+        this.rows.add(row);
+
+        final List<Object> key = primaryKeyOf(row);
+        if (key != null) {
+            this.primaryKeys.put(key, row);
+        }
+
+        final int numFields = this.columns.length;
+        for (int i = 0; i < numFields; ++i) {
+            final InMemoryColumn column = this.columns[i];
+            column.append(row.getFieldValue(i));
+
+            final Map<Object, IntList> hashIndex = this.hashIndexes[i];
+            if (hashIndex != null) {
+                final Object indexKey = column.keyAt(pos);
+                hashIndex.computeIfAbsent(indexKey, k -> new IntList()).add(pos);
+            }
+            if (this.sortedIndexes[i] != null) {
+                this.sortedDirty[i] = true;
+            }
+        }
+    }
+
+    /**
+     * Generates the primary key of a row (the list of its partition and clustering key values).
+     *
+     * @param row the row
+     * @return the primary key; {@code null} if the table defines no key fields
+     */
+    private List<Object> primaryKeyOf(final Row row) {
+
+        List<Object> result = null;
+
+        final int numFields = this.columns.length;
+        for (int i = 0; i < numFields; ++i) {
+            final EFieldRole role = this.table.getField(i).getRole();
+            if (role == EFieldRole.PARTITION_KEY || role == EFieldRole.CLUSTERING_KEY) {
+                if (result == null) {
+                    result = new ArrayList<>(4);
+                }
+                final Object value = row.getFieldValue(i);
+                result.add(value == null ? null : this.columns[i].keyOf(value));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Counts the rows that match a set of criteria.
+     *
+     * @param criteria the criteria
+     * @return the number of matching rows
+     * @throws PersistenceException if a criterion is not supported
+     */
+    int count(final AbstractFieldCriterion... criteria) throws PersistenceException {
+
+        return findMatches(criteria).size();
+    }
+
+    /**
+     * Queries the rows that match a set of criteria.
+     *
+     * @param criteria the criteria
+     * @return the matching rows, in insertion order
+     * @throws PersistenceException if a criterion is not supported
+     */
+    List<Row> query(final AbstractFieldCriterion... criteria) throws PersistenceException {
+
+        final IntList matches = findMatches(criteria);
+        final int count = matches.size();
+
+        final List<Row> result = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            result.add(this.rows.get(matches.get(i)));
+        }
+
+        return result;
+    }
+
+    /**
+     * Deletes the rows that match a set of criteria.
+     *
+     * @param criteria the criteria
+     * @return the number of rows deleted
+     * @throws PersistenceException if a criterion is not supported
+     */
+    int delete(final AbstractFieldCriterion... criteria) throws PersistenceException {
+
+        final IntList matches = findMatches(criteria);
+        final int count = matches.size();
+
+        if (count > 0) {
+            final boolean[] deleted = new boolean[this.rows.size()];
+            for (int i = 0; i < count; ++i) {
+                deleted[matches.get(i)] = true;
+            }
+
+            final List<Row> remaining = new ArrayList<>(this.rows.size() - count);
+            final int numRows = this.rows.size();
+            for (int i = 0; i < numRows; ++i) {
+                if (!deleted[i]) {
+                    remaining.add(this.rows.get(i));
+                }
+            }
+
+            rebuild(remaining);
+        }
+
+        return count;
+    }
+
+    /**
+     * Updates the rows that match a set of criteria.
+     *
+     * @param newValues the new values
+     * @param criteria  the criteria
+     * @return the number of rows updated
+     * @throws PersistenceException if a criterion is not supported, or the update would duplicate a primary key
+     */
+    int update(final UpdatedValues newValues, final AbstractFieldCriterion... criteria) throws PersistenceException {
+
+        final IntList matches = findMatches(criteria);
+        final int count = matches.size();
+
+        if (count > 0) {
+            final int numFields = this.columns.length;
+            final int numRows = this.rows.size();
+            final List<Row> updated = new ArrayList<>(this.rows);
+
+            for (int i = 0; i < count; ++i) {
+                final int pos = matches.get(i);
+                final Row old = this.rows.get(pos);
+
+                final Object[] values = new Object[numFields];
+                for (int j = 0; j < numFields; ++j) {
+                    final Object newValue = newValues.getFieldValue(j);
+                    if (newValue == null) {
+                        values[j] = old.getFieldValue(j);
+                    } else if (newValue != NullValue.INSTANCE) {
+                        values[j] = newValue;
+                    }
+                }
+
+                try {
+                    updated.set(pos, new Row(this.table, values));
+                } catch (final IllegalArgumentException ex) {
+                    throw new PersistenceException("Updated row is not valid", ex);
+                }
+            }
+
+            final Map<List<Object>, Row> keys = new HashMap<>(numRows);
+            for (final Row row : updated) {
+                final List<Object> key = primaryKeyOf(row);
+                if (key != null && keys.put(key, row) != null) {
+                    throw new PersistenceException("Update would duplicate a primary key in '" + this.table.getName()
+                                                   + "'");
+                }
+            }
+
+            rebuild(updated);
+        }
+
+        return count;
+    }
+
+    /**
+     * Rebuilds storage and all indexes from a list of rows.
+     *
+     * @param newRows the new list of rows
+     */
+    private void rebuild(final List<Row> newRows) {
+
+        clear();
+        for (final Row row : newRows) {
+            append(row);
+        }
+    }
+
+    /**
+     * Finds the positions of all rows that match a set of criteria.  If any criterion can be answered from an index,
+     * the most selective such criterion is used to generate a candidate list; the remaining criteria are then
+     * evaluated against only those candidates.
+     *
+     * @param criteria the criteria
+     * @return the list of matching row positions, in increasing order
+     * @throws PersistenceException if a criterion is not supported or refers to a field not in the table
+     */
+    private IntList findMatches(final AbstractFieldCriterion... criteria) throws PersistenceException {
+
+        final CompiledCriteria compiled;
+        try {
+            compiled = CompiledCriteria.compile(this.table, criteria);
+        } catch (final IllegalArgumentException ex) {
+            throw new PersistenceException("Unable to evaluate criteria on '" + this.table.getName() + "'", ex);
+        }
+
+        final int numCriteria = compiled.getNumCriteria();
+
+        IntList candidates = null;
+        int indexedCriterion = -1;
+        for (int i = 0; i < numCriteria; ++i) {
+            final IntList fromIndex = lookUpInIndex(criteria[i], compiled.getCriterion(i).getFieldIndex());
+            if (fromIndex != null && (candidates == null || fromIndex.size() < candidates.size())) {
+                candidates = fromIndex;
+                indexedCriterion = i;
+            }
+        }
+
+        final IntList result;
+        if (candidates == null) {
+            final int numRows = this.rows.size();
+            result = new IntList(numRows);
+            for (int pos = 0; pos < numRows; ++pos) {
+                if (matchesAll(compiled, -1, pos)) {
+                    result.add(pos);
+                }
+            }
+        } else {
+            candidates.sort();
+            final int numCandidates = candidates.size();
+            result = new IntList(numCandidates);
+            int prior = -1;
+            for (int i = 0; i < numCandidates; ++i) {
+                final int pos = candidates.get(i);
+                // Candidates may contain duplicates if a criterion listed the same value more than once
+                if (pos != prior && matchesAll(compiled, indexedCriterion, pos)) {
+                    result.add(pos);
+                }
+                prior = pos;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Tests whether a row matches all compiled criteria.
+     *
+     * @param compiled the compiled criteria
+     * @param skip     the index of a criterion that need not be tested (already satisfied); -1 if none
+     * @param pos      the row position
+     * @return true if the row matches all criteria
+     */
+    private boolean matchesAll(final CompiledCriteria compiled, final int skip, final int pos) {
+
+        final int numCriteria = compiled.getNumCriteria();
+        for (int i = 0; i < numCriteria; ++i) {
+            if (i != skip) {
+                final CompiledCriterion criterion = compiled.getCriterion(i);
+                final InMemoryColumn column = this.columns[criterion.getFieldIndex()];
+
+                final boolean matches;
+                if (column.isNull(pos)) {
+                    matches = criterion.matchesNull();
+                } else {
+                    matches = switch (column.getKind()) {
+                        case LONG_KIND -> criterion.matchesLong(column.getLong(pos));
+                        case DOUBLE_KIND -> criterion.matchesDouble(column.getDouble(pos));
+                        case OBJECT_KIND -> criterion.matches(column.getObject(pos));
+                    };
+                }
+
+                if (!matches) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Attempts to answer a criterion from an index.
+     *
+     * @param criterion  the criterion
+     * @param fieldIndex the index of the criterion's field
+     * @return the list of row positions that satisfy the criterion (in no particular order); {@code null} if the
+     *         criterion cannot be answered from an index
+     */
+    private IntList lookUpInIndex(final AbstractFieldCriterion criterion, final int fieldIndex) {
+
+        final InMemoryColumn column = this.columns[fieldIndex];
+        final Object[] values = criterionValues(criterion);
+        final ENumericMatchType rangeType = rangeTypeOf(criterion);
+
+        IntList result = null;
+
+        final Map<Object, IntList> hashIndex = this.hashIndexes[fieldIndex];
+        if (hashIndex != null && rangeType == ENumericMatchType.EXACT_IN && values != null) {
+            result = new IntList(values.length);
+            for (final Object value : values) {
+                final IntList found = hashIndex.get(column.keyOf(value));
+                if (found != null) {
+                    result.addAll(found);
+                }
+            }
+        } else if (this.sortedIndexes[fieldIndex] != null && rangeType != null && values != null
+                   && column.getType() != EFieldType.BINARY) {
+            result = rangeLookUp(fieldIndex, rangeType, values);
+        }
+
+        return result;
+    }
+
+    /**
+     * Answers a criterion from a sorted index.
+     *
+     * @param fieldIndex the field index
+     * @param rangeType  the match type
+     * @param values     the criterion values
+     * @return the list of matching row positions; {@code null} if the match type is not a range
+     */
+    private IntList rangeLookUp(final int fieldIndex, final ENumericMatchType rangeType, final Object[] values) {
+
+        final int[] sorted = sortedIndex(fieldIndex);
+        final InMemoryColumn column = this.columns[fieldIndex];
+
+        // Non-null values occupy the tail of the sorted index, since nulls sort first
+        int firstNonNull = 0;
+        while (firstNonNull < sorted.length && column.isNull(sorted[firstNonNull])) {
+            ++firstNonNull;
+        }
+
+        IntList result = null;
+
+        if (rangeType == ENumericMatchType.EXACT_IN) {
+            result = new IntList(values.length);
+            for (final Object value : values) {
+                final Object key = column.keyOf(value);
+                final int start = firstPosition(sorted, firstNonNull, column, key, false);
+                final int end = firstPosition(sorted, firstNonNull, column, key, true);
+                for (int i = start; i < end; ++i) {
+                    result.add(sorted[i]);
+                }
+            }
+        } else {
+            final Object lowKey = column.keyOf(values[0]);
+            final Object highKey = values.length > 1 ? column.keyOf(values[1]) : lowKey;
+
+            int start = firstNonNull;
+            int end = sorted.length;
+
+            switch (rangeType) {
+                case GREATER_THAN -> start = firstPosition(sorted, firstNonNull, column, lowKey, true);
+                case GREATER_THAN_OR_EQUAL -> start = firstPosition(sorted, firstNonNull, column, lowKey, false);
+                case LESS_THAN -> end = firstPosition(sorted, firstNonNull, column, lowKey, false);
+                case LESS_THAN_OR_EQUAL -> end = firstPosition(sorted, firstNonNull, column, lowKey, true);
+                case BETWEEN_EXCLUDE_BOUNDS -> {
+                    start = firstPosition(sorted, firstNonNull, column, lowKey, true);
+                    end = firstPosition(sorted, firstNonNull, column, highKey, false);
+                }
+                case BETWEEN_EXCLUDE_LOWER_BOUND -> {
+                    start = firstPosition(sorted, firstNonNull, column, lowKey, true);
+                    end = firstPosition(sorted, firstNonNull, column, highKey, true);
+                }
+                case BETWEEN_EXCLUDE_UPPER_BOUND -> {
+                    start = firstPosition(sorted, firstNonNull, column, lowKey, false);
+                    end = firstPosition(sorted, firstNonNull, column, highKey, false);
+                }
+                case BETWEEN_INCLUDE_BOUNDS -> {
+                    start = firstPosition(sorted, firstNonNull, column, lowKey, false);
+                    end = firstPosition(sorted, firstNonNull, column, highKey, true);
+                }
+                default -> start = -1;
+            }
+
+            if (start >= 0) {
+                result = new IntList(Math.max(0, end - start));
+                for (int i = start; i < end; ++i) {
+                    result.add(sorted[i]);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Finds the first position in a sorted index (at or after a starting point) whose value is greater than or equal
+     * to (or strictly greater than) a key.
+     *
+     * @param sorted        the sorted index
+     * @param from          the first index to consider
+     * @param column        the column
+     * @param key           the key
+     * @param strictlyAfter true to find the first value strictly greater than the key; false to find the first value
+     *                      greater than or equal to the key
+     * @return the index in the sorted array
+     */
+    private static int firstPosition(final int[] sorted, final int from, final InMemoryColumn column, final Object key,
+                                     final boolean strictlyAfter) {
+
+        int low = from;
+        int high = sorted.length;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = column.compareToKey(sorted[mid], key);
+            if (cmp < 0 || (strictlyAfter && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Gets the sorted index for a field, rebuilding it if it is out of date.
+     *
+     * @param fieldIndex the field index
+     * @return the sorted index
+     */
+    private int[] sortedIndex(final int fieldIndex) {
+
+        if (this.sortedDirty[fieldIndex]) {
+            final InMemoryColumn column = this.columns[fieldIndex];
+            final int numRows = this.rows.size();
+
+            final int[] sorted = new int[numRows];
+            for (int i = 0; i < numRows; ++i) {
+                sorted[i] = i;
+            }
+            sortPositions(sorted, new int[numRows], 0, numRows, column);
+
+            this.sortedIndexes[fieldIndex] = sorted;
+            this.sortedDirty[fieldIndex] = false;
+        }
+
+        return this.sortedIndexes[fieldIndex];
+    }
+
+    /**
+     * Sorts a range of row positions by the values in a column, using a stable merge sort on primitive arrays.
+     *
+     * @param positions the row positions to sort
+     * @param work      a work array at least as long as {@code positions}
+     * @param from      the first index in the range
+     * @param to        the index after the last index in the range
+     * @param column    the column whose values determine the order
+     */
+    private static void sortPositions(final int[] positions, final int[] work, final int from, final int to,
+                                      final InMemoryColumn column) {
+
+        if (to - from > 1) {
+            final int mid = (from + to) >>> 1;
+            sortPositions(positions, work, from, mid, column);
+            sortPositions(positions, work, mid, to, column);
+
+            if (column.compareAt(positions[mid - 1], positions[mid]) > 0) {
+                System.arraycopy(positions, from, work, from, to - from);
+
+                int left = from;
+                int right = mid;
+                for (int i = from; i < to; ++i) {
+                    if (right >= to || (left < mid && column.compareAt(work[left], work[right]) <= 0)) {
+                        positions[i] = work[left];
+                        ++left;
+                    } else {
+                        positions[i] = work[right];
+                        ++right;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the match type of a criterion as a numeric match type if the criterion is one that can be answered from an
+     * index (an exact match or a range).
+     *
+     * @param criterion the criterion
+     * @return the match type; {@code null} if the criterion cannot be answered from an index
+     */
+    private static ENumericMatchType rangeTypeOf(final AbstractFieldCriterion criterion) {
+
+        ENumericMatchType result = null;
+
+        if (criterion instanceof final StringFieldCriterion str) {
+            if (str.getMatchType() == EStringMatchType.EXACT_IN) {
+                result = ENumericMatchType.EXACT_IN;
+            }
+        } else if (criterion instanceof final IntegerFieldCriterion integer) {
+            result = integer.getMatchType();
+        } else if (criterion instanceof final LongFieldCriterion lng) {
+            result = lng.getMatchType();
+        } else if (criterion instanceof final FloatFieldCriterion flt) {
+            result = flt.getMatchType();
+        } else if (criterion instanceof final DoubleFieldCriterion dbl) {
+            result = dbl.getMatchType();
+        } else if (criterion instanceof final LocalDateFieldCriterion date) {
+            result = CompiledCriterion.toNumeric(date.getMatchType());
+        } else if (criterion instanceof final LocalTimeFieldCriterion time) {
+            result = CompiledCriterion.toNumeric(time.getMatchType());
+        } else if (criterion instanceof final LocaDateTimeFieldCriterion dateTime) {
+            result = CompiledCriterion.toNumeric(dateTime.getMatchType());
+        }
+
+        if (result == ENumericMatchType.IS_NULL || result == ENumericMatchType.IS_NOT_NULL
+            || result == ENumericMatchType.EXACT_NOT_IN) {
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the match values from a criterion.
+     *
+     * @param criterion the criterion
+     * @return the values; {@code null} if the criterion type has no values
+     */
+    private static Object[] criterionValues(final AbstractFieldCriterion criterion) {
+
+        Object[] result = null;
+
+        if (criterion instanceof final StringFieldCriterion str) {
+            final int count = str.getNumStrings();
+            result = new Object[count];
+            for (int i = 0; i < count; ++i) {
+                result[i] = str.getString(i);
+            }
+        } else if (criterion instanceof final IntegerFieldCriterion integer) {
+            final int count = integer.getNumIntegers();
+            result = new Object[count];
+            for (int i = 0; i < count; ++i) {
+                result[i] = integer.getInteger(i);
+            }
+        } else if (criterion instanceof final LongFieldCriterion lng) {
+            final int count = lng.getNumLongs();
+            result = new Object[count];
+            for (int i = 0; i < count; ++i) {
+                result[i] = lng.getLong(i);
+            }
+        } else if (criterion instanceof final FloatFieldCriterion flt) {
+            final int count = flt.getNumFloats();
+            result = new Object[count];
+            for (int i = 0; i < count; ++i) {
+                result[i] = flt.getFloat(i);
+            }
+        } else if (criterion instanceof final DoubleFieldCriterion dbl) {
+            final int count = dbl.getNumDoubles();
+            result = new Object[count];
+            for (int i = 0; i < count; ++i) {
+                result[i] = dbl.getDouble(i);
+            }
+        } else if (criterion instanceof final LocalDateFieldCriterion date) {
+            final int count = date.getNumLocalDates();
+            result = new Object[count];
+            for (int i = 0; i < count; ++i) {
+                result[i] = date.getLocalDate(i);
+            }
+        } else if (criterion instanceof final LocalTimeFieldCriterion time) {
+            final int count = time.getNumLocalTimes();
+            result = new Object[count];
+            for (int i = 0; i < count; ++i) {
+                result[i] = time.getLocalTime(i);
+            }
+        } else if (criterion instanceof final LocaDateTimeFieldCriterion dateTime) {
+            final int count = dateTime.getNumLocalDateTimes();
+            result = new Object[count];
+            for (int i = 0; i < count; ++i) {
+                result[i] = dateTime.getLocalDateTime(i);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * A growable list of primitive integers (row positions).
+     */
+    static final class IntList {
+
+        /** The values. */
+        private int[] values;
+
+        /** The number of values. */
+        private int size;
+
+        /**
+         * Constructs a new {@code IntList}.
+         */
+        IntList() {
+
+            this(4);
+        }
+
+        /**
+         * Constructs a new {@code IntList}.
+         *
+         * @param capacity the initial capacity
+         */
+        IntList(final int capacity) {
+
+            this.values = new int[Math.max(4, capacity)];
+        }
+
+        /**
+         * Adds a value.
+         *
+         * @param value the value
+         */
+        void add(final int value) {
+
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size + (this.size >> 1) + 1);
+            }
+            this.values[this.size] = value;
+            ++this.size;
+        }
+
+        /**
+         * Adds all values from another list.
+         *
+         * @param other the other list
+         */
+        void addAll(final IntList other) {
+
+            final int newSize = this.size + other.size;
+            if (newSize > this.values.length) {
+                this.values = Arrays.copyOf(this.values, newSize);
+            }
+            System.arraycopy(other.values, 0, this.values, this.size, other.size);
+            this.size = newSize;
+        }
+
+        /**
+         * Gets a value.
+         *
+         * @param index the index
+         * @return the value
+         */
+        int get(final int index) {
+
+            return this.values[index];
+        }
+
+        /**
+         * Gets the number of values.
+         *
+         * @return the number of values
+         */
+        int size() {
+
+            return this.size;
+        }
+
+        /**
+         * Sorts the values in increasing order.
+         */
+        void sort() {
+
+            Arrays.sort(this.values, 0, this.size);
+        }
+    }
+}
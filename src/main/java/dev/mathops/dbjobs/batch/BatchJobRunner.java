@@ -0,0 +1,357 @@
+package dev.mathops.dbjobs.batch;
+
+import dev.mathops.commons.log.Log;
+import dev.mathops.db.DbActivity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs a set of batch jobs, running jobs concurrently when their dependencies allow.
+ *
+ * <p>
+ * Each job declares the jobs that must complete before it starts, and the shared resources it uses (like "ODS" for a
+ * connection to the ODS).  Resources can be given limits on the number of jobs that may use them at once.  A job may
+ * also have a check that determines whether it has anything to do; a job with nothing to do is skipped, and counts as
+ * complete for its dependents.  If a job fails, jobs that depend on it (directly or indirectly) are not run.
+ *
+ * <p>
+ * For each job, the runner records the wall-clock time spent waiting for resources and running, and the number of
+ * database statements executed and rows touched on the job's thread (see {@code DbActivity}).  Database work a job
+ * hands to other threads is counted only if the job wraps those tasks with {@code DbActivity.propagate}, so the counts
+ * are a lower bound for jobs that do not.
+ */
+public final class BatchJobRunner {
+
+    /** The maximum number of jobs to run at once. */
+    private final int maxConcurrent;
+
+    /** Map from resource name to the number of jobs that may use the resource at once. */
+    private final Map<String, Integer> resourceLimits;
+
+    /** Map from job name to job, in the order jobs were added. */
+    private final Map<String, Job> jobs;
+
+    /**
+     * Constructs a new {@code BatchJobRunner}.
+     *
+     * @param theMaxConcurrent  the maximum number of jobs to run at once
+     * @param theResourceLimits map from resource name to the number of jobs that may use the resource at once
+     *                          (resources not in this map are not limited)
+     */
+    public BatchJobRunner(final int theMaxConcurrent, final Map<String, Integer> theResourceLimits) {
+
+        if (theMaxConcurrent < 1) {
+            throw new IllegalArgumentException("Maximum concurrent jobs must be at least 1");
+        }
+
+        this.maxConcurrent = theMaxConcurrent;
+        this.resourceLimits = new HashMap<>(theResourceLimits);
+        this.jobs = new LinkedHashMap<>(20);
+    }
+
+    /**
+     * Adds a job.
+     *
+     * @param job the job
+     */
+    public void add(final Job job) {
+
+        if (this.jobs.containsKey(job.name())) {
+            throw new IllegalArgumentException("Duplicate job name: " + job.name());
+        }
+
+        this.jobs.put(job.name(), job);
+    }
+
+    /**
+     * Runs all jobs, returning when every job has completed, failed, or been skipped.
+     *
+     * @return the job results, in the order jobs finished
+     * @throws IllegalArgumentException if a job depends on a job that was not added, or dependencies form a cycle
+     */
+    public List<JobResult> run() {
+
+        // Map from job name to names of jobs that depend on it, and to the number of incomplete dependencies
+        final Map<String, List<String>> dependents = new HashMap<>(this.jobs.size());
+        final Map<String, Integer> waitingOn = new HashMap<>(this.jobs.size());
+
+        for (final Job job : this.jobs.values()) {
+            for (final String dep : job.dependsOn()) {
+                if (!this.jobs.containsKey(dep)) {
+                    throw new IllegalArgumentException("Job " + job.name() + " depends on unknown job " + dep);
+                }
+                dependents.computeIfAbsent(dep, key -> new ArrayList<>(4)).add(job.name());
+            }
+            waitingOn.put(job.name(), Integer.valueOf(job.dependsOn().size()));
+        }
+        checkForCycles(dependents, waitingOn);
+
+        final Map<String, Semaphore> semaphores = new HashMap<>(this.resourceLimits.size());
+        for (final Map.Entry<String, Integer> entry : this.resourceLimits.entrySet()) {
+            semaphores.put(entry.getKey(), new Semaphore(entry.getValue().intValue(), true));
+        }
+
+        final List<JobResult> results = new ArrayList<>(this.jobs.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(this.maxConcurrent);
+
+        try {
+            final CompletionService<JobResult> completion = new ExecutorCompletionService<>(executor);
+            int outstanding = 0;
+
+            for (final Job job : this.jobs.values()) {
+                if (job.dependsOn().isEmpty()) {
+                    completion.submit(new JobTask(job, semaphores));
+                    ++outstanding;
+                }
+            }
+
+            while (outstanding > 0) {
+                final JobResult result = completion.take().get();
+                --outstanding;
+                results.add(result);
+                Log.info(result);
+
+                final boolean succeeded = result.status() != EJobStatus.FAILED;
+                final List<String> waiting = dependents.getOrDefault(result.name(), List.of());
+
+                for (final String name : waiting) {
+                    if (succeeded) {
+                        final int remaining = waitingOn.get(name).intValue() - 1;
+                        waitingOn.put(name, Integer.valueOf(remaining));
+                        if (remaining == 0) {
+                            completion.submit(new JobTask(this.jobs.get(name), semaphores));
+                            ++outstanding;
+                        }
+                    } else {
+                        skipBlocked(name, result.name(), dependents, waitingOn, results);
+                    }
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Log.warning("Interrupted while running batch jobs", ex);
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            Log.warning("Batch job task failed", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+
+    /**
+     * Verifies that job dependencies do not form a cycle.
+     *
+     * @param dependents map from job name to the names of jobs that depend on it
+     * @param waitingOn  map from job name to the number of jobs it depends on
+     * @throws IllegalArgumentException if dependencies form a cycle
+     */
+    private static void checkForCycles(final Map<String, List<String>> dependents,
+                                       final Map<String, Integer> waitingOn) {
+
+        final Map<String, Integer> remaining = new HashMap<>(waitingOn);
+        final List<String> ready = new ArrayList<>(remaining.size());
+        for (final Map.Entry<String, Integer> entry : remaining.entrySet()) {
+            if (entry.getValue().intValue() == 0) {
+                ready.add(entry.getKey());
+            }
+        }
+
+        int visited = 0;
+        while (!ready.isEmpty()) {
+            final String name = ready.removeLast();
+            ++visited;
+            for (final String dependent : dependents.getOrDefault(name, List.of())) {
+                final int count = remaining.get(dependent).intValue() - 1;
+                remaining.put(dependent, Integer.valueOf(count));
+                if (count == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (visited != remaining.size()) {
+            throw new IllegalArgumentException("Batch job dependencies form a cycle");
+        }
+    }
+
+    /**
+     * Records a job (and, recursively, its dependents) as blocked because a job it depends on failed.
+     *
+     * @param name       the name of the job to skip
+     * @param cause      the name of the failed job
+     * @param dependents map from job name to the names of jobs that depend on it
+     * @param waitingOn  map from job name to the number of incomplete jobs it depends on
+     * @param results    the list to which to add results
+     */
+    private static void skipBlocked(final String name, final String cause,
+                                    final Map<String, List<String>> dependents, final Map<String, Integer> waitingOn,
+                                    final Collection<? super JobResult> results) {
+
+        // A negative count marks a job that has already been skipped
+        if (waitingOn.get(name).intValue() >= 0) {
+            waitingOn.put(name, Integer.valueOf(-1));
+
+            final JobResult skipped = new JobResult(name, EJobStatus.BLOCKED, 0L, 0L, 0L, 0L,
+                    "Not run because " + cause + " failed");
+            results.add(skipped);
+            Log.info(skipped);
+
+            for (final String dependent : dependents.getOrDefault(name, List.of())) {
+                skipBlocked(dependent, cause, dependents, waitingOn, results);
+            }
+        }
+    }
+
+    /**
+     * A task that runs a single job on a worker thread.
+     */
+    private static final class JobTask implements Callable<JobResult> {
+
+        /** The job. */
+        private final Job job;
+
+        /** Map from resource name to the semaphore that limits its use. */
+        private final Map<String, Semaphore> semaphores;
+
+        /**
+         * Constructs a new {@code JobTask}.
+         *
+         * @param theJob        the job
+         * @param theSemaphores map from resource name to the semaphore that limits its use
+         */
+        JobTask(final Job theJob, final Map<String, Semaphore> theSemaphores) {
+
+            this.job = theJob;
+            this.semaphores = theSemaphores;
+        }
+
+        /**
+         * Runs the job.
+         *
+         * @return the job result
+         */
+        @Override
+        public JobResult call() {
+
+            final long start = System.nanoTime();
+            long started = start;
+
+            // Acquire resources in a consistent order so jobs sharing several resources cannot deadlock
+            final List<Semaphore> acquired = new ArrayList<>(this.job.resources().size());
+
+            EJobStatus status;
+            String message;
+            final DbActivity activity = DbActivity.begin();
+
+            try {
+                for (final String resource : new TreeSet<>(this.job.resources())) {
+                    final Semaphore semaphore = this.semaphores.get(resource);
+                    if (semaphore != null) {
+                        semaphore.acquire();
+                        acquired.add(semaphore);
+                    }
+                }
+                started = System.nanoTime();
+
+                if (this.job.hasWork() == null || this.job.hasWork().getAsBoolean()) {
+                    message = this.job.action().call();
+                    status = EJobStatus.COMPLETED;
+                } else {
+                    message = "Nothing to do";
+                    status = EJobStatus.NO_WORK;
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                message = "Interrupted";
+                status = EJobStatus.FAILED;
+            } catch (final Exception ex) {
+                Log.warning("Batch job ", this.job.name(), " failed", ex);
+                message = ex.getMessage();
+                status = EJobStatus.FAILED;
+            } finally {
+                for (final Semaphore semaphore : acquired) {
+                    semaphore.release();
+                }
+                DbActivity.end();
+            }
+
+            final long finished = System.nanoTime();
+
+            return new JobResult(this.job.name(), status, (started - start) / 1000000L, (finished - started) / 1000000L,
+                    activity.getStatements(), activity.getRows(), message);
+        }
+    }
+
+    /**
+     * A job to be run.
+     *
+     * @param name      the job name (unique within a runner)
+     * @param dependsOn the names of jobs that must complete before this job starts
+     * @param resources the names of shared resources the job uses
+     * @param hasWork   a check that returns false if the job has nothing to do; {@code null} to always run the job
+     * @param action    the job action, which returns a report or message (which may be {@code null})
+     */
+    public record Job(String name, List<String> dependsOn, List<String> resources, BooleanSupplier hasWork,
+                      Callable<String> action) {
+    }
+
+    /**
+     * The result of running (or skipping) a job.
+     *
+     * @param name       the job name
+     * @param status     the status
+     * @param waitMs     the time spent waiting for resources, in milliseconds
+     * @param runMs      the time spent running, in milliseconds
+     * @param statements the number of database statements executed on the job's thread (or propagated to it)
+     * @param rows       the number of database rows updated or returned on the job's thread (or propagated to it)
+     * @param message    the report or message returned by the job, or the error message if it failed
+     */
+    public record JobResult(String name, EJobStatus status, long waitMs, long runMs, long statements, long rows,
+                            String message) {
+
+        /**
+         * Generates a summary of the result, omitting the message.
+         *
+         * @return the summary
+         */
+        @Override
+        public String toString() {
+
+            return "Batch job " + this.name + ": " + this.status + " (waited " + this.waitMs + " ms, ran " + this.runMs
+                   + " ms, " + this.statements + " statements, " + this.rows + " rows)";
+        }
+    }
+
+    /**
+     * Job statuses.
+     */
+    public enum EJobStatus {
+
+        /** The job ran to completion. */
+        COMPLETED,
+
+        /** The job was skipped because it had nothing to do. */
+        NO_WORK,
+
+        /** The job failed with an exception. */
+        FAILED,
+
+        /** The job was not run because a job it depends on failed. */
+        BLOCKED,
+    }
+}
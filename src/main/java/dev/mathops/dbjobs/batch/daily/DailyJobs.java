@@ -0,0 +1,184 @@
+package dev.mathops.dbjobs.batch.daily;
+
+import dev.mathops.commons.log.Log;
+import dev.mathops.db.Cache;
+import dev.mathops.db.DbConnection;
+import dev.mathops.db.cfg.Contexts;
+import dev.mathops.db.cfg.DatabaseConfig;
+import dev.mathops.db.cfg.Profile;
+import dev.mathops.db.schema.LogicUtils;
+import dev.mathops.db.schema.legacy.impl.RawMpscorequeueLogic;
+import dev.mathops.db.schema.legacy.impl.RawPendingExamLogic;
+import dev.mathops.dbjobs.batch.BatchJobRunner;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the daily batch jobs through a {@code BatchJobRunner}, so jobs that do not depend on one another run at the
+ * same time, subject to limits on concurrent connections to the ODS and to Banner.
+ *
+ * <p>
+ * Imports from Banner and the ODS run first; jobs that scan registrations (like {@code CheckStudentTerm} and
+ * {@code SetHolds}) wait for the registration import and for incompletes to be closed.  Jobs that work from a queue
+ * are skipped when the queue is empty.
+ *
+ * <p>
+ * Jobs that write the same table without a dependency between them share a resource named for the table, limited to
+ * one job at a time: the transfer credit and past course imports both write "ffr_trns", and the registration import
+ * and {@code CloseIncompletes} both update open status in "stcourse".
+ */
+public enum DailyJobs {
+    ;
+
+    /** The maximum number of jobs to run at once. */
+    private static final int MAX_CONCURRENT = 4;
+
+    /** A resource name for a connection to the ODS. */
+    private static final String ODS = "ODS";
+
+    /** A resource name for a connection to Banner. */
+    private static final String LIVE = "LIVE";
+
+    /** A resource name for writes to the "ffr_trns" table. */
+    private static final String FFR_TRNS = "ffr_trns";
+
+    /** A resource name for writes to the "stcourse" table. */
+    private static final String STCOURSE = "stcourse";
+
+    /** A job name. */
+    private static final String IMPORT_REGISTRATIONS = "ImportBannerStudentRegistrations";
+
+    /** A job name. */
+    private static final String CLOSE_INCOMPLETES = "CloseIncompletes";
+
+    /** A job name. */
+    private static final String CHECK_STUDENT_TERM = "CheckStudentTerm";
+
+    /** A job name. */
+    private static final String SEND_QUEUED_SCORES = "SendQueuedBannerTestScores";
+
+    /**
+     * Executes the daily jobs.
+     *
+     * @return the job results, in the order jobs finished
+     */
+    public static List<BatchJobRunner.JobResult> execute() {
+
+        final DatabaseConfig config = DatabaseConfig.getDefault();
+        final Profile profile = config.getCodeProfile(Contexts.BATCH_PATH);
+
+        final BatchJobRunner runner = new BatchJobRunner(MAX_CONCURRENT, Map.of(ODS, Integer.valueOf(2),
+                LIVE, Integer.valueOf(1), FFR_TRNS, Integer.valueOf(1), STCOURSE, Integer.valueOf(1)));
+
+        runner.add(new BatchJobRunner.Job(IMPORT_REGISTRATIONS, List.of(), List.of(LIVE, STCOURSE), null,
+                () -> new ImportBannerStudentRegistrations().execute()));
+        runner.add(new BatchJobRunner.Job("ImportOdsApplicants", List.of(), List.of(ODS, LIVE), null,
+                () -> new ImportOdsApplicants().execute()));
+        runner.add(new BatchJobRunner.Job("ImportOdsNewStus", List.of(), List.of(ODS), null,
+                () -> new ImportOdsNewStus().execute()));
+        runner.add(new BatchJobRunner.Job("ImportOdsTransferCredit", List.of(), List.of(ODS, FFR_TRNS), null,
+                () -> {
+                    new ImportOdsTransferCredit().execute();
+                    return null;
+                }));
+        runner.add(new BatchJobRunner.Job("ImportOdsPastCourses", List.of(), List.of(ODS, FFR_TRNS), null,
+                () -> new ImportOdsPastCourses().execute()));
+
+        runner.add(new BatchJobRunner.Job(CLOSE_INCOMPLETES, List.of(), List.of(STCOURSE), null,
+                () -> {
+                    CloseIncompletes.execute();
+                    return null;
+                }));
+        runner.add(new BatchJobRunner.Job(CHECK_STUDENT_TERM, List.of(IMPORT_REGISTRATIONS, CLOSE_INCOMPLETES),
+                List.of(), null, () -> new CheckStudentTerm().execute()));
+        runner.add(new BatchJobRunner.Job("SetHolds", List.of(IMPORT_REGISTRATIONS, CLOSE_INCOMPLETES),
+                List.of(), null,
+                () -> {
+                    SetHolds.execute();
+                    return null;
+                }));
+
+        runner.add(new BatchJobRunner.Job(SEND_QUEUED_SCORES, List.of(), List.of(LIVE),
+                () -> hasQueuedScores(profile), () -> new SendQueuedBannerTestScores().execute()));
+
+        runner.add(new BatchJobRunner.Job("CleanPending", List.of(), List.of(), () -> hasPendingExams(profile),
+                () -> {
+                    new CleanPending().execute();
+                    return null;
+                }));
+        runner.add(new BatchJobRunner.Job("PcCleanup", List.of(), List.of(), null,
+                () -> {
+                    new PcCleanup().execute();
+                    return null;
+                }));
+
+        return runner.run();
+    }
+
+    /**
+     * Tests whether there are test scores queued to be sent to Banner.
+     *
+     * @param profile the database profile
+     * @return true if there are queued scores and Banner is available (or if this could not be determined)
+     */
+    private static boolean hasQueuedScores(final Profile profile) {
+
+        boolean result = true;
+
+        if (profile != null) {
+            if (LogicUtils.isBannerDown()) {
+                result = false;
+            } else {
+                try {
+                    result = !RawMpscorequeueLogic.queryAll(new Cache(profile)).isEmpty();
+                } catch (final SQLException ex) {
+                    Log.warning("Unable to query queued test scores", ex);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Tests whether there are pending exam records.
+     *
+     * @param profile the database profile
+     * @return true if there are pending exam records (or if this could not be determined)
+     */
+    private static boolean hasPendingExams(final Profile profile) {
+
+        boolean result = true;
+
+        if (profile != null) {
+            try {
+                result = !RawPendingExamLogic.queryAll(new Cache(profile)).isEmpty();
+            } catch (final SQLException ex) {
+                Log.warning("Unable to query pending exams", ex);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Main method to execute the daily batch jobs.
+     *
+     * @param args command-line arguments.
+     */
+    public static void main(final String... args) {
+
+        DbConnection.registerDrivers();
+
+        final List<BatchJobRunner.JobResult> results = execute();
+
+        long totalRun = 0L;
+        for (final BatchJobRunner.JobResult result : results) {
+            totalRun += result.runMs();
+        }
+        Log.info("Ran ", Integer.toString(results.size()), " daily jobs, total job time ", Long.toString(totalRun),
+                " ms");
+    }
+}
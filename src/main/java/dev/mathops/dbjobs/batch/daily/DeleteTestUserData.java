@@ -5,55 +5,18 @@ import dev.mathops.db.Cache;
 import dev.mathops.db.cfg.Contexts;
 import dev.mathops.db.cfg.DatabaseConfig;
 import dev.mathops.db.cfg.Profile;
-import dev.mathops.db.schema.legacy.impl.RawAdminHoldLogic;
-import dev.mathops.db.schema.legacy.impl.RawMpeCreditLogic;
-import dev.mathops.db.schema.legacy.impl.RawMpeLogLogic;
-import dev.mathops.db.schema.legacy.impl.RawMpecrDeniedLogic;
-import dev.mathops.db.schema.legacy.impl.RawPaceAppealsLogic;
-import dev.mathops.db.schema.legacy.impl.RawPendingExamLogic;
-import dev.mathops.db.schema.legacy.impl.RawStchallengeLogic;
-import dev.mathops.db.schema.legacy.impl.RawStcourseLogic;
-import dev.mathops.db.schema.legacy.impl.RawStcuobjectiveLogic;
-import dev.mathops.db.schema.legacy.impl.RawStetextLogic;
-import dev.mathops.db.schema.legacy.impl.RawStexamLogic;
-import dev.mathops.db.schema.legacy.impl.RawSthomeworkLogic;
-import dev.mathops.db.schema.legacy.impl.RawStmathplanLogic;
-import dev.mathops.db.schema.legacy.impl.RawStmilestoneLogic;
-import dev.mathops.db.schema.legacy.impl.RawStmpeLogic;
-import dev.mathops.db.schema.legacy.impl.RawStmsgLogic;
-import dev.mathops.db.schema.legacy.impl.RawStresourceLogic;
-import dev.mathops.db.schema.legacy.impl.RawStsurveyqaLogic;
-import dev.mathops.db.schema.legacy.impl.RawSttermLogic;
 import dev.mathops.db.schema.legacy.impl.RawStudentLogic;
-import dev.mathops.db.schema.legacy.impl.RawUsersLogic;
-import dev.mathops.db.schema.legacy.rec.RawAdminHold;
-import dev.mathops.db.schema.legacy.rec.RawMpeCredit;
-import dev.mathops.db.schema.legacy.rec.RawMpeLog;
-import dev.mathops.db.schema.legacy.rec.RawMpecrDenied;
-import dev.mathops.db.schema.legacy.rec.RawPaceAppeals;
-import dev.mathops.db.schema.legacy.rec.RawPendingExam;
-import dev.mathops.db.schema.legacy.rec.RawStchallenge;
-import dev.mathops.db.schema.legacy.rec.RawStcourse;
-import dev.mathops.db.schema.legacy.rec.RawStcuobjective;
-import dev.mathops.db.schema.legacy.rec.RawStetext;
-import dev.mathops.db.schema.legacy.rec.RawStexam;
-import dev.mathops.db.schema.legacy.rec.RawSthomework;
-import dev.mathops.db.schema.legacy.rec.RawStmathplan;
-import dev.mathops.db.schema.legacy.rec.RawStmilestone;
-import dev.mathops.db.schema.legacy.rec.RawStmpe;
-import dev.mathops.db.schema.legacy.rec.RawStmsg;
-import dev.mathops.db.schema.legacy.rec.RawStresource;
-import dev.mathops.db.schema.legacy.rec.RawStsurveyqa;
-import dev.mathops.db.schema.legacy.rec.RawStterm;
+import dev.mathops.db.schema.legacy.impl.StudentRowsLogic;
 import dev.mathops.db.schema.legacy.rec.RawStudent;
-import dev.mathops.db.schema.legacy.rec.RawUsers;
 
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Deletes data like exams, placement attempts, placement results, and so forth for test users.
+ * Deletes data like exams, placement attempts, placement results, and so forth for test users.  Rows are deleted from
+ * all student tables with statements that select test users by student ID, in a single transaction.
  */
 public enum DeleteTestUserData {
     ;
@@ -79,474 +42,29 @@ public enum DeleteTestUserData {
         Log.info("Running DELETE_TEST_USER_DATA job");
 
         try {
-            cleanAdminHold(cache);
-            cleanMpeCredit(cache);
-            cleanMpecrDenied(cache);
-            cleanMpeLog(cache);
-            cleanPaceAppeals(cache);
-            cleanPendingExam(cache);
-            cleanStchallenge(cache);
-            cleanStcourse(cache);
-            cleanStcuobjective(cache);
-            cleanStetext(cache);
-            cleanStexam(cache);
-            cleanSthomework(cache);
-            cleanStmathplan(cache);
-            cleanStmilestone(cache);
-            cleanStmpe(cache);
-            cleanStmsg(cache);
-            cleanStresource(cache);
-            cleanStsurveyqa(cache);
-            cleanStterm(cache);
-            cleanUsers(cache);
-            resetStudent(cache);
-        } catch (final SQLException ex) {
-            Log.warning(ex);
-        }
-    }
-
-    /**
-     * Removes rows from the "admin_hold" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanAdminHold(final Cache cache) throws SQLException {
-
-        final List<RawAdminHold> all = RawAdminHoldLogic.queryAll(cache);
-
-        for (final RawAdminHold rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting ADMIN_HOLD record for ", stuId);
-                if (!DEBUG) {
-                    RawAdminHoldLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "mpe_credit" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanMpeCredit(final Cache cache) throws SQLException {
-
-        final List<RawMpeCredit> all = RawMpeCreditLogic.queryAll(cache);
-
-        for (final RawMpeCredit rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting MPE_CREDIT record for ", stuId);
-                if (!DEBUG) {
-                    RawMpeCreditLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "mpecr_denied" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanMpecrDenied(final Cache cache) throws SQLException {
-
-        final List<RawMpecrDenied> all = RawMpecrDeniedLogic.queryAll(cache);
-
-        for (final RawMpecrDenied rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting MPE_CR_DENIED record for ", stuId);
-                if (!DEBUG) {
-                    RawMpecrDeniedLogic.delete(cache, rec);
-                }
+            final Map<String, Integer> counts;
+            if (DEBUG) {
+                counts = StudentRowsLogic.countByStudents(cache, TEST_STUS, TEST_PREFIX);
+            } else {
+                counts = StudentRowsLogic.deleteByStudents(cache, TEST_STUS, TEST_PREFIX);
             }
-        }
-    }
-
-    /**
-     * Removes rows from the "mpe_log" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanMpeLog(final Cache cache) throws SQLException {
-
-        final List<RawMpeLog> all = RawMpeLogLogic.queryAll(cache);
 
-        for (final RawMpeLog rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting MPE_LOG record for ", stuId);
-                if (!DEBUG) {
-                    RawMpeLogLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "pace_appeals" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanPaceAppeals(final Cache cache) throws SQLException {
-
-        final List<RawPaceAppeals> all = RawPaceAppealsLogic.queryAll(cache);
-
-        for (final RawPaceAppeals rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting PACE_APPEALS record for ", stuId);
-                if (!DEBUG) {
-                    RawPaceAppealsLogic.delete(cache, rec);
+            for (final Map.Entry<String, Integer> entry : counts.entrySet()) {
+                final int count = entry.getValue().intValue();
+                if (count > 0) {
+                    Log.info("    Deleting ", Integer.toString(count), " ", entry.getKey().toUpperCase(),
+                            " records for test users");
                 }
             }
-        }
-    }
-
-    /**
-     * Removes rows from the "pending_exam" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanPendingExam(final Cache cache) throws SQLException {
-
-        final List<RawPendingExam> all = RawPendingExamLogic.queryAll(cache);
-
-        for (final RawPendingExam rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting PENDING_EXAM record for ", stuId);
-                if (!DEBUG) {
-                    RawPendingExamLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "stchallenge" and "stchallengeqa" tables for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStchallenge(final Cache cache) throws SQLException {
-
-        final List<RawStchallenge> all = RawStchallengeLogic.queryAll(cache);
-
-        for (final RawStchallenge rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STCHALLENGE record for ", stuId);
-                if (!DEBUG) {
-                    RawStchallengeLogic.deleteAttemptAndAnswers(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "stcourse" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStcourse(final Cache cache) throws SQLException {
-
-        final List<RawStcourse> all = RawStcourseLogic.queryAll(cache);
-
-        for (final RawStcourse rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STCOURSE record for ", stuId);
-                if (!DEBUG) {
-                    RawStcourseLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "stcuobjective" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStcuobjective(final Cache cache) throws SQLException {
-
-        final List<RawStcuobjective> all = RawStcuobjectiveLogic.queryAll(cache);
-
-        for (final RawStcuobjective rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STCUOBJECTIVE record for ", stuId);
-                if (!DEBUG) {
-                    RawStcuobjectiveLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "stetext" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStetext(final Cache cache) throws SQLException {
-
-        final List<RawStetext> all = RawStetextLogic.queryAll(cache);
-
-        for (final RawStetext rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STETEXT record for ", stuId);
-                if (!DEBUG) {
-                    RawStetextLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
 
-    /**
-     * Removes rows from the "stexam" and "stqa" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStexam(final Cache cache) throws SQLException {
-
-        final List<RawStexam> all = RawStexamLogic.queryAll(cache);
-
-        for (final RawStexam rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STEXAM record for ", stuId);
-                if (!DEBUG) {
-                    RawStexamLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "sthomework" and "sthomeworkqa" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanSthomework(final Cache cache) throws SQLException {
-
-        final List<RawSthomework> all = RawSthomeworkLogic.queryAll(cache);
-
-        for (final RawSthomework rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STHOMEWORK record for ", stuId);
-                if (!DEBUG) {
-                    RawSthomeworkLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "admin_hold" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStmathplan(final Cache cache) throws SQLException {
-
-        final List<RawStmathplan> all = RawStmathplanLogic.queryAll(cache);
-
-        for (final RawStmathplan rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STMATHPLAN record for ", stuId);
-                if (!DEBUG) {
-                    RawStmathplanLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "admin_hold" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStmilestone(final Cache cache) throws SQLException {
-
-        final List<RawStmilestone> all = RawStmilestoneLogic.queryAll(cache);
-
-        for (final RawStmilestone rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STMILESTONE record for ", stuId);
-                if (!DEBUG) {
-                    RawStmilestoneLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "admin_hold" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStmpe(final Cache cache) throws SQLException {
-
-        final List<RawStmpe> all = RawStmpeLogic.queryAll(cache);
-
-        for (final RawStmpe rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STMPE record for ", stuId);
-                if (!DEBUG) {
-                    RawStmpeLogic.deleteExamAndAnswers(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "admin_hold" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStmsg(final Cache cache) throws SQLException {
-
-        final List<RawStmsg> all = RawStmsgLogic.queryAll(cache);
-
-        for (final RawStmsg rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STMSG record for ", stuId);
-                if (!DEBUG) {
-                    RawStmsgLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "admin_hold" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStresource(final Cache cache) throws SQLException {
-
-        final List<RawStresource> all = RawStresourceLogic.queryAll(cache);
-
-        for (final RawStresource rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STRESOURCE record for ", stuId);
-                if (!DEBUG) {
-                    RawStresourceLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "admin_hold" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStsurveyqa(final Cache cache) throws SQLException {
-
-        final List<RawStsurveyqa> all = RawStsurveyqaLogic.queryAll(cache);
-
-        for (final RawStsurveyqa rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STSURVEYQA record for ", stuId);
-                if (!DEBUG) {
-                    RawStsurveyqaLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "admin_hold" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanStterm(final Cache cache) throws SQLException {
-
-        final List<RawStterm> all = RawSttermLogic.queryAll(cache);
-
-        for (final RawStterm rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting STTERM record for ", stuId);
-                if (!DEBUG) {
-                    RawSttermLogic.delete(cache, rec);
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes rows from the "admin_hold" table for test users.
-     *
-     * @param cache the cache
-     * @throws SQLException if there is an error accessing the database
-     */
-    private static void cleanUsers(final Cache cache) throws SQLException {
-
-        final List<RawUsers> all = RawUsersLogic.queryAll(cache);
-
-        for (final RawUsers rec : all) {
-            final String stuId = rec.stuId;
-
-            if (TEST_STUS.contains(stuId) || stuId.startsWith(TEST_PREFIX)) {
-                Log.info("    Deleting USERS record for ", stuId);
-                if (!DEBUG) {
-                    RawUsersLogic.delete(cache, rec);
-                }
-            }
+            resetStudent(cache);
+        } catch (final SQLException ex) {
+            Log.warning(ex);
         }
     }
 
     /**
-     * Removes rows from the "admin_hold" table for test users.
+     * Resets the "licensed" and "sev_admin_hold" fields in "student" rows for test users.
      *
      * @param cache the cache
      * @throws SQLException if there is an error accessing the database
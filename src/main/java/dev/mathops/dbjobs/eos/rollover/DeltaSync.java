@@ -0,0 +1,475 @@
+package dev.mathops.dbjobs.eos.rollover;
+
+import dev.mathops.db.DbConnection;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copies rows that exist in a source database but not in a target database, for a table and (optionally) a child table
+ * whose rows belong to rows in the parent table.
+ *
+ * <p>
+ * Each table is described by a {@code TableSpec} with a filter (a WHERE clause with parameters) that selects the rows
+ * of interest, and the columns that form each row's key.  The engine selects the filtered rows from the source with one
+ * query, selects the keys of the filtered rows from the target with one query, and treats source rows whose keys are
+ * not in the target as missing.  If the filter tests a column that can change after a row is copied (so a copied row
+ * might not be selected from the target), the specification can instead match target rows on the full key alone,
+ * selecting the keys of target rows whose first key column has a value found in the source rows.  Child rows are
+ * selected with one query using the child table's filter, and are copied when the values of their link columns match a
+ * missing parent row.  Missing rows are inserted with batched statements in a single transaction, which is rolled back
+ * if any insert fails.
+ *
+ * <p>
+ * All columns returned by the source are copied, so the source and target tables must have the same structure.  Unless
+ * target rows are matched on the key alone, the filter must select the same rows in both databases (typically a range
+ * of dates that rows being copied would retain).
+ */
+public final class DeltaSync {
+
+    /** The number of rows to insert in each batch. */
+    private static final int BATCH_SIZE = 500;
+
+    /** The connection to the source database. */
+    private final DbConnection source;
+
+    /** The connection to the target database. */
+    private final DbConnection target;
+
+    /** True to determine what is missing without inserting anything. */
+    private final boolean dryRun;
+
+    /**
+     * Constructs a new {@code DeltaSync}.
+     *
+     * @param theSource the connection to the source database
+     * @param theTarget the connection to the target database
+     * @param theDryRun true to determine what is missing without inserting anything
+     */
+    public DeltaSync(final DbConnection theSource, final DbConnection theTarget, final boolean theDryRun) {
+
+        this.source = theSource;
+        this.target = theTarget;
+        this.dryRun = theDryRun;
+    }
+
+    /**
+     * Copies missing rows of a single table.
+     *
+     * @param spec the table specification
+     * @return the result
+     * @throws SQLException if there is an error accessing either database (if an insert fails, the target transaction
+     *                      is rolled back before this is thrown)
+     */
+    public Result sync(final TableSpec spec) throws SQLException {
+
+        return sync(spec, null, List.of());
+    }
+
+    /**
+     * Copies missing rows of a parent table, and the child rows that belong to them.
+     *
+     * @param parent      the parent table specification
+     * @param child       the child table specification ({@code null} if there is no child table)
+     * @param linkColumns the columns (with the same names in both tables) whose values link child rows to parent rows
+     * @return the result
+     * @throws SQLException if there is an error accessing either database (if an insert fails, the target transaction
+     *                      is rolled back before this is thrown)
+     */
+    public Result sync(final TableSpec parent, final TableSpec child, final List<String> linkColumns)
+            throws SQLException {
+
+        final Rows parentRows = selectRows(this.source, parent);
+        final Set<List<Object>> targetKeys = parent.filterTarget() ? selectKeys(this.target, parent)
+                : selectKeysMatching(this.target, parent, parentRows);
+
+        final int[] keyIndexes = parentRows.indexesOf(parent.keyColumns());
+        final List<Object[]> missing = new ArrayList<>(parentRows.rows.size());
+        for (final Object[] row : parentRows.rows) {
+            if (!targetKeys.contains(project(row, keyIndexes))) {
+                missing.add(row);
+            }
+        }
+
+        Rows childRows = null;
+        final List<Object[]> missingChildren = new ArrayList<>(10);
+        if (child != null && !missing.isEmpty()) {
+            final int[] parentLink = parentRows.indexesOf(linkColumns);
+            final Set<List<Object>> missingLinks = new HashSet<>(missing.size());
+            for (final Object[] row : missing) {
+                missingLinks.add(project(row, parentLink));
+            }
+
+            childRows = selectRows(this.source, child);
+            final int[] childLink = childRows.indexesOf(linkColumns);
+            for (final Object[] row : childRows.rows) {
+                if (missingLinks.contains(project(row, childLink))) {
+                    missingChildren.add(row);
+                }
+            }
+        }
+
+        int inserted = 0;
+        int insertedChildren = 0;
+
+        if (!this.dryRun && !missing.isEmpty()) {
+            try {
+                inserted = insertRows(parent.table(), parentRows, missing);
+                if (childRows != null) {
+                    insertedChildren = insertRows(child.table(), childRows, missingChildren);
+                }
+                this.target.commit();
+            } catch (final SQLException ex) {
+                this.target.rollback();
+                throw ex;
+            }
+        }
+
+        return new Result(parentRows.rows.size(), missing.size(), inserted, missingChildren.size(), insertedChildren);
+    }
+
+    /**
+     * Selects all filtered rows from a table.
+     *
+     * @param conn the database connection
+     * @param spec the table specification
+     * @return the rows
+     * @throws SQLException if there is an error performing the query
+     */
+    private static Rows selectRows(final DbConnection conn, final TableSpec spec) throws SQLException {
+
+        final String sql = "SELECT * FROM " + spec.table() + " WHERE " + spec.where();
+
+        try (final PreparedStatement ps = conn.prepareStatement(sql)) {
+            bindParameters(ps, spec.parameters());
+
+            try (final ResultSet rs = ps.executeQuery()) {
+                final ResultSetMetaData meta = rs.getMetaData();
+                final int numColumns = meta.getColumnCount();
+
+                final String[] columns = new String[numColumns];
+                final int[] types = new int[numColumns];
+                for (int i = 0; i < numColumns; ++i) {
+                    columns[i] = meta.getColumnName(i + 1).toLowerCase();
+                    types[i] = meta.getColumnType(i + 1);
+                }
+
+                final Rows result = new Rows(columns, types);
+                while (rs.next()) {
+                    final Object[] row = new Object[numColumns];
+                    for (int i = 0; i < numColumns; ++i) {
+                        row[i] = rs.getObject(i + 1);
+                    }
+                    result.rows.add(row);
+                }
+
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Selects the keys of all filtered rows from a table.
+     *
+     * @param conn the database connection
+     * @param spec the table specification
+     * @return the set of keys
+     * @throws SQLException if there is an error performing the query
+     */
+    private static Set<List<Object>> selectKeys(final DbConnection conn, final TableSpec spec) throws SQLException {
+
+        final List<String> keyColumns = spec.keyColumns();
+        final int numKeys = keyColumns.size();
+        final String sql = "SELECT " + String.join(",", keyColumns) + " FROM " + spec.table() + " WHERE "
+                           + spec.where();
+
+        final Set<List<Object>> result = new HashSet<>(100);
+
+        try (final PreparedStatement ps = conn.prepareStatement(sql)) {
+            bindParameters(ps, spec.parameters());
+            addKeys(ps, numKeys, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Selects the keys of all rows from a table whose first key column has a value found in a set of source rows,
+     * without applying the table's filter.  Values are looked up in blocks of up to {@code BATCH_SIZE}.
+     *
+     * @param conn       the database connection
+     * @param spec       the table specification
+     * @param sourceRows the rows selected from the source
+     * @return the set of keys
+     * @throws SQLException if there is an error performing the query
+     */
+    private static Set<List<Object>> selectKeysMatching(final DbConnection conn, final TableSpec spec,
+                                                        final Rows sourceRows) throws SQLException {
+
+        final List<String> keyColumns = spec.keyColumns();
+        final int numKeys = keyColumns.size();
+        final int first = sourceRows.indexesOf(keyColumns.subList(0, 1))[0];
+
+        final Set<Object> values = new LinkedHashSet<>(sourceRows.rows.size());
+        for (final Object[] row : sourceRows.rows) {
+            if (row[first] != null) {
+                values.add(row[first]);
+            }
+        }
+        final List<Object> valueList = new ArrayList<>(values);
+
+        final String select = "SELECT " + String.join(",", keyColumns) + " FROM " + spec.table() + " WHERE "
+                              + keyColumns.getFirst() + " IN (";
+
+        final Set<List<Object>> result = new HashSet<>(100);
+
+        final int total = valueList.size();
+        for (int start = 0; start < total; start += BATCH_SIZE) {
+            final List<Object> block = valueList.subList(start, Math.min(total, start + BATCH_SIZE));
+            final String sql = select + String.join(",", Collections.nCopies(block.size(), "?")) + ")";
+
+            try (final PreparedStatement ps = conn.prepareStatement(sql)) {
+                bindParameters(ps, block);
+                addKeys(ps, numKeys, result);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Executes a query that selects key columns and adds each key it returns to a set.
+     *
+     * @param ps      the prepared statement, with parameters bound
+     * @param numKeys the number of key columns
+     * @param keys    the set to which to add keys
+     * @throws SQLException if there is an error performing the query
+     */
+    private static void addKeys(final PreparedStatement ps, final int numKeys,
+                                final Collection<? super List<Object>> keys) throws SQLException {
+
+        try (final ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                final Object[] key = new Object[numKeys];
+                for (int i = 0; i < numKeys; ++i) {
+                    key[i] = rs.getObject(i + 1);
+                }
+                keys.add(Arrays.asList(key));
+            }
+        }
+    }
+
+    /**
+     * Inserts rows into the target database in batches.  The caller commits or rolls back.
+     *
+     * @param table    the table name
+     * @param selected the rows selected from the source (which supply column names and types)
+     * @param rows     the rows to insert
+     * @return the number of rows inserted
+     * @throws SQLException if there is an error performing an insert
+     */
+    private int insertRows(final String table, final Rows selected, final Iterable<Object[]> rows)
+            throws SQLException {
+
+        final String[] columns = selected.columns;
+
+        final String sql = "INSERT INTO " + table + " (" + String.join(",", columns) + ") VALUES ("
+                           + String.join(",", Collections.nCopies(columns.length, "?")) + ")";
+
+        int count = 0;
+
+        try (final PreparedStatement ps = this.target.prepareStatement(sql)) {
+            int pending = 0;
+
+            for (final Object[] row : rows) {
+                for (int i = 0; i < row.length; ++i) {
+                    if (row[i] == null) {
+                        ps.setNull(i + 1, selected.types[i]);
+                    } else {
+                        ps.setObject(i + 1, row[i]);
+                    }
+                }
+                ps.addBatch();
+                ++pending;
+
+                if (pending == BATCH_SIZE) {
+                    count += countUpdates(ps.executeBatch());
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                count += countUpdates(ps.executeBatch());
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Counts the rows updated by a batch.
+     *
+     * @param updateCounts the update counts returned by the batch
+     * @return the number of rows updated (a statement that succeeded without reporting a count counts as one row)
+     */
+    private static int countUpdates(final int[] updateCounts) {
+
+        int count = 0;
+
+        for (final int updateCount : updateCounts) {
+            if (updateCount > 0) {
+                count += updateCount;
+            } else if (updateCount == Statement.SUCCESS_NO_INFO) {
+                ++count;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Binds parameters to a prepared statement.
+     *
+     * @param ps         the prepared statement
+     * @param parameters the parameter values
+     * @throws SQLException if a parameter could not be set
+     */
+    private static void bindParameters(final PreparedStatement ps, final List<?> parameters) throws SQLException {
+
+        final int count = parameters.size();
+        for (int i = 0; i < count; ++i) {
+            ps.setObject(i + 1, parameters.get(i));
+        }
+    }
+
+    /**
+     * Extracts the values of a set of columns from a row.
+     *
+     * @param row     the row
+     * @param indexes the column indexes
+     * @return the list of values
+     */
+    private static List<Object> project(final Object[] row, final int[] indexes) {
+
+        final Object[] values = new Object[indexes.length];
+        for (int i = 0; i < indexes.length; ++i) {
+            values[i] = row[indexes[i]];
+        }
+
+        return Arrays.asList(values);
+    }
+
+    /**
+     * A table to be synchronized.
+     *
+     * @param table        the table name
+     * @param keyColumns   the columns whose values identify a row
+     * @param where        the WHERE clause (without "WHERE") that selects the rows of interest, with "?" for parameters
+     * @param parameters   the parameter values for the WHERE clause
+     * @param filterTarget true to select target keys using the WHERE clause; false to apply the WHERE clause only to
+     *                     the source and match target rows on the full key
+     */
+    public record TableSpec(String table, List<String> keyColumns, String where, List<?> parameters,
+                            boolean filterTarget) {
+
+        /**
+         * Constructs a new {@code TableSpec} whose filter is applied to both the source and the target.
+         *
+         * @param table      the table name
+         * @param keyColumns the columns whose values identify a row
+         * @param where      the WHERE clause (without "WHERE") that selects the rows of interest, with "?" for
+         *                   parameters
+         * @param parameters the parameter values for the WHERE clause
+         */
+        public TableSpec(final String table, final List<String> keyColumns, final String where,
+                         final List<?> parameters) {
+
+            this(table, keyColumns, where, parameters, true);
+        }
+    }
+
+    /**
+     * The result of synchronizing a table.
+     *
+     * @param sourceRows       the number of filtered rows in the source
+     * @param missingRows      the number of those rows missing from the target
+     * @param insertedRows     the number of rows inserted into the target
+     * @param missingChildren  the number of child rows belonging to missing rows
+     * @param insertedChildren the number of child rows inserted into the target
+     */
+    public record Result(int sourceRows, int missingRows, int insertedRows, int missingChildren,
+                         int insertedChildren) {
+    }
+
+    /**
+     * A set of rows selected from a table, with column names and types.
+     */
+    private static final class Rows {
+
+        /** The column names (lowercase). */
+        final String[] columns;
+
+        /** The column SQL types. */
+        final int[] types;
+
+        /** Map from column name to index. */
+        private final Map<String, Integer> indexes;
+
+        /** The rows. */
+        final List<Object[]> rows;
+
+        /**
+         * Constructs a new {@code Rows}.
+         *
+         * @param theColumns the column names
+         * @param theTypes   the column SQL types
+         */
+        Rows(final String[] theColumns, final int[] theTypes) {
+
+            this.columns = theColumns;
+            this.types = theTypes;
+            this.indexes = new LinkedHashMap<>(theColumns.length);
+            for (int i = 0; i < theColumns.length; ++i) {
+                this.indexes.put(theColumns[i], Integer.valueOf(i));
+            }
+            this.rows = new ArrayList<>(100);
+        }
+
+        /**
+         * Gets the indexes of a list of columns.
+         *
+         * @param names the column names
+         * @return the indexes
+         * @throws SQLException if a column is not present
+         */
+        int[] indexesOf(final Collection<String> names) throws SQLException {
+
+            final int[] result = new int[names.size()];
+
+            int pos = 0;
+            for (final String name : names) {
+                final Integer index = this.indexes.get(name.toLowerCase());
+                if (index == null) {
+                    throw new SQLException("Column " + name + " not found");
+                }
+                result[pos] = index.intValue();
+                ++pos;
+            }
+
+            return result;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.cfg.Contexts;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.cfg.DatabaseConfig;
 import dev.mathops.db.cfg.Profile;
@@ -76,6 +77,8 @@ public class PerformRollover implements Runnable {
             }
         } catch (final SQLException ex) {
             Log.warning("Failed to query the active, next, or prior term.", ex);
+        } finally {
+            StudentDataEvents.allChanged();
         }
     }
 
@@ -5,6 +5,7 @@ import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.cfg.Contexts;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.cfg.DatabaseConfig;
 import dev.mathops.db.cfg.Profile;
@@ -30,7 +31,10 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Performs some cleanup of data after archiving.  This is based on commands in the old "eos_arc" and "eos_load"
@@ -40,6 +44,10 @@ public final class PostArchiveCleanup implements Runnable {
 
     /** Flag to run in "debug" mode which prints changes that would be performed rather than performing any changes. */
     private static final EDebugMode DEBUG_MODE = EDebugMode.NORMAL;
+
+    /** The number of records to delete in each transaction when deleting records as they are streamed. */
+    private static final int DELETE_BATCH_SIZE = 1000;
+
     /** The data cache. */
     private final Cache cache;
 
@@ -72,7 +80,7 @@ public final class PostArchiveCleanup implements Runnable {
             cleanTable(prodConn, "semester_calendar");
             copyTable(prodConn, "stmilestone", "prev_stmilestone");
             copyTable(prodConn, "stterm", "prev_stterm");
-            final List<String> incompleteKeys = gatherIncompleteKeys(prodConn);
+            final Set<String> incompleteKeys = gatherIncompleteKeys(prodConn);
             preserveIncompleteStcuobjectives(prodConn, incompleteKeys);
             preserveIncompleteSthomework(prodConn, incompleteKeys);
             preserveIncompleteStexam(prodConn, incompleteKeys);
@@ -81,6 +89,7 @@ public final class PostArchiveCleanup implements Runnable {
             Log.warning("Exception performing post-archive cleanup.", ex);
         } finally {
             Cache.checkInConnection(prodConn);
+            StudentDataEvents.allChanged();
         }
     }
 
@@ -89,12 +98,12 @@ public final class PostArchiveCleanup implements Runnable {
      * the course ID.
      *
      * @param prodConn the connection to the production database
-     * @return the list of keys
+     * @return the set of keys
      * @throws SQLException if there is an error accessing the database
      */
-    private List<String> gatherIncompleteKeys(final DbConnection prodConn) throws SQLException {
+    private Set<String> gatherIncompleteKeys(final DbConnection prodConn) throws SQLException {
 
-        final List<String> keys = new ArrayList<>(20);
+        final Set<String> keys = new HashSet<>(20);
 
         final String sql1 = SimpleBuilder.concat("SELECT stu_id,course FROM stcourse",
                 " WHERE (course_grade = 'I' OR i_in_progress = 'Y')");
@@ -123,10 +132,10 @@ public final class PostArchiveCleanup implements Runnable {
      * Deletes all STCUOBJECTIVE records that are not associated with open Incompletes.
      *
      * @param prodConn       the connection to the production database
-     * @param incompleteKeys a list of "keys" for all active Incompletes
+     * @param incompleteKeys the set of "keys" for all active Incompletes
      * @throws SQLException if there is an error accessing the database
      */
-    private void preserveIncompleteStcuobjectives(final DbConnection prodConn, final List<String> incompleteKeys)
+    private void preserveIncompleteStcuobjectives(final DbConnection prodConn, final Set<String> incompleteKeys)
             throws SQLException {
 
         Log.info("> Deleting 'stcuobjective' records that are not associated with tutorials or active Incompletes.");
@@ -136,11 +145,7 @@ public final class PostArchiveCleanup implements Runnable {
 
         final List<RawStcuobjective> all = RawStcuobjectiveLogic.queryAll(this.cache);
         for (final RawStcuobjective record : all) {
-            final String course = record.course;
-            final String key = record.stuId + "." + course;
-            if ("M 100T".equals(course) || "M 1170".equals(course) || "M 1180".equals(course)
-                || "M 1240".equals(course) || "M 1250".equals(course) || "M 1260".equals(course)
-                || incompleteKeys.contains(key)) {
+            if (isPreserved(record.stuId, record.course, incompleteKeys)) {
                 toPreserve.add(record);
             } else {
                 toDelete.add(record);
@@ -164,69 +169,43 @@ public final class PostArchiveCleanup implements Runnable {
      * Deletes all STHOMEWORK and STHWQA records that are not associated with open Incompletes.
      *
      * @param prodConn       the connection to the production database
-     * @param incompleteKeys a list of "keys" for all active Incompletes
+     * @param incompleteKeys the set of "keys" for all active Incompletes
      * @throws SQLException if there is an error accessing the database
      */
-    private void preserveIncompleteSthomework(final DbConnection prodConn, final List<String> incompleteKeys)
+    private void preserveIncompleteSthomework(final DbConnection prodConn, final Set<String> incompleteKeys)
             throws SQLException {
 
         Log.info("> Deleting 'sthomework' and 'sthwqa' records that are not associated with active Incompletes.");
 
-        final List<RawSthomework> hwToPreserve = new ArrayList<>(300);
-        final List<RawSthomework> hwToDelete = new ArrayList<>(10000);
-        final List<Long> serials = new ArrayList<>(10000);
-        final List<RawSthomework> allHomework = RawSthomeworkLogic.queryAll(this.cache);
-        for (final RawSthomework record : allHomework) {
-            final String course = record.course;
-            final String key = record.stuId + "." + course;
-            if ("M 100T".equals(course) || "M 1170".equals(course) || "M 1180".equals(course)
-                || "M 1240".equals(course) || "M 1250".equals(course) || "M 1260".equals(course)
-                || incompleteKeys.contains(key)) {
-                hwToPreserve.add(record);
-                serials.add(record.serialNbr);
-            } else {
-                hwToDelete.add(record);
-            }
-        }
-
-        final List<RawSthwqa> qaToPreserve = new ArrayList<>(900);
-        final List<RawSthwqa> qaToDelete = new ArrayList<>(30000);
-        final List<RawSthwqa> allHomeworkQA = RawSthwqaLogic.queryAll(this.cache);
-        for (final RawSthwqa record : allHomeworkQA) {
-            if (serials.contains(record.serialNbr)) {
-                qaToPreserve.add(record);
-            } else {
-                qaToDelete.add(record);
-            }
-        }
-
-        final int count1 = hwToPreserve.size();
-        final String count1Str = Integer.toString(count1);
-        final int count2 = hwToDelete.size();
-        final String count2Str = Integer.toString(count2);
-        Log.info("  Found ", count1Str, " 'sthomework' records to retain, ", count2Str, " to delete.");
-
-        final int count3 = qaToPreserve.size();
-        final String count3Str = Integer.toString(count3);
-        final int count4 = qaToDelete.size();
-        final String count4Str = Integer.toString(count4);
-        Log.info("  Found ", count3Str, " 'sthwqa' records to retain, ", count4Str, " to delete.");
+        // Records are streamed, and those to delete are deleted in batches as they are read
+        final Set<Long> serials = new HashSet<>(1000);
+        final DbConnection conn = this.cache.checkOutConnection(ESchema.LEGACY);
 
-        if (DEBUG_MODE == EDebugMode.NORMAL) {
-            final DbConnection conn = this.cache.checkOutConnection(ESchema.LEGACY);
-
-            try {
-                for (final RawSthomework record : hwToDelete) {
-                    RawSthomeworkLogic.deleteNoCommit(this.cache, conn, record);
+        try {
+            final BatchDeleter<RawSthomework> hwDeleter = new BatchDeleter<>(this.cache, conn,
+                    RawSthomeworkLogic::deleteNoCommit);
+            final int hwTotal = RawSthomeworkLogic.streamAll(this.cache, record -> {
+                if (isPreserved(record.stuId, record.course, incompleteKeys)) {
+                    serials.add(record.serialNbr);
+                } else {
+                    hwDeleter.accept(record);
                 }
-                conn.commit();
-                for (final RawSthwqa record : qaToDelete) {
-                    RawSthwqaLogic.deleteNoCommit(this.cache, conn, record);
+            });
+            final int hwDeleted = hwDeleter.finish();
+            logCounts("sthomework", hwTotal - hwDeleted, hwDeleted);
+
+            final BatchDeleter<RawSthwqa> qaDeleter = new BatchDeleter<>(this.cache, conn,
+                    RawSthwqaLogic::deleteNoCommit);
+            final int qaTotal = RawSthwqaLogic.streamAll(this.cache, record -> {
+                if (!serials.contains(record.serialNbr)) {
+                    qaDeleter.accept(record);
                 }
-                conn.commit();
-            } finally {
-                Cache.checkInConnection(conn);
-            }
+            });
+            final int qaDeleted = qaDeleter.finish();
+            logCounts("sthwqa", qaTotal - qaDeleted, qaDeleted);
+        } finally {
+            Cache.checkInConnection(conn);
+            StudentDataEvents.allChanged();
         }
     }
 
@@ -234,72 +213,81 @@ public final class PostArchiveCleanup implements Runnable {
      * Deletes all STEXAM and STQA records that are not associated with open Incompletes.
      *
      * @param prodConn       the connection to the production database
-     * @param incompleteKeys a list of "keys" for all active Incompletes
+     * @param incompleteKeys the set of "keys" for all active Incompletes
      * @throws SQLException if there is an error accessing the database
      */
-    private void preserveIncompleteStexam(final DbConnection prodConn, final List<String> incompleteKeys)
+    private void preserveIncompleteStexam(final DbConnection prodConn, final Set<String> incompleteKeys)
             throws SQLException {
 
         Log.info("> Deleting 'stexam' and 'stqa' records that are not associated with active Incompletes.");
 
-        final List<RawStexam> examsToPreserve = new ArrayList<>(300);
-        final List<RawStexam> examsToDelete = new ArrayList<>(50000);
-        final List<Long> serials = new ArrayList<>(10000);
-        final List<RawStexam> allExams = RawStexamLogic.queryAll(this.cache);
-        for (final RawStexam record : allExams) {
-            final String course = record.course;
-            final String key = record.stuId + "." + course;
-            if ("M 100T".equals(course) || "M 1170".equals(course) || "M 1180".equals(course)
-                || "M 1240".equals(course) || "M 1250".equals(course) || "M 1260".equals(course)
-                || incompleteKeys.contains(key)) {
-                examsToPreserve.add(record);
-                serials.add(record.serialNbr);
-            } else {
-                examsToDelete.add(record);
-            }
-        }
+        // Records are streamed, and those to delete are deleted in batches as they are read
+        final Set<Long> serials = new HashSet<>(1000);
+        final DbConnection conn = this.cache.checkOutConnection(ESchema.LEGACY);
 
-        final List<RawStqa> qaToPreserve = new ArrayList<>(3000);
-        final List<RawStqa> qaToDelete = new ArrayList<>(500000);
-        final List<RawStqa> allQa = RawStqaLogic.queryAll(this.cache);
-        for (final RawStqa record : allQa) {
-            if (serials.contains(record.serialNbr)) {
-                qaToPreserve.add(record);
-            } else {
-                qaToDelete.add(record);
-            }
+        try {
+            final BatchDeleter<RawStexam> examDeleter = new BatchDeleter<>(this.cache, conn,
+                    RawStexamLogic::deleteNoCommit);
+            final int examTotal = RawStexamLogic.streamAll(this.cache, record -> {
+                if (isPreserved(record.stuId, record.course, incompleteKeys)) {
+                    serials.add(record.serialNbr);
+                } else {
+                    examDeleter.accept(record);
+                }
+            });
+            final int examsDeleted = examDeleter.finish();
+            logCounts("stexam", examTotal - examsDeleted, examsDeleted);
+
+            final BatchDeleter<RawStqa> qaDeleter = new BatchDeleter<>(this.cache, conn,
+                    RawStqaLogic::deleteNoCommit);
+            final int qaTotal = RawStqaLogic.streamAll(this.cache, record -> {
+                if (!serials.contains(record.serialNbr)) {
+                    qaDeleter.accept(record);
+                }
+            });
+            final int qaDeleted = qaDeleter.finish();
+            logCounts("stqa", qaTotal - qaDeleted, qaDeleted);
+        } finally {
+            Cache.checkInConnection(conn);
+            StudentDataEvents.allChanged();
         }
+    }
 
-        final int count1 = examsToPreserve.size();
-        final String count1Str = Integer.toString(count1);
-        final int count2 = examsToDelete.size();
-        final String count2Str = Integer.toString(count2);
-        Log.info("  Found ", count1Str, " 'stexam' records to retain, ", count2Str, " to delete.");
+    /**
+     * Logs the number of records retained and deleted from a table.
+     *
+     * @param tableName the table name
+     * @param retained  the number of records retained
+     * @param deleted   the number of records deleted (or that would be deleted, in debug mode)
+     */
+    private static void logCounts(final String tableName, final int retained, final int deleted) {
 
-        final int count3 = qaToPreserve.size();
-        final String count3Str = Integer.toString(count3);
-        final int count4 = qaToDelete.size();
-        final String count4Str = Integer.toString(count4);
-        Log.info("  Found ", count3Str, " 'stqa' records to retain, ", count4Str, " to delete.");
+        final String retainedStr = Integer.toString(retained);
+        final String deletedStr = Integer.toString(deleted);
 
         if (DEBUG_MODE == EDebugMode.NORMAL) {
-            final DbConnection conn = this.cache.checkOutConnection(ESchema.LEGACY);
-
-            try {
-                for (final RawStexam record : examsToDelete) {
-                    RawStexamLogic.deleteNoCommit(this.cache, conn, record);
-                }
-                conn.commit();
-                for (final RawStqa record : qaToDelete) {
-                    RawStqaLogic.deleteNoCommit(this.cache, conn, record);
-                }
-                conn.commit();
-            } finally {
-                Cache.checkInConnection(conn);
-            }
+            Log.info("  Retained ", retainedStr, " '", tableName, "' records, deleted ", deletedStr, ".");
+        } else {
+            Log.info("  Found ", retainedStr, " '", tableName, "' records to retain, ", deletedStr, " to delete.");
         }
     }
 
+    /**
+     * Tests whether records for a student in a course should be preserved because the course is a tutorial or the
+     * student has an active Incomplete in the course.
+     *
+     * @param stuId          the student ID
+     * @param course         the course ID
+     * @param incompleteKeys the set of "keys" for all active Incompletes
+     * @return true if records should be preserved
+     */
+    private static boolean isPreserved(final String stuId, final String course, final Set<String> incompleteKeys) {
+
+        return "M 100T".equals(course) || "M 1170".equals(course) || "M 1180".equals(course)
+               || "M 1240".equals(course) || "M 1250".equals(course) || "M 1260".equals(course)
+               || incompleteKeys.contains(stuId + "." + course);
+    }
+
     /**
      * Deletes CSECTION records for 'bogus' sections (except tutorials),
      *
@@ -573,6 +561,125 @@ public final class PostArchiveCleanup implements Runnable {
         }
     }
 
+    /**
+     * A function that deletes a record without committing.
+     *
+     * @param <T> the record type
+     */
+    @FunctionalInterface
+    private interface IDeleteNoCommit<T> {
+
+        /**
+         * Deletes a record but does not do a commit.
+         *
+         * @param cache  the data cache
+         * @param conn   the connection
+         * @param record the record to delete
+         * @return {@code true} if successful; {@code false} if not
+         * @throws SQLException if there is an error accessing the database
+         */
+        boolean deleteNoCommit(Cache cache, DbConnection conn, T record) throws SQLException;
+    }
+
+    /**
+     * Receives records to delete as they are streamed and deletes them in fixed-size batches, committing after each
+     * batch, so no more than one batch is held in memory.  Since records arrive through a {@code Consumer}, which
+     * cannot throw {@code SQLException}, the first error is recorded (later records are ignored) and thrown from
+     * {@code finish}.  Batches committed before an error remain deleted.
+     *
+     * @param <T> the record type
+     */
+    private static final class BatchDeleter<T> implements Consumer<T> {
+
+        /** The data cache. */
+        private final Cache cache;
+
+        /** The connection on which to delete records. */
+        private final DbConnection conn;
+
+        /** The function that deletes a record without committing. */
+        private final IDeleteNoCommit<? super T> deleter;
+
+        /** The current batch. */
+        private final List<T> batch;
+
+        /** The number of records deleted (or that would be deleted, in debug mode). */
+        private int numDeleted;
+
+        /** The first error that occurred; {@code null} if none. */
+        private SQLException error;
+
+        /**
+         * Constructs a new {@code BatchDeleter}.
+         *
+         * @param theCache   the data cache
+         * @param theConn    the connection on which to delete records
+         * @param theDeleter the function that deletes a record without committing
+         */
+        BatchDeleter(final Cache theCache, final DbConnection theConn, final IDeleteNoCommit<? super T> theDeleter) {
+
+            this.cache = theCache;
+            this.conn = theConn;
+            this.deleter = theDeleter;
+            this.batch = new ArrayList<>(DELETE_BATCH_SIZE);
+        }
+
+        /**
+         * Adds a record to the current batch, deleting the batch if it is full.
+         *
+         * @param record the record to delete
+         */
+        @Override
+        public void accept(final T record) {
+
+            if (this.error == null) {
+                this.batch.add(record);
+                if (this.batch.size() >= DELETE_BATCH_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        /**
+         * Deletes the records in the current batch and commits.
+         */
+        private void flush() {
+
+            try {
+                if (DEBUG_MODE == EDebugMode.NORMAL) {
+                    for (final T record : this.batch) {
+                        this.deleter.deleteNoCommit(this.cache, this.conn, record);
+                    }
+                    this.conn.commit();
+                }
+                this.numDeleted += this.batch.size();
+            } catch (final SQLException ex) {
+                this.error = ex;
+            }
+
+            this.batch.clear();
+        }
+
+        /**
+         * Deletes any records remaining in the current batch.
+         *
+         * @return the number of records deleted (or that would be deleted, in debug mode)
+         * @throws SQLException if there was an error deleting any batch
+         */
+        int finish() throws SQLException {
+
+            if (this.error == null && !this.batch.isEmpty()) {
+                flush();
+            }
+
+            if (this.error != null) {
+                throw this.error;
+            }
+
+            return this.numDeleted;
+        }
+    }
+
     /**
      * Main method to execute the batch job.
      *
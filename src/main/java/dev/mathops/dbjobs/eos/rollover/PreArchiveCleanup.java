@@ -5,6 +5,7 @@ import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.cfg.Contexts;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.cfg.DatabaseConfig;
 import dev.mathops.db.cfg.Profile;
@@ -49,6 +50,7 @@ public final class PreArchiveCleanup implements Runnable {
             Log.warning("Exception performing pre-archive cleanup.", ex);
         } finally {
             Cache.checkInConnection(prodConn);
+            StudentDataEvents.allChanged();
         }
     }
 
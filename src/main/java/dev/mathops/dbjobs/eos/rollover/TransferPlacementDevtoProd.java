@@ -10,19 +10,6 @@ import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.cfg.DatabaseConfig;
 import dev.mathops.db.cfg.Profile;
 import dev.mathops.db.schema.legacy.rec.RawEtextKey;
-import dev.mathops.db.schema.legacy.rec.RawMpeCredit;
-import dev.mathops.db.schema.legacy.rec.RawMpeLog;
-import dev.mathops.db.schema.legacy.rec.RawMpecrDenied;
-import dev.mathops.db.schema.legacy.rec.RawMpscorequeue;
-import dev.mathops.db.schema.legacy.rec.RawStchallenge;
-import dev.mathops.db.schema.legacy.rec.RawStchallengeqa;
-import dev.mathops.db.schema.legacy.rec.RawStetext;
-import dev.mathops.db.schema.legacy.rec.RawStexam;
-import dev.mathops.db.schema.legacy.rec.RawStmathplan;
-import dev.mathops.db.schema.legacy.rec.RawStmpe;
-import dev.mathops.db.schema.legacy.rec.RawStmpeqa;
-import dev.mathops.db.schema.legacy.rec.RawStqa;
-import dev.mathops.db.schema.legacy.rec.RawStsurveyqa;
 import dev.mathops.text.builder.HtmlBuilder;
 
 import java.sql.Date;
@@ -30,16 +17,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.sql.Types;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
 
 /**
  * At the end of a semester, during final grading, the PROD database can be copied to DEV, and the placement and
@@ -91,6 +74,9 @@ final class TransferPlacementDevtoProd {
     /** A commonly used string. */
     private static final String INDENT8 = "        ";
 
+    /** A filter that selects exam rows finished after the "since" date/time (parameters from windowParameters). */
+    private static final String WINDOW = "(exam_dt > ? OR (exam_dt = ? AND finish_time >= ?))";
+
     /** The database profile to use. */
     private Profile prodProfile;
 
@@ -161,17 +147,19 @@ final class TransferPlacementDevtoProd {
                     final DbConnection devConn = devCache.checkOutConnection(ESchema.LEGACY);
 
                     try {
-                        doStexam(prodConn, devConn, report);
-                        doStmpe(prodConn, devConn, report);
-                        doStchallenge(prodConn, devConn, report);
-                        doMpeCredit(prodConn, devConn, report);
-                        doMpecrDenied(prodConn, devConn, report);
-                        doMpeLog(prodConn, devConn, report);
-                        doMpescorequeue(prodConn, devConn, report);
-                        doStsurveyqa(prodConn, devConn, report);
-                        doStmathplan(prodConn, devConn, report);
+                        final DeltaSync sync = new DeltaSync(devConn, prodConn, DEBUG);
+
+                        doStexam(sync, devConn, report);
+                        doStmpe(sync, report);
+                        doStchallenge(sync, report);
+                        doMpeCredit(sync, report);
+                        doMpecrDenied(sync, report);
+                        doMpeLog(sync, report);
+                        doMpescorequeue(sync, report);
+                        doStsurveyqa(sync, report);
+                        doStmathplan(sync, report);
                         doEtextKey(prodConn, devConn, report);
-                        doStetext(prodConn, devConn, report);
+                        doStetext(sync, report);
                     } finally {
                         Cache.checkInConnection(devConn);
                     }
@@ -204,731 +192,297 @@ final class TransferPlacementDevtoProd {
     /**
      * Transfers "stexam" records and corresponding "stqa" records.
      *
-     * @param prodConn a connection to the production (destination) database
-     * @param devConn  a connection to the development (source) database
-     * @param report   list to which to add report lines
+     * @param sync    the delta-sync engine (from DEV to PROD)
+     * @param devConn a connection to the development (source) database
+     * @param report  list to which to add report lines
      * @throws SQLException if there is an error accessing the database
      */
-    private void doStexam(final DbConnection prodConn, final DbConnection devConn,
-                          final Collection<? super String> report) throws SQLException {
+    private void doStexam(final DeltaSync sync, final DbConnection devConn, final Collection<? super String> report)
+            throws SQLException {
 
-        report.add(CoreConstants.EMPTY);
-        report.add("* Copying 'stexam' and corresponding 'stqa' records...");
-        report.add(CoreConstants.EMPTY);
+        final Collection<String> details = new ArrayList<>(10);
 
-        final Map<RawStexam, List<RawStqa>> stexamOnDev = new HashMap<>(10);
-        final Map<String, Integer> courses = new TreeMap<>();
+        // Summarize the courses represented by exams in the window
 
-        // Gather all "stexam" rows since the start time
-
-        final String sql1 = "SELECT * FROM stexam"
-                            + " WHERE exam_dt > ?"
-                            + " OR (exam_dt = ? AND finish_time >= ?)";
+        final String sql1 = "SELECT course, COUNT(*) FROM stexam WHERE " + WINDOW + " GROUP BY course ORDER BY course";
 
         try (final PreparedStatement ps = devConn.prepareStatement(sql1)) {
-            ps.setDate(1, this.sinceDate);
-            ps.setDate(2, this.sinceDate);
-            ps.setInt(3, this.sinceTime);
+            bindWindow(ps);
 
             try (final ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    final RawStexam exam = RawStexam.fromResultSet(rs);
-                    final List<RawStqa> qalist = new ArrayList<>(24);
-                    stexamOnDev.put(exam, qalist);
-
-                    final Integer count = courses.get(exam.course);
-                    if (count == null) {
-                        courses.put(exam.course, Integer.valueOf(1));
-                    } else {
-                        courses.put(exam.course, Integer.valueOf(count.intValue() + 1));
-                    }
-                }
-            }
-        }
-
-        if (stexamOnDev.isEmpty()) {
-            report.add(INDENT4 + "There are no stexam records to copy.");
-        } else {
-            report.add(INDENT4 + "Found " + stexamOnDev.size() + " stexam records to copy.");
-            report.add(INDENT4 + "The following courses are represented:");
-            for (final Map.Entry<String, Integer> course : courses.entrySet()) {
-                if (course.getValue().intValue() == 1) {
-                    report.add(INDENT8 + course.getKey() + " (1 exam)");
-                } else {
-                    report.add(INDENT8 + course.getKey() + " (" + course.getValue() + " exams)");
-                }
-            }
-
-            // Gather all "stqa" rows associated with each "stexam" row
-
-            final String sql2 = "SELECT * FROM stqa"
-                                + " WHERE serial_nbr =?";
-
-            try (final PreparedStatement ps = devConn.prepareStatement(sql2)) {
-                for (final Map.Entry<RawStexam, List<RawStqa>> entry : stexamOnDev.entrySet()) {
-
-                    final Long serial = entry.getKey().serialNbr;
-                    ps.setLong(1, serial.longValue());
-
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        while (rs.next()) {
-                            entry.getValue().add(RawStqa.fromResultSet(rs));
+                if (rs.next()) {
+                    details.add(INDENT4 + "The following courses are represented:");
+                    do {
+                        final int count = rs.getInt(2);
+                        if (count == 1) {
+                            details.add(INDENT8 + rs.getString(1) + " (1 exam)");
+                        } else {
+                            details.add(INDENT8 + rs.getString(1) + " (" + count + " exams)");
                         }
-                    }
-
-                    if (entry.getValue().size() < 10) {
-                        report.add(INDENT4 + "*** WARNING: stexam record with serial number "
-                                   + serial + " has only " + entry.getValue().size() + " stqa records.");
-                    }
+                    } while (rs.next());
                 }
             }
+        }
 
-            // Sweep through each exam, check for its existence on PROD, and if found, remove from
-            // consideration
-
-            final Iterator<Map.Entry<RawStexam, List<RawStqa>>> entryIter = stexamOnDev.entrySet().iterator();
-
-            while (entryIter.hasNext()) {
-                final Map.Entry<RawStexam, List<RawStqa>> entry = entryIter.next();
-                final RawStexam stexam = entry.getKey();
-
-                final String sql3 = "SELECT * FROM stexam"
-                                    + " WHERE serial_nbr=?"
-                                    + " AND version=?"
-                                    + " AND stu_id=?"
-                                    + " AND exam_dt=?"
-                                    + " AND finish_time=?";
+        // Warn of exams with fewer "stqa" rows than expected
 
-                try (final PreparedStatement ps = prodConn.prepareStatement(sql3)) {
+        final String sql2 = "SELECT e.serial_nbr, (SELECT COUNT(*) FROM stqa q WHERE q.serial_nbr=e.serial_nbr)"
+                            + " FROM stexam e WHERE " + WINDOW;
 
-                    if (stexam.serialNbr == null) {
-                        ps.setNull(1, Types.INTEGER);
-                    } else {
-                        ps.setLong(1, stexam.serialNbr.longValue());
-                    }
-                    ps.setString(2, stexam.version);
-                    ps.setString(3, stexam.stuId);
-                    ps.setDate(4, Date.valueOf(stexam.examDt));
-                    if (stexam.finishTime == null) {
-                        ps.setNull(5, Types.INTEGER);
-                    } else {
-                        ps.setInt(5, stexam.finishTime.intValue());
-                    }
+        try (final PreparedStatement ps = devConn.prepareStatement(sql2)) {
+            bindWindow(ps);
 
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            // Record exists in PROD already - skip
-                            entryIter.remove();
-                        }
+            try (final ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    final int count = rs.getInt(2);
+                    if (count < 10) {
+                        details.add(INDENT4 + "*** WARNING: stexam record with serial number " + rs.getLong(1)
+                                    + " has only " + count + " stqa records.");
                     }
                 }
             }
+        }
 
-            if (stexamOnDev.isEmpty()) {
-                report.add(INDENT4 + "All stexam records already exist in PROD.");
-            } else {
-                report.add(INDENT4 + stexamOnDev.size() + " stexam records do not exist in PROD.");
-
-                // Insert in PROD
-                if (!DEBUG) {
-                    int stexamInsertCount = 0;
-                    int stqaInsertCount = 0;
-
-                    try {
-                        final String sql4 = "INSERT INTO stexam (serial_nbr,version,"
-                                            + "stu_id,exam_dt,exam_score,start_time,finish_time,"
-                                            + "time_ok,passed,seq_nbr,course,unit,exam_type,"
-                                            + "is_first_passed,exam_source,calc_nbr) "
-                                            + "VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql4)) {
-
-                            for (final Map.Entry<RawStexam, List<RawStqa>> entry : stexamOnDev.entrySet()) {
-                                final RawStexam stexam = entry.getKey();
-
-                                if (stexam.serialNbr == null) {
-                                    ps.setNull(1, Types.INTEGER);
-                                } else {
-                                    ps.setLong(1, stexam.serialNbr.longValue());
-                                }
-                                ps.setString(2, stexam.version);
-                                ps.setString(3, stexam.stuId);
-                                ps.setDate(4, Date.valueOf(stexam.examDt));
-                                if (stexam.examScore == null) {
-                                    ps.setNull(5, Types.INTEGER);
-                                } else {
-                                    ps.setInt(5, stexam.examScore.intValue());
-                                }
-                                if (stexam.startTime == null) {
-                                    ps.setNull(6, Types.INTEGER);
-                                } else {
-                                    ps.setInt(6, stexam.startTime.intValue());
-                                }
-                                if (stexam.finishTime == null) {
-                                    ps.setNull(7, Types.INTEGER);
-                                } else {
-                                    ps.setInt(7, stexam.finishTime.intValue());
-                                }
-                                ps.setString(8, stexam.timeOk);
-                                ps.setString(9, stexam.passed);
-                                if (stexam.seqNbr == null) {
-                                    ps.setNull(10, Types.INTEGER);
-                                } else {
-                                    ps.setInt(10, stexam.seqNbr.intValue());
-                                }
-                                ps.setString(11, stexam.course);
-                                if (stexam.unit == null) {
-                                    ps.setNull(12, Types.INTEGER);
-                                } else {
-                                    ps.setInt(12, stexam.unit.intValue());
-                                }
-                                ps.setString(13, stexam.examType);
-                                ps.setString(14, stexam.isFirstPassed);
-                                ps.setString(15, stexam.examSource);
-                                ps.setString(16, stexam.calcNbr);
-
-                                ps.executeUpdate();
-                                ++stexamInsertCount;
-                            }
-                        }
-
-                        final String sql5 = "INSERT INTO stqa (serial_nbr,"
-                                            + "question_nbr,answer_nbr,objective,stu_answer,stu_id,"
-                                            + "version,ans_correct,exam_dt,subtest,finish_time) "
-                                            + "VALUES (?,?,?,?,?,?,?,?,?,?,?)";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql5)) {
-
-                            for (final List<RawStqa> list : stexamOnDev.values()) {
-                                for (final RawStqa stqa : list) {
-
-                                    if (stqa.serialNbr == null) {
-                                        ps.setNull(1, Types.INTEGER);
-                                    } else {
-                                        ps.setLong(1, stqa.serialNbr.longValue());
-                                    }
-                                    if (stqa.questionNbr == null) {
-                                        ps.setNull(2, Types.INTEGER);
-                                    } else {
-                                        ps.setInt(2, stqa.questionNbr.intValue());
-                                    }
-                                    if (stqa.answerNbr == null) {
-                                        ps.setNull(3, Types.INTEGER);
-                                    } else {
-                                        ps.setInt(3, stqa.answerNbr.intValue());
-                                    }
-                                    ps.setString(4, stqa.objective);
-                                    ps.setString(5, stqa.stuAnswer);
-                                    ps.setString(6, stqa.stuId);
-                                    ps.setString(7, stqa.version);
-                                    ps.setString(8, stqa.ansCorrect);
-                                    ps.setDate(9, Date.valueOf(stqa.examDt));
-                                    ps.setString(10, stqa.subtest);
-                                    if (stqa.finishTime == null) {
-                                        ps.setNull(11, Types.INTEGER);
-                                    } else {
-                                        ps.setInt(11, stqa.finishTime.intValue());
-                                    }
-
-                                    ps.executeUpdate();
-                                    ++stqaInsertCount;
-                                }
-                            }
-                        }
+        final DeltaSync.TableSpec stexam = new DeltaSync.TableSpec("stexam",
+                List.of("serial_nbr", "version", "stu_id", "exam_dt", "finish_time"), WINDOW, windowParameters());
 
-                        prodConn.commit();
+        // "stqa" rows carry only the serial number of their exam, so select those belonging to exams in the window
+        final DeltaSync.TableSpec stqa = new DeltaSync.TableSpec("stqa", List.of("serial_nbr", "question_nbr"),
+                "serial_nbr IN (SELECT serial_nbr FROM stexam WHERE " + WINDOW + ")", windowParameters());
 
-                        report.add(INDENT4 + "Copied " + stexamInsertCount + " stexam records to PROD.");
-                        report.add(INDENT4 + "Copied " + stqaInsertCount + " stqa records to PROD.");
-                    } catch (final SQLException ex) {
-                        report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
-                        Throwable th = ex;
-                        while (th != null) {
-                            for (final StackTraceElement st : th.getStackTrace()) {
-                                report.add(INDENT8 + st.toString());
-                            }
-                            th = th.getCause();
-                        }
-                        prodConn.rollback();
-                        throw ex;
-                    }
-                }
-            }
-        }
+        syncTable(sync, stexam, stqa, List.of("serial_nbr"), details, report);
     }
 
     /**
      * Transfers "stmpe" records and corresponding "stmpeqa" records.
      *
-     * @param prodConn a connection to the production (destination) database
-     * @param devConn  a connection to the development (source) database
-     * @param report   list to which to add report lines
+     * @param sync   the delta-sync engine (from DEV to PROD)
+     * @param report list to which to add report lines
      * @throws SQLException if there is an error accessing the database
      */
-    private void doStmpe(final DbConnection prodConn, final DbConnection devConn,
-                         final Collection<? super String> report) throws SQLException {
-
-        report.add(CoreConstants.EMPTY);
-        report.add("* Copying 'stmpe' and corresponding 'stmpeqa' records...");
-        report.add(CoreConstants.EMPTY);
-
-        final Map<RawStmpe, List<RawStmpeqa>> stmpeOnDev = new HashMap<>(10);
+    private void doStmpe(final DeltaSync sync, final Collection<? super String> report) throws SQLException {
 
-        // Gather all "stmpe" rows since the start time
+        final List<String> key = List.of("stu_id", "version", "exam_dt", "finish_time");
 
-        final String sql1 = "SELECT * FROM stmpe"
-                            + " WHERE exam_dt > ?"
-                            + " OR (exam_dt = ? AND finish_time >= ?)";
+        final DeltaSync.TableSpec stmpe = new DeltaSync.TableSpec("stmpe", key, WINDOW, windowParameters());
+        final DeltaSync.TableSpec stmpeqa = new DeltaSync.TableSpec("stmpeqa", key, WINDOW, windowParameters());
 
-        try (final PreparedStatement ps = devConn.prepareStatement(sql1)) {
-            ps.setDate(1, this.sinceDate);
-            ps.setDate(2, this.sinceDate);
-            ps.setInt(3, this.sinceTime);
-
-            try (final ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    final RawStmpe stmpe = RawStmpe.fromResultSet(rs);
-                    final List<RawStmpeqa> qalist = new ArrayList<>(24);
-                    stmpeOnDev.put(stmpe, qalist);
-                }
-            }
-        }
-
-        if (stmpeOnDev.isEmpty()) {
-            report.add(INDENT4 + "There are no stmpe records to copy.");
-        } else {
-            report.add(INDENT4 + "Found " + stmpeOnDev.size() + " stmpe records to copy.");
-
-            // Gather all "stmpeqa" rows associated with each "stmpe" row
-
-            final String sql2 = "SELECT * FROM stmpeqa"
-                                + " WHERE stu_id=? AND version=? AND exam_dt=? AND finish_time=?";
+        syncTable(sync, stmpe, stmpeqa, key, report);
+    }
 
-            try (final PreparedStatement ps = devConn.prepareStatement(sql2)) {
-                for (final Map.Entry<RawStmpe, List<RawStmpeqa>> entry : stmpeOnDev.entrySet()) {
-                    final RawStmpe stmpe = entry.getKey();
+    /**
+     * Transfers "stchallenge" records and corresponding "stchallengeqa" records.
+     *
+     * @param sync   the delta-sync engine (from DEV to PROD)
+     * @param report list to which to add report lines
+     * @throws SQLException if there is an error accessing the database
+     */
+    private void doStchallenge(final DeltaSync sync, final Collection<? super String> report) throws SQLException {
 
-                    ps.setString(1, stmpe.stuId);
-                    ps.setString(2, stmpe.version);
-                    ps.setDate(3, Date.valueOf(stmpe.examDt));
-                    if (stmpe.finishTime == null) {
-                        ps.setNull(4, Types.INTEGER);
-                    } else {
-                        ps.setInt(4, stmpe.finishTime.intValue());
-                    }
+        final List<String> key = List.of("stu_id", "course", "version", "exam_dt", "finish_time");
 
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        while (rs.next()) {
-                            entry.getValue().add(RawStmpeqa.fromResultSet(rs));
-                        }
-                    }
+        final DeltaSync.TableSpec stchallenge = new DeltaSync.TableSpec("stchallenge", key, WINDOW,
+                windowParameters());
+        final DeltaSync.TableSpec stchallengeqa = new DeltaSync.TableSpec("stchallengeqa", key, WINDOW,
+                windowParameters());
 
-                    if (entry.getValue().size() < 50) {
-                        report.add(INDENT4 + "*** WARNING: stmpe record for student " + stmpe.stuId
-                                   + " has only " + entry.getValue().size() + " stmpeqa records.");
-                    }
-                }
-            }
+        syncTable(sync, stchallenge, stchallengeqa, key, report);
+    }
 
-            // Sweep through each exam, check for its existence on PROD, and if found, remove from
-            // consideration
+    /**
+     * Transfers "mpe_credit" records.
+     *
+     * @param sync   the delta-sync engine (from DEV to PROD)
+     * @param report list to which to add report lines
+     * @throws SQLException if there is an error accessing the database
+     */
+    private void doMpeCredit(final DeltaSync sync, final Collection<? super String> report) throws SQLException {
 
-            final Iterator<Map.Entry<RawStmpe, List<RawStmpeqa>>> entryIter =
-                    stmpeOnDev.entrySet().iterator();
+        final DeltaSync.TableSpec spec = new DeltaSync.TableSpec("mpe_credit",
+                List.of("stu_id", "course", "version", "serial_nbr", "exam_dt"), "exam_dt >= ?",
+                List.of(this.sinceDate));
 
-            while (entryIter.hasNext()) {
+        syncTable(sync, spec, null, List.of(), report);
+    }
 
-                final Map.Entry<RawStmpe, List<RawStmpeqa>> entry = entryIter.next();
-                final RawStmpe stmpe = entry.getKey();
+    /**
+     * Transfers "mpecr_denied" records.
+     *
+     * @param sync   the delta-sync engine (from DEV to PROD)
+     * @param report list to which to add report lines
+     * @throws SQLException if there is an error accessing the database
+     */
+    private void doMpecrDenied(final DeltaSync sync, final Collection<? super String> report) throws SQLException {
 
-                final String sql3 = "SELECT * FROM stmpe"
-                                    + " WHERE stu_id=?"
-                                    + " AND version=?"
-                                    + " AND exam_dt=?"
-                                    + " AND finish_time=?";
+        final DeltaSync.TableSpec spec = new DeltaSync.TableSpec("mpecr_denied",
+                List.of("stu_id", "course", "version", "serial_nbr", "exam_dt"), "exam_dt >= ?",
+                List.of(this.sinceDate));
 
-                try (final PreparedStatement ps = prodConn.prepareStatement(sql3)) {
+        syncTable(sync, spec, null, List.of(), report);
+    }
 
-                    ps.setString(1, stmpe.stuId);
-                    ps.setString(2, stmpe.version);
-                    ps.setDate(3, Date.valueOf(stmpe.examDt));
-                    if (stmpe.finishTime == null) {
-                        ps.setNull(4, Types.INTEGER);
-                    } else {
-                        ps.setInt(4, stmpe.finishTime.intValue());
-                    }
+    /**
+     * Transfers "mpe_log" records.
+     *
+     * @param sync   the delta-sync engine (from DEV to PROD)
+     * @param report list to which to add report lines
+     * @throws SQLException if there is an error accessing the database
+     */
+    private void doMpeLog(final DeltaSync sync, final Collection<? super String> report) throws SQLException {
 
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            // Record exists in PROD already - skip
-                            entryIter.remove();
-                        }
-                    }
-                }
-            }
+        // "exam_dt" is not part of the key and can change after a row is copied, so the date filter selects rows from
+        // DEV only, and rows in PROD are matched on the full key whatever their "exam_dt"
+        final DeltaSync.TableSpec spec = new DeltaSync.TableSpec("mpe_log",
+                List.of("stu_id", "course", "version", "serial_nbr", "start_dt", "start_time"), "exam_dt >= ?",
+                List.of(this.sinceDate), false);
 
-            if (stmpeOnDev.isEmpty()) {
-                report.add(INDENT4 + "All stmpe records already exist in PROD.");
-            } else {
-                report.add(INDENT4 + stmpeOnDev.size() + " stmpe records do not exist in PROD.");
+        syncTable(sync, spec, null, List.of(), report);
+    }
 
-                // Insert in PROD
-                if (!DEBUG) {
-                    int stmpeInsertCount = 0;
-                    int stmpeqaInsertCount = 0;
+    /**
+     * Transfers "mpscorequeue" records.
+     *
+     * @param sync   the delta-sync engine (from DEV to PROD)
+     * @param report list to which to add report lines
+     * @throws SQLException if there is an error accessing the database
+     */
+    private void doMpescorequeue(final DeltaSync sync, final Collection<? super String> report)
+            throws SQLException {
 
-                    try {
-                        final String sql4 = "INSERT INTO stmpe (stu_id,version,"
-                                            + "academic_yr,exam_dt,start_time,finish_time,last_name,"
-                                            + "first_name,middle_initial,seq_nbr,serial_nbr,sts_a,"
-                                            + "sts_117,sts_118,sts_124,sts_125,sts_126,placed,"
-                                            + "how_validated) "
-                                            + "VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
+        final DeltaSync.TableSpec spec = new DeltaSync.TableSpec("mpscorequeue",
+                List.of("pidm", "test_code", "test_date", "test_score"), "date(test_date) >= ?",
+                List.of(this.sinceDate));
 
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql4)) {
+        syncTable(sync, spec, null, List.of(), report);
+    }
 
-                            for (final Map.Entry<RawStmpe, List<RawStmpeqa>> entry : stmpeOnDev
-                                    .entrySet()) {
-                                final RawStmpe stmpe = entry.getKey();
-
-                                ps.setString(1, stmpe.stuId);
-                                ps.setString(2, stmpe.version);
-                                ps.setString(3, stmpe.academicYr);
-                                ps.setDate(4, Date.valueOf(stmpe.examDt));
-                                if (stmpe.startTime == null) {
-                                    ps.setNull(5, Types.INTEGER);
-                                } else {
-                                    ps.setInt(5, stmpe.startTime.intValue());
-                                }
-                                if (stmpe.finishTime == null) {
-                                    ps.setNull(6, Types.INTEGER);
-                                } else {
-                                    ps.setInt(6, stmpe.finishTime.intValue());
-                                }
-                                ps.setString(7, stmpe.lastName);
-                                ps.setString(8, stmpe.firstName);
-                                ps.setString(9, stmpe.middleInitial);
-                                if (stmpe.seqNbr == null) {
-                                    ps.setNull(10, Types.INTEGER);
-                                } else {
-                                    ps.setInt(10, stmpe.seqNbr.intValue());
-                                }
-                                if (stmpe.serialNbr == null) {
-                                    ps.setNull(11, Types.INTEGER);
-                                } else {
-                                    ps.setLong(11, stmpe.serialNbr.longValue());
-                                }
-                                if (stmpe.stsA == null) {
-                                    ps.setNull(12, Types.INTEGER);
-                                } else {
-                                    ps.setInt(12, stmpe.stsA.intValue());
-                                }
-                                if (stmpe.sts117 == null) {
-                                    ps.setNull(13, Types.INTEGER);
-                                } else {
-                                    ps.setInt(13, stmpe.sts117.intValue());
-                                }
-                                if (stmpe.sts118 == null) {
-                                    ps.setNull(14, Types.INTEGER);
-                                } else {
-                                    ps.setInt(14, stmpe.sts118.intValue());
-                                }
-                                if (stmpe.sts124 == null) {
-                                    ps.setNull(15, Types.INTEGER);
-                                } else {
-                                    ps.setInt(15, stmpe.sts124.intValue());
-                                }
-                                if (stmpe.sts125 == null) {
-                                    ps.setNull(16, Types.INTEGER);
-                                } else {
-                                    ps.setInt(16, stmpe.sts125.intValue());
-                                }
-                                if (stmpe.sts126 == null) {
-                                    ps.setNull(17, Types.INTEGER);
-                                } else {
-                                    ps.setInt(17, stmpe.sts126.intValue());
-                                }
-                                ps.setString(18, stmpe.placed);
-                                ps.setString(19, stmpe.howValidated);
+    /**
+     * Transfers "stsurveyqa" records.
+     *
+     * @param sync   the delta-sync engine (from DEV to PROD)
+     * @param report list to which to add report lines
+     * @throws SQLException if there is an error accessing the database
+     */
+    private void doStsurveyqa(final DeltaSync sync, final Collection<? super String> report) throws SQLException {
 
-                                ps.executeUpdate();
-                                ++stmpeInsertCount;
-                            }
-                        }
+        final DeltaSync.TableSpec spec = new DeltaSync.TableSpec("stsurveyqa",
+                List.of("stu_id", "version", "exam_dt", "finish_time", "survey_nbr"), WINDOW, windowParameters());
 
-                        final String sql5 = "INSERT INTO stmpeqa (stu_id,"
-                                            + "version,exam_dt,finish_time,question_nbr,stu_answer,"
-                                            + "ans_correct,subtest,tree_ref) "
-                                            + "VALUES (?,?,?,?,?,?,?,?,?)";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql5)) {
-
-                            for (final List<RawStmpeqa> list : stmpeOnDev.values()) {
-                                for (final RawStmpeqa stmpeqa : list) {
-
-                                    ps.setString(1, stmpeqa.stuId);
-                                    ps.setString(2, stmpeqa.version);
-                                    ps.setDate(3, Date.valueOf(stmpeqa.examDt));
-                                    if (stmpeqa.finishTime == null) {
-                                        ps.setNull(4, Types.INTEGER);
-                                    } else {
-                                        ps.setInt(4, stmpeqa.finishTime.intValue());
-                                    }
-                                    if (stmpeqa.questionNbr == null) {
-                                        ps.setNull(5, Types.INTEGER);
-                                    } else {
-                                        ps.setInt(5, stmpeqa.questionNbr.intValue());
-                                    }
-                                    ps.setString(6, stmpeqa.stuAnswer);
-                                    ps.setString(7, stmpeqa.ansCorrect);
-                                    ps.setString(8, stmpeqa.subtest);
-                                    ps.setString(9, stmpeqa.treeRef);
-
-                                    ps.executeUpdate();
-                                    ++stmpeqaInsertCount;
-                                }
-                            }
-                        }
+        syncTable(sync, spec, null, List.of(), report);
+    }
 
-                        prodConn.commit();
+    /**
+     * Transfers "stmathplan" records.
+     *
+     * @param sync   the delta-sync engine (from DEV to PROD)
+     * @param report list to which to add report lines
+     * @throws SQLException if there is an error accessing the database
+     */
+    private void doStmathplan(final DeltaSync sync, final Collection<? super String> report) throws SQLException {
 
-                        report.add(INDENT4 + "Copied " + stmpeInsertCount + " stmpe records to PROD.");
-                        report.add(INDENT4 + "Copied " + stmpeqaInsertCount + " stmpeqa records to PROD.");
+        final DeltaSync.TableSpec spec = new DeltaSync.TableSpec("stmathplan",
+                List.of("stu_id", "version", "exam_dt", "finish_time", "survey_nbr"), "exam_dt >= ?",
+                List.of(this.sinceDate));
 
-                    } catch (final SQLException ex) {
-                        report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
-                        Throwable th = ex;
-                        while (th != null) {
-                            for (final StackTraceElement st : th.getStackTrace()) {
-                                report.add(INDENT8 + st.toString());
-                            }
-                            th = th.getCause();
-                        }
-                        prodConn.rollback();
-                        throw ex;
-                    }
-                }
-            }
-        }
+        syncTable(sync, spec, null, List.of(), report);
     }
 
     /**
-     * Transfers "stchallenge" records and corresponding "stchallengeqa" records.
+     * Transfers "etext_key" records.
      *
      * @param prodConn a connection to the production (destination) database
      * @param devConn  a connection to the development (source) database
      * @param report   list to which to add report lines
      * @throws SQLException if there is an error accessing the database
      */
-    private void doStchallenge(final DbConnection prodConn, final DbConnection devConn,
-                               final Collection<? super String> report) throws SQLException {
+    private void doEtextKey(final DbConnection prodConn, final DbConnection devConn,
+                            final Collection<? super String> report) throws SQLException {
 
         report.add(CoreConstants.EMPTY);
-        report.add("* Copying 'stchallenge' and corresponding 'stchallengeqa' records...");
+        report.add("* Copying 'etext_key' records...");
         report.add(CoreConstants.EMPTY);
 
-        final Map<RawStchallenge, List<RawStchallengeqa>> stchallengeOnDev = new HashMap<>(10);
+        final List<RawEtextKey> etextKeyOnDev = new ArrayList<>(10);
 
-        // Gather all "stchallenge" rows since the start time
+        // Gather all "etext_key" rows since the start time
 
-        final String sql1 = "SELECT * FROM stchallenge"
-                            + " WHERE exam_dt > ?"
-                            + " OR (exam_dt = ? AND finish_time >= ?)";
+        final String sql1 = "SELECT * FROM etext_key WHERE active_dt >= ?";
 
         try (final PreparedStatement ps = devConn.prepareStatement(sql1)) {
             ps.setDate(1, this.sinceDate);
-            ps.setDate(2, this.sinceDate);
-            ps.setInt(3, this.sinceTime);
 
             try (final ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    final RawStchallenge stchallenge = RawStchallenge.fromResultSet(rs);
-                    final List<RawStchallengeqa> qalist = new ArrayList<>(24);
-                    stchallengeOnDev.put(stchallenge, qalist);
+                    etextKeyOnDev.add(RawEtextKey.fromResultSet(rs));
                 }
             }
         }
 
-        if (stchallengeOnDev.isEmpty()) {
-            report.add(INDENT4 + "There are no stchallenge records to copy.");
+        if (etextKeyOnDev.isEmpty()) {
+            report.add(INDENT4 + "There are no etext_key records to copy.");
         } else {
-            report.add(INDENT4 + "Found " + stchallengeOnDev.size() + " stchallenge records to copy.");
-
-            // Gather all "stchallengeqa" rows associated with each "stchallenge" row
-
-            final String sql2 = "SELECT * FROM stchallengeqa"
-                                + " WHERE stu_id=? AND course=? AND version=?"
-                                + " AND exam_dt=? AND finish_time=?";
-
-            try (final PreparedStatement ps = devConn.prepareStatement(sql2)) {
-                for (final Map.Entry<RawStchallenge, List<RawStchallengeqa>> entry : stchallengeOnDev.entrySet()) {
-                    final RawStchallenge stchallenge = entry.getKey();
-
-                    ps.setString(1, stchallenge.stuId);
-                    ps.setString(2, stchallenge.course);
-                    ps.setString(3, stchallenge.version);
-                    ps.setDate(4, Date.valueOf(stchallenge.examDt));
-                    if (stchallenge.finishTime == null) {
-                        ps.setNull(5, Types.INTEGER);
-                    } else {
-                        ps.setInt(5, stchallenge.finishTime.intValue());
-                    }
-
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        while (rs.next()) {
-                            entry.getValue().add(RawStchallengeqa.fromResultSet(rs));
-                        }
-                    }
-
-                    if (entry.getValue().size() < 20) {
-                        report.add(INDENT4 + "*** WARNING: stchallenge record for student "
-                                   + stchallenge.stuId + " has only " + entry.getValue().size()
-                                   + " stchallengeqa records.");
-                    }
-                }
-            }
+            report.add(INDENT4 + "Found " + etextKeyOnDev.size() + " etext_key records to copy.");
 
-            // Sweep through each exam, check for its existence on PROD, and if found, remove from
+            // Sweep through each row, check for its existence on PROD, and if found, remove from
             // consideration
 
-            final Iterator<Map.Entry<RawStchallenge, List<RawStchallengeqa>>> entryIter =
-                    stchallengeOnDev.entrySet().iterator();
-
-            while (entryIter.hasNext()) {
+            final Iterator<RawEtextKey> iter = etextKeyOnDev.iterator();
 
-                final Map.Entry<RawStchallenge, List<RawStchallengeqa>> entry = entryIter.next();
-                final RawStchallenge stchallenge = entry.getKey();
+            while (iter.hasNext()) {
+                final RawEtextKey etextKey = iter.next();
 
-                final String sql3 = "SELECT * FROM stchallenge"
-                                    + " WHERE stu_id=?"
-                                    + " AND course=?"
-                                    + " AND version=?"
-                                    + " AND exam_dt=?"
-                                    + " AND finish_time=?";
+                final String sql3 = "SELECT * FROM etext_key"
+                                    + " WHERE etext_id=?"
+                                    + " AND etext_key=?"
+                                    + " AND active_dt=?";
 
                 try (final PreparedStatement ps = prodConn.prepareStatement(sql3)) {
 
-                    ps.setString(1, stchallenge.stuId);
-                    ps.setString(2, stchallenge.course);
-                    ps.setString(3, stchallenge.version);
-                    ps.setDate(4, Date.valueOf(stchallenge.examDt));
-                    if (stchallenge.finishTime == null) {
-                        ps.setNull(5, Types.INTEGER);
-                    } else {
-                        ps.setInt(5, stchallenge.finishTime.intValue());
-                    }
+                    ps.setString(1, etextKey.etextId);
+                    ps.setString(2, etextKey.etextKey);
+                    ps.setTimestamp(3, Timestamp.valueOf(etextKey.activeDt));
 
                     try (final ResultSet rs = ps.executeQuery()) {
                         if (rs.next()) {
                             // Record exists in PROD already - skip
-                            entryIter.remove();
+                            iter.remove();
                         }
                     }
                 }
             }
 
-            if (stchallengeOnDev.isEmpty()) {
-                report.add(INDENT4 + "All stchallenge records already exist in PROD.");
+            if (etextKeyOnDev.isEmpty()) {
+                report.add(INDENT4 + "All etext_key records already exist in PROD.");
             } else {
-                report.add(INDENT4 + stchallengeOnDev.size()
-                           + " stchallenge records do not exist in PROD.");
+                report.add(INDENT4 + etextKeyOnDev.size() + " etext_key records do not exist in PROD.");
 
                 // Insert in PROD
                 if (!DEBUG) {
-                    int stchallengeInsCt = 0;
-                    int stchallengeqaInsCt = 0;
+                    int etextKeyInsertCount = 0;
+
+                    // The record should already exist on PROD, but its active_dt field does not
+                    // match - update rather than insert
 
                     try {
-                        final String sql4 = "INSERT INTO stchallenge (stu_id,course,"
-                                            + "version,academic_yr,exam_dt,start_time,finish_time,"
-                                            + "last_name,first_name,middle_initial,seq_nbr,"
-                                            + "serial_nbr,score,passed,how_validated) "
-                                            + "VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
+                        final String sql4 = "UPDATE etext_key set active_dt=?"
+                                            + " WHERE etext_id=? AND etext_key=?";
 
                         try (final PreparedStatement ps = prodConn.prepareStatement(sql4)) {
 
-                            for (final Map.Entry<RawStchallenge, List<RawStchallengeqa>> entry :
-                                    stchallengeOnDev.entrySet()) {
-                                final RawStchallenge stchallenge = entry.getKey();
-
-                                ps.setString(1, stchallenge.stuId);
-                                ps.setString(2, stchallenge.course);
-                                ps.setString(3, stchallenge.version);
-                                ps.setString(4, stchallenge.academicYr);
-                                ps.setDate(5, Date.valueOf(stchallenge.examDt));
-                                if (stchallenge.startTime == null) {
-                                    ps.setNull(6, Types.INTEGER);
-                                } else {
-                                    ps.setInt(6, stchallenge.startTime.intValue());
-                                }
-                                if (stchallenge.finishTime == null) {
-                                    ps.setNull(7, Types.INTEGER);
-                                } else {
-                                    ps.setInt(7, stchallenge.finishTime.intValue());
-                                }
-                                ps.setString(8, stchallenge.lastName);
-                                ps.setString(9, stchallenge.firstName);
-                                ps.setString(10, stchallenge.middleInitial);
-                                if (stchallenge.seqNbr == null) {
-                                    ps.setNull(11, Types.INTEGER);
-                                } else {
-                                    ps.setInt(11, stchallenge.seqNbr.intValue());
-                                }
-                                if (stchallenge.serialNbr == null) {
-                                    ps.setNull(12, Types.INTEGER);
-                                } else {
-                                    ps.setLong(12, stchallenge.serialNbr.longValue());
-                                }
-                                if (stchallenge.score == null) {
-                                    ps.setNull(13, Types.INTEGER);
-                                } else {
-                                    ps.setInt(13, stchallenge.score.intValue());
-                                }
-                                ps.setString(14, stchallenge.passed);
-                                ps.setString(15, stchallenge.howValidated);
+                            for (final RawEtextKey etextKey : etextKeyOnDev) {
 
-                                ps.executeUpdate();
-                                ++stchallengeInsCt;
-                            }
-                        }
+                                ps.setTimestamp(1, Timestamp.valueOf(etextKey.activeDt));
+                                ps.setString(2, etextKey.etextId);
+                                ps.setString(3, etextKey.etextKey);
 
-                        final String sql5 = "INSERT INTO stchallengeqa (stu_id,"
-                                            + "course,version,exam_dt,finish_time,question_nbr,"
-                                            + "stu_answer,ans_correct) VALUES (?,?,?,?,?,?,?,?)";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql5)) {
-
-                            for (final List<RawStchallengeqa> list : stchallengeOnDev.values()) {
-                                for (final RawStchallengeqa stmpeqa : list) {
-
-                                    ps.setString(1, stmpeqa.stuId);
-                                    ps.setString(2, stmpeqa.course);
-                                    ps.setString(3, stmpeqa.version);
-                                    ps.setDate(4, Date.valueOf(stmpeqa.examDt));
-                                    if (stmpeqa.finishTime == null) {
-                                        ps.setNull(5, Types.INTEGER);
-                                    } else {
-                                        ps.setInt(5, stmpeqa.finishTime.intValue());
-                                    }
-                                    if (stmpeqa.questionNbr == null) {
-                                        ps.setNull(6, Types.INTEGER);
-                                    } else {
-                                        ps.setInt(6, stmpeqa.questionNbr.intValue());
-                                    }
-                                    ps.setString(7, stmpeqa.stuAnswer);
-                                    ps.setString(8, stmpeqa.ansCorrect);
-
-                                    ps.executeUpdate();
-                                    ++stchallengeqaInsCt;
-                                }
+                                ps.executeUpdate();
+                                ++etextKeyInsertCount;
                             }
                         }
 
                         prodConn.commit();
 
-                        report.add(INDENT4 + "Copied " + stchallengeInsCt + " stchallenge records to PROD.");
-                        report.add(INDENT4 + "Copied " + stchallengeqaInsCt + " stchallengeqa records to PROD.");
-
+                        report.add(INDENT4 + "Copied " + etextKeyInsertCount + " etext_key records to PROD.");
                     } catch (final SQLException ex) {
                         report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
                         Throwable th = ex;
@@ -947,1061 +501,123 @@ final class TransferPlacementDevtoProd {
     }
 
     /**
-     * Transfers "mpe_credit" records.
+     * Transfers "stetext" records.
      *
-     * @param prodConn a connection to the production (destination) database
-     * @param devConn  a connection to the development (source) database
-     * @param report   list to which to add report lines
+     * @param sync   the delta-sync engine (from DEV to PROD)
+     * @param report list to which to add report lines
      * @throws SQLException if there is an error accessing the database
      */
-    private void doMpeCredit(final DbConnection prodConn, final DbConnection devConn,
-                             final Collection<? super String> report) throws SQLException {
+    private void doStetext(final DeltaSync sync, final Collection<? super String> report) throws SQLException {
 
-        report.add(CoreConstants.EMPTY);
-        report.add("* Copying 'mpe_credit' records...");
-        report.add(CoreConstants.EMPTY);
+        final DeltaSync.TableSpec spec = new DeltaSync.TableSpec("stetext",
+                List.of("stu_id", "etext_id", "active_dt"), "active_dt >= ?", List.of(this.sinceDate));
 
-        final List<RawMpeCredit> mpeCreditOnDev = new ArrayList<>(10);
+        syncTable(sync, spec, null, List.of(), report);
+    }
 
-        // Gather all "mpe_credit" rows since the start time
+    /**
+     * Generates the parameter values for the {@code WINDOW} filter.
+     *
+     * @return the parameter values
+     */
+    private List<Object> windowParameters() {
 
-        final String sql1 = "SELECT * FROM mpe_credit"
-                            + " WHERE exam_dt >= ?";
+        return List.of(this.sinceDate, this.sinceDate, Integer.valueOf(this.sinceTime));
+    }
 
-        try (final PreparedStatement ps = devConn.prepareStatement(sql1)) {
-            ps.setDate(1, this.sinceDate);
+    /**
+     * Binds the parameters of the {@code WINDOW} filter to a prepared statement in which it is the only filter.
+     *
+     * @param ps the prepared statement
+     * @throws SQLException if a parameter could not be set
+     */
+    private void bindWindow(final PreparedStatement ps) throws SQLException {
 
-            try (final ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    mpeCreditOnDev.add(RawMpeCredit.fromResultSet(rs));
-                }
-            }
-        }
-
-        if (mpeCreditOnDev.isEmpty()) {
-            report.add(INDENT4 + "There are no mpe_credit records to copy.");
-        } else {
-            report.add(INDENT4 + "Found " + mpeCreditOnDev.size() + " mpe_credit records to copy.");
-
-            // Sweep through each row, check for its existence on PROD, and if found, remove from
-            // consideration
-
-            final Iterator<RawMpeCredit> iter = mpeCreditOnDev.iterator();
-
-            while (iter.hasNext()) {
-                final RawMpeCredit mpeCredit = iter.next();
-
-                final String sql3 = "SELECT * FROM mpe_credit"
-                                    + " WHERE stu_id=?"
-                                    + " AND course=?"
-                                    + " AND version=?"
-                                    + " AND serial_nbr=?"
-                                    + " AND exam_dt=?";
-
-                try (final PreparedStatement ps = prodConn.prepareStatement(sql3)) {
-
-                    ps.setString(1, mpeCredit.stuId);
-                    ps.setString(2, mpeCredit.course);
-                    ps.setString(3, mpeCredit.version);
-                    if (mpeCredit.serialNbr == null) {
-                        ps.setNull(4, Types.INTEGER);
-                    } else {
-                        ps.setLong(4, mpeCredit.serialNbr.longValue());
-                    }
-                    ps.setDate(5, Date.valueOf(mpeCredit.examDt));
-
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            // Record exists in PROD already - skip
-                            iter.remove();
-                        }
-                    }
-                }
-            }
-
-            if (mpeCreditOnDev.isEmpty()) {
-                report.add(INDENT4 + "All mpe_credit records already exist in PROD.");
-            } else {
-                report.add(INDENT4 + mpeCreditOnDev.size() + " mpe_credit records do not exist in PROD.");
-
-                // Insert in PROD
-                if (!DEBUG) {
-                    int mpeCreditInsertCount = 0;
-
-                    try {
-                        final String sql4 = "INSERT INTO mpe_credit (stu_id,course,"
-                                            + "exam_placed,exam_dt,dt_cr_refused,serial_nbr,version,"
-                                            + "exam_source) VALUES (?,?,?,?,?,?,?,?)";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql4)) {
-
-                            for (final RawMpeCredit mpeCredit : mpeCreditOnDev) {
-
-                                ps.setString(1, mpeCredit.stuId);
-                                ps.setString(2, mpeCredit.course);
-                                ps.setString(3, mpeCredit.examPlaced);
-                                ps.setDate(4, Date.valueOf(mpeCredit.examDt));
-                                if (mpeCredit.dtCrRefused == null) {
-                                    ps.setNull(5, Types.DATE);
-                                } else {
-                                    ps.setDate(5, Date.valueOf(mpeCredit.dtCrRefused));
-                                }
-                                if (mpeCredit.serialNbr == null) {
-                                    ps.setNull(6, Types.INTEGER);
-                                } else {
-                                    ps.setLong(6, mpeCredit.serialNbr.longValue());
-                                }
-                                ps.setString(7, mpeCredit.version);
-                                ps.setString(8, mpeCredit.examSource);
-
-                                ps.executeUpdate();
-                                ++mpeCreditInsertCount;
-                            }
-                        }
-
-                        prodConn.commit();
-
-                        report.add(INDENT4 + "Copied " + mpeCreditInsertCount + " mpe_credit records to PROD.");
-
-                    } catch (final SQLException ex) {
-                        report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
-                        Throwable th = ex;
-                        while (th != null) {
-                            for (final StackTraceElement st : th.getStackTrace()) {
-                                report.add(INDENT8 + st.toString());
-                            }
-                            th = th.getCause();
-                        }
-                        prodConn.rollback();
-                        throw ex;
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Transfers "mpecr_denied" records.
-     *
-     * @param prodConn a connection to the production (destination) database
-     * @param devConn  a connection to the development (source) database
-     * @param report   list to which to add report lines
-     * @throws SQLException if there is an error accessing the database
-     */
-    private void doMpecrDenied(final DbConnection prodConn, final DbConnection devConn,
-                               final Collection<? super String> report) throws SQLException {
-
-        report.add(CoreConstants.EMPTY);
-        report.add("* Copying 'mpecr_denied' records...");
-        report.add(CoreConstants.EMPTY);
-
-        final List<RawMpecrDenied> mpeCrDeniedOnDev = new ArrayList<>(100);
-
-        // Gather all "mpecr_denied" rows since the start time
-
-        final String sql1 = "SELECT * FROM mpecr_denied"
-                            + " WHERE exam_dt >= ?";
-
-        try (final PreparedStatement ps = devConn.prepareStatement(sql1)) {
-            ps.setDate(1, this.sinceDate);
-
-            try (final ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    mpeCrDeniedOnDev.add(RawMpecrDenied.fromResultSet(rs));
-                }
-            }
-        }
-
-        if (mpeCrDeniedOnDev.isEmpty()) {
-            report.add(INDENT4 + "There are no mpecr_denied records to copy.");
-        } else {
-            report.add(INDENT4 + "Found " + mpeCrDeniedOnDev.size() + " mpecr_denied records to copy.");
-
-            // Sweep through each row, check for its existence on PROD, and if found, remove from
-            // consideration
-
-            final Iterator<RawMpecrDenied> iter = mpeCrDeniedOnDev.iterator();
-
-            while (iter.hasNext()) {
-                final RawMpecrDenied mpeCrDenied = iter.next();
-
-                final String sql3 = "SELECT * FROM mpecr_denied"
-                                    + " WHERE stu_id=?"
-                                    + " AND course=?"
-                                    + " AND version=?"
-                                    + " AND serial_nbr=?"
-                                    + " AND exam_dt=?";
-
-                try (final PreparedStatement ps = prodConn.prepareStatement(sql3)) {
-
-                    ps.setString(1, mpeCrDenied.stuId);
-                    ps.setString(2, mpeCrDenied.course);
-                    ps.setString(3, mpeCrDenied.version);
-                    if (mpeCrDenied.serialNbr == null) {
-                        ps.setNull(4, Types.INTEGER);
-                    } else {
-                        ps.setLong(4, mpeCrDenied.serialNbr.longValue());
-                    }
-                    ps.setDate(5, Date.valueOf(mpeCrDenied.examDt));
-
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            // Record exists in PROD already - skip
-                            iter.remove();
-                        }
-                    }
-                }
-            }
-
-            if (mpeCrDeniedOnDev.isEmpty()) {
-                report.add(INDENT4 + "All mpecr_denied records already exist in PROD.");
-            } else {
-                report.add(INDENT4 + mpeCrDeniedOnDev.size() + " mpecr_denied records do not exist in PROD.");
-
-                // Insert in PROD
-                if (!DEBUG) {
-                    int mpeCrDeniedInsCt = 0;
-
-                    try {
-                        final String sql4 = "INSERT INTO mpecr_denied (stu_id,course,"
-                                            + "exam_placed,exam_dt,why_denied,serial_nbr,version,"
-                                            + "exam_source) VALUES (?,?,?,?,?,?,?,?)";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql4)) {
-
-                            for (final RawMpecrDenied mpeCredit : mpeCrDeniedOnDev) {
-
-                                ps.setString(1, mpeCredit.stuId);
-                                ps.setString(2, mpeCredit.course);
-                                ps.setString(3, mpeCredit.examPlaced);
-                                ps.setDate(4, Date.valueOf(mpeCredit.examDt));
-                                ps.setString(5, mpeCredit.whyDenied);
-                                if (mpeCredit.serialNbr == null) {
-                                    ps.setNull(6, Types.INTEGER);
-                                } else {
-                                    ps.setLong(6, mpeCredit.serialNbr.longValue());
-                                }
-                                ps.setString(7, mpeCredit.version);
-                                ps.setString(8, mpeCredit.examSource);
-
-                                ps.executeUpdate();
-                                ++mpeCrDeniedInsCt;
-                            }
-                        }
-
-                        prodConn.commit();
-
-                        report.add(INDENT4 + "Copied " + mpeCrDeniedInsCt + " mpecr_denied records to PROD.");
-                    } catch (final SQLException ex) {
-                        report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
-                        Throwable th = ex;
-                        while (th != null) {
-                            for (final StackTraceElement st : th.getStackTrace()) {
-                                report.add(INDENT8 + st.toString());
-                            }
-                            th = th.getCause();
-                        }
-                        prodConn.rollback();
-                        throw ex;
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Transfers "mpe_log" records.
-     *
-     * @param prodConn a connection to the production (destination) database
-     * @param devConn  a connection to the development (source) database
-     * @param report   list to which to add report lines
-     * @throws SQLException if there is an error accessing the database
-     */
-    private void doMpeLog(final DbConnection prodConn, final DbConnection devConn,
-                          final Collection<? super String> report) throws SQLException {
-
-        report.add(CoreConstants.EMPTY);
-        report.add("* Copying 'mpe_log' records...");
-        report.add(CoreConstants.EMPTY);
-
-        final List<RawMpeLog> mpeLogOnDev = new ArrayList<>(10);
-
-        // Gather all "mpe_log" rows since the start time
-
-        final String sql1 = "SELECT * FROM mpe_log"
-                            + " WHERE exam_dt >= ?";
-
-        try (final PreparedStatement ps = devConn.prepareStatement(sql1)) {
-            ps.setDate(1, this.sinceDate);
-
-            try (final ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    mpeLogOnDev.add(RawMpeLog.fromResultSet(rs));
-                }
-            }
-        }
-
-        if (mpeLogOnDev.isEmpty()) {
-            report.add(INDENT4 + "There are no mpe_log records to copy.");
-        } else {
-            report.add(INDENT4 + "Found " + mpeLogOnDev.size() + " mpe_log records to copy.");
-
-            // Sweep through each row, check for its existence on PROD, and if found, remove from
-            // consideration
-
-            final Iterator<RawMpeLog> iter = mpeLogOnDev.iterator();
-
-            while (iter.hasNext()) {
-                final RawMpeLog mpeLog = iter.next();
-
-                final String sql3 = "SELECT * FROM mpe_log"
-                                    + " WHERE stu_id=?"
-                                    + " AND course=?"
-                                    + " AND version=?"
-                                    + " AND serial_nbr=?"
-                                    + " AND start_dt=?"
-                                    + " AND start_time=?";
-
-                try (final PreparedStatement ps = prodConn.prepareStatement(sql3)) {
-
-                    ps.setString(1, mpeLog.stuId);
-                    ps.setString(2, mpeLog.course);
-                    ps.setString(3, mpeLog.version);
-                    if (mpeLog.serialNbr == null) {
-                        ps.setNull(4, Types.INTEGER);
-                    } else {
-                        ps.setLong(4, mpeLog.serialNbr.longValue());
-                    }
-                    ps.setDate(5, Date.valueOf(mpeLog.startDt));
-                    if (mpeLog.serialNbr == null) {
-                        ps.setNull(6, Types.INTEGER);
-                    } else {
-                        ps.setInt(6, mpeLog.startTime.intValue());
-                    }
-
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            // Record exists in PROD already - skip
-                            iter.remove();
-                        }
-                    }
-                }
-            }
-
-            if (mpeLogOnDev.isEmpty()) {
-                report.add(INDENT4 + "All mpe_log records already exist in PROD.");
-            } else {
-                report.add(INDENT4 + mpeLogOnDev.size() + " mpe_log records do not exist in PROD.");
-
-                // Insert in PROD
-                if (!DEBUG) {
-                    int mpeLogInsertCount = 0;
-
-                    try {
-                        final String sql4 = "INSERT INTO mpe_log (stu_id,academic_yr,"
-                                            + "course,version,start_dt,exam_dt,recover_dt,serial_nbr,"
-                                            + "start_time,calc_nbr) VALUES (?,?,?,?,?,?,?,?,?,?)";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql4)) {
-
-                            for (final RawMpeLog mpeLog : mpeLogOnDev) {
-
-                                ps.setString(1, mpeLog.stuId);
-                                ps.setString(2, mpeLog.academicYr);
-                                ps.setString(3, mpeLog.course);
-                                ps.setString(4, mpeLog.version);
-                                ps.setDate(5, Date.valueOf(mpeLog.startDt));
-                                ps.setDate(6, Date.valueOf(mpeLog.examDt));
-                                if (mpeLog.recoverDt == null) {
-                                    ps.setNull(7, Types.DATE);
-                                } else {
-                                    ps.setDate(7, Date.valueOf(mpeLog.recoverDt));
-                                }
-                                if (mpeLog.serialNbr == null) {
-                                    ps.setNull(8, Types.INTEGER);
-                                } else {
-                                    ps.setLong(8, mpeLog.serialNbr.longValue());
-                                }
-                                if (mpeLog.startTime == null) {
-                                    ps.setNull(9, Types.INTEGER);
-                                } else {
-                                    ps.setLong(9, mpeLog.startTime.longValue());
-                                }
-                                ps.setString(10, mpeLog.calcNbr);
-
-                                ps.executeUpdate();
-                                ++mpeLogInsertCount;
-                            }
-                        }
-
-                        prodConn.commit();
-
-                        report.add(INDENT4 + "Copied " + mpeLogInsertCount + " mpe_log records to PROD.");
-                    } catch (final SQLException ex) {
-                        report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
-                        Throwable th = ex;
-                        while (th != null) {
-                            for (final StackTraceElement st : th.getStackTrace()) {
-                                report.add(INDENT8 + st.toString());
-                            }
-                            th = th.getCause();
-                        }
-                        prodConn.rollback();
-                        throw ex;
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Transfers "mpscorequeue" records.
-     *
-     * @param prodConn a connection to the production (destination) database
-     * @param devConn  a connection to the development (source) database
-     * @param report   list to which to add report lines
-     * @throws SQLException if there is an error accessing the database
-     */
-    private void doMpescorequeue(final DbConnection prodConn, final DbConnection devConn,
-                                 final Collection<? super String> report) throws SQLException {
-
-        report.add(CoreConstants.EMPTY);
-        report.add("* Copying 'mpscorequeue' records...");
-        report.add(CoreConstants.EMPTY);
-
-        final List<RawMpscorequeue> mpscorequeueOnDev = new ArrayList<>(10);
-
-        // Gather all "mpscorequeue" rows since the start time
-
-        final String sql1 = "SELECT * FROM mpscorequeue"
-                            + " WHERE date(test_date) >= ?";
-
-        try (final PreparedStatement ps = devConn.prepareStatement(sql1)) {
-            ps.setDate(1, this.sinceDate);
-
-            try (final ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    mpscorequeueOnDev.add(RawMpscorequeue.fromResultSet(rs));
-                }
-            }
-        }
-
-        if (mpscorequeueOnDev.isEmpty()) {
-            report.add(INDENT4 + "There are no mpscorequeue records to copy.");
-        } else {
-            report.add(INDENT4 + "Found " + mpscorequeueOnDev.size() + " mpscorequeue records to copy.");
-
-            // Sweep through each row, check for its existence on PROD, and if found, remove from
-            // consideration
-
-            final Iterator<RawMpscorequeue> iter = mpscorequeueOnDev.iterator();
-
-            while (iter.hasNext()) {
-                final RawMpscorequeue mpscorequeue = iter.next();
-
-                final String sql3 = "SELECT * FROM mpscorequeue"
-                                    + " WHERE pidm=?"
-                                    + " AND test_code=?"
-                                    + " AND test_date=?"
-                                    + " AND test_score=?";
-
-                final Timestamp ts = mpscorequeue.testDate == null ? null : Timestamp.valueOf(mpscorequeue.testDate);
-
-                try (final PreparedStatement ps = prodConn.prepareStatement(sql3)) {
-
-                    if (mpscorequeue.pidm == null) {
-                        ps.setNull(1, Types.INTEGER);
-                    } else {
-                        ps.setInt(1, mpscorequeue.pidm.intValue());
-                    }
-                    ps.setString(2, mpscorequeue.testCode);
-                    ps.setTimestamp(3, ts);
-                    ps.setString(4, mpscorequeue.testScore);
-
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            // Record exists in PROD already - skip
-                            iter.remove();
-                        }
-                    }
-                }
-            }
-
-            if (mpscorequeueOnDev.isEmpty()) {
-                report.add(INDENT4 + "All mpscorequeue records already exist in PROD.");
-            } else {
-                report.add(INDENT4 + mpscorequeueOnDev.size() + " mpscorequeue records do not exist in PROD.");
-
-                // Insert in PROD
-                if (!DEBUG) {
-                    int stmathplanInsCt = 0;
-
-                    try {
-                        final String sql4 = "INSERT INTO mpscorequeue (pidm,"
-                                            + "test_code,test_date,test_score) VALUES (?,?,?,?)";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql4)) {
-
-                            for (final RawMpscorequeue mpscorequeue : mpscorequeueOnDev) {
-                                final Timestamp ts = mpscorequeue.testDate == null ? null
-                                        : Timestamp.valueOf(mpscorequeue.testDate);
-
-                                if (mpscorequeue.pidm == null) {
-                                    ps.setNull(1, Types.INTEGER);
-                                } else {
-                                    ps.setInt(1, mpscorequeue.pidm.intValue());
-                                }
-                                ps.setString(2, mpscorequeue.testCode);
-                                ps.setTimestamp(3, ts);
-                                ps.setString(4, mpscorequeue.testScore);
-
-                                ps.executeUpdate();
-                                ++stmathplanInsCt;
-                            }
-                        }
-
-                        prodConn.commit();
-
-                        report.add(INDENT4 + "Copied " + stmathplanInsCt + " mpscorequeue records to PROD.");
-                    } catch (final SQLException ex) {
-                        report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
-                        Throwable th = ex;
-                        while (th != null) {
-                            for (final StackTraceElement st : th.getStackTrace()) {
-                                report.add(INDENT8 + st.toString());
-                            }
-                            th = th.getCause();
-                        }
-                        prodConn.rollback();
-                        throw ex;
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Transfers "stsurveyqa" records.
-     *
-     * @param prodConn a connection to the production (destination) database
-     * @param devConn  a connection to the development (source) database
-     * @param report   list to which to add report lines
-     * @throws SQLException if there is an error accessing the database
-     */
-    private void doStsurveyqa(final DbConnection prodConn, final DbConnection devConn,
-                              final Collection<? super String> report) throws SQLException {
-
-        report.add(CoreConstants.EMPTY);
-        report.add("* Copying 'stsurveyqa' records...");
-        report.add(CoreConstants.EMPTY);
-
-        final List<RawStsurveyqa> stsurveyqaOnDev = new ArrayList<>(10);
-
-        // Gather all "stsurveyqa" rows since the start time
-
-        final String sql1 = "SELECT * FROM stsurveyqa"
-                            + " WHERE exam_dt > ?"
-                            + " OR (exam_dt = ? AND finish_time >= ?)";
-
-        try (final PreparedStatement ps = devConn.prepareStatement(sql1)) {
-            ps.setDate(1, this.sinceDate);
-            ps.setDate(2, this.sinceDate);
-            ps.setInt(3, this.sinceTime);
-
-            try (final ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    stsurveyqaOnDev.add(RawStsurveyqa.fromResultSet(rs));
-                }
-            }
-        }
-
-        if (stsurveyqaOnDev.isEmpty()) {
-            report.add(INDENT4 + "There are no stsurveyqa records to copy.");
-        } else {
-            report.add(INDENT4 + "Found " + stsurveyqaOnDev.size() + " stsurveyqa records to copy.");
-
-            // Sweep through each row, check for its existence on PROD, and if found, remove from
-            // consideration
-
-            final Iterator<RawStsurveyqa> iter = stsurveyqaOnDev.iterator();
-
-            while (iter.hasNext()) {
-                final RawStsurveyqa stsurveyqa = iter.next();
-
-                final String sql3 = "SELECT * FROM stsurveyqa"
-                                    + " WHERE stu_id=?"
-                                    + " AND version=?"
-                                    + " AND exam_dt=?"
-                                    + " AND finish_time=?"
-                                    + " AND survey_nbr=?";
-
-                try (final PreparedStatement ps = prodConn.prepareStatement(sql3)) {
-
-                    ps.setString(1, stsurveyqa.stuId);
-                    ps.setString(2, stsurveyqa.version);
-                    ps.setDate(3, Date.valueOf(stsurveyqa.examDt));
-                    if (stsurveyqa.finishTime == null) {
-                        ps.setNull(4, Types.INTEGER);
-                    } else {
-                        ps.setInt(4, stsurveyqa.finishTime.intValue());
-                    }
-                    if (stsurveyqa.surveyNbr == null) {
-                        ps.setNull(5, Types.INTEGER);
-                    } else {
-                        ps.setInt(5, stsurveyqa.surveyNbr.intValue());
-                    }
-
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            // Record exists in PROD already - skip
-                            iter.remove();
-                        }
-                    }
-                }
-            }
-
-            if (stsurveyqaOnDev.isEmpty()) {
-                report.add(INDENT4 + "All stsurveyqa records already exist in PROD.");
-            } else {
-                report.add(INDENT4 + stsurveyqaOnDev.size() + " stsurveyqa records do not exist in PROD.");
-
-                // Insert in PROD
-                if (!DEBUG) {
-                    int stsurveyqaInsCt = 0;
-
-                    try {
-                        final String sql4 = "INSERT INTO stsurveyqa (stu_id,version,"
-                                            + "exam_dt,survey_nbr,stu_answer,finish_time) "
-                                            + "VALUES (?,?,?,?,?,?)";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql4)) {
-
-                            for (final RawStsurveyqa stsurveyqa : stsurveyqaOnDev) {
-
-                                ps.setString(1, stsurveyqa.stuId);
-                                ps.setString(2, stsurveyqa.version);
-                                ps.setDate(3, Date.valueOf(stsurveyqa.examDt));
-                                if (stsurveyqa.surveyNbr == null) {
-                                    ps.setNull(4, Types.INTEGER);
-                                } else {
-                                    ps.setInt(4, stsurveyqa.surveyNbr.intValue());
-                                }
-                                ps.setString(5, stsurveyqa.stuAnswer);
-                                if (stsurveyqa.finishTime == null) {
-                                    ps.setNull(6, Types.INTEGER);
-                                } else {
-                                    ps.setInt(6, stsurveyqa.finishTime.intValue());
-                                }
-
-                                ps.executeUpdate();
-                                ++stsurveyqaInsCt;
-                            }
-                        }
-
-                        prodConn.commit();
-
-                        report.add(INDENT4 + "Copied " + stsurveyqaInsCt + " stsurveyqa records to PROD.");
-                    } catch (final SQLException ex) {
-                        report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
-                        Throwable th = ex;
-                        while (th != null) {
-                            for (final StackTraceElement st : th.getStackTrace()) {
-                                report.add(INDENT8 + st.toString());
-                            }
-                            th = th.getCause();
-                        }
-                        prodConn.rollback();
-                        throw ex;
-                    }
-                }
-            }
-        }
-    }
+        ps.setDate(1, this.sinceDate);
+        ps.setDate(2, this.sinceDate);
+        ps.setInt(3, this.sinceTime);
+    }
 
     /**
-     * Transfers "stmathplan" records.
+     * Copies rows of a table (and optionally its child table) that exist in DEV but not in PROD, and reports the
+     * results.
      *
-     * @param prodConn a connection to the production (destination) database
-     * @param devConn  a connection to the development (source) database
-     * @param report   list to which to add report lines
+     * @param sync        the delta-sync engine (from DEV to PROD)
+     * @param spec        the table specification
+     * @param child       the child table specification; {@code null} if none
+     * @param linkColumns the columns that link child rows to rows in the table
+     * @param report      list to which to add report lines
      * @throws SQLException if there is an error accessing the database
      */
-    private void doStmathplan(final DbConnection prodConn, final DbConnection devConn,
-                              final Collection<? super String> report) throws SQLException {
-
-        report.add(CoreConstants.EMPTY);
-        report.add("* Copying 'stmathplan' records...");
-        report.add(CoreConstants.EMPTY);
-
-        final List<RawStmathplan> stmathplanOnDev = new ArrayList<>(10);
-
-        // Gather all "stmathplan" rows since the start time
-
-        final String sql1 = "SELECT * FROM stmathplan"
-                            + " WHERE exam_dt >= ?";
-
-        try (final PreparedStatement ps = devConn.prepareStatement(sql1)) {
-            ps.setDate(1, this.sinceDate);
-
-            try (final ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    stmathplanOnDev.add(RawStmathplan.fromResultSet(rs));
-                }
-            }
-        }
-
-        if (stmathplanOnDev.isEmpty()) {
-            report.add(INDENT4 + "There are no stmathplan records to copy.");
-        } else {
-            report.add(INDENT4 + "Found " + stmathplanOnDev.size() + " stmathplan records to copy.");
-
-            // Sweep through each row, check for its existence on PROD, and if found, remove from consideration
-
-            final Iterator<RawStmathplan> iter = stmathplanOnDev.iterator();
-
-            while (iter.hasNext()) {
-                final RawStmathplan stmathplan = iter.next();
-
-                final String sql3 = "SELECT * FROM stmathplan"
-                                    + " WHERE stu_id=?"
-                                    + " AND version=?"
-                                    + " AND exam_dt=?"
-                                    + " AND finish_time=?"
-                                    + " AND survey_nbr=?";
-
-                try (final PreparedStatement ps = prodConn.prepareStatement(sql3)) {
-
-                    ps.setString(1, stmathplan.stuId);
-                    ps.setString(2, stmathplan.version);
-                    ps.setDate(3, Date.valueOf(stmathplan.examDt));
-                    if (stmathplan.finishTime == null) {
-                        ps.setNull(4, Types.INTEGER);
-                    } else {
-                        ps.setInt(4, stmathplan.finishTime.intValue());
-                    }
-                    if (stmathplan.surveyNbr == null) {
-                        ps.setNull(5, Types.INTEGER);
-                    } else {
-                        ps.setInt(5, stmathplan.surveyNbr.intValue());
-                    }
-
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            // Record exists in PROD already - skip
-                            iter.remove();
-                        }
-                    }
-                }
-            }
-
-            if (stmathplanOnDev.isEmpty()) {
-                report.add(INDENT4 + "All stmathplan records already exist in PROD.");
-            } else {
-                report.add(INDENT4 + stmathplanOnDev.size() + " stmathplan records do not exist in PROD.");
-
-                // Insert in PROD
-                if (!DEBUG) {
-                    int stmathplanInsCt = 0;
-
-                    try {
-                        final String sql4 = "INSERT INTO stmathplan (stu_id,pidm,apln_term,version,exam_dt,"
-                                            + "survey_nbr,stu_answer,finish_time,session) VALUES (?,?,?,?,?,?,?,?,?)";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql4)) {
-
-                            for (final RawStmathplan stmathplan : stmathplanOnDev) {
-
-                                ps.setString(1, stmathplan.stuId);
-                                if (stmathplan.pidm == null) {
-                                    ps.setNull(2, Types.INTEGER);
-                                } else {
-                                    ps.setInt(2, stmathplan.pidm.intValue());
-                                }
-                                ps.setString(3, stmathplan.aplnTerm);
-                                ps.setString(4, stmathplan.version);
-                                ps.setDate(5, Date.valueOf(stmathplan.examDt));
-
-                                if (stmathplan.surveyNbr == null) {
-                                    ps.setNull(6, Types.INTEGER);
-                                } else {
-                                    ps.setLong(6, stmathplan.surveyNbr.longValue());
-                                }
-                                ps.setString(7, stmathplan.stuAnswer);
-                                if (stmathplan.finishTime == null) {
-                                    ps.setNull(8, Types.INTEGER);
-                                } else {
-                                    ps.setInt(8, stmathplan.finishTime.intValue());
-                                }
-                                if (stmathplan.session == null) {
-                                    ps.setNull(9, Types.INTEGER);
-                                } else {
-                                    ps.setLong(9, stmathplan.session.longValue());
-                                }
-
-                                ps.executeUpdate();
-                                ++stmathplanInsCt;
-                            }
-                        }
-
-                        prodConn.commit();
+    private static void syncTable(final DeltaSync sync, final DeltaSync.TableSpec spec,
+                                  final DeltaSync.TableSpec child, final List<String> linkColumns,
+                                  final Collection<? super String> report) throws SQLException {
 
-                        report.add(INDENT4 + "Copied " + stmathplanInsCt + " stmathplan records to PROD.");
-                    } catch (final SQLException ex) {
-                        report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
-                        Throwable th = ex;
-                        while (th != null) {
-                            for (final StackTraceElement st : th.getStackTrace()) {
-                                report.add(INDENT8 + st.toString());
-                            }
-                            th = th.getCause();
-                        }
-                        prodConn.rollback();
-                        throw ex;
-                    }
-                }
-            }
-        }
+        syncTable(sync, spec, child, linkColumns, List.of(), report);
     }
 
     /**
-     * Transfers "etext_key" records.
+     * Copies rows of a table (and optionally its child table) that exist in DEV but not in PROD, and reports the
+     * results, including lines that describe the rows found in DEV.
      *
-     * @param prodConn a connection to the production (destination) database
-     * @param devConn  a connection to the development (source) database
-     * @param report   list to which to add report lines
+     * @param sync        the delta-sync engine (from DEV to PROD)
+     * @param spec        the table specification
+     * @param child       the child table specification; {@code null} if none
+     * @param linkColumns the columns that link child rows to rows in the table
+     * @param details     lines that describe the rows found in DEV, reported if any were found
+     * @param report      list to which to add report lines
      * @throws SQLException if there is an error accessing the database
      */
-    private void doEtextKey(final DbConnection prodConn, final DbConnection devConn,
-                            final Collection<? super String> report) throws SQLException {
-
-        report.add(CoreConstants.EMPTY);
-        report.add("* Copying 'etext_key' records...");
-        report.add(CoreConstants.EMPTY);
-
-        final List<RawEtextKey> etextKeyOnDev = new ArrayList<>(10);
-
-        // Gather all "etext_key" rows since the start time
-
-        final String sql1 = "SELECT * FROM etext_key WHERE active_dt >= ?";
-
-        try (final PreparedStatement ps = devConn.prepareStatement(sql1)) {
-            ps.setDate(1, this.sinceDate);
+    private static void syncTable(final DeltaSync sync, final DeltaSync.TableSpec spec,
+                                  final DeltaSync.TableSpec child, final List<String> linkColumns,
+                                  final Collection<String> details, final Collection<? super String> report)
+            throws SQLException {
 
-            try (final ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    etextKeyOnDev.add(RawEtextKey.fromResultSet(rs));
-                }
-            }
-        }
+        final String table = spec.table();
 
-        if (etextKeyOnDev.isEmpty()) {
-            report.add(INDENT4 + "There are no etext_key records to copy.");
+        report.add(CoreConstants.EMPTY);
+        if (child == null) {
+            report.add("* Copying '" + table + "' records...");
         } else {
-            report.add(INDENT4 + "Found " + etextKeyOnDev.size() + " etext_key records to copy.");
-
-            // Sweep through each row, check for its existence on PROD, and if found, remove from
-            // consideration
-
-            final Iterator<RawEtextKey> iter = etextKeyOnDev.iterator();
-
-            while (iter.hasNext()) {
-                final RawEtextKey etextKey = iter.next();
-
-                final String sql3 = "SELECT * FROM etext_key"
-                                    + " WHERE etext_id=?"
-                                    + " AND etext_key=?"
-                                    + " AND active_dt=?";
-
-                try (final PreparedStatement ps = prodConn.prepareStatement(sql3)) {
-
-                    ps.setString(1, etextKey.etextId);
-                    ps.setString(2, etextKey.etextKey);
-                    ps.setTimestamp(3, Timestamp.valueOf(etextKey.activeDt));
-
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            // Record exists in PROD already - skip
-                            iter.remove();
-                        }
-                    }
-                }
-            }
-
-            if (etextKeyOnDev.isEmpty()) {
-                report.add(INDENT4 + "All etext_key records already exist in PROD.");
-            } else {
-                report.add(INDENT4 + etextKeyOnDev.size() + " etext_key records do not exist in PROD.");
-
-                // Insert in PROD
-                if (!DEBUG) {
-                    int etextKeyInsertCount = 0;
-
-                    // The record should already exist on PROD, but its active_dt field does not
-                    // match - update rather than insert
-
-                    try {
-                        final String sql4 = "UPDATE etext_key set active_dt=?"
-                                            + " WHERE etext_id=? AND etext_key=?";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql4)) {
-
-                            for (final RawEtextKey etextKey : etextKeyOnDev) {
-
-                                ps.setTimestamp(1, Timestamp.valueOf(etextKey.activeDt));
-                                ps.setString(2, etextKey.etextId);
-                                ps.setString(3, etextKey.etextKey);
-
-                                ps.executeUpdate();
-                                ++etextKeyInsertCount;
-                            }
-                        }
-
-                        prodConn.commit();
-
-                        report.add(INDENT4 + "Copied " + etextKeyInsertCount + " etext_key records to PROD.");
-                    } catch (final SQLException ex) {
-                        report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
-                        Throwable th = ex;
-                        while (th != null) {
-                            for (final StackTraceElement st : th.getStackTrace()) {
-                                report.add(INDENT8 + st.toString());
-                            }
-                            th = th.getCause();
-                        }
-                        prodConn.rollback();
-                        throw ex;
-                    }
-                }
-            }
+            report.add("* Copying '" + table + "' and corresponding '" + child.table() + "' records...");
         }
-    }
-
-    /**
-     * Transfers "stetext" records.
-     *
-     * @param prodConn a connection to the production (destination) database
-     * @param devConn  a connection to the development (source) database
-     * @param report   list to which to add report lines
-     * @throws SQLException if there is an error accessing the database
-     */
-    private void doStetext(final DbConnection prodConn, final DbConnection devConn,
-                           final Collection<? super String> report) throws SQLException {
-
         report.add(CoreConstants.EMPTY);
-        report.add("* Copying 'stetext' records...");
-        report.add(CoreConstants.EMPTY);
-
-        final List<RawStetext> stetextOnDev = new ArrayList<>(10);
 
-        // Gather all "stetext" rows since the start time
-
-        final String sql1 = "SELECT * FROM stetext"
-                            + " WHERE active_dt >= ?";
-
-        try (final PreparedStatement ps = devConn.prepareStatement(sql1)) {
-            ps.setDate(1, this.sinceDate);
-
-            try (final ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    stetextOnDev.add(RawStetext.fromResultSet(rs));
+        final DeltaSync.Result result;
+        try {
+            result = sync.sync(spec, child, linkColumns);
+        } catch (final SQLException ex) {
+            report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
+            Throwable th = ex;
+            while (th != null) {
+                for (final StackTraceElement st : th.getStackTrace()) {
+                    report.add(INDENT8 + st.toString());
                 }
+                th = th.getCause();
             }
+            throw ex;
         }
 
-        if (stetextOnDev.isEmpty()) {
-            report.add(INDENT4 + "There are no stetext records to copy.");
+        if (result.sourceRows() == 0) {
+            report.add(INDENT4 + "There are no " + table + " records to copy.");
         } else {
-            report.add(INDENT4 + "Found " + stetextOnDev.size() + " stetext records to copy.");
-
-            // Sweep through each row, check for its existence on PROD, and if found, remove from
-            // consideration
-
-            final Iterator<RawStetext> iter = stetextOnDev.iterator();
-
-            while (iter.hasNext()) {
-                final RawStetext stetext = iter.next();
-
-                final String sql3 = "SELECT * FROM stetext"
-                                    + " WHERE stu_id=?"
-                                    + " AND etext_id=?"
-                                    + " AND active_dt=?";
-
-                try (final PreparedStatement ps = prodConn.prepareStatement(sql3)) {
-
-                    ps.setString(1, stetext.stuId);
-                    ps.setString(2, stetext.etextId);
-                    ps.setDate(3, Date.valueOf(stetext.activeDt));
-
-                    try (final ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            // Record exists in PROD already - skip
-                            iter.remove();
-                        }
-                    }
-                }
-            }
+            report.add(INDENT4 + "Found " + result.sourceRows() + " " + table + " records to copy.");
+            report.addAll(details);
 
-            if (stetextOnDev.isEmpty()) {
-                report.add(INDENT4 + "All stetext records already exist in PROD.");
+            if (result.missingRows() == 0) {
+                report.add(INDENT4 + "All " + table + " records already exist in PROD.");
             } else {
-                report.add(INDENT4 + stetextOnDev.size() + " stetext records do not exist in PROD.");
+                report.add(INDENT4 + result.missingRows() + " " + table + " records do not exist in PROD.");
+                if (child != null) {
+                    report.add(INDENT4 + result.missingChildren() + " " + child.table()
+                               + " records belong to those records.");
+                }
 
-                // Insert in PROD
                 if (!DEBUG) {
-                    int stetextInsertCount = 0;
-
-                    try {
-                        final String sql4 = "INSERT INTO stetext (stu_id,etext_id,"
-                                            + "active_dt,etext_key,expiration_dt,refund_deadline_dt,"
-                                            + "refund_dt,refund_reason) VALUES (?,?,?,?,?,?,?,?)";
-
-                        try (final PreparedStatement ps = prodConn.prepareStatement(sql4)) {
-
-                            for (final RawStetext stetext : stetextOnDev) {
-
-                                ps.setString(1, stetext.stuId);
-                                ps.setString(2, stetext.etextId);
-                                ps.setDate(3, Date.valueOf(stetext.activeDt));
-                                ps.setString(4, stetext.etextKey);
-
-                                if (stetext.expirationDt == null) {
-                                    ps.setNull(5, Types.DATE);
-                                } else {
-                                    ps.setDate(5, Date.valueOf(stetext.expirationDt));
-                                }
-
-                                if (stetext.refundDeadlineDt == null) {
-                                    ps.setNull(6, Types.DATE);
-                                } else {
-                                    ps.setDate(6, Date.valueOf(stetext.refundDeadlineDt));
-                                }
-
-                                if (stetext.refundDt == null) {
-                                    ps.setNull(7, Types.DATE);
-                                } else {
-                                    ps.setDate(7, Date.valueOf(stetext.refundDt));
-                                }
-                                ps.setString(8, stetext.refundReason);
-
-                                ps.executeUpdate();
-                                ++stetextInsertCount;
-                            }
-                        }
-
-                        prodConn.commit();
-
-                        report.add(INDENT4 + "Copied " + stetextInsertCount + " stetext records to PROD.");
-                    } catch (final SQLException ex) {
-                        report.add(INDENT4 + "*** ERROR: SQLException: " + ex.getMessage());
-                        Throwable th = ex;
-                        while (th != null) {
-                            for (final StackTraceElement st : th.getStackTrace()) {
-                                report.add(INDENT8 + st.toString());
-                            }
-                            th = th.getCause();
-                        }
-                        prodConn.rollback();
-                        throw ex;
+                    report.add(INDENT4 + "Copied " + result.insertedRows() + " " + table + " records to PROD.");
+                    if (child != null) {
+                        report.add(INDENT4 + "Copied " + result.insertedChildren() + " " + child.table()
+                                   + " records to PROD.");
                     }
                 }
             }
@@ -5,6 +5,7 @@ import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
 import dev.mathops.db.cfg.Contexts;
 import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.cfg.DatabaseConfig;
 import dev.mathops.db.cfg.Profile;
@@ -72,6 +73,7 @@ public class Cleanup implements Runnable {
             Log.warning("Failed to query the active term.", ex);
         } finally {
             Cache.checkInConnection(conn);
+            StudentDataEvents.allChanged();
         }
     }
 
@@ -0,0 +1,509 @@
+package dev.mathops.dbjobs.loadtest;
+
+import dev.mathops.commons.log.Log;
+import dev.mathops.db.Cache;
+import dev.mathops.db.DbConnection;
+import dev.mathops.db.StatementStats;
+import dev.mathops.db.cfg.Contexts;
+import dev.mathops.db.cfg.DatabaseConfig;
+import dev.mathops.db.cfg.Profile;
+import dev.mathops.db.field.TermKey;
+import dev.mathops.db.logic.StudentData;
+import dev.mathops.db.logic.StudentDataCache;
+import dev.mathops.db.logic.course.CourseLogic;
+import dev.mathops.db.logic.mathplan.MathPlanLogic;
+import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.legacy.rec.RawStcourse;
+import dev.mathops.db.schema.main.rec.TermRec;
+import dev.mathops.text.builder.HtmlBuilder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Replays a mix of typical requests against synthetic students (see {@code SyntheticLoadGenerator}) from several
+ * threads at once for a fixed duration, and reports the throughput and latency percentiles for each type of request.
+ *
+ * <p>
+ * Each request uses a new {@code Cache}, as a request to a web application would, so every request queries the
+ * database rather than reusing data loaded by an earlier request.  Per-statement statistics are collected while the
+ * replay runs, and the statements with the greatest total time are reported with the results.
+ *
+ * <p>
+ * Student data requests can load the dashboard data with {@code StudentData.loadSnapshot} before accessing it, or
+ * access it directly (querying each list as it is first used), so the two approaches can be compared under the same
+ * load, with or without the shared student data cache.
+ */
+public final class LoadReplayDriver {
+
+    /** The number of statement fingerprints to report. */
+    private static final int TOP_STATEMENTS = 10;
+
+    /** The database profile. */
+    private final Profile profile;
+
+    /** The IDs of the students for which to make requests. */
+    private final List<String> studentIds;
+
+    /** The number of threads making requests. */
+    private final int numThreads;
+
+    /** The duration of the replay, in milliseconds. */
+    private final long durationMs;
+
+    /** The random number generator seed. */
+    private final long seed;
+
+    /** True if student data requests load a snapshot before accessing data. */
+    private final boolean useSnapshot;
+
+    /**
+     * Constructs a new {@code LoadReplayDriver}.
+     *
+     * @param theProfile     the database profile
+     * @param theStudentIds  the IDs of the students for which to make requests
+     * @param theNumThreads  the number of threads making requests
+     * @param theDurationMs  the duration of the replay, in milliseconds
+     * @param theSeed        the random number generator seed
+     * @param theUseSnapshot true if student data requests load a snapshot before accessing data
+     */
+    public LoadReplayDriver(final Profile theProfile, final List<String> theStudentIds, final int theNumThreads,
+                            final long theDurationMs, final long theSeed, final boolean theUseSnapshot) {
+
+        if (theStudentIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one student ID is required");
+        }
+        if (theNumThreads < 1) {
+            throw new IllegalArgumentException("Number of threads must be at least 1");
+        }
+
+        this.profile = theProfile;
+        this.studentIds = List.copyOf(theStudentIds);
+        this.numThreads = theNumThreads;
+        this.durationMs = theDurationMs;
+        this.seed = theSeed;
+        this.useSnapshot = theUseSnapshot;
+    }
+
+    /**
+     * Queries the IDs of all synthetic students.
+     *
+     * @param cache the data cache
+     * @return the list of student IDs
+     * @throws SQLException if there is an error accessing the database
+     */
+    public static List<String> querySyntheticStudentIds(final Cache cache) throws SQLException {
+
+        final String schemaPrefix = cache.getSchemaPrefix(ESchema.LEGACY);
+        final String tableName = schemaPrefix == null ? "student" : (schemaPrefix + ".student");
+
+        final List<String> result = new ArrayList<>(1000);
+        final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+        try (final Statement stmt = conn.createStatement();
+             final ResultSet rs = stmt.executeQuery("SELECT stu_id FROM " + tableName + " WHERE stu_id LIKE '"
+                                                    + SyntheticLoadGenerator.ID_PREFIX + "%'")) {
+            while (rs.next()) {
+                result.add(rs.getString(1));
+            }
+        } finally {
+            Cache.checkInConnection(conn);
+        }
+
+        return result;
+    }
+
+    /**
+     * Runs the replay.
+     *
+     * @return the report
+     * @throws SQLException if the active term could not be queried
+     */
+    public String run() throws SQLException {
+
+        final TermRec active = new Cache(this.profile).getSystemData().getActiveTerm();
+        if (active == null) {
+            throw new SQLException("Unable to query the active term");
+        }
+
+        final boolean wasEnabled = StatementStats.isEnabled();
+        StatementStats.reset();
+        StatementStats.setEnabled(true);
+        StudentDataCache.resetCounts();
+
+        final Map<ERequestType, Samples> merged = new EnumMap<>(ERequestType.class);
+        for (final ERequestType type : ERequestType.values()) {
+            merged.put(type, new Samples());
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(this.numThreads);
+        final long start = System.nanoTime();
+        final long deadline = start + this.durationMs * 1000000L;
+
+        try {
+            final List<Future<Map<ERequestType, Samples>>> futures = new ArrayList<>(this.numThreads);
+            for (int i = 0; i < this.numThreads; ++i) {
+                futures.add(executor.submit(new Worker(this.profile, this.studentIds, active.term, deadline,
+                        this.seed + i, this.useSnapshot)));
+            }
+            for (final Future<Map<ERequestType, Samples>> future : futures) {
+                for (final Map.Entry<ERequestType, Samples> entry : future.get().entrySet()) {
+                    merged.get(entry.getKey()).addAll(entry.getValue());
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Log.warning("Interrupted while replaying requests", ex);
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            Log.warning("Replay worker failed", ex);
+        } finally {
+            executor.shutdownNow();
+            StatementStats.setEnabled(wasEnabled);
+        }
+
+        final long elapsedNanos = System.nanoTime() - start;
+
+        return makeReport(merged, elapsedNanos);
+    }
+
+    /**
+     * Generates the report.
+     *
+     * @param samples      map from request type to latency samples
+     * @param elapsedNanos the elapsed time, in nanoseconds
+     * @return the report
+     */
+    private String makeReport(final Map<ERequestType, Samples> samples, final long elapsedNanos) {
+
+        final double seconds = (double) elapsedNanos / 1.0e9;
+        final HtmlBuilder htm = new HtmlBuilder(2000);
+
+        htm.addln("Replayed requests for ", Integer.toString(this.studentIds.size()), " students on ",
+                Integer.toString(this.numThreads), " threads for ", String.format("%.1f", Double.valueOf(seconds)),
+                " s");
+        htm.addln("Student data requests ", this.useSnapshot ? "load a snapshot" : "query each list as it is used",
+                ", student data cache ", StudentDataCache.isEnabled() ? "enabled" : "disabled");
+        htm.addln(String.format("%-16s %8s %6s %9s %9s %9s %9s %9s", "Request", "Count", "Errors", "Req/s",
+                "p50 ms", "p95 ms", "p99 ms", "Max ms"));
+
+        final Samples all = new Samples();
+        for (final Map.Entry<ERequestType, Samples> entry : samples.entrySet()) {
+            final Samples value = entry.getValue();
+            addReportLine(htm, entry.getKey().name(), value, seconds);
+            all.addAll(value);
+        }
+        addReportLine(htm, "TOTAL", all, seconds);
+
+        if (StudentDataCache.isEnabled()) {
+            htm.addln();
+            htm.addln(String.format("Student data cache: %d hits, %d misses, hit ratio %.3f",
+                    Long.valueOf(StudentDataCache.getHits()), Long.valueOf(StudentDataCache.getMisses()),
+                    Double.valueOf(StudentDataCache.getHitRatio())));
+        }
+
+        htm.addln();
+        htm.addln("Statements with the greatest total time:");
+        for (final StatementStats.FingerprintStats stats : StatementStats.getTopByTotalTime(TOP_STATEMENTS)) {
+            htm.addln(String.format("%9d ms %8d x  p95 %7d us  %s", Long.valueOf(stats.totalNanos() / 1000000L),
+                    Long.valueOf(stats.executions()), Long.valueOf(stats.p95Micros()), stats.fingerprint()));
+        }
+
+        return htm.toString();
+    }
+
+    /**
+     * Adds a line to the report.
+     *
+     * @param htm     the builder to which to append
+     * @param label   the line label
+     * @param samples the latency samples
+     * @param seconds the elapsed time, in seconds
+     */
+    private static void addReportLine(final HtmlBuilder htm, final String label, final Samples samples,
+                                      final double seconds) {
+
+        final long[] sorted = Arrays.copyOf(samples.nanos, samples.count);
+        Arrays.sort(sorted);
+
+        htm.addln(String.format("%-16s %8d %6d %9.1f %9.1f %9.1f %9.1f %9.1f", label,
+                Integer.valueOf(samples.count), Integer.valueOf(samples.errors),
+                Double.valueOf((double) samples.count / seconds), Double.valueOf(percentileMs(sorted, 50)),
+                Double.valueOf(percentileMs(sorted, 95)), Double.valueOf(percentileMs(sorted, 99)),
+                Double.valueOf(percentileMs(sorted, 100))));
+    }
+
+    /**
+     * Computes a percentile of a sorted array of latencies.
+     *
+     * @param sorted  the latencies, in nanoseconds, in ascending order
+     * @param percent the percentile, from 1 to 100
+     * @return the latency at that percentile, in milliseconds (0 if there are no latencies)
+     */
+    private static double percentileMs(final long[] sorted, final int percent) {
+
+        double result = 0.0;
+
+        if (sorted.length > 0) {
+            final int rank = (sorted.length * percent + 99) / 100;
+            result = (double) sorted[Math.max(0, rank - 1)] / 1.0e6;
+        }
+
+        return result;
+    }
+
+    /**
+     * Main method to replay requests against the synthetic students in the database configured for batch jobs.
+     *
+     * @param args command-line arguments: the number of threads (default 8), the duration in seconds (default 60), the
+     *             random seed (default 1), then any of "cache" to enable the shared student data cache and "snapshot"
+     *             to load a snapshot in student data requests
+     */
+    public static void main(final String... args) {
+
+        DbConnection.registerDrivers();
+
+        final int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        final long seconds = args.length > 1 ? Long.parseLong(args[1]) : 60L;
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        final List<String> options = args.length > 3 ? Arrays.asList(args).subList(3, args.length) : List.of();
+        StudentDataCache.setEnabled(options.contains("cache"));
+        final boolean snapshot = options.contains("snapshot");
+
+        final DatabaseConfig config = DatabaseConfig.getDefault();
+        final Profile profile = config.getCodeProfile(Contexts.BATCH_PATH);
+
+        if (profile == null) {
+            Log.warning("No database profile is configured for batch jobs");
+        } else {
+            try {
+                final List<String> ids = querySyntheticStudentIds(new Cache(profile));
+                if (ids.isEmpty()) {
+                    Log.warning("No synthetic students found; run SyntheticLoadGenerator first");
+                } else {
+                    final LoadReplayDriver driver = new LoadReplayDriver(profile, ids, threads, seconds * 1000L,
+                            seed, snapshot);
+                    Log.info(driver.run());
+                }
+            } catch (final SQLException ex) {
+                Log.warning("Failed to replay requests", ex);
+            }
+        }
+    }
+
+    /**
+     * Types of request, with the relative frequency of each in the mix.
+     */
+    private enum ERequestType {
+
+        /** Loads the data shown on a student's home page. */
+        STUDENT_DATA(50),
+
+        /** Computes the status of each of a student's active registrations. */
+        COURSE_STATUS(35),
+
+        /** Determines a student's Math Plan status and reconstructs their plan. */
+        MATH_PLAN(15);
+
+        /** The relative frequency. */
+        final int weight;
+
+        /**
+         * Constructs a new {@code ERequestType}.
+         *
+         * @param theWeight the relative frequency
+         */
+        ERequestType(final int theWeight) {
+
+            this.weight = theWeight;
+        }
+    }
+
+    /**
+     * A task that makes requests on one thread until a deadline.
+     */
+    private static final class Worker implements Callable<Map<ERequestType, Samples>> {
+
+        /** The database profile. */
+        private final Profile profile;
+
+        /** The IDs of the students for which to make requests. */
+        private final List<String> studentIds;
+
+        /** The active term. */
+        private final TermKey activeTerm;
+
+        /** The deadline, in the units of {@code System.nanoTime}. */
+        private final long deadline;
+
+        /** The random number generator. */
+        private final Random random;
+
+        /** True if student data requests load a snapshot before accessing data. */
+        private final boolean useSnapshot;
+
+        /**
+         * Constructs a new {@code Worker}.
+         *
+         * @param theProfile     the database profile
+         * @param theStudentIds  the IDs of the students for which to make requests
+         * @param theActiveTerm  the active term
+         * @param theDeadline    the deadline, in the units of {@code System.nanoTime}
+         * @param theSeed        the random number generator seed
+         * @param theUseSnapshot true if student data requests load a snapshot before accessing data
+         */
+        Worker(final Profile theProfile, final List<String> theStudentIds, final TermKey theActiveTerm,
+               final long theDeadline, final long theSeed, final boolean theUseSnapshot) {
+
+            this.profile = theProfile;
+            this.studentIds = theStudentIds;
+            this.activeTerm = theActiveTerm;
+            this.deadline = theDeadline;
+            this.random = new Random(theSeed);
+            this.useSnapshot = theUseSnapshot;
+        }
+
+        /**
+         * Makes requests until the deadline.
+         *
+         * @return map from request type to latency samples
+         */
+        @Override
+        public Map<ERequestType, Samples> call() {
+
+            final Map<ERequestType, Samples> result = new EnumMap<>(ERequestType.class);
+            for (final ERequestType type : ERequestType.values()) {
+                result.put(type, new Samples());
+            }
+
+            int totalWeight = 0;
+            for (final ERequestType type : ERequestType.values()) {
+                totalWeight += type.weight;
+            }
+
+            while (System.nanoTime() < this.deadline && !Thread.currentThread().isInterrupted()) {
+                final String stuId = this.studentIds.get(this.random.nextInt(this.studentIds.size()));
+
+                final ERequestType[] types = ERequestType.values();
+                int roll = this.random.nextInt(totalWeight);
+                int index = 0;
+                while (roll >= types[index].weight) {
+                    roll -= types[index].weight;
+                    ++index;
+                }
+                final ERequestType type = types[index];
+
+                final Samples samples = result.get(type);
+                final long start = System.nanoTime();
+                try {
+                    perform(type, stuId);
+                    samples.add(System.nanoTime() - start);
+                } catch (final SQLException | RuntimeException ex) {
+                    Log.warning("Request ", type.name(), " for ", stuId, " failed", ex);
+                    samples.add(System.nanoTime() - start);
+                    ++samples.errors;
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         * Performs a single request.
+         *
+         * @param type  the request type
+         * @param stuId the student ID
+         * @throws SQLException if there is an error accessing the database
+         */
+        private void perform(final ERequestType type, final String stuId) throws SQLException {
+
+            final Cache cache = new Cache(this.profile);
+            final StudentData studentData = cache.getStudent(stuId);
+
+            switch (type) {
+                case STUDENT_DATA -> {
+                    if (this.useSnapshot) {
+                        studentData.loadSnapshot();
+                    }
+                    studentData.getStudentRecord();
+                    studentData.getHolds();
+                    studentData.getRegistrations();
+                    studentData.getStudentTerm(this.activeTerm);
+                    studentData.getStudentExams();
+                    studentData.getStudentHomework();
+                    studentData.getPlacementAttempts();
+                }
+                case COURSE_STATUS -> {
+                    for (final RawStcourse reg : studentData.getActiveRegistrations(this.activeTerm, false)) {
+                        CourseLogic.computeStatus(cache, reg);
+                    }
+                }
+                case MATH_PLAN -> {
+                    MathPlanLogic.getStatus(cache, stuId);
+                    MathPlanLogic.queryPlan(cache, stuId);
+                }
+            }
+        }
+    }
+
+    /**
+     * A growable list of latency samples.
+     */
+    private static final class Samples {
+
+        /** The latencies, in nanoseconds. */
+        long[] nanos;
+
+        /** The number of latencies recorded. */
+        int count;
+
+        /** The number of requests that failed. */
+        int errors;
+
+        /**
+         * Constructs a new {@code Samples}.
+         */
+        Samples() {
+
+            this.nanos = new long[1000];
+        }
+
+        /**
+         * Adds a latency.
+         *
+         * @param latency the latency, in nanoseconds
+         */
+        void add(final long latency) {
+
+            if (this.count == this.nanos.length) {
+                this.nanos = Arrays.copyOf(this.nanos, this.count * 2);
+            }
+            this.nanos[this.count] = latency;
+            ++this.count;
+        }
+
+        /**
+         * Adds all latencies (and the error count) from another set of samples.
+         *
+         * @param other the other samples
+         */
+        void addAll(final Samples other) {
+
+            for (int i = 0; i < other.count; ++i) {
+                add(other.nanos[i]);
+            }
+            this.errors += other.errors;
+        }
+    }
+}
@@ -0,0 +1,610 @@
+package dev.mathops.dbjobs.loadtest;
+
+import dev.mathops.commons.log.Log;
+import dev.mathops.db.Cache;
+import dev.mathops.db.DbConnection;
+import dev.mathops.db.StudentDataEvents;
+import dev.mathops.db.cfg.Contexts;
+import dev.mathops.db.cfg.DatabaseConfig;
+import dev.mathops.db.cfg.Profile;
+import dev.mathops.db.field.TermKey;
+import dev.mathops.db.logic.course.PaceTrackLogic;
+import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.RawRecordConstants;
+import dev.mathops.db.schema.legacy.impl.StudentRowsLogic;
+import dev.mathops.db.schema.legacy.rec.RawStcourse;
+import dev.mathops.db.schema.main.rec.TermRec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Populates the legacy schema of a test database with synthetic students, each with a student record, registrations in
+ * the active term, a student term record with pace and pace track, a placement attempt, and a history of homework and
+ * exams (with exam answers) consistent with the student's progress.
+ *
+ * <p>
+ * Synthetic students have IDs that start with {@code ID_PREFIX} (a range not used by real or test students), so they
+ * can be removed with {@code clear}.  Data is generated from a seeded random number generator, so a given seed and
+ * student count always produces the same data.  Rows are inserted with batched prepared statements, one transaction
+ * per group of {@code STUDENTS_PER_TRANSACTION} students.
+ *
+ * <p>
+ * Serial numbers (for placement attempts, exams, and homework) and PIDMs are assigned in sequence starting after the
+ * largest value already in the database when {@code generate} is called, so they do not collide with existing rows.
+ * Nothing else should insert rows with serial numbers or PIDMs while synthetic data is being generated.
+ *
+ * <p>
+ * This should only be run against a local test database.
+ */
+public final class SyntheticLoadGenerator {
+
+    /** The prefix of all synthetic student IDs. */
+    public static final String ID_PREFIX = "97";
+
+    /** The number of students whose rows are inserted in each transaction. */
+    private static final int STUDENTS_PER_TRANSACTION = 200;
+
+    /** The number of rows to insert in each batch. */
+    private static final int BATCH_SIZE = 1000;
+
+    /** The courses in the precalculus sequence, in order. */
+    private static final List<String> COURSES = List.of(RawRecordConstants.M117, RawRecordConstants.M118,
+            RawRecordConstants.M124, RawRecordConstants.M125, RawRecordConstants.M126);
+
+    /** Cumulative percentages of students with each pace from 1 to 5. */
+    private static final int[] PACE_CUMULATIVE = {15, 45, 75, 90, 100};
+
+    /** The number of units in each course. */
+    private static final int NUM_UNITS = 4;
+
+    /** The number of objectives (homework assignments) in each unit. */
+    private static final int NUM_OBJECTIVES = 4;
+
+    /** The number of questions on each exam. */
+    private static final int NUM_QUESTIONS = 10;
+
+    /** A sample of last names. */
+    private static final String[] LAST_NAMES = {"Anderson", "Brown", "Garcia", "Johnson", "Lee", "Martinez",
+            "Nguyen", "Patel", "Smith", "Williams"};
+
+    /** A sample of first names. */
+    private static final String[] FIRST_NAMES = {"Alex", "Jordan", "Morgan", "Riley", "Sam", "Taylor", "Casey",
+            "Jamie", "Avery", "Quinn"};
+
+    /** The data cache. */
+    private final Cache cache;
+
+    /** The random number generator. */
+    private final Random random;
+
+    /** The next serial number to assign. */
+    private long nextSerial;
+
+    /** The PIDM assigned to the student with index 0. */
+    private int firstPidm;
+
+    /**
+     * Constructs a new {@code SyntheticLoadGenerator}.
+     *
+     * @param theCache the data cache
+     * @param theSeed  the random number generator seed
+     */
+    public SyntheticLoadGenerator(final Cache theCache, final long theSeed) {
+
+        this.cache = theCache;
+        this.random = new Random(theSeed);
+    }
+
+    /**
+     * Generates the ID of a synthetic student.
+     *
+     * @param index the student index, from 0
+     * @return the student ID
+     */
+    public static String studentId(final int index) {
+
+        return ID_PREFIX + String.format("%07d", Integer.valueOf(index));
+    }
+
+    /**
+     * Deletes all synthetic students and their data.
+     *
+     * @return the total number of rows deleted
+     * @throws SQLException if there is an error accessing the database
+     */
+    public int clear() throws SQLException {
+
+        int total = 0;
+        for (final Integer count : StudentRowsLogic.deleteByStudents(this.cache, List.of(), ID_PREFIX).values()) {
+            total += count.intValue();
+        }
+
+        final DbConnection conn = this.cache.checkOutConnection(ESchema.LEGACY);
+
+        try (final Statement stmt = conn.createStatement()) {
+            total += stmt.executeUpdate("DELETE FROM " + qualify("student") + " WHERE stu_id LIKE '" + ID_PREFIX
+                                        + "%'");
+            conn.commit();
+        } catch (final SQLException ex) {
+            conn.rollback();
+            throw ex;
+        } finally {
+            Cache.checkInConnection(conn);
+            StudentDataEvents.allChanged();
+        }
+
+        return total;
+    }
+
+    /**
+     * Generates synthetic students, numbered from 0.
+     *
+     * @param numStudents the number of students
+     * @return a map from table name to the number of rows inserted
+     * @throws SQLException if there is an error accessing the database (the current group of students is rolled back)
+     */
+    public Map<String, Integer> generate(final int numStudents) throws SQLException {
+
+        final TermRec active = this.cache.getSystemData().getActiveTerm();
+        if (active == null) {
+            throw new SQLException("Unable to query the active term");
+        }
+
+        final DbConnection conn = this.cache.checkOutConnection(ESchema.LEGACY);
+        final Map<String, Integer> result = new LinkedHashMap<>(10);
+
+        try {
+            this.nextSerial = queryMax(conn, "serial_nbr", "stmpe", "stexam", "sthomework") + 1L;
+            this.firstPidm = Math.toIntExact(queryMax(conn, "pidm", "student") + 1L);
+
+            final Inserters inserters = createInserters(conn);
+            try {
+                for (int start = 0; start < numStudents; start += STUDENTS_PER_TRANSACTION) {
+                    final int end = Math.min(numStudents, start + STUDENTS_PER_TRANSACTION);
+                    for (int index = start; index < end; ++index) {
+                        generateStudent(inserters, active, index);
+                    }
+                    for (final Inserter inserter : inserters.all()) {
+                        inserter.flush();
+                    }
+                    conn.commit();
+                }
+            } catch (final SQLException ex) {
+                conn.rollback();
+                throw ex;
+            } finally {
+                for (final Inserter inserter : inserters.all()) {
+                    result.put(inserter.table, Integer.valueOf(inserter.count));
+                    inserter.stmt.close();
+                }
+            }
+        } finally {
+            Cache.checkInConnection(conn);
+            StudentDataEvents.allChanged();
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates the batched inserters for each table, in the order in which rows are to be inserted.
+     *
+     * @param conn the database connection
+     * @return the inserters
+     * @throws SQLException if a statement could not be prepared
+     */
+    private Inserters createInserters(final DbConnection conn) throws SQLException {
+
+        final Inserter student = new Inserter(conn, qualify("student"), "stu_id,pidm,last_name,first_name,"
+                + "pref_name,middle_initial,apln_term,class,college,dept,program_code,minor,est_graduation,tr_credits,"
+                + "hs_code,hs_gpa,hs_class_rank,hs_size_class,act_score,sat_score,ap_score,resident,birthdate,"
+                + "ethnicity,gender,discip_history,discip_status,sev_admin_hold,timelimit_factor,licensed,campus,"
+                + "stu_email,adviser_email,password,admit_type,order_enforce,pacing_structure,create_dt");
+        final Inserter stterm = new Inserter(conn, qualify("stterm"), "stu_id,term,term_yr,pace,pace_track,"
+                + "first_course,cohort,urgency,do_not_disturb");
+        final Inserter stcourse = new Inserter(conn, qualify("stcourse"), "stu_id,course,sect,term,term_yr,"
+                + "pace_order,open_status,grading_option,completed,score,course_grade,prereq_satis,init_class_roll,"
+                + "stu_provided,final_class_roll,exam_placed,zero_unit,timeout_factor,forfeit_i,i_in_progress,"
+                + "i_counted,ctrl_test,deferred_f_dt,bypass_timeout,instrn_type,registration_status,"
+                + "last_class_roll_dt,i_term,i_term_yr,i_deadline_dt");
+        final Inserter stmpe = new Inserter(conn, qualify("stmpe"), "stu_id,version,academic_yr,exam_dt,start_time,"
+                + "finish_time,last_name,first_name,middle_initial,seq_nbr,serial_nbr,sts_a,sts_117,sts_118,sts_124,"
+                + "sts_125,sts_126,placed,how_validated");
+        final Inserter stexam = new Inserter(conn, qualify("stexam"), "serial_nbr,version,stu_id,exam_dt,"
+                + "exam_score,mastery_score,start_time,finish_time,time_ok,passed,seq_nbr,course,unit,exam_type,"
+                + "is_first_passed,exam_source,calc_nbr");
+        final Inserter stqa = new Inserter(conn, qualify("stqa"), "serial_nbr,question_nbr,answer_nbr,objective,"
+                + "stu_answer,stu_id,version,ans_correct,exam_dt,subtest,finish_time");
+        final Inserter sthomework = new Inserter(conn, qualify("sthomework"), "serial_nbr,version,stu_id,hw_dt,"
+                + "hw_score,start_time,finish_time,time_ok,passed,hw_type,course,sect,unit,objective,hw_coupon,"
+                + "used_dt,used_serial_nbr");
+
+        return new Inserters(student, stterm, stcourse, stmpe, stexam, stqa, sthomework);
+    }
+
+    /**
+     * Queries the largest value of a numeric column over one or more tables.
+     *
+     * @param conn   the database connection
+     * @param column the column name
+     * @param tables the unqualified table names
+     * @return the largest value; 0 if the tables have no non-null values
+     * @throws SQLException if there is an error accessing the database
+     */
+    private long queryMax(final DbConnection conn, final String column, final String... tables)
+            throws SQLException {
+
+        long max = 0L;
+
+        try (final Statement stmt = conn.createStatement()) {
+            for (final String table : tables) {
+                try (final ResultSet rs = stmt.executeQuery("SELECT MAX(" + column + ") FROM " + qualify(table))) {
+                    if (rs.next()) {
+                        max = Math.max(max, rs.getLong(1));
+                    }
+                }
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Generates all rows for a single student.
+     *
+     * @param inserters the inserters
+     * @param active    the active term
+     * @param index     the student index
+     * @throws SQLException if there is an error inserting rows
+     */
+    private void generateStudent(final Inserters inserters, final TermRec active, final int index)
+            throws SQLException {
+
+        final String stuId = studentId(index);
+        final String lastName = LAST_NAMES[this.random.nextInt(LAST_NAMES.length)];
+        final String firstName = FIRST_NAMES[this.random.nextInt(FIRST_NAMES.length)];
+        final String initial = String.valueOf((char) ('A' + this.random.nextInt(26)));
+        final TermKey term = active.term;
+        final LocalDate start = active.startDate;
+        final LocalDate today = LocalDate.now();
+
+        final Integer pidm = Integer.valueOf(this.firstPidm + index);
+        inserters.student.add(stuId, pidm, lastName, firstName, null, initial, term.shortString, "FR", "NS", "MATH",
+                "UNDC-UG", null, null, null, null, null, null, null, null, null, null, "R",
+                start.minusYears(18L).minusDays((long) this.random.nextInt(365)), null, "U", "N", null, null, null,
+                "N", "FC", stuId + "@example.edu", null, null, "FR", "Y", "S", today);
+
+        // Pace, courses, and progress (completed courses, then units passed in the current course)
+        final int pace = choosePace();
+        final int firstIndex = this.random.nextInt(COURSES.size() - pace + 1);
+        final int completed = this.random.nextInt(pace + 1);
+        final int unitsInCurrent = completed == pace ? 0 : this.random.nextInt(NUM_UNITS + 1);
+
+        final List<RawStcourse> regs = new ArrayList<>(pace);
+        for (int i = 0; i < pace; ++i) {
+            final RawStcourse reg = new RawStcourse();
+            reg.termKey = term;
+            reg.stuId = stuId;
+            reg.course = COURSES.get(firstIndex + i);
+            reg.sect = "001";
+            reg.paceOrder = Integer.valueOf(i + 1);
+            reg.openStatus = "Y";
+            reg.completed = i < completed ? "Y" : "N";
+            reg.iInProgress = "N";
+            reg.instrnType = "RI";
+            regs.add(reg);
+        }
+
+        final int computedPace = PaceTrackLogic.determinePace(regs);
+        inserters.stterm.add(stuId, term.termCode, term.shortYear, Integer.valueOf(computedPace),
+                PaceTrackLogic.determinePaceTrack(regs, computedPace), PaceTrackLogic.determineFirstCourse(regs), null,
+                Integer.valueOf(0), "N");
+
+        for (final RawStcourse reg : regs) {
+            final boolean done = "Y".equals(reg.completed);
+            inserters.stcourse.add(stuId, reg.course, reg.sect, term.termCode, term.shortYear, reg.paceOrder,
+                    reg.openStatus, "STD", reg.completed, done ? Integer.valueOf(60 + this.random.nextInt(20)) : null,
+                    done ? "A" : null, "Y", "Y", "N", "Y", "N", Integer.valueOf(0), null, "N", "N", "N", "N", null,
+                    Integer.valueOf(0), reg.instrnType, "RE", start, null, null, null);
+        }
+
+        // Most students have a placement attempt shortly before the term
+        if (this.random.nextInt(100) < 80) {
+            final int finish = 540 + this.random.nextInt(480);
+            inserters.stmpe.add(stuId, "MPTTC", active.academicYear,
+                    start.minusDays((long) (1 + this.random.nextInt(60))), Integer.valueOf(finish - 90),
+                    Integer.valueOf(finish), lastName, firstName, initial, null, Long.valueOf(this.nextSerial),
+                    Integer.valueOf(this.random.nextInt(10)), Integer.valueOf(this.random.nextInt(12)),
+                    Integer.valueOf(this.random.nextInt(12)), Integer.valueOf(this.random.nextInt(12)),
+                    Integer.valueOf(this.random.nextInt(12)), Integer.valueOf(this.random.nextInt(12)), "Y", "P");
+            ++this.nextSerial;
+        }
+
+        // Homework and exams, spread over the days since the term started
+        final long daysSoFar = Math.max(1L, today.toEpochDay() - start.toEpochDay());
+        final int totalUnits = completed * NUM_UNITS + unitsInCurrent;
+        int unitsDone = 0;
+
+        for (int i = 0; i < pace && i <= completed; ++i) {
+            final String course = COURSES.get(firstIndex + i);
+            final int units = i < completed ? NUM_UNITS : unitsInCurrent;
+
+            for (int unit = 1; unit <= units; ++unit) {
+                final LocalDate day = start.plusDays(daysSoFar * unitsDone / Math.max(1, totalUnits));
+                ++unitsDone;
+
+                for (int objective = 1; objective <= NUM_OBJECTIVES; ++objective) {
+                    generateHomework(inserters.sthomework, stuId, course, unit, objective, day);
+                }
+                generateExam(inserters, stuId, course, unit, "R", day, true);
+                if (this.random.nextInt(100) < 20) {
+                    generateExam(inserters, stuId, course, unit, "U", day, false);
+                }
+                generateExam(inserters, stuId, course, unit, "U", day.plusDays(1L), true);
+            }
+
+            if (i < completed) {
+                final LocalDate day = start.plusDays(daysSoFar * unitsDone / Math.max(1, totalUnits));
+                generateExam(inserters, stuId, course, NUM_UNITS + 1, "F", day, true);
+            }
+        }
+    }
+
+    /**
+     * Chooses a pace from the distribution in {@code PACE_CUMULATIVE}.
+     *
+     * @return the pace, from 1 to 5
+     */
+    private int choosePace() {
+
+        final int roll = this.random.nextInt(100);
+
+        int pace = 1;
+        while (roll >= PACE_CUMULATIVE[pace - 1]) {
+            ++pace;
+        }
+
+        return pace;
+    }
+
+    /**
+     * Generates a passed homework assignment.
+     *
+     * @param inserter  the sthomework inserter
+     * @param stuId     the student ID
+     * @param course    the course ID
+     * @param unit      the unit
+     * @param objective the objective
+     * @param day       the date
+     * @throws SQLException if there is an error inserting rows
+     */
+    private void generateHomework(final Inserter inserter, final String stuId, final String course, final int unit,
+                                  final int objective, final LocalDate day) throws SQLException {
+
+        final int finish = 480 + this.random.nextInt(840);
+
+        inserter.add(Long.valueOf(this.nextSerial), version(course, unit, "H"), stuId, day, Integer.valueOf(2),
+                Integer.valueOf(finish - 20), Integer.valueOf(finish), "Y", "Y", "HW", course, "001",
+                Integer.valueOf(unit), Integer.valueOf(objective), "N", null, null);
+        ++this.nextSerial;
+    }
+
+    /**
+     * Generates an exam and its answers.
+     *
+     * @param inserters the inserters
+     * @param stuId     the student ID
+     * @param course    the course ID
+     * @param unit      the unit
+     * @param examType  the exam type ("R", "U", or "F")
+     * @param day       the date
+     * @param passed    true if the exam was passed
+     * @throws SQLException if there is an error inserting rows
+     */
+    private void generateExam(final Inserters inserters, final String stuId, final String course,
+                              final int unit, final String examType, final LocalDate day, final boolean passed)
+            throws SQLException {
+
+        final Long serial = Long.valueOf(this.nextSerial);
+        ++this.nextSerial;
+
+        final String version = version(course, unit, examType);
+        final int score = passed ? 8 + this.random.nextInt(3) : 3 + this.random.nextInt(5);
+        final Integer finish = Integer.valueOf(480 + this.random.nextInt(840));
+
+        inserters.stexam.add(serial, version, stuId, day, Integer.valueOf(score), Integer.valueOf(8),
+                Integer.valueOf(finish.intValue() - 45), finish, "Y", passed ? "Y" : "N", null, course,
+                Integer.valueOf(unit), examType, passed ? "Y" : "N", "TC", null);
+
+        final List<Boolean> correct = new ArrayList<>(NUM_QUESTIONS);
+        for (int q = 0; q < NUM_QUESTIONS; ++q) {
+            correct.add(Boolean.valueOf(q < score));
+        }
+        Collections.shuffle(correct, this.random);
+
+        for (int q = 0; q < NUM_QUESTIONS; ++q) {
+            final boolean right = correct.get(q).booleanValue();
+            inserters.stqa.add(serial, Integer.valueOf(q + 1), Integer.valueOf(1), Integer.toString(q / 3 + 1),
+                    right ? "A" : "B", stuId, version, right ? "Y" : "N", day, "A", finish);
+        }
+    }
+
+    /**
+     * Generates a synthetic exam or assignment version.
+     *
+     * @param course the course ID
+     * @param unit   the unit
+     * @param type   a letter indicating the type of exam or assignment
+     * @return the version
+     */
+    private static String version(final String course, final int unit, final String type) {
+
+        return course.substring(course.length() - 2) + unit + type + "S";
+    }
+
+    /**
+     * Generates a table name qualified by the legacy schema prefix if there is one.
+     *
+     * @param table the unqualified table name
+     * @return the table name
+     */
+    private String qualify(final String table) {
+
+        final String schemaPrefix = this.cache.getSchemaPrefix(ESchema.LEGACY);
+
+        return schemaPrefix == null ? table : (schemaPrefix + "." + table);
+    }
+
+    /**
+     * Main method to populate the database configured for batch jobs with synthetic students, after removing any
+     * synthetic students already present.
+     *
+     * @param args command-line arguments: the number of students (default 1000) and the random seed (default 1)
+     */
+    public static void main(final String... args) {
+
+        DbConnection.registerDrivers();
+
+        final int numStudents = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        final long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+
+        final DatabaseConfig config = DatabaseConfig.getDefault();
+        final Profile profile = config.getCodeProfile(Contexts.BATCH_PATH);
+
+        if (profile == null) {
+            Log.warning("No database profile is configured for batch jobs");
+        } else {
+            final SyntheticLoadGenerator generator = new SyntheticLoadGenerator(new Cache(profile), seed);
+
+            try {
+                final int deleted = generator.clear();
+                Log.info("Deleted ", Integer.toString(deleted), " rows of existing synthetic data");
+
+                final long start = System.nanoTime();
+                final Map<String, Integer> counts = generator.generate(numStudents);
+                final long elapsedMs = Math.max(1L, (System.nanoTime() - start) / 1000000L);
+
+                long total = 0L;
+                for (final Map.Entry<String, Integer> entry : counts.entrySet()) {
+                    total += entry.getValue().longValue();
+                    Log.info("  ", entry.getKey(), ": ", entry.getValue(), " rows");
+                }
+                Log.info("Inserted ", Long.toString(total), " rows for ", Integer.toString(numStudents),
+                        " students in ", Long.toString(elapsedMs), " ms (", Long.toString(total * 1000L / elapsedMs),
+                        " rows/s)");
+            } catch (final SQLException ex) {
+                Log.warning("Failed to generate synthetic data", ex);
+            }
+        }
+    }
+
+    /**
+     * The batched inserters for each table.
+     *
+     * @param student    the inserter for "student"
+     * @param stterm     the inserter for "stterm"
+     * @param stcourse   the inserter for "stcourse"
+     * @param stmpe      the inserter for "stmpe"
+     * @param stexam     the inserter for "stexam"
+     * @param stqa       the inserter for "stqa"
+     * @param sthomework the inserter for "sthomework"
+     */
+    private record Inserters(Inserter student, Inserter stterm, Inserter stcourse, Inserter stmpe, Inserter stexam,
+                             Inserter stqa, Inserter sthomework) {
+
+        /**
+         * Gets all inserters, in the order in which their batches should be executed (so rows that other rows refer
+         * to are inserted first).
+         *
+         * @return the list of inserters
+         */
+        List<Inserter> all() {
+
+            return List.of(this.student, this.stterm, this.stcourse, this.stmpe, this.stexam, this.stqa,
+                    this.sthomework);
+        }
+    }
+
+    /**
+     * A batched insert into one table.
+     */
+    private static final class Inserter {
+
+        /** The table name. */
+        final String table;
+
+        /** The prepared statement. */
+        final PreparedStatement stmt;
+
+        /** The number of rows added to the current batch. */
+        private int pending;
+
+        /** The number of rows inserted. */
+        int count;
+
+        /**
+         * Constructs a new {@code Inserter}.
+         *
+         * @param conn     the database connection
+         * @param theTable the table name
+         * @param columns  the comma-separated column names
+         * @throws SQLException if the statement could not be prepared
+         */
+        Inserter(final DbConnection conn, final String theTable, final String columns) throws SQLException {
+
+            this.table = theTable;
+
+            final int numColumns = columns.split(",").length;
+            this.stmt = conn.prepareStatement("INSERT INTO " + theTable + " (" + columns + ") VALUES ("
+                                              + String.join(",", Collections.nCopies(numColumns, "?")) + ")");
+        }
+
+        /**
+         * Adds a row, executing the batch if it is full.
+         *
+         * @param values the column values, in the order of the column names
+         * @throws SQLException if there is an error binding values or executing the batch
+         */
+        void add(final Object... values) throws SQLException {
+
+            for (int i = 0; i < values.length; ++i) {
+                if (values[i] == null) {
+                    this.stmt.setNull(i + 1, Types.NULL);
+                } else {
+                    this.stmt.setObject(i + 1, values[i]);
+                }
+            }
+            this.stmt.addBatch();
+            ++this.pending;
+
+            if (this.pending == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * Executes any rows in the current batch.
+         *
+         * @throws SQLException if there is an error executing the batch
+         */
+        void flush() throws SQLException {
+
+            if (this.pending > 0) {
+                this.stmt.executeBatch();
+                this.count += this.pending;
+                this.pending = 0;
+            }
+        }
+    }
+}
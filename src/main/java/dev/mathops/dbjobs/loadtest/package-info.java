@@ -0,0 +1,4 @@
+/**
+ * Tools to populate a test database with synthetic students and to drive a concurrent load of typical requests.
+ */
+package dev.mathops.dbjobs.loadtest;
@@ -21,8 +21,10 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * Examines number of placement exams taken and outcomes over time, going back several years, to examine trends in
@@ -97,10 +99,10 @@ public enum AnnualPlacementStatistics {
                    + TemporalUtils.FMT_MDY.format(start) + ".");
         report.add(CoreConstants.EMPTY);
 
-        // Query from the database.
+        // Query from the database, limited to the date range being reported.
 
-        final List<RawStmpe> allAttempts = RawStmpeLogic.queryAll(cache);
-        final List<RawMpeCredit> allCredit = RawMpeCreditLogic.queryAll(cache);
+        final List<RawStmpe> attempts = RawStmpeLogic.queryByDateRange(cache, start, today);
+        final CreditIndex creditIndex = new CreditIndex(RawMpeCreditLogic.queryByDateRange(cache, start, today));
 
         // Create storage to accumulate attempts by week
         final List<List<PlacementRecord>> byWeek = new ArrayList<>(numWeeks);
@@ -110,18 +112,11 @@ public enum AnnualPlacementStatistics {
 
         // Organize attempts by week
         int total = 0;
-        for (final RawStmpe attempt : allAttempts) {
-            if (attempt.examDt.isBefore(start)) {
-                continue;
-            }
-
-            // Identify the week - it's the last week-start date that's not after "date"
-            for (int i = numWeeks - 1; i >= 0; --i) {
-                if (!weekStarts.get(i).isAfter(attempt.examDt)) {
-                    byWeek.get(i).add(new PlacementRecord(attempt, allCredit));
-                    ++total;
-                    break;
-                }
+        for (final RawStmpe attempt : attempts) {
+            final int week = weekIndex(start, attempt.examDt, numWeeks);
+            if (week >= 0) {
+                byWeek.get(week).add(new PlacementRecord(creditIndex.getCredit(attempt)));
+                ++total;
             }
         }
 
@@ -317,6 +312,22 @@ public enum AnnualPlacementStatistics {
         }
     }
 
+    /**
+     * Finds the index of the week that contains a date.  Week starts are 7 days apart, so the week is found from the
+     * day offset; dates after the start of the last week are counted in the last week.
+     *
+     * @param start    the start date of the first week
+     * @param date     the date
+     * @param numWeeks the number of weeks
+     * @return the week index, from 0 to {@code numWeeks - 1}; -1 if the date is before {@code start}
+     */
+    static int weekIndex(final LocalDate start, final LocalDate date, final int numWeeks) {
+
+        final long offset = date.toEpochDay() - start.toEpochDay();
+
+        return offset < 0L ? -1 : (int) Math.min(offset / 7L, (long) (numWeeks - 1));
+    }
+
     /**
      * Main method to execute the batch job.
      *
@@ -328,6 +339,89 @@ public enum AnnualPlacementStatistics {
         runReport();
     }
 
+    /**
+     * An index of placement credit records by student, supporting lookup of the credit earned on an attempt without
+     * scanning all credit records.
+     */
+    static class CreditIndex {
+
+        /** Map from student ID to map from serial number to credit records that have serial numbers. */
+        private final Map<String, Map<Long, List<RawMpeCredit>>> bySerial;
+
+        /** Map from student ID to map from exam date to all credit records. */
+        private final Map<String, Map<LocalDate, List<RawMpeCredit>>> byDate;
+
+        /** Map from student ID to map from exam date to credit records with no serial number. */
+        private final Map<String, Map<LocalDate, List<RawMpeCredit>>> byDateNoSerial;
+
+        /**
+         * Constructs a new {@code CreditIndex}.
+         *
+         * @param allCredit the list of credit records to index
+         */
+        CreditIndex(final Collection<RawMpeCredit> allCredit) {
+
+            final int size = allCredit.size();
+            this.bySerial = new HashMap<>(size);
+            this.byDate = new HashMap<>(size);
+            this.byDateNoSerial = new HashMap<>(10);
+
+            for (final RawMpeCredit rec : allCredit) {
+                this.byDate.computeIfAbsent(rec.stuId, key -> new HashMap<>(4))
+                        .computeIfAbsent(rec.examDt, key -> new ArrayList<>(3)).add(rec);
+
+                if (rec.serialNbr == null) {
+                    this.byDateNoSerial.computeIfAbsent(rec.stuId, key -> new HashMap<>(4))
+                            .computeIfAbsent(rec.examDt, key -> new ArrayList<>(3)).add(rec);
+                } else {
+                    this.bySerial.computeIfAbsent(rec.stuId, key -> new HashMap<>(4))
+                            .computeIfAbsent(rec.serialNbr, key -> new ArrayList<>(3)).add(rec);
+                }
+            }
+        }
+
+        /**
+         * Gets the credit earned on a placement attempt.  Credit is matched by serial number, but old records have no
+         * serial number, so if either the attempt or the credit record lacks a serial number, they are matched on exam
+         * date.
+         *
+         * @param attempt the placement attempt
+         * @return the list of credit records
+         */
+        List<RawMpeCredit> getCredit(final RawStmpe attempt) {
+
+            final List<RawMpeCredit> result = new ArrayList<>(3);
+
+            if (attempt.serialNbr == null) {
+                addAll(result, this.byDate.get(attempt.stuId), attempt.examDt);
+            } else {
+                addAll(result, this.bySerial.get(attempt.stuId), attempt.serialNbr);
+                addAll(result, this.byDateNoSerial.get(attempt.stuId), attempt.examDt);
+            }
+
+            return result;
+        }
+
+        /**
+         * Adds the records stored under a key in a map (if the map is not null) to a list.
+         *
+         * @param <K>    the key type
+         * @param target the list to which to add records
+         * @param map    the map (null if the student has no records)
+         * @param key    the key
+         */
+        private static <K> void addAll(final Collection<? super RawMpeCredit> target,
+                                       final Map<K, List<RawMpeCredit>> map, final K key) {
+
+            if (map != null) {
+                final List<RawMpeCredit> list = map.get(key);
+                if (list != null) {
+                    target.addAll(list);
+                }
+            }
+        }
+    }
+
     /**
      * A record of a single placement attempt.
      */
@@ -339,25 +433,11 @@ public enum AnnualPlacementStatistics {
         /**
          * Constructs a new {@code PlacementRecord}.
          *
-         * @param theAttempt the placement attempt
-         * @param allCredit  the list of all credit records
+         * @param theCredit the list of credit records earned on the attempt
          */
-        PlacementRecord(final RawStmpe theAttempt, final Iterable<RawMpeCredit> allCredit) {
-
-            this.credit = new ArrayList<>(3);
-
-            for (final RawMpeCredit test : allCredit) {
-                if (test.stuId.equals(theAttempt.stuId)) {
-                    if (test.serialNbr == null || theAttempt.serialNbr == null) {
-                        // Old records have no serial number - match on exam date
-                        if (test.examDt.equals(theAttempt.examDt)) {
-                            this.credit.add(test);
-                        }
-                    } else if (test.serialNbr.equals(theAttempt.serialNbr)) {
-                        this.credit.add(test);
-                    }
-                }
-            }
+        PlacementRecord(final List<RawMpeCredit> theCredit) {
+
+            this.credit = theCredit;
         }
     }
 
@@ -12,12 +12,9 @@ import dev.mathops.db.schema.legacy.impl.RawStudentLogic;
 import dev.mathops.db.schema.legacy.rec.RawStterm;
 import dev.mathops.db.schema.legacy.rec.RawStudent;
 import dev.mathops.db.schema.main.rec.TermRec;
-import dev.mathops.text.builder.HtmlBuilder;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.text.DecimalFormat;
 import java.time.LocalDateTime;
@@ -61,25 +58,24 @@ final class CountsByMajor implements Runnable {
         final DatabaseConfig config = DatabaseConfig.getDefault();
         final Profile profile = config.getCodeProfile(Contexts.REPORT_PATH);
 
-        final HtmlBuilder report = new HtmlBuilder(10000);
-
-        if (profile == null) {
-            report.addln("*** ERROR: There is no database code profile named 'report'.");
-        } else {
-            Log.info("Using ", profile.id, " profile");
-            final Cache cache = new Cache(profile);
+        final LocalDateTime now = LocalDateTime.now();
+        final Path path = Path.of("/opt/zircon/reports/Count_by_major_" + DTTM_FMT.format(now) + ".txt");
 
-            Log.info("Generating count of registrations by program.....please wait.");
+        try {
+            try (final ReportWriter report = new ReportWriter(path, false)) {
+                if (profile == null) {
+                    report.addln("*** ERROR: There is no database code profile named 'report'.");
+                } else {
+                    Log.info("Using ", profile.id, " profile");
+                    final Cache cache = new Cache(profile);
 
-            compute(cache);
-            generateReport(report);
-        }
+                    Log.info("Generating count of registrations by program.....please wait.");
 
-        final LocalDateTime now = LocalDateTime.now();
-        final File file = new File("/opt/zircon/reports/Count_by_major_" + DTTM_FMT.format(now) + ".txt");
-        try (final FileWriter fw = new FileWriter(file, StandardCharsets.UTF_8)) {
-            fw.write(report.toString());
-            Log.info("Report complete, written to: ", file.getAbsolutePath());
+                    compute(cache);
+                    generateReport(report);
+                }
+            }
+            Log.info("Report complete, written to: ", path.toAbsolutePath());
         } catch (final IOException ex) {
             Log.warning(ex);
         }
@@ -126,9 +122,9 @@ final class CountsByMajor implements Runnable {
     /**
      * Generates the report.
      *
-     * @param report the {@code HtmlBuilder} to which to write error messages
+     * @param report the {@code ReportWriter} to which to write the report
      */
-    private void generateReport(final HtmlBuilder report) {
+    private void generateReport(final ReportWriter report) {
 
         final DecimalFormat fmt = new DecimalFormat("#.##");
 
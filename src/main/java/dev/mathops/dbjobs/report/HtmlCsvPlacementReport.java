@@ -20,7 +20,6 @@ import dev.mathops.db.schema.legacy.rec.RawSpecialStus;
 import dev.mathops.db.schema.legacy.rec.RawStcourse;
 import dev.mathops.db.schema.legacy.rec.RawStmpe;
 import dev.mathops.db.schema.legacy.rec.RawStudent;
-import dev.mathops.text.builder.HtmlBuilder;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
@@ -28,6 +27,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Generates a report (in either HTML format or as a list of comma-separated records) of placement results for students,
@@ -81,10 +82,10 @@ public final class HtmlCsvPlacementReport {
     /**
      * Generates the report content.
      *
-     * @param html a collection to which to add HTML report lines
-     * @param csv  a collection to which to add comma-separated values lines
+     * @param html a sink to which to write HTML report lines
+     * @param csv  a sink to which to write comma-separated values lines
      */
-    public void generate(final Collection<? super String> html, final Collection<? super String> csv) {
+    public void generate(final Consumer<? super String> html, final Consumer<? super String> csv) {
 
         if (this.profile == null) {
             Log.warning("Unable to find production profile.");
@@ -94,50 +95,41 @@ public final class HtmlCsvPlacementReport {
             try {
                 final LocalDate now = LocalDate.now();
 
-                html.add("<style>");
-                html.add(".result-table {font-size:90%;}");
-                html.add(".result-table tr:nth-child(2n+1) {background-color:#ddd; border-bottom:1px solid gray;}");
-                html.add(".result-table tr:nth-child(2n+0) {background-color:#eee;}");
-                html.add(".result-table tr th, td {padding-left: 6px; padding-right: 6px;}");
-                html.add("</style>");
-
-                html.add("<p style='text-align:center; font-weight:bold;'>");
-                html.add("** C O N F I D E N T I A L **<br/>");
-                html.add("Colorado State University<br/>");
-                html.add("Department of Mathematics<br/>");
-                html.add("Math Placement Tool Status and Results<br/>");
-                html.add("Report Date: " + TemporalUtils.FMT_MDY.format(now) + "<br/>");
-                html.add("</p>");
-
-                html.add("<table class='result-table'>");
-                html.add("<tr> <th>Name:</th> <th>Student ID</th> <th>Attempts:</th> <th>First:</th> "
-                         + "<th>Latest:</th> <th>Results:</th> </tr>");
-
-                csv.add("Name," //
-                        + "Student ID," //
-                        + "Applic. Term," //
-                        + "Applic. Year," //
-                        + "MPT Attempts," //
-                        + "First Attempt," //
-                        + "Last Attempt," //
-                        + "OK for 117/127," //
-                        + "Out of 117," //
-                        + "Out of 118," //
-                        + "Out Of 124," //
-                        + "Out Of 125," //
-                        + "Out Of 126," //
-                        + "Eligible for 160");
+                html.accept("<style>");
+                html.accept(".result-table {font-size:90%;}");
+                html.accept(".result-table tr:nth-child(2n+1) {background-color:#ddd; border-bottom:1px solid gray;}");
+                html.accept(".result-table tr:nth-child(2n+0) {background-color:#eee;}");
+                html.accept(".result-table tr th, td {padding-left: 6px; padding-right: 6px;}");
+                html.accept("</style>");
+
+                html.accept("<p style='text-align:center; font-weight:bold;'>");
+                html.accept("** C O N F I D E N T I A L **<br/>");
+                html.accept("Colorado State University<br/>");
+                html.accept("Department of Mathematics<br/>");
+                html.accept("Math Placement Tool Status and Results<br/>");
+                html.accept("Report Date: " + TemporalUtils.FMT_MDY.format(now) + "<br/>");
+                html.accept("</p>");
+
+                // The HTML and CSV forms have different columns, so each has its own row writer
+                final HtmlCsvRowWriter htmlRows = new HtmlCsvRowWriter(html, null);
+                final HtmlCsvRowWriter csvRows = new HtmlCsvRowWriter(null, csv);
+
+                htmlRows.startTable("result-table", "Name:", "Student ID", "Attempts:", "First:", "Latest:",
+                        "Results:");
+                csvRows.startTable(null, "Name", "Student ID", "Applic. Term", "Applic. Year", "MPT Attempts",
+                        "First Attempt", "Last Attempt", "OK for 117/127", "Out of 117", "Out of 118", "Out Of 124",
+                        "Out Of 125", "Out Of 126", "Eligible for 160");
 
                 // Get the list of students whose status to process (sorted by name)
                 final List<RawStudent> students = gatherStudents(cache);
 
                 for (final RawStudent stu : students) {
-                    processStudent(stu, cache, html, csv);
+                    processStudent(stu, cache, htmlRows, csvRows);
                 }
 
-                html.add("</table>");
+                htmlRows.endTable();
             } catch (final SQLException ex) {
-                html.add("EXCEPTION: " + ex.getMessage());
+                html.accept("EXCEPTION: " + ex.getMessage());
             }
         }
     }
@@ -145,15 +137,14 @@ public final class HtmlCsvPlacementReport {
     /**
      * Processes a single student record.
      *
-     * @param stu   the student record
-     * @param cache the data cache
-     * @param html  a collection to which to add HTML report output lines
-     * @param csv   a collection to which to add tab-separated result records
+     * @param stu      the student record
+     * @param cache    the data cache
+     * @param htmlRows the row writer for the HTML report table
+     * @param csvRows  the row writer for comma-separated result records
      * @throws SQLException if there is an error accessing the database
      */
-    private static void processStudent(final RawStudent stu, final Cache cache,
-                                       final Collection<? super String> html,
-                                       final Collection<? super String> csv) throws SQLException {
+    private static void processStudent(final RawStudent stu, final Cache cache, final HtmlCsvRowWriter htmlRows,
+                                       final HtmlCsvRowWriter csvRows) throws SQLException {
 
         final List<RawStcourse> regs = RawStcourseLogic.queryByStudent(cache, stu.stuId, true, false);
         final List<RawFfrTrns> transfer = RawFfrTrnsLogic.queryByStudent(cache, stu.stuId);
@@ -293,120 +284,83 @@ public final class HtmlCsvPlacementReport {
         //
         // Generate report record
         //
-        final HtmlBuilder reportLine = new HtmlBuilder(200);
-
-        final String numAttemptsStr = Integer.toString(numAttempts);
-        reportLine.add("<tr><td>", stu.lastName, ", ", stu.firstName, "</td><td>", stu.stuId, "</td><td>",
-                numAttemptsStr, "</td><td>", firstTryDate, "</td><td>", lastTryDate, "</td><td>");
-
+        final String results;
         if (numAttempts == 0) {
-            reportLine.add("*** No MPT Attempt ***");
+            results = "*** No MPT Attempt ***";
         } else if (placedInto117) {
             if (placedOut117) {
                 if (placedOut118) {
                     if (placedOut124) {
                         if (placedOut125) {
                             if (placedOut126) {
-                                reportLine.add("Placed out of MATH 117,118,124,125,126");
+                                results = "Placed out of MATH 117,118,124,125,126";
                             } else {
-                                reportLine.add("Placed out of MATH 117,118,124,125");
+                                results = "Placed out of MATH 117,118,124,125";
                             }
                         } else {
-                            reportLine.add("Placed out of MATH 117,118,124");
+                            results = "Placed out of MATH 117,118,124";
                         }
                     } else if (placedOut125) {
                         if (placedOut126) {
-                            reportLine.add("Placed out of MATH 117,118,125,126");
+                            results = "Placed out of MATH 117,118,125,126";
                         } else {
-                            reportLine.add("Placed out of MATH 117,118,125");
+                            results = "Placed out of MATH 117,118,125";
                         }
                     } else {
-                        reportLine.add("Placed out of MATH 117,118");
+                        results = "Placed out of MATH 117,118";
                     }
                 } else {
-                    reportLine.add("Placed out of MATH 117");
+                    results = "Placed out of MATH 117";
                 }
             } else {
-                reportLine.add("OK for MATH 101/105, STAT 100/201/204, and MATH 117/120/127");
+                results = "OK for MATH 101/105, STAT 100/201/204, and MATH 117/120/127";
             }
         } else {
-            reportLine.add("OK for MATH 101/105 and STAT 100/201/204 only");
+            results = "OK for MATH 101/105 and STAT 100/201/204 only";
         }
-        reportLine.add("</td></tr>");
 
-        final String reportLineStr = reportLine.toString();
-        html.add(reportLineStr);
+        final String name = stu.lastName + ", " + stu.firstName;
+        final Integer numAttemptsObj = Integer.valueOf(numAttempts);
+
+        htmlRows.row(name, stu.stuId, numAttemptsObj, firstTryDate, lastTryDate, results);
 
         //
         // Generate CSV file record
         //
 
-        final HtmlBuilder csvLine = new HtmlBuilder(200);
-
-        csvLine.add("\"", stu.lastName, ", ", stu.firstName, "\",");
-        csvLine.add(stu.stuId);
-        csvLine.add(CoreConstants.COMMA_CHAR);
-        csvLine.add(stu.aplnTerm.termCode);
-        csvLine.add(CoreConstants.COMMA_CHAR);
-        csvLine.add(stu.aplnTerm.year);
-        csvLine.add(CoreConstants.COMMA_CHAR);
-        csvLine.add(numAttempts);
-        csvLine.add(CoreConstants.COMMA_CHAR);
-        csvLine.add(firstTryDate);
-        csvLine.add(CoreConstants.COMMA_CHAR);
-        csvLine.add(lastTryDate);
-        csvLine.add(CoreConstants.COMMA_CHAR);
-
-        if (howPlacedInto117 == null) {
-            csvLine.add("no,");
-        } else {
-            csvLine.add(howPlacedInto117, CoreConstants.COMMA);
-        }
-        if (how117Satisfied == null) {
-            csvLine.add("no,");
-        } else {
-            csvLine.add(how117Satisfied, CoreConstants.COMMA);
-        }
-        if (how118Satisfied == null) {
-            csvLine.add("no,");
-        } else {
-            csvLine.add(how118Satisfied, CoreConstants.COMMA);
-        }
-        if (how124Satisfied == null) {
-            csvLine.add("no,");
-        } else {
-            csvLine.add(how124Satisfied, CoreConstants.COMMA);
-        }
-        if (how125Satisfied == null) {
-            csvLine.add("no,");
-        } else {
-            csvLine.add(how125Satisfied, CoreConstants.COMMA);
-        }
-        if (how126Satisfied == null) {
-            csvLine.add("no,");
-        } else {
-            csvLine.add(how126Satisfied, CoreConstants.COMMA);
-        }
-
         // Ready for 160?
+        final String readyFor160;
         if (how124Satisfied == null || how126Satisfied == null) {
-            csvLine.add("no");
+            readyFor160 = "no";
         } else {
             final boolean b124 = "A".equals(grade124) || "B".equals(grade124) || "P".equals(grade124);
             final boolean b126 = "A".equals(grade126) || "B".equals(grade126) || "P".equals(grade126);
 
             if (b124 && b126) {
-                csvLine.add("YES");
+                readyFor160 = "YES";
             } else if (b124) {
-                csvLine.add("no (126 grade)");
+                readyFor160 = "no (126 grade)";
             } else if (b126) {
-                csvLine.add("no (124 grade)");
+                readyFor160 = "no (124 grade)";
             } else {
-                csvLine.add("no (124 and 126 grades)");
+                readyFor160 = "no (124 and 126 grades)";
             }
         }
 
-        csv.add(csvLine.toString());
+        csvRows.row(name, stu.stuId, stu.aplnTerm.termCode, stu.aplnTerm.year, numAttemptsObj, firstTryDate,
+                lastTryDate, orNo(howPlacedInto117), orNo(how117Satisfied), orNo(how118Satisfied),
+                orNo(how124Satisfied), orNo(how125Satisfied), orNo(how126Satisfied), readyFor160);
+    }
+
+    /**
+     * Returns a string, or "no" if the string is null.
+     *
+     * @param how the string (how a requirement was satisfied); {@code null} if not satisfied
+     * @return the string, or "no"
+     */
+    private static String orNo(final String how) {
+
+        return how == null ? "no" : how;
     }
 
     /**
@@ -425,9 +379,15 @@ public final class HtmlCsvPlacementReport {
             final LocalDate today = LocalDate.now();
             final List<RawSpecialStus> specials = RawSpecialStusLogic.queryActiveByType(cache, this.category, today);
 
+            final List<String> ids = new ArrayList<>(specials.size());
+            for (final RawSpecialStus spec : specials) {
+                ids.add(spec.stuId);
+            }
+            final Map<String, RawStudent> found = RawStudentLogic.queryByIds(cache, ids);
+
             students = new ArrayList<>(specials.size());
             for (final RawSpecialStus spec : specials) {
-                final RawStudent stu = RawStudentLogic.query(cache, spec.stuId, false);
+                final RawStudent stu = found.get(spec.stuId);
                 if (stu == null) {
                     Log.warning("Student ", spec.stuId, " exists in SPECIAL_STUS but not in STUDENT");
                 } else {
@@ -438,8 +398,10 @@ public final class HtmlCsvPlacementReport {
             final int size = this.studentIds.size();
             students = new ArrayList<>(size);
 
+            final Map<String, RawStudent> found = RawStudentLogic.queryByIds(cache, this.studentIds);
+
             for (final String id : this.studentIds) {
-                final RawStudent stu = RawStudentLogic.query(cache, id, false);
+                final RawStudent stu = found.get(id);
                 if (stu == null) {
                     Log.warning("Student ", id, " was not found");
                     if (this.sort == ESortOrder.PRESERVE_ORDER) {
@@ -0,0 +1,150 @@
+package dev.mathops.dbjobs.report;
+
+import dev.mathops.commons.CoreConstants;
+
+import java.util.function.Consumer;
+
+/**
+ * Emits a single stream of table rows as both an HTML table and comma-separated values, so a report generator can
+ * produce both forms of a report in one pass.  Targets are typically {@code ReportWriter} objects, so rows are written
+ * as they are produced, but any consumer of strings (such as {@code list::add}) may be used.  Either target may be
+ * {@code null}, so a report whose HTML and CSV forms have different columns can use one writer for each.
+ */
+public final class HtmlCsvRowWriter {
+
+    /** The target for HTML lines; {@code null} if HTML is not being generated. */
+    private final Consumer<? super String> html;
+
+    /** The target for CSV lines; {@code null} if CSV is not being generated. */
+    private final Consumer<? super String> csv;
+
+    /**
+     * Constructs a new {@code HtmlCsvRowWriter}.
+     *
+     * @param theHtml the target for HTML lines; {@code null} if HTML is not being generated
+     * @param theCsv  the target for CSV lines; {@code null} if CSV is not being generated
+     */
+    public HtmlCsvRowWriter(final Consumer<? super String> theHtml, final Consumer<? super String> theCsv) {
+
+        this.html = theHtml;
+        this.csv = theCsv;
+    }
+
+    /**
+     * Starts a table, emitting the opening table tag and a header row in HTML, and a header line in CSV.
+     *
+     * @param cssClass the CSS class for the HTML table; {@code null} for none
+     * @param headings the column headings
+     */
+    public void startTable(final String cssClass, final String... headings) {
+
+        if (this.html != null) {
+            this.html.accept(cssClass == null ? "<table>" : "<table class='" + escapeHtml(cssClass) + "'>");
+
+            final StringBuilder line = new StringBuilder(20 + 20 * headings.length);
+            line.append("<tr>");
+            for (final String heading : headings) {
+                line.append(" <th>").append(escapeHtml(heading)).append("</th>");
+            }
+            line.append(" </tr>");
+            this.html.accept(line.toString());
+        }
+
+        if (this.csv != null) {
+            this.csv.accept(toCsvLine((Object[]) headings));
+        }
+    }
+
+    /**
+     * Emits a row.
+     *
+     * @param cells the cell values (a {@code null} value is emitted as an empty cell)
+     */
+    public void row(final Object... cells) {
+
+        if (this.html != null) {
+            final StringBuilder line = new StringBuilder(20 + 20 * cells.length);
+            line.append("<tr>");
+            for (final Object cell : cells) {
+                line.append(" <td>");
+                if (cell != null) {
+                    line.append(escapeHtml(cell.toString()));
+                }
+                line.append("</td>");
+            }
+            line.append(" </tr>");
+            this.html.accept(line.toString());
+        }
+
+        if (this.csv != null) {
+            this.csv.accept(toCsvLine(cells));
+        }
+    }
+
+    /**
+     * Ends a table, emitting the closing table tag in HTML.
+     */
+    public void endTable() {
+
+        if (this.html != null) {
+            this.html.accept("</table>");
+        }
+    }
+
+    /**
+     * Escapes characters that have special meaning in HTML.
+     *
+     * @param str the string to escape
+     * @return the escaped string
+     */
+    static String escapeHtml(final String str) {
+
+        final int len = str.length();
+        final StringBuilder result = new StringBuilder(len + 10);
+
+        for (int i = 0; i < len; ++i) {
+            final char ch = str.charAt(i);
+            switch (ch) {
+                case '&' -> result.append("&amp;");
+                case '<' -> result.append("&lt;");
+                case '>' -> result.append("&gt;");
+                case '"' -> result.append("&quot;");
+                case '\'' -> result.append("&#39;");
+                default -> result.append(ch);
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Generates a CSV line from a list of values.  Values that contain commas, quotes, or line breaks are enclosed in
+     * quotes, with embedded quotes doubled.
+     *
+     * @param values the values (a {@code null} value is emitted as an empty field)
+     * @return the CSV line
+     */
+    static String toCsvLine(final Object... values) {
+
+        final StringBuilder line = new StringBuilder(20 * values.length);
+
+        boolean comma = false;
+        for (final Object value : values) {
+            if (comma) {
+                line.append(CoreConstants.COMMA_CHAR);
+            }
+            if (value != null) {
+                final String str = value.toString();
+                if (str.indexOf(',') >= 0 || str.indexOf('"') >= 0 || str.indexOf('\n') >= 0
+                    || str.indexOf('\r') >= 0) {
+                    line.append('"').append(str.replace("\"", "\"\"")).append('"');
+                } else {
+                    line.append(str);
+                }
+            }
+            comma = true;
+        }
+
+        return line.toString();
+    }
+}
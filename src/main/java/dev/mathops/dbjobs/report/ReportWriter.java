@@ -0,0 +1,149 @@
+package dev.mathops.dbjobs.report;
+
+import dev.mathops.commons.CoreConstants;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A report output file to which lines are written as they are generated, rather than being accumulated in memory and
+ * written when the report is complete.  Output is buffered, and can optionally be compressed with GZIP.
+ *
+ * <p>
+ * Like {@code PrintWriter}, methods that write lines do not throw exceptions.  The first error is recorded and further
+ * output is discarded, and the error is thrown from {@code close}.  This allows the writer to be passed, as a
+ * {@code Consumer<String>}, to report generators that emit lines one at a time.
+ */
+public final class ReportWriter implements Closeable, Consumer<String> {
+
+    /** The size of the output buffer, in characters. */
+    private static final int BUFFER_SIZE = 65536;
+
+    /** The path of the file being written. */
+    private final Path path;
+
+    /** The writer. */
+    private final Writer writer;
+
+    /** The number of lines written. */
+    private int numLines;
+
+    /** The first error that occurred while writing; {@code null} if none. */
+    private IOException error;
+
+    /**
+     * Constructs a new {@code ReportWriter}, creating (or replacing) the output file.
+     *
+     * @param thePath the path of the file to write
+     * @param gzip    true to compress output with GZIP (the path should end with ".gz")
+     * @throws IOException if the file could not be created
+     */
+    public ReportWriter(final Path thePath, final boolean gzip) throws IOException {
+
+        this.path = thePath;
+
+        final OutputStream out = Files.newOutputStream(thePath);
+        final OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        this.writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Gets the path of the file being written.
+     *
+     * @return the path
+     */
+    public Path getPath() {
+
+        return this.path;
+    }
+
+    /**
+     * Gets the number of lines written.
+     *
+     * @return the number of lines
+     */
+    public int getNumLines() {
+
+        return this.numLines;
+    }
+
+    /**
+     * Writes a line, formed by concatenating the string representations of a sequence of objects, followed by a line
+     * terminator.
+     *
+     * @param parts the parts of the line (a {@code null} part is written as "null")
+     * @return this object
+     */
+    public ReportWriter addln(final Object... parts) {
+
+        if (this.error == null) {
+            try {
+                for (final Object part : parts) {
+                    this.writer.write(String.valueOf(part));
+                }
+                this.writer.write(CoreConstants.CRLF);
+                ++this.numLines;
+            } catch (final IOException ex) {
+                this.error = ex;
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Writes any buffered output to the file so it is visible to readers.
+     */
+    public void flush() {
+
+        if (this.error == null) {
+            try {
+                this.writer.flush();
+            } catch (final IOException ex) {
+                this.error = ex;
+            }
+        }
+    }
+
+    /**
+     * Writes a line followed by a line terminator.  This allows the writer to be passed as the sink to report
+     * generators that accept a {@code Consumer<? super String>}.
+     *
+     * @param line the line
+     */
+    @Override
+    public void accept(final String line) {
+
+        addln(line);
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException if there was an error writing any line or closing the file
+     */
+    @Override
+    public void close() throws IOException {
+
+        try {
+            this.writer.close();
+        } catch (final IOException ex) {
+            if (this.error == null) {
+                this.error = ex;
+            }
+        }
+
+        if (this.error != null) {
+            throw this.error;
+        }
+    }
+}
@@ -10,12 +10,9 @@ import dev.mathops.db.cfg.Profile;
 import dev.mathops.db.schema.legacy.impl.RawStcourseLogic;
 import dev.mathops.db.schema.RawRecordConstants;
 import dev.mathops.db.schema.legacy.rec.RawStcourse;
-import dev.mathops.text.builder.HtmlBuilder;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -62,32 +59,31 @@ final class StudentsByUniqueCourseCombination implements Runnable {
         final DatabaseConfig config = DatabaseConfig.getDefault();
         final Profile profile = config.getCodeProfile(Contexts.REPORT_PATH);
 
-        final HtmlBuilder report = new HtmlBuilder(10000);
-
-        if (profile == null) {
-            report.addln("*** ERROR: There is no database code profile named 'report'.");
-        } else {
-            Log.info("Using ", profile.id, " profile");
-            final Cache cache = new Cache(profile);
-
-            try {
-                this.registrations = RawStcourseLogic.queryActiveForActiveTerm(cache);
-
-                Log.info("Generating report of counts for each unique course combination... please wait.");
-
-                compute();
-                generateReport(report);
-            } catch (final SQLException ex) {
-                Log.warning(ex);
-            }
-        }
-
         final LocalDateTime now = LocalDateTime.now();
-        final File file = new File("/opt/zircon/reports/CountByUniqueCourseCombination_" + DTTM_FMT.format(now)
-                                   + ".txt");
-        try (final FileWriter fw = new FileWriter(file, StandardCharsets.UTF_8)) {
-            fw.write(report.toString());
-            Log.info("Report complete, written to: ", file.getAbsolutePath());
+        final Path path = Path.of("/opt/zircon/reports/CountByUniqueCourseCombination_" + DTTM_FMT.format(now)
+                                  + ".txt");
+
+        try {
+            try (final ReportWriter report = new ReportWriter(path, false)) {
+                if (profile == null) {
+                    report.addln("*** ERROR: There is no database code profile named 'report'.");
+                } else {
+                    Log.info("Using ", profile.id, " profile");
+                    final Cache cache = new Cache(profile);
+
+                    try {
+                        this.registrations = RawStcourseLogic.queryActiveForActiveTerm(cache);
+
+                        Log.info("Generating report of counts for each unique course combination... please wait.");
+
+                        compute();
+                        generateReport(report);
+                    } catch (final SQLException ex) {
+                        Log.warning(ex);
+                    }
+                }
+            }
+            Log.info("Report complete, written to: ", path.toAbsolutePath());
         } catch (final IOException ex) {
             Log.warning(ex);
         }
@@ -155,9 +151,9 @@ final class StudentsByUniqueCourseCombination implements Runnable {
     /**
      * Generates the report.
      *
-     * @param report the {@code HtmlBuilder} to which to write error messages
+     * @param report the {@code ReportWriter} to which to write the report
      */
-    private void generateReport(final HtmlBuilder report) {
+    private void generateReport(final ReportWriter report) {
 
         report.addln("                              *** CONFIDENTIAL ***")
                 .addln("                   COLORADO STATE UNIVERSITY MATHEMATICS DEPT.")
@@ -11,6 +11,8 @@ import dev.mathops.db.cfg.Profile;
 import dev.mathops.db.schema.legacy.impl.RawStcourseLogic;
 import dev.mathops.db.schema.legacy.impl.RawStexamLogic;
 import dev.mathops.db.schema.RawRecordConstants;
+import dev.mathops.db.schema.RecordFootprint;
+import dev.mathops.db.schema.ValueCanonicalizer;
 import dev.mathops.db.schema.legacy.rec.RawStcourse;
 import dev.mathops.db.schema.legacy.rec.RawStexam;
 import dev.mathops.text.builder.HtmlBuilder;
@@ -23,6 +25,8 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -116,6 +120,7 @@ final class TotalRemainingExams implements Runnable {
         } else {
             Log.info("Using ", profile.id, " profile");
             final Cache cache = new Cache(profile);
+            ValueCanonicalizer.setEnabled(true);
 
             try {
                 gatherData(cache);
@@ -154,6 +159,18 @@ final class TotalRemainingExams implements Runnable {
         this.exams124 = RawStexamLogic.getExams(cache, RawRecordConstants.M124, true, "R", "U", "F");
         this.exams125 = RawStexamLogic.getExams(cache, RawRecordConstants.M125, true, "R", "U", "F");
         this.exams126 = RawStexamLogic.getExams(cache, RawRecordConstants.M126, true, "R", "U", "F");
+
+        final Collection<Object> loaded = new ArrayList<>(this.registrations.size() + this.exams117.size()
+                                                          + this.exams118.size() + this.exams124.size()
+                                                          + this.exams125.size() + this.exams126.size());
+        loaded.addAll(this.registrations);
+        loaded.addAll(this.exams117);
+        loaded.addAll(this.exams118);
+        loaded.addAll(this.exams124);
+        loaded.addAll(this.exams125);
+        loaded.addAll(this.exams126);
+        Log.info("Estimated memory used by records:", CoreConstants.CRLF,
+                RecordFootprint.report(RecordFootprint.measure(loaded)));
     }
 
     /**
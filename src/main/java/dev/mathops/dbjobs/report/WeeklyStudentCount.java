@@ -1,5 +1,6 @@
 package dev.mathops.dbjobs.report;
 
+import dev.mathops.commons.CoreConstants;
 import dev.mathops.commons.TemporalUtils;
 import dev.mathops.commons.log.Log;
 import dev.mathops.db.Cache;
@@ -8,6 +9,8 @@ import dev.mathops.db.DbConnection;
 import dev.mathops.db.cfg.DatabaseConfig;
 import dev.mathops.db.cfg.Profile;
 import dev.mathops.db.logic.course.PaceTrackLogic;
+import dev.mathops.db.schema.RecordFootprint;
+import dev.mathops.db.schema.ValueCanonicalizer;
 import dev.mathops.db.schema.legacy.impl.RawStcourseLogic;
 import dev.mathops.db.schema.legacy.rec.RawStcourse;
 import dev.mathops.text.builder.HtmlBuilder;
@@ -81,9 +84,12 @@ final class WeeklyStudentCount implements Runnable {
         } else {
             Log.info("Using ", profile.id, " profile");
             final Cache cache = new Cache(profile);
+            ValueCanonicalizer.setEnabled(true);
 
             try {
                 this.registrations = RawStcourseLogic.queryActiveForActiveTerm(cache);
+                Log.info("Estimated memory used by records:", CoreConstants.CRLF,
+                        RecordFootprint.report(RecordFootprint.measure(this.registrations)));
 
                 Log.info("Generating weekly report of student counts by section and track.....please wait.");
 
@@ -16,6 +16,8 @@ import dev.mathops.db.schema.legacy.impl.RawStmilestoneLogic;
 import dev.mathops.db.schema.legacy.rec.RawCampusCalendar;
 import dev.mathops.db.schema.legacy.rec.RawMilestone;
 import dev.mathops.db.schema.RawRecordConstants;
+import dev.mathops.db.schema.RecordFootprint;
+import dev.mathops.db.schema.ValueCanonicalizer;
 import dev.mathops.db.schema.legacy.rec.RawStcourse;
 import dev.mathops.db.schema.legacy.rec.RawStexam;
 import dev.mathops.db.schema.legacy.rec.RawStmilestone;
@@ -301,6 +303,8 @@ final class UrgencyHistoryAnalysis {
         }
 
         Log.info("    Queried ", Integer.toString(this.registrations.size()), " registrations");
+        Log.info("    Estimated memory used by records:", CoreConstants.CRLF,
+                RecordFootprint.report(RecordFootprint.measure(this.registrations)));
 
         for (final RawStcourse reg : this.registrations) {
             if ("D".equals(reg.openStatus)) {
@@ -766,6 +770,7 @@ final class UrgencyHistoryAnalysis {
         } else {
             final Cache cache = new Cache(profile);
             Log.info("Connected to " + profile.id);
+            ValueCanonicalizer.setEnabled(true);
 
             final UrgencyHistoryAnalysis obj = new UrgencyHistoryAnalysis(cache, null);
             obj.calculate(incCourseSections);
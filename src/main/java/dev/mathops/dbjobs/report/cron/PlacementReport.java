@@ -16,11 +16,10 @@ import dev.mathops.db.schema.RawRecordConstants;
 import dev.mathops.db.schema.legacy.rec.RawSpecialStus;
 import dev.mathops.db.schema.legacy.rec.RawStmpe;
 import dev.mathops.db.schema.legacy.rec.RawStudent;
+import dev.mathops.dbjobs.report.ReportWriter;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -28,6 +27,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Generates a report of placement results for incoming engineering students based on a list provided by Engineering.
@@ -67,40 +68,27 @@ public final class PlacementReport {
      */
     public void execute() {
 
-        final Collection<String> report = new ArrayList<>(10);
-        final Collection<String> csv = new ArrayList<>(10);
-        generate(report, csv);
+        final Path path1 = Path.of("/opt/zircon/reports/" + this.filename + ".txt");
+        final Path path2 = Path.of("/opt/zircon/reports/" + this.filename + ".csv");
 
-        final File file1 = new File("/opt/zircon/reports/" + this.filename + ".txt");
-        try (final FileWriter fw = new FileWriter(file1, StandardCharsets.UTF_8)) {
-            for (final String rep : report) {
-                fw.write(rep);
-                fw.write(CoreConstants.CRLF);
+        try {
+            try (final ReportWriter report = new ReportWriter(path1, false);
+                 final ReportWriter csv = new ReportWriter(path2, false)) {
+                generate(report, csv);
             }
+            Log.info("Report complete, written to: ", path1.toAbsolutePath(), " and ", path2.toAbsolutePath());
         } catch (final IOException ex) {
             Log.warning(ex);
         }
-
-        final File file2 = new File("/opt/zircon/reports/" + this.filename + ".csv");
-        try (final FileWriter fw = new FileWriter(file2, StandardCharsets.UTF_8)) {
-            for (final String rep : csv) {
-                fw.write(rep);
-                fw.write(CoreConstants.CRLF);
-            }
-        } catch (final IOException ex) {
-            Log.warning(ex);
-        }
-
-        Log.info("Report complete, written to: ", file1.getAbsolutePath(), " and ", file2.getAbsolutePath());
     }
 
     /**
      * Generates the report content.
      *
-     * @param report a collection to which to add report lines
-     * @param csv    a collection to which to add comma-separated values lines
+     * @param report a sink to which to write report lines
+     * @param csv    a sink to which to write comma-separated values lines
      */
-    public void generate(final Collection<String> report, final Collection<String> csv) {
+    public void generate(final Consumer<? super String> report, final Consumer<? super String> csv) {
 
         if (this.profile == null) {
             Log.warning("Unable to create production context.");
@@ -110,17 +98,17 @@ public final class PlacementReport {
             try {
                 final LocalDate now = LocalDate.now();
 
-                report.add("                      ** C O N F I D E N T I A L **");
-                report.add("                        COLORADO STATE UNIVERSITY");
-                report.add("                        DEPARTMENT OF MATHEMATICS");
-                report.add("                      MATHEMATICS PLACEMENT RESULTS");
-                report.add("                         Report Date:   " + TemporalUtils.FMT_MDY.format(now));
-                report.add(CoreConstants.EMPTY);
-                report.add(CoreConstants.EMPTY);
-                report.add("NAME                  STUDENT ID  RESULTS");
-                report.add("---------------       ----------  ------------------------------------------");
-
-                csv.add("Name," //
+                report.accept("                      ** C O N F I D E N T I A L **");
+                report.accept("                        COLORADO STATE UNIVERSITY");
+                report.accept("                        DEPARTMENT OF MATHEMATICS");
+                report.accept("                      MATHEMATICS PLACEMENT RESULTS");
+                report.accept("                         Report Date:   " + TemporalUtils.FMT_MDY.format(now));
+                report.accept(CoreConstants.EMPTY);
+                report.accept(CoreConstants.EMPTY);
+                report.accept("NAME                  STUDENT ID  RESULTS");
+                report.accept("---------------       ----------  ------------------------------------------");
+
+                csv.accept("Name," //
                         + "Student ID," //
                         + "MPT Attempts," //
                         + "OK for 117/127," //
@@ -138,7 +126,7 @@ public final class PlacementReport {
                     processStudent(stu, cache, report, csv);
                 }
             } catch (final SQLException ex) {
-                report.add("EXCEPTION: " + ex.getMessage());
+                report.accept("EXCEPTION: " + ex.getMessage());
             }
         }
     }
@@ -148,13 +136,13 @@ public final class PlacementReport {
      *
      * @param stu    the student record
      * @param cache  the data cache
-     * @param report a list of strings to which to add report output lines
-     * @param csv    a list of strings to which to add tab-separated result records
+     * @param report a sink to which to write report output lines
+     * @param csv    a sink to which to write comma-separated result records
      * @throws SQLException if there is an error accessing the database
      */
     private static void processStudent(final RawStudent stu, final Cache cache,
-                                       final Collection<? super String> report,
-                                       final Collection<? super String> csv) throws SQLException {
+                                       final Consumer<? super String> report,
+                                       final Consumer<? super String> csv) throws SQLException {
 
         final StringBuilder reportLine = new StringBuilder(100);
         final StringBuilder csvLine = new StringBuilder(100);
@@ -292,8 +280,8 @@ public final class PlacementReport {
         }
         reportLine.append(results);
 
-        report.add(reportLine.toString());
-        csv.add(csvLine.toString());
+        report.accept(reportLine.toString());
+        csv.accept(csvLine.toString());
     }
 
     /**
@@ -312,9 +300,15 @@ public final class PlacementReport {
             final LocalDate today = LocalDate.now();
             final List<RawSpecialStus> specials = RawSpecialStusLogic.queryActiveByType(cache, this.category, today);
 
+            final List<String> ids = new ArrayList<>(specials.size());
+            for (final RawSpecialStus spec : specials) {
+                ids.add(spec.stuId);
+            }
+            final Map<String, RawStudent> found = RawStudentLogic.queryByIds(cache, ids);
+
             students = new ArrayList<>(specials.size());
             for (final RawSpecialStus spec : specials) {
-                final RawStudent stu = RawStudentLogic.query(cache, spec.stuId, false);
+                final RawStudent stu = found.get(spec.stuId);
                 if (stu == null) {
                     Log.warning("Student ", spec.stuId, " exists in SPECIAL_STUS but not in STUDENT");
                 } else {
@@ -324,8 +318,10 @@ public final class PlacementReport {
         } else {
             students = new ArrayList<>(this.studentIds.size());
 
+            final Map<String, RawStudent> found = RawStudentLogic.queryByIds(cache, this.studentIds);
+
             for (final String id : this.studentIds) {
-                final RawStudent stu = RawStudentLogic.query(cache, id, false);
+                final RawStudent stu = found.get(id);
                 if (stu == null) {
                     Log.warning("Student ", id, " was not found");
                 } else {
@@ -0,0 +1,160 @@
+package dev.mathops.dbjobs.report.cron;
+
+import dev.mathops.commons.CoreConstants;
+import dev.mathops.commons.TemporalUtils;
+import dev.mathops.commons.log.Log;
+import dev.mathops.db.Cache;
+import dev.mathops.db.cfg.Contexts;
+import dev.mathops.db.cfg.DatabaseConfig;
+import dev.mathops.db.cfg.Profile;
+import dev.mathops.db.schema.analytics.impl.PlacementWeekLogic;
+import dev.mathops.db.schema.analytics.rec.PlacementWeekRec;
+import dev.mathops.dbjobs.report.ReportWriter;
+import dev.mathops.text.builder.SimpleBuilder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Generates a report of weekly placement attempt counts over a number of years, by exam version and result.  This
+ * report reads only the weekly totals in the ANALYTICS schema (maintained as placement attempts are inserted), not the
+ * individual "stmpe" records.
+ */
+public final class PlacementTrendReport {
+
+    /** The name of files to generate ('.txt' and '.csv' extensions will be added). */
+    private final String filename;
+
+    /** The number of years to include in the report. */
+    private final int numYears;
+
+    /** The database profile through which to access the database. */
+    private final Profile profile;
+
+    /**
+     * Constructs a new {@code PlacementTrendReport}.
+     *
+     * @param theFilename the name of files to generate ('.txt' and '.csv' extensions will be added)
+     * @param theNumYears the number of years to include in the report
+     */
+    public PlacementTrendReport(final String theFilename, final int theNumYears) {
+
+        this.filename = theFilename;
+        this.numYears = theNumYears;
+
+        final DatabaseConfig config = DatabaseConfig.getDefault();
+        this.profile = config.getCodeProfile(Contexts.BATCH_PATH);
+    }
+
+    /**
+     * Executes the job.
+     */
+    public void execute() {
+
+        final Path path1 = Path.of("/opt/zircon/reports/" + this.filename + ".txt");
+        final Path path2 = Path.of("/opt/zircon/reports/" + this.filename + ".csv");
+
+        try {
+            try (final ReportWriter report = new ReportWriter(path1, false);
+                 final ReportWriter csv = new ReportWriter(path2, false)) {
+                generate(report, csv);
+            }
+            Log.info("Report complete, written to: ", path1.toAbsolutePath(), " and ", path2.toAbsolutePath());
+        } catch (final IOException ex) {
+            Log.warning(ex);
+        }
+    }
+
+    /**
+     * Generates the report content.
+     *
+     * @param report a sink to which to write report lines
+     * @param csv    a sink to which to write comma-separated values lines
+     */
+    public void generate(final Consumer<? super String> report, final Consumer<? super String> csv) {
+
+        if (this.profile == null) {
+            Log.warning("Unable to create production context.");
+        } else {
+            final Cache cache = new Cache(this.profile);
+
+            if (PlacementWeekLogic.isAvailable(cache)) {
+                try {
+                    final LocalDate today = LocalDate.now();
+                    final LocalDate first = PlacementWeekLogic.getWeekStart(today.minusYears((long) this.numYears));
+                    final List<PlacementWeekRec> weeks = PlacementWeekLogic.INSTANCE.queryByDateRange(cache, first,
+                            today);
+
+                    report.accept("                        COLORADO STATE UNIVERSITY");
+                    report.accept("                        DEPARTMENT OF MATHEMATICS");
+                    report.accept("                      WEEKLY MATH PLACEMENT ATTEMPTS");
+                    report.accept("                         Report Date:   " + TemporalUtils.FMT_MDY.format(today));
+                    report.accept(CoreConstants.EMPTY);
+                    report.accept("WEEK OF       ATTEMPTS    PLACED  NOT PLACED");
+                    report.accept("----------  ----------  --------  ----------");
+
+                    csv.accept("Week Start,Version,Placed,Attempts");
+
+                    // Map from week start to {attempts, placed}, and from version to {attempts, placed}
+                    final Map<LocalDate, int[]> byWeek = new TreeMap<>();
+                    final Map<String, int[]> byVersion = new TreeMap<>();
+
+                    for (final PlacementWeekRec rec : weeks) {
+                        csv.accept(SimpleBuilder.concat(rec.weekStart, CoreConstants.COMMA, rec.version,
+                                CoreConstants.COMMA, rec.placed, CoreConstants.COMMA, rec.nbrAttempts));
+
+                        final int count = rec.nbrAttempts.intValue();
+                        final int placed = "Y".equals(rec.placed) ? count : 0;
+
+                        final int[] weekTotals = byWeek.computeIfAbsent(rec.weekStart, key -> new int[2]);
+                        weekTotals[0] += count;
+                        weekTotals[1] += placed;
+
+                        final int[] versionTotals = byVersion.computeIfAbsent(rec.version, key -> new int[2]);
+                        versionTotals[0] += count;
+                        versionTotals[1] += placed;
+                    }
+
+                    for (final Map.Entry<LocalDate, int[]> entry : byWeek.entrySet()) {
+                        final int[] totals = entry.getValue();
+                        report.accept(String.format("%-10s  %10d  %8d  %10d",
+                                TemporalUtils.FMT_MDY.format(entry.getKey()), Integer.valueOf(totals[0]),
+                                Integer.valueOf(totals[1]), Integer.valueOf(totals[0] - totals[1])));
+                    }
+
+                    report.accept(CoreConstants.EMPTY);
+                    report.accept("VERSION       ATTEMPTS    PLACED  NOT PLACED");
+                    report.accept("----------  ----------  --------  ----------");
+
+                    for (final Map.Entry<String, int[]> entry : byVersion.entrySet()) {
+                        final int[] totals = entry.getValue();
+                        report.accept(String.format("%-10s  %10d  %8d  %10d", entry.getKey(),
+                                Integer.valueOf(totals[0]), Integer.valueOf(totals[1]),
+                                Integer.valueOf(totals[0] - totals[1])));
+                    }
+                } catch (final SQLException ex) {
+                    report.accept("EXCEPTION: " + ex.getMessage());
+                }
+            } else {
+                Log.warning("The ANALYTICS schema is not configured.");
+            }
+        }
+    }
+
+    /**
+     * Main method to execute the batch job.
+     *
+     * @param args command-line arguments.
+     */
+    public static void main(final String... args) {
+
+        final PlacementTrendReport job = new PlacementTrendReport("placement_trends", 5);
+        job.execute();
+    }
+}
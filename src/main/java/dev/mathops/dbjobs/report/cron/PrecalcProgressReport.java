@@ -23,18 +23,17 @@ import dev.mathops.db.schema.legacy.rec.RawStmilestone;
 import dev.mathops.db.schema.legacy.rec.RawStudent;
 import dev.mathops.db.schema.main.rec.TermRec;
 import dev.mathops.db.field.TermKey;
+import dev.mathops.dbjobs.report.ReportWriter;
 import dev.mathops.text.builder.HtmlBuilder;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Generates a report of precalculus course progress for student athletes.
@@ -75,52 +74,47 @@ public final class PrecalcProgressReport {
      */
     public void execute() {
 
-        final Collection<String> report = new ArrayList<>(10);
+        final Path path1 = Path.of("/opt/zircon/reports/" + this.filename + ".txt");
 
-        if (this.profile == null) {
-            Log.warning("Unable to create production context.");
-        } else {
-            final Cache cache = new Cache(this.profile);
-
-            try {
-                execute(cache, report);
-            } catch (final SQLException ex) {
-                report.add("EXCEPTION: " + ex.getMessage());
-            }
-        }
+        try {
+            try (final ReportWriter report = new ReportWriter(path1, false)) {
+                if (this.profile == null) {
+                    Log.warning("Unable to create production context.");
+                } else {
+                    final Cache cache = new Cache(this.profile);
 
-        final File file1 = new File("/opt/zircon/reports/" + this.filename + ".txt");
-        try (final FileWriter fw = new FileWriter(file1, StandardCharsets.UTF_8)) {
-            for (final String rep : report) {
-                fw.write(rep);
-                fw.write(CoreConstants.CRLF);
+                    try {
+                        execute(cache, report);
+                    } catch (final SQLException ex) {
+                        report.addln("EXCEPTION: " + ex.getMessage());
+                    }
+                }
             }
+            Log.info("Report complete, written to: ", path1.toAbsolutePath());
         } catch (final IOException ex) {
             Log.warning(ex);
         }
-
-        Log.info("Report complete, written to: ", file1.getAbsolutePath());
     }
 
     /**
      * Executes the query against the ODS and loads data into the primary schema.
      *
      * @param cache  the data cache
-     * @param report a list of strings to which to add report output lines
+     * @param report a sink to which to write report output lines
      * @throws SQLException if there is an error accessing the database
      */
-    private void execute(final Cache cache, final Collection<? super String> report) throws SQLException {
+    private void execute(final Cache cache, final Consumer<? super String> report) throws SQLException {
 
         final LocalDate now = LocalDate.now();
 
         final int pad = Math.max(0, 36 - this.subheader.length() / 2);
 
-        report.add("                      ** C O N F I D E N T I A L **");
-        report.add("          COLORADO STATE UNIVERSITY - DEPARTMENT OF MATHEMATICS");
-        report.add("                                     ".substring(0, pad) + this.subheader);
-        report.add("                         Report Date:   " + TemporalUtils.FMT_MDY.format(now));
-        report.add(CoreConstants.EMPTY);
-        report.add(CoreConstants.EMPTY);
+        report.accept("                      ** C O N F I D E N T I A L **");
+        report.accept("          COLORADO STATE UNIVERSITY - DEPARTMENT OF MATHEMATICS");
+        report.accept("                                     ".substring(0, pad) + this.subheader);
+        report.accept("                         Report Date:   " + TemporalUtils.FMT_MDY.format(now));
+        report.accept(CoreConstants.EMPTY);
+        report.accept(CoreConstants.EMPTY);
 
         // Get the list of students whose status to process (sorted by name)
         final List<RawStudent> students = gatherStudents(cache);
@@ -135,11 +129,11 @@ public final class PrecalcProgressReport {
      *
      * @param cache the data cache
      * @param stu   the student record
-     * @param rpt   a list of strings to which to add report output lines
+     * @param rpt   a sink to which to write report output lines
      * @throws SQLException if there is an error accessing the database
      */
     private static void processStudent(final Cache cache, final RawStudent stu,
-                                       final Collection<? super String> rpt) throws SQLException {
+                                       final Consumer<? super String> rpt) throws SQLException {
 
         final SystemData systemData = cache.getSystemData();
 
@@ -217,9 +211,9 @@ public final class PrecalcProgressReport {
 
             final HtmlBuilder htm = new HtmlBuilder(100);
             htm.add(name, "  ", stu.stuId, "    ", stu.programCode, "    ", stu.stuEmail);
-            rpt.add(htm.toString());
-            rpt.add("------------------------------------------------------------------------------");
-            rpt.add("  Pace   Order   Course   Unit   Item Due   Deadline    Completed?  On-time?");
+            rpt.accept(htm.toString());
+            rpt.accept("------------------------------------------------------------------------------");
+            rpt.accept("  Pace   Order   Course   Unit   Item Due   Deadline    Completed?  On-time?");
 
             final LocalDate today = LocalDate.now();
             final LocalDate yesterday = today.minusDays(1L);
@@ -287,7 +281,7 @@ public final class PrecalcProgressReport {
                         htm.add(late ? "    late" : "     OK");
                     }
 
-                    rpt.add(htm.toString());
+                    rpt.accept(htm.toString());
                 }
 
                 // Final exam
@@ -343,11 +337,11 @@ public final class PrecalcProgressReport {
                     }
                 }
 
-                rpt.add(htm.toString());
+                rpt.accept(htm.toString());
             }
 
-            rpt.add(CoreConstants.EMPTY);
-            rpt.add(CoreConstants.EMPTY);
+            rpt.accept(CoreConstants.EMPTY);
+            rpt.accept(CoreConstants.EMPTY);
         }
     }
 
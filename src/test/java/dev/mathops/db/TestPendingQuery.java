@@ -0,0 +1,113 @@
+package dev.mathops.db;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for the {@code PendingQuery} class.
+ */
+final class TestPendingQuery {
+
+    /**
+     * Constructs a new {@code TestPendingQuery}.
+     */
+    TestPendingQuery() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Completed query returns its value")
+    void test0001() {
+
+        final String value = "result";
+
+        try {
+            assertSame(value, PendingQuery.completed(value).get(), "Invalid completed value");
+        } catch (final SQLException ex) {
+            fail("Unexpected exception", ex);
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Started queries run concurrently on virtual threads")
+    void test0002() {
+
+        // Each query waits until both have started, so this only completes if they run at the same time
+        final CountDownLatch started = new CountDownLatch(2);
+        final IQuery<Boolean> query = () -> {
+            started.countDown();
+            try {
+                return Boolean.valueOf(started.await(10L, TimeUnit.SECONDS) && Thread.currentThread().isVirtual());
+            } catch (final InterruptedException ex) {
+                throw new SQLException(ex);
+            }
+        };
+
+        try {
+            final PendingQuery<Boolean> first = PendingQuery.start(query);
+            final PendingQuery<Boolean> second = PendingQuery.start(query);
+
+            assertTrue(first.get().booleanValue(), "First query did not run concurrently on a virtual thread");
+            assertTrue(second.get().booleanValue(), "Second query did not run concurrently on a virtual thread");
+        } catch (final SQLException ex) {
+            fail("Unexpected exception", ex);
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Failures are reported by get")
+    void test0003() {
+
+        final PendingQuery<String> failed = PendingQuery.start(() -> {
+            throw new SQLException("Query failed");
+        });
+        final SQLException ex = assertThrows(SQLException.class, failed::get, "Expected the query's exception");
+        assertEquals("Query failed", ex.getMessage(), "Invalid exception message");
+
+        final PendingQuery<String> broken = PendingQuery.start(() -> {
+            throw new IllegalStateException("Broken");
+        });
+        assertThrows(IllegalStateException.class, broken::get, "Expected the query's unchecked exception");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Activity on the calling thread counts the query's work")
+    void test0004() {
+
+        final DbActivity activity = DbActivity.begin();
+
+        try {
+            final PendingQuery<Boolean> query = PendingQuery.start(() -> {
+                final DbActivity current = DbActivity.current();
+                if (current != null) {
+                    current.countStatement();
+                    current.countRows(5L);
+                }
+                return Boolean.valueOf(current == activity);
+            });
+
+            assertTrue(query.get().booleanValue(), "Calling thread's activity not active in query");
+            assertEquals(1L, activity.getStatements(), "Statement not counted");
+            assertEquals(5L, activity.getRows(), "Rows not counted");
+        } catch (final SQLException ex) {
+            fail("Unexpected exception", ex);
+        } finally {
+            DbActivity.end();
+        }
+    }
+}
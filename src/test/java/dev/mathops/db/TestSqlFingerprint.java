@@ -0,0 +1,54 @@
+package dev.mathops.db;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the {@code SqlFingerprint} class.
+ */
+final class TestSqlFingerprint {
+
+    /**
+     * Constructs a new {@code TestSqlFingerprint}.
+     */
+    TestSqlFingerprint() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("String and numeric literals are replaced")
+    void test0001() {
+
+        assertEquals("SELECT * FROM stcourse WHERE stu_id=? AND term_yr=? AND score>?",
+                SqlFingerprint.of("SELECT * FROM stcourse WHERE stu_id='823251213' AND term_yr=24 AND score>12.5"),
+                "Invalid fingerprint");
+        assertEquals("UPDATE student SET last_name=? WHERE stu_id=?",
+                SqlFingerprint.of("UPDATE student SET last_name='O''Brien' WHERE stu_id='111223333'"),
+                "Escaped quote not handled");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Identifiers with digits and quoted identifiers are preserved")
+    void test0002() {
+
+        assertEquals("SELECT col2, \"Column 3\" FROM t1 WHERE x=?",
+                SqlFingerprint.of("SELECT col2, \"Column 3\" FROM t1 WHERE x=7"), "Invalid fingerprint");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Whitespace is collapsed and IN lists are reduced")
+    void test0003() {
+
+        assertEquals("SELECT * FROM stexam WHERE course IN (?) AND stu_id IN (?)",
+                SqlFingerprint.of("  SELECT *\n  FROM stexam\tWHERE course IN ('M 117','M 118', 'M 124')"
+                                  + "  AND stu_id in (?,?)  "), "Invalid fingerprint");
+        assertEquals(SqlFingerprint.of("DELETE FROM stmsg WHERE stu_id IN ('1','2')"),
+                SqlFingerprint.of("DELETE FROM stmsg WHERE stu_id IN ('3')"), "IN lists of different lengths differ");
+    }
+}
@@ -0,0 +1,68 @@
+package dev.mathops.db;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the {@code StatementStats} class.
+ */
+final class TestStatementStats {
+
+    /**
+     * Constructs a new {@code TestStatementStats}.
+     */
+    TestStatementStats() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Histogram buckets")
+    void test0001() {
+
+        assertEquals(0, StatementStats.bucketFor(0L), "Invalid bucket for 0 ns");
+        assertEquals(0, StatementStats.bucketFor(1999L), "Invalid bucket for 1 us");
+        assertEquals(1, StatementStats.bucketFor(2000L), "Invalid bucket for 2 us");
+        assertEquals(10, StatementStats.bucketFor(1500000L), "Invalid bucket for 1.5 ms");
+        assertEquals(31, StatementStats.bucketFor(Long.MAX_VALUE), "Invalid bucket for maximum time");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Executions are aggregated by fingerprint and ranked by total time")
+    void test0002() {
+
+        StatementStats.setSlowThresholdMs(Long.MAX_VALUE / 1000000L);
+        StatementStats.reset();
+
+        for (int i = 0; i < 100; ++i) {
+            StatementStats.record("SELECT * FROM stcourse WHERE stu_id='" + i + "'", 1000000L, 0L);
+        }
+        StatementStats.record("DELETE FROM stmsg WHERE stu_id='1'", 50000000L, 3L);
+        final StatementStats.Entry entry = StatementStats.record("SELECT * FROM term", 2000000L, 0L);
+        entry.addRows(5L);
+
+        final List<StatementStats.FingerprintStats> top = StatementStats.getTopByTotalTime(2);
+        assertEquals(2, top.size(), "Invalid number of fingerprints");
+
+        final StatementStats.FingerprintStats first = top.get(0);
+        assertEquals("SELECT * FROM stcourse WHERE stu_id=?", first.fingerprint(), "Invalid first fingerprint");
+        assertEquals(100L, first.executions(), "Invalid execution count");
+        assertEquals(100000000L, first.totalNanos(), "Invalid total time");
+        assertEquals(1024L, first.p50Micros(), "Invalid median estimate");
+        assertEquals(1024L, first.p99Micros(), "Invalid 99th percentile estimate");
+
+        final StatementStats.FingerprintStats second = top.get(1);
+        assertEquals("DELETE FROM stmsg WHERE stu_id=?", second.fingerprint(), "Invalid second fingerprint");
+        assertEquals(3L, second.rows(), "Invalid row count");
+        assertEquals(50000000L, second.maxNanos(), "Invalid maximum time");
+
+        StatementStats.reset();
+        StatementStats.setSlowThresholdMs(500L);
+    }
+}
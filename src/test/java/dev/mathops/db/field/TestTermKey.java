@@ -0,0 +1,92 @@
+package dev.mathops.db.field;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the {@code TermKey} class.
+ */
+final class TestTermKey {
+
+    /**
+     * Constructs a new {@code TestTermKey}.
+     */
+    TestTermKey() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Canonical keys are reused and have correct values")
+    void test0001() {
+
+        final TermKey key = TermKey.of(ETermName.FALL, 2024);
+
+        assertSame(key, TermKey.of(ETermName.FALL, 2024), "Canonical key not reused");
+        assertSame(key, TermKey.of(ETermName.FALL, Integer.valueOf(2024)), "Canonical key not reused for Integer");
+        assertEquals("FA", key.termCode, "Invalid term code");
+        assertEquals(Integer.valueOf(2024), key.year, "Invalid year");
+        assertEquals(Integer.valueOf(24), key.shortYear, "Invalid short year");
+        assertEquals("Fall, 2024", key.longString, "Invalid long string");
+        assertEquals("FA24", key.shortString, "Invalid short string");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Keys outside the cached range of years")
+    void test0002() {
+
+        final TermKey key = TermKey.of(ETermName.SPRING, 1850);
+
+        assertEquals("Spring, 1850", key.longString, "Invalid long string");
+        assertEquals("SP50", key.shortString, "Invalid short string");
+        assertEquals(key, TermKey.of(ETermName.SPRING, 1850), "Uncached keys should be equal");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Numeric codes")
+    void test0003() {
+
+        assertSame(TermKey.of(ETermName.SPRING, 2023), TermKey.ofNumeric(202310), "Invalid Spring numeric");
+        assertSame(TermKey.of(ETermName.SUMMER, 2023), TermKey.ofNumeric(Integer.valueOf(202360)),
+                "Invalid Summer numeric");
+        assertSame(TermKey.of(ETermName.FALL, 2023), TermKey.ofNumeric(202390), "Invalid Fall numeric");
+
+        final TermKey constructed = new TermKey(Integer.valueOf(202390));
+        assertEquals(TermKey.of(ETermName.FALL, 2023), constructed, "Constructed key not equal to canonical");
+        assertEquals("Fall, 2023", constructed.longString, "Invalid long string in constructed key");
+        assertEquals(202390, constructed.toNumeric(), "Invalid numeric round trip");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Short term strings")
+    void test0004() {
+
+        assertSame(TermKey.of(ETermName.FALL, 2017), TermKey.ofShortString("FA17"), "Invalid FA17");
+        assertSame(TermKey.of(ETermName.SUMMER, 1998), TermKey.ofShortString("SM98"), "Invalid SM98");
+        assertSame(TermKey.of(ETermName.SPRING, 2017), TermKey.ofShortString("2017"), "Invalid 4-digit year");
+        assertSame(TermKey.of(ETermName.SPRING, 2017), TermKey.ofShortString("17"), "Invalid 2-digit year");
+        assertEquals(TermKey.of(ETermName.SUMMER, 2021), new TermKey("SM21"), "Invalid constructed key");
+
+        assertThrows(IllegalArgumentException.class, () -> TermKey.ofShortString("XX17"), "XX17 was accepted");
+        assertThrows(IllegalArgumentException.class, () -> TermKey.ofShortString("FALL"), "FALL was accepted");
+        assertThrows(IllegalArgumentException.class, () -> TermKey.ofShortString(null), "Null was accepted");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Adding terms")
+    void test0005() {
+
+        final TermKey fall = TermKey.of(ETermName.FALL, 2019);
+
+        assertSame(TermKey.of(ETermName.SUMMER, 2020), fall.add(2), "Invalid result of add");
+    }
+}
@@ -0,0 +1,252 @@
+package dev.mathops.db.logic;
+
+import dev.mathops.db.Cache;
+import dev.mathops.db.IQuery;
+import dev.mathops.db.StudentDataEvents;
+import dev.mathops.db.cfg.Profile;
+import dev.mathops.db.schema.legacy.rec.RawAdminHold;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for the {@code StudentDataCache} class.
+ */
+final class TestStudentDataCache {
+
+    /** A student ID. */
+    private static final String STU_ID = "888888888";
+
+    /**
+     * Constructs a new {@code TestStudentDataCache}.
+     */
+    TestStudentDataCache() {
+
+        // No action
+    }
+
+    /**
+     * Creates a query that counts the number of times it is executed.
+     *
+     * @param count the counter
+     * @return the query
+     */
+    private static IQuery<List<String>> countingQuery(final AtomicInteger count) {
+
+        return () -> {
+            count.incrementAndGet();
+            final List<String> list = new ArrayList<>(2);
+            list.add("A");
+            list.add("B");
+            return list;
+        };
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Lists are queried on every load when the cache is disabled")
+    void test0001() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final AtomicInteger count = new AtomicInteger();
+
+        try {
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            assertEquals(2, count.get(), "Invalid query count with cache disabled");
+        } catch (final SQLException ex) {
+            fail("Unexpected exception", ex);
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Cached lists are reused and copied, and counted as hits")
+    void test0002() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final AtomicInteger count = new AtomicInteger();
+
+        StudentDataCache.setEnabled(true);
+        StudentDataCache.resetCounts();
+        try {
+            final List<String> first = StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            first.add("C");
+            final List<String> second = StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+
+            assertEquals(1, count.get(), "Invalid query count with cache enabled");
+            assertEquals(List.of("A", "B"), second, "Cached list was modified by caller");
+            assertEquals(1L, StudentDataCache.getHits(), "Invalid hit count");
+            assertEquals(1L, StudentDataCache.getMisses(), "Invalid miss count");
+            assertEquals(0.5, StudentDataCache.getHitRatio(), "Invalid hit ratio");
+        } catch (final SQLException ex) {
+            fail("Unexpected exception", ex);
+        } finally {
+            StudentDataCache.setEnabled(false);
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Invalidation forces a new query, and a query that overlaps an invalidation is not stored")
+    void test0003() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final AtomicInteger count = new AtomicInteger();
+
+        StudentDataCache.setEnabled(true);
+        try {
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            StudentDataCache.invalidate(cache, STU_ID);
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            assertEquals(2, count.get(), "Invalidated list was not queried again");
+
+            // A write that is committed while this query runs invalidates the student
+            StudentDataCache.invalidate(cache, STU_ID);
+            StudentDataCache.load(cache, STU_ID, "list", () -> {
+                count.incrementAndGet();
+                StudentDataCache.invalidate(cache, STU_ID);
+                return new ArrayList<>(List.of("stale"));
+            });
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            assertEquals(4, count.get(), "List read before an invalidation was stored");
+        } catch (final SQLException ex) {
+            fail("Unexpected exception", ex);
+        } finally {
+            StudentDataCache.setEnabled(false);
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Cached records are copied, so changes made by one request are not seen by another")
+    void test0004() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final IQuery<List<RawAdminHold>> query = () -> {
+            final List<RawAdminHold> list = new ArrayList<>(1);
+            list.add(new RawAdminHold(STU_ID, "01", "N", Integer.valueOf(1), LocalDate.of(2021, 1, 2)));
+            return list;
+        };
+
+        StudentDataCache.setEnabled(true);
+        StudentDataCache.clear();
+        try {
+            final List<RawAdminHold> first = StudentDataCache.load(cache, STU_ID, "holds", query);
+            first.getFirst().sevAdminHold = "F";
+            final List<RawAdminHold> second = StudentDataCache.load(cache, STU_ID, "holds", query);
+            second.getFirst().timesDisplay = Integer.valueOf(2);
+            final List<RawAdminHold> third = StudentDataCache.load(cache, STU_ID, "holds", query);
+
+            assertNotSame(first.getFirst(), second.getFirst(), "Cached record was not copied");
+            assertEquals("N", third.getFirst().sevAdminHold, "Cached record was changed through the loaded list");
+            assertEquals(Integer.valueOf(1), third.getFirst().timesDisplay,
+                    "Cached record was changed through a returned list");
+        } catch (final SQLException ex) {
+            fail("Unexpected exception", ex);
+        } finally {
+            StudentDataCache.setEnabled(false);
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Changes announced through StudentDataEvents invalidate cached lists")
+    void test0005() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final AtomicInteger count = new AtomicInteger();
+
+        StudentDataCache.setEnabled(true);
+        try {
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            StudentDataEvents.studentChanged(cache, STU_ID);
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            StudentDataEvents.courseWorkChanged(cache, STU_ID, "M 117");
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            StudentDataEvents.allChanged();
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+
+            assertEquals(4, count.get(), "Announced change did not invalidate the cached list");
+        } catch (final SQLException ex) {
+            fail("Unexpected exception", ex);
+        } finally {
+            StudentDataCache.setEnabled(false);
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("A full cache evicts the oldest entries rather than all entries")
+    void test0006() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final AtomicInteger count = new AtomicInteger();
+
+        StudentDataCache.setEnabled(true);
+        StudentDataCache.clear();
+        try {
+            for (int i = 0; i < StudentDataCache.MAX_STUDENTS; ++i) {
+                StudentDataCache.load(cache, Integer.toString(i), "list", countingQuery(count));
+            }
+            assertEquals(StudentDataCache.MAX_STUDENTS, StudentDataCache.size(), "Invalid cache size when full");
+
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            final int size = StudentDataCache.size();
+            assertTrue(size > 1 && size < StudentDataCache.MAX_STUDENTS, "Invalid cache size after eviction");
+
+            final int before = count.get();
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            assertEquals(before, count.get(), "Newest entry was evicted");
+        } catch (final SQLException ex) {
+            fail("Unexpected exception", ex);
+        } finally {
+            StudentDataCache.clear();
+            StudentDataCache.setEnabled(false);
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Finding a list returns a copy of a cached list, or null if none is cached")
+    void test0007() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final AtomicInteger count = new AtomicInteger();
+
+        try {
+            assertNull(StudentDataCache.find(cache, STU_ID, "list"), "List found with cache disabled");
+
+            StudentDataCache.setEnabled(true);
+            StudentDataCache.clear();
+            StudentDataCache.resetCounts();
+            assertNull(StudentDataCache.find(cache, STU_ID, "list"), "List found before it was cached");
+
+            StudentDataCache.load(cache, STU_ID, "list", countingQuery(count));
+            final List<String> found = StudentDataCache.find(cache, STU_ID, "list");
+            found.add("C");
+
+            assertEquals(List.of("A", "B", "C"), found, "Invalid list found");
+            assertEquals(List.of("A", "B"), StudentDataCache.find(cache, STU_ID, "list"),
+                    "Cached list was modified by caller");
+            assertEquals(2L, StudentDataCache.getHits(), "Invalid hit count");
+            assertEquals(2L, StudentDataCache.getMisses(), "Invalid miss count");
+        } catch (final SQLException ex) {
+            fail("Unexpected exception", ex);
+        } finally {
+            StudentDataCache.setEnabled(false);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.mathops.db.logic;
+
+import dev.mathops.db.schema.term.rec.MasteryAttemptQaRec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@code StudentMasteryAttempts} class.
+ */
+final class TestStudentMasteryAttempts {
+
+    /** An answer on the first attempt on exam 1. */
+    private static final MasteryAttemptQaRec QA1 = new MasteryAttemptQaRec(Integer.valueOf(11111), "EXAM1",
+            Integer.valueOf(1), "Y");
+
+    /** An answer on the first attempt on exam 1. */
+    private static final MasteryAttemptQaRec QA2 = new MasteryAttemptQaRec(Integer.valueOf(11111), "EXAM1",
+            Integer.valueOf(2), "N");
+
+    /** An answer on the second attempt on exam 1. */
+    private static final MasteryAttemptQaRec QA3 = new MasteryAttemptQaRec(Integer.valueOf(22222), "EXAM1",
+            Integer.valueOf(1), "Y");
+
+    /** An answer on an attempt on exam 2 that shares a serial number with the first attempt on exam 1. */
+    private static final MasteryAttemptQaRec QA4 = new MasteryAttemptQaRec(Integer.valueOf(11111), "EXAM2",
+            Integer.valueOf(1), "N");
+
+    /**
+     * Constructs a new {@code TestStudentMasteryAttempts}.
+     */
+    TestStudentMasteryAttempts() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Answers are grouped by exam and serial number")
+    void test0001() {
+
+        final Map<String, Map<Integer, List<MasteryAttemptQaRec>>> map =
+                StudentMasteryAttempts.groupByExamAndSerial(List.of(QA1, QA3, QA4, QA2));
+
+        assertEquals(2, map.size(), "Invalid number of exams");
+
+        final Map<Integer, List<MasteryAttemptQaRec>> exam1 = map.get("EXAM1");
+        assertEquals(2, exam1.size(), "Invalid number of EXAM1 attempts");
+        assertEquals(List.of(QA1, QA2), exam1.get(Integer.valueOf(11111)), "Invalid answers for EXAM1 11111");
+        assertEquals(List.of(QA3), exam1.get(Integer.valueOf(22222)), "Invalid answers for EXAM1 22222");
+
+        final Map<Integer, List<MasteryAttemptQaRec>> exam2 = map.get("EXAM2");
+        assertEquals(1, exam2.size(), "Invalid number of EXAM2 attempts");
+        assertEquals(List.of(QA4), exam2.get(Integer.valueOf(11111)), "Invalid answers for EXAM2 11111");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("No answers produces an empty map")
+    void test0002() {
+
+        final Map<String, Map<Integer, List<MasteryAttemptQaRec>>> map =
+                StudentMasteryAttempts.groupByExamAndSerial(List.of());
+
+        assertTrue(map.isEmpty(), "Map should be empty");
+        assertNull(map.get("EXAM1"), "Unexpected EXAM1 entry");
+    }
+}
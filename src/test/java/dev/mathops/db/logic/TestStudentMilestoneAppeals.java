@@ -0,0 +1,111 @@
+package dev.mathops.db.logic;
+
+import dev.mathops.db.schema.legacy.rec.RawMilestoneAppeal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@code StudentMilestoneAppeals} class.
+ */
+final class TestStudentMilestoneAppeals {
+
+    /** A date/time for appeal records. */
+    private static final LocalDateTime WHEN = LocalDateTime.of(2024, 9, 3, 12, 0);
+
+    /**
+     * Constructs a new {@code TestStudentMilestoneAppeals}.
+     */
+    TestStudentMilestoneAppeals() {
+
+        // No action
+    }
+
+    /**
+     * Creates an appeal record.
+     *
+     * @param type   the appeal type
+     * @param pace   the pace
+     * @param msNbr  the milestone number
+     * @param msType the milestone type
+     * @return the appeal record
+     */
+    private static RawMilestoneAppeal makeAppeal(final String type, final int pace, final int msNbr,
+                                                 final String msType) {
+
+        return new RawMilestoneAppeal(null, "888888888", WHEN, type, Integer.valueOf(pace), "A",
+                Integer.valueOf(msNbr), msType, null, null, null, null, null, null);
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Legacy milestone appeals are grouped by course and milestone")
+    void test0001() {
+
+        final StudentMilestoneAppeals appeals = new StudentMilestoneAppeals(List.of(
+                makeAppeal(RawMilestoneAppeal.APPEAL_TYPE_ACC, 3, 322, "RE"),
+                makeAppeal(RawMilestoneAppeal.APPEAL_TYPE_REQ, 3, 325, "FE"),
+                makeAppeal(RawMilestoneAppeal.APPEAL_TYPE_MED, 3, 311, "RE")));
+
+        assertEquals(3, appeals.getAppeals().size(), "Invalid number of appeals");
+        assertEquals(2, appeals.getCourseAppeals("A", 3, 2).size(), "Invalid number of course 2 appeals");
+        assertEquals(1, appeals.getCourseAppeals("A", 3, 1).size(), "Invalid number of course 1 appeals");
+        assertEquals(0, appeals.getCourseAppeals("B", 3, 2).size(), "Appeals found in wrong track");
+
+        assertTrue(appeals.hasAppeal("A", 3, 2, 2, 0, "RE", RawMilestoneAppeal.APPEAL_TYPE_ACC),
+                "Accommodation appeal not found");
+        assertFalse(appeals.hasAppeal("A", 3, 2, 2, 0, "RE", RawMilestoneAppeal.APPEAL_TYPE_REQ,
+                RawMilestoneAppeal.APPEAL_TYPE_AUT), "Free appeal found on wrong milestone");
+        assertTrue(appeals.hasAppeal("A", 3, 2, 5, 0, "FE", RawMilestoneAppeal.APPEAL_TYPE_REQ,
+                RawMilestoneAppeal.APPEAL_TYPE_AUT), "Free appeal not found");
+        assertFalse(appeals.hasAppeal("A", 3, 2, 5, 0, "RE", RawMilestoneAppeal.APPEAL_TYPE_REQ),
+                "Appeal found with wrong milestone type");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Standards-based appeals are grouped by objective, and added appeals are found")
+    void test0002() {
+
+        final StudentMilestoneAppeals appeals = new StudentMilestoneAppeals(List.of(
+                makeAppeal(RawMilestoneAppeal.APPEAL_TYPE_ACC, 4, 4321, "MA")));
+
+        assertTrue(appeals.hasAppeal("A", 4, 3, 2, 1, "MA", RawMilestoneAppeal.APPEAL_TYPE_ACC),
+                "Standards-based appeal not found");
+        assertFalse(appeals.hasAppeal("A", 4, 3, 2, 2, "MA", RawMilestoneAppeal.APPEAL_TYPE_ACC),
+                "Appeal found on wrong objective");
+        assertFalse(appeals.hasAppeal("A", 4, 3, 2, 0, "MA", RawMilestoneAppeal.APPEAL_TYPE_ACC),
+                "Standards-based appeal found as legacy appeal");
+
+        appeals.add(makeAppeal(RawMilestoneAppeal.APPEAL_TYPE_REQ, 4, 4322, "MA"));
+
+        assertTrue(appeals.hasAppeal("A", 4, 3, 2, 2, "MA", RawMilestoneAppeal.APPEAL_TYPE_REQ),
+                "Added appeal not found");
+        assertEquals(2, appeals.getCourseAppeals("A", 4, 3).size(), "Invalid number of course appeals");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Legacy checks ignore standards-based appeals on objective 0")
+    void test0003() {
+
+        final StudentMilestoneAppeals appeals = new StudentMilestoneAppeals(List.of(
+                makeAppeal(RawMilestoneAppeal.APPEAL_TYPE_ACC, 4, 4320, "RE")));
+
+        assertFalse(appeals.hasLegacyAppeal("A", 4, 3, 2, "RE", RawMilestoneAppeal.APPEAL_TYPE_ACC),
+                "Standards-based appeal on objective 0 found as legacy appeal");
+
+        appeals.add(makeAppeal(RawMilestoneAppeal.APPEAL_TYPE_ACC, 4, 432, "RE"));
+
+        assertTrue(appeals.hasLegacyAppeal("A", 4, 3, 2, "RE", RawMilestoneAppeal.APPEAL_TYPE_ACC),
+                "Legacy appeal not found");
+        assertFalse(appeals.hasLegacyAppeal("A", 4, 3, 2, "RE", RawMilestoneAppeal.APPEAL_TYPE_REQ),
+                "Legacy appeal found with wrong appeal type");
+    }
+}
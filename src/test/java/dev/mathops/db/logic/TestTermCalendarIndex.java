@@ -0,0 +1,96 @@
+package dev.mathops.db.logic;
+
+import dev.mathops.db.schema.legacy.rec.RawCampusCalendar;
+import dev.mathops.db.schema.term.rec.TermWeekRec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@code TermCalendarIndex} class.
+ */
+final class TestTermCalendarIndex {
+
+    /** A short term with a week 0, two weeks of classes, and a finals week. */
+    private static final List<TermWeekRec> WEEKS = List.of(
+            new TermWeekRec(Integer.valueOf(0), LocalDate.of(2024, 8, 18), LocalDate.of(2024, 8, 24)),
+            new TermWeekRec(Integer.valueOf(1), LocalDate.of(2024, 8, 25), LocalDate.of(2024, 8, 31)),
+            new TermWeekRec(Integer.valueOf(2), LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 7)),
+            new TermWeekRec(Integer.valueOf(3), LocalDate.of(2024, 9, 8), LocalDate.of(2024, 9, 14)));
+
+    /** A holiday on the first day of the second week. */
+    private static final List<RawCampusCalendar> HOLIDAYS = List.of(
+            new RawCampusCalendar(LocalDate.of(2024, 9, 2), RawCampusCalendar.DT_DESC_HOLIDAY, null, null, null, null,
+                    null, null, null, null, null));
+
+    /**
+     * Constructs a new {@code TestTermCalendarIndex}.
+     */
+    TestTermCalendarIndex() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("First and last class dates and open dates")
+    void test0001() {
+
+        final TermCalendarIndex index = TermCalendarIndex.get(WEEKS, HOLIDAYS);
+
+        assertEquals(LocalDate.of(2024, 8, 26), index.getFirstClassDate(), "Invalid first class date");
+        assertEquals(LocalDate.of(2024, 9, 6), index.getLastClassDate(), "Invalid last class date");
+
+        final List<LocalDate> open = index.getOpenDates();
+        assertEquals(9, open.size(), "Invalid number of open dates");
+        assertEquals(LocalDate.of(2024, 8, 26), open.getFirst(), "Invalid first open date");
+        assertEquals(LocalDate.of(2024, 9, 3), open.get(5), "Holiday not skipped");
+        assertEquals(LocalDate.of(2024, 9, 6), open.getLast(), "Invalid last open date");
+
+        assertTrue(index.isOpenDay(LocalDate.of(2024, 8, 30)), "Friday should be open");
+        assertFalse(index.isOpenDay(LocalDate.of(2024, 8, 31)), "Saturday should not be open");
+        assertFalse(index.isOpenDay(LocalDate.of(2024, 9, 2)), "Holiday should not be open");
+        assertFalse(index.isOpenDay(LocalDate.of(2024, 9, 9)), "Finals week should not be open");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Finding the next open day")
+    void test0002() {
+
+        final TermCalendarIndex index = TermCalendarIndex.get(WEEKS, HOLIDAYS);
+
+        assertEquals(LocalDate.of(2024, 8, 26), index.nextOpenDay(LocalDate.of(2024, 8, 20), 1),
+                "Invalid next open day before term");
+        assertEquals(LocalDate.of(2024, 9, 3), index.nextOpenDay(LocalDate.of(2024, 8, 30), 1),
+                "Invalid next open day over weekend and holiday");
+        assertEquals(LocalDate.of(2024, 9, 4), index.nextOpenDay(LocalDate.of(2024, 8, 31), 2),
+                "Invalid second open day from a Saturday");
+        assertEquals(LocalDate.of(2024, 9, 6), index.nextOpenDay(LocalDate.of(2024, 9, 4), 2),
+                "Invalid open day at end of term");
+        assertNull(index.nextOpenDay(LocalDate.of(2024, 9, 5), 2), "Open day past end of term should be null");
+        assertNull(index.nextOpenDay(LocalDate.of(2024, 9, 10), 1), "Open day after term should be null");
+
+        assertEquals(4, index.countOpenDaysAfter(LocalDate.of(2024, 8, 30)), "Invalid count of open days after");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Indexes built from equal data are shared")
+    void test0003() {
+
+        final TermCalendarIndex index = TermCalendarIndex.get(WEEKS, HOLIDAYS);
+
+        assertSame(index, TermCalendarIndex.get(List.copyOf(WEEKS), List.copyOf(HOLIDAYS)), "Index not shared");
+        assertEquals(10, TermCalendarIndex.get(WEEKS, List.of()).getOpenDates().size(),
+                "Index not rebuilt for different holidays");
+    }
+}
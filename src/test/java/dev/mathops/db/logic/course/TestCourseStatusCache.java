@@ -0,0 +1,163 @@
+package dev.mathops.db.logic.course;
+
+import dev.mathops.db.Cache;
+import dev.mathops.db.StudentDataEvents;
+import dev.mathops.db.cfg.Profile;
+import dev.mathops.db.field.TermKey;
+import dev.mathops.db.schema.legacy.rec.RawStcourse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the {@code CourseStatusCache} class.
+ */
+final class TestCourseStatusCache {
+
+    /** A student ID. */
+    private static final String STU_ID = "888888888";
+
+    /** A pace track. */
+    private static final String TRACK = "A";
+
+    /**
+     * Constructs a new {@code TestCourseStatusCache}.
+     */
+    TestCourseStatusCache() {
+
+        // No action
+    }
+
+    /**
+     * Creates a registration record.
+     *
+     * @param course the course ID
+     * @return the registration
+     */
+    private static RawStcourse makeReg(final String course) {
+
+        final RawStcourse reg = new RawStcourse();
+        reg.stuId = STU_ID;
+        reg.course = course;
+        reg.termKey = new TermKey("FA24");
+
+        return reg;
+    }
+
+    /**
+     * Creates a course status.
+     *
+     * @return the status
+     */
+    private static CourseStatus.LegacyCourseStatus makeStatus() {
+
+        return new CourseStatus.LegacyCourseStatus(null, null, null, null, null, false, false, false, false, 0, 0, 0,
+                0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("A stored status is returned only for the same pace, track, and index")
+    void test0001() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final RawStcourse reg = makeReg("M 117");
+        final CourseStatus.LegacyCourseStatus status = makeStatus();
+
+        try {
+            CourseStatusCache.put(cache, reg, 2, TRACK, 1, status, CourseStatusCache.generation());
+
+            assertSame(status, CourseStatusCache.get(cache, reg, 2, TRACK, 1), "Stored status not returned");
+            assertNull(CourseStatusCache.get(cache, reg, 3, TRACK, 1), "Status returned for a different pace");
+            assertNull(CourseStatusCache.get(cache, reg, 2, "B", 1), "Status returned for a different track");
+            assertNull(CourseStatusCache.get(cache, reg, 2, TRACK, 2), "Status returned for a different index");
+        } finally {
+            CourseStatusCache.clear();
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Invalidating a course removes only that course, and invalidating the student removes all")
+    void test0002() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final RawStcourse reg1 = makeReg("M 117");
+        final RawStcourse reg2 = makeReg("M 118");
+        final CourseStatus.LegacyCourseStatus status1 = makeStatus();
+        final CourseStatus.LegacyCourseStatus status2 = makeStatus();
+
+        try {
+            CourseStatusCache.put(cache, reg1, 2, TRACK, 1, status1, CourseStatusCache.generation());
+            CourseStatusCache.put(cache, reg2, 2, TRACK, 2, status2, CourseStatusCache.generation());
+
+            CourseStatusCache.invalidate(cache, STU_ID, "M 117");
+            assertNull(CourseStatusCache.get(cache, reg1, 2, TRACK, 1), "Invalidated course still cached");
+            assertSame(status2, CourseStatusCache.get(cache, reg2, 2, TRACK, 2), "Other course was invalidated");
+
+            CourseStatusCache.invalidateStudent(cache, STU_ID);
+            assertNull(CourseStatusCache.get(cache, reg2, 2, TRACK, 2), "Student's courses still cached");
+        } finally {
+            CourseStatusCache.clear();
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("A status computed before an invalidation is not stored")
+    void test0003() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final RawStcourse reg = makeReg("M 117");
+
+        try {
+            final long generation = CourseStatusCache.generation();
+            CourseStatusCache.invalidate(cache, STU_ID, "M 117");
+            CourseStatusCache.put(cache, reg, 2, TRACK, 1, makeStatus(), generation);
+
+            assertNull(CourseStatusCache.get(cache, reg, 2, TRACK, 1), "Stale status was stored");
+        } finally {
+            CourseStatusCache.clear();
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Entries expire after their lifetime")
+    void test0004() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final RawStcourse reg = makeReg("M 117");
+        final CourseStatus.LegacyCourseStatus status = makeStatus();
+
+        try {
+            CourseStatusCache.put(cache, reg, 2, TRACK, 1, status, CourseStatusCache.generation());
+
+            final long expired = System.currentTimeMillis() + CourseStatusCache.LIFETIME_MS + 1000L;
+            assertNull(CourseStatusCache.get(cache, reg, 2, TRACK, 1, expired), "Expired status returned");
+            assertNull(CourseStatusCache.get(cache, reg, 2, TRACK, 1), "Expired status was not removed");
+        } finally {
+            CourseStatusCache.clear();
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("A change announced for all students (such as a milestone date change) clears stored statuses")
+    void test0005() {
+
+        final Cache cache = new Cache(new Profile("test"));
+        final RawStcourse reg = makeReg("M 117");
+
+        try {
+            CourseStatusCache.put(cache, reg, 2, TRACK, 1, makeStatus(), CourseStatusCache.generation());
+            StudentDataEvents.allChanged();
+
+            assertNull(CourseStatusCache.get(cache, reg, 2, TRACK, 1), "Status still cached after change to all");
+        } finally {
+            CourseStatusCache.clear();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package dev.mathops.db.logic.mathplan;
+
+import dev.mathops.commons.log.Log;
+import dev.mathops.db.Cache;
+import dev.mathops.db.DbConnection;
+import dev.mathops.db.cfg.Profile;
+import dev.mathops.db.field.TermKey;
+import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.schema.RawRecordConstants;
+import dev.mathops.db.schema.TestUtils;
+import dev.mathops.db.schema.legacy.impl.RawFfrTrnsLogic;
+import dev.mathops.db.schema.legacy.impl.RawMpeCreditLogic;
+import dev.mathops.db.schema.legacy.impl.RawStcourseLogic;
+import dev.mathops.db.schema.legacy.impl.RawStmathplanLogic;
+import dev.mathops.db.schema.legacy.impl.RawStmpeLogic;
+import dev.mathops.db.schema.legacy.impl.RawStudentLogic;
+import dev.mathops.db.schema.legacy.rec.RawFfrTrns;
+import dev.mathops.db.schema.legacy.rec.RawMpeCredit;
+import dev.mathops.db.schema.legacy.rec.RawStcourse;
+import dev.mathops.db.schema.legacy.rec.RawStmathplan;
+import dev.mathops.db.schema.legacy.rec.RawStmpe;
+import dev.mathops.db.schema.legacy.rec.RawStudent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for the {@code MathPlanBatch} class.
+ */
+final class TestMathPlanBatch {
+
+    /** A student with transfer credit, a completed course, and a "Majors" response. */
+    private static final String STU_1 = "777777771";
+
+    /** A student with placement credit and placement attempts. */
+    private static final String STU_2 = "777777772";
+
+    /** A student with no data. */
+    private static final String STU_3 = "777777773";
+
+    /** A test student whose data is generated rather than stored. */
+    private static final String STU_TEST = "99PL12203";
+
+    /** The student IDs in the cohort. */
+    private static final List<String> STU_IDS = List.of(STU_1, STU_2, STU_3, STU_TEST);
+
+    /** The real (non-test) student IDs. */
+    private static final List<String> REAL_IDS = List.of(STU_1, STU_2, STU_3);
+
+    /** The tables this class populates. */
+    private static final List<String> TABLES = List.of("ffr_trns", "stcourse", "stmathplan", "mpe_credit", "stmpe");
+
+    /** A date used in test records. */
+    private static final LocalDate date1 = LocalDate.of(2021, 1, 2);
+
+    /** A date used in test records. */
+    private static final LocalDate date2 = LocalDate.of(2021, 3, 4);
+
+    /** The database profile. */
+    private static Profile profile = null;
+
+    /** Initialize the test class. */
+    @BeforeAll
+    static void initTests() {
+
+        final Cache cache = TestUtils.ensureConnectedToTest();
+        profile = cache.getProfile();
+
+        deleteTestRows(cache);
+
+        try {
+            final RawFfrTrns transfer = new RawFfrTrns(STU_1, RawRecordConstants.M117, "T", date1, null, "A");
+            assertTrue(RawFfrTrnsLogic.insert(cache, transfer), "Failed to insert ffr_trns");
+
+            final RawStcourse reg = new RawStcourse(new TermKey("SM21"), STU_1, RawRecordConstants.M118, "001",
+                    Integer.valueOf(1), "N", "A", "Y", Integer.valueOf(62), "B", "Y", "Y", "N", "Y", "N",
+                    Integer.valueOf(1), null, null, "N", null, "N", null, null, "RI", null, date2, null, null);
+            assertTrue(RawStcourseLogic.insert(cache, reg), "Failed to insert stcourse");
+
+            final RawStmathplan response = new RawStmathplan(STU_1, Integer.valueOf(123456), "FA21",
+                    MathPlanConstants.MAJORS_PROFILE, date1, Integer.valueOf(1000), "Y", Integer.valueOf(600),
+                    Long.valueOf(1234567890L));
+            assertTrue(RawStmathplanLogic.insert(cache, response), "Failed to insert stmathplan");
+
+            final RawMpeCredit credit = new RawMpeCredit(STU_2, RawRecordConstants.M117, "P", date1, null,
+                    Long.valueOf(12345L), "MPTUN", "RM");
+            assertTrue(RawMpeCreditLogic.insert(cache, credit), "Failed to insert mpe_credit");
+
+            final RawStmpe attempt = new RawStmpe(STU_2, "MPTUN", "2021", date1, Integer.valueOf(600),
+                    Integer.valueOf(700), "Doe", "Jane", "W", Integer.valueOf(1), Long.valueOf(12345L),
+                    Integer.valueOf(7), Integer.valueOf(6), Integer.valueOf(5), Integer.valueOf(4),
+                    Integer.valueOf(3), Integer.valueOf(2), "Y", "S");
+            assertTrue(RawStmpeLogic.insert(cache, attempt), "Failed to insert stmpe");
+        } catch (final SQLException ex) {
+            Log.warning(ex);
+            fail("Exception while initializing tables: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the test students' rows from the tables this class populates.
+     *
+     * @param cache the data cache
+     */
+    private static void deleteTestRows(final Cache cache) {
+
+        final String schemaPrefix = cache.getSchemaPrefix(ESchema.LEGACY);
+        final String ids = "('" + String.join("','", REAL_IDS) + "')";
+
+        final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+        try (final Statement stmt = conn.createStatement()) {
+            for (final String table : TABLES) {
+                final String tableName = schemaPrefix == null ? table : (schemaPrefix + "." + table);
+                stmt.executeUpdate("DELETE FROM " + tableName + " WHERE stu_id IN " + ids);
+            }
+            conn.commit();
+        } catch (final SQLException ex) {
+            Log.warning(ex);
+            fail("Exception while cleaning tables: " + ex.getMessage());
+        } finally {
+            Cache.checkInConnection(conn);
+        }
+    }
+
+    /**
+     * Builds the cohort: the student records found, plus an empty record for each student with none.
+     *
+     * @param cache the data cache
+     * @return the cohort
+     * @throws SQLException if there is an error accessing the database
+     */
+    private static List<RawStudent> makeCohort(final Cache cache) throws SQLException {
+
+        final Map<String, RawStudent> found = RawStudentLogic.queryByIds(cache, STU_IDS);
+        final List<RawStudent> cohort = new ArrayList<>(STU_IDS.size());
+
+        for (final String stuId : STU_IDS) {
+            RawStudent student = found.get(stuId);
+            if (student == null) {
+                student = new RawStudent();
+                student.stuId = stuId;
+            }
+            cohort.add(student);
+        }
+
+        return cohort;
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Batch plans match plans computed for each student")
+    void test0001() {
+
+        final Cache cache = new Cache(profile);
+
+        try {
+            final MathPlanBatch batch = new MathPlanBatch(cache);
+            final Map<String, StudentMathPlan> plans = batch.evaluate(makeCohort(cache));
+
+            assertEquals(STU_IDS, new ArrayList<>(plans.keySet()), "Plans not in cohort order");
+
+            for (final String stuId : STU_IDS) {
+                final StudentMathPlan batchPlan = plans.get(stuId);
+                final StudentMathPlan single = MathPlanLogic.queryPlan(new Cache(profile), stuId);
+
+                assertNotNull(batchPlan, "No batch plan for " + stuId);
+                assertNotNull(single, "No plan for " + stuId);
+
+                final StudentStatus batchStatus = batchPlan.stuStatus;
+                final StudentStatus singleStatus = single.stuStatus;
+
+                assertEquals(singleStatus.transferCredit.size(), batchStatus.transferCredit.size(),
+                        "Transfer credit differs for " + stuId);
+                assertEquals(singleStatus.placementCredit.size(), batchStatus.placementCredit.size(),
+                        "Placement credit differs for " + stuId);
+                assertEquals(singleStatus.numPlacementAttempts, batchStatus.numPlacementAttempts,
+                        "Placement attempts differ for " + stuId);
+                assertEquals(new HashSet<>(singleStatus.getCompleted()), new HashSet<>(batchStatus.getCompleted()),
+                        "Completed courses differ for " + stuId);
+                assertEquals(singleStatus.majorsResponses.keySet(), batchStatus.majorsResponses.keySet(),
+                        "Majors responses differ for " + stuId);
+                assertEquals(single.majorsOfInterest, batchPlan.majorsOfInterest, "Majors differ for " + stuId);
+                assertEquals(single.nextSteps.nextStep, batchPlan.nextSteps.nextStep,
+                        "Next step differs for " + stuId);
+                assertEquals(single.nextSteps.placementNeeded, batchPlan.nextSteps.placementNeeded,
+                        "Placement needed differs for " + stuId);
+            }
+
+            final StudentStatus status1 = plans.get(STU_1).stuStatus;
+            assertEquals(1, status1.transferCredit.size(), "Transfer credit not loaded");
+            assertEquals(1, status1.majorsResponses.size(), "Majors response not loaded");
+            assertEquals(1, plans.get(STU_2).stuStatus.placementCredit.size(), "Placement credit not loaded");
+            assertEquals(1, plans.get(STU_2).stuStatus.numPlacementAttempts, "Placement attempt not loaded");
+            assertTrue(plans.get(STU_TEST).stuStatus.numPlacementAttempts > 0,
+                    "Generated placement attempts not loaded for test student");
+        } catch (final SQLException ex) {
+            Log.warning(ex);
+            fail("Exception while computing plans: " + ex.getMessage());
+        }
+    }
+
+    /** Clean up. */
+    @AfterAll
+    static void cleanUp() {
+
+        final Cache cache = TestUtils.ensureConnectedToTest();
+        deleteTestRows(cache);
+    }
+}
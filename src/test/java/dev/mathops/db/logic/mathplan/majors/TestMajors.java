@@ -0,0 +1,88 @@
+package dev.mathops.db.logic.mathplan.majors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the {@code Majors} class.
+ */
+final class TestMajors {
+
+    /**
+     * Constructs a new {@code TestMajors}.
+     */
+    TestMajors() {
+
+        // No action
+    }
+
+    /**
+     * Looks up a major by program code by searching lists of majors.
+     *
+     * @param programCode the program code
+     * @return the major; null if none found
+     */
+    private static Major search(final String programCode) {
+
+        Major result = MajorsCurrent.INSTANCE.getMajor(programCode);
+        if (result == null) {
+            result = MajorsDeactivated.INSTANCE.getMajor(programCode);
+        }
+
+        return result;
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Lookup by program code matches a search of current then deactivated majors")
+    void test0001() {
+
+        for (final Major major : MajorsCurrent.INSTANCE.getMajors()) {
+            for (final String code : major.programCodes) {
+                assertSame(search(code), Majors.getMajorByProgramCode(code), "Mismatch for " + code);
+            }
+        }
+        for (final Major major : MajorsDeactivated.INSTANCE.getMajors()) {
+            for (final String code : major.programCodes) {
+                assertSame(search(code), Majors.getMajorByProgramCode(code), "Mismatch for " + code);
+            }
+        }
+
+        assertNull(Majors.getMajorByProgramCode("NOT-A-MAJOR"), "Found major for unknown code");
+        assertNull(Majors.getMajorByProgramCode(null), "Found major for null code");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Lookup by program code with a dual-degree annotation")
+    void test0002() {
+
+        for (final Major major : MajorsCurrent.INSTANCE.getMajors()) {
+            for (final String code : major.programCodes) {
+                final int dash = code.indexOf('-', 1);
+                if (dash > 0) {
+                    final String annotated = code.substring(0, dash) + "-DD" + code.substring(dash);
+                    final Major expected = search(annotated) == null ? search(code) : search(annotated);
+                    assertSame(expected, Majors.getMajorByProgramCode(annotated), "Mismatch for " + annotated);
+                }
+            }
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Lookup by numeric code matches a search of current then deactivated majors")
+    void test0003() {
+
+        for (int nbr = -1; nbr < 10000; ++nbr) {
+            Major expected = MajorsCurrent.INSTANCE.getMajor(nbr);
+            if (expected == null) {
+                expected = MajorsDeactivated.INSTANCE.getMajor(nbr);
+            }
+            assertSame(expected, Majors.getMajorByNumericCode(nbr), "Mismatch for " + nbr);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dev.mathops.db.schema;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@code RecordFootprint} class.
+ */
+final class TestRecordFootprint {
+
+    /**
+     * Constructs a new {@code TestRecordFootprint}.
+     */
+    TestRecordFootprint() {
+
+        // No action
+    }
+
+    /**
+     * Creates a list of sample records.
+     *
+     * @param shared true to have all records refer to the same value instances
+     * @return the records
+     */
+    private static List<Sample> makeSamples(final boolean shared) {
+
+        final String status = "Y";
+        final Integer minutes = Integer.valueOf(1000);
+
+        final List<Sample> result = new ArrayList<>(100);
+        for (int i = 0; i < 100; ++i) {
+            final Sample sample = new Sample();
+            sample.status = shared ? status : new String(status.toCharArray());
+            sample.minutes = shared ? minutes : Integer.valueOf(1000);
+            result.add(sample);
+        }
+
+        return result;
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Shared values are counted once")
+    void test0001() {
+
+        final List<RecordFootprint.Footprint> distinct = RecordFootprint.measure(makeSamples(false));
+        final List<RecordFootprint.Footprint> shared = RecordFootprint.measure(makeSamples(true));
+
+        assertEquals(1, distinct.size(), "Expected one record type");
+        assertEquals("Sample", distinct.getFirst().type(), "Invalid record type");
+        assertEquals(100, distinct.getFirst().records(), "Invalid record count");
+        assertEquals(200L, distinct.getFirst().values(), "Invalid value count");
+        assertEquals(200L, distinct.getFirst().distinctValues(), "Invalid distinct value count");
+
+        assertEquals(200L, shared.getFirst().values(), "Invalid shared value count");
+        assertEquals(2L, shared.getFirst().distinctValues(), "Invalid shared distinct value count");
+        assertEquals(distinct.getFirst().recordBytes(), shared.getFirst().recordBytes(), "Record sizes should match");
+        assertTrue(shared.getFirst().valueBytes() * 50L < distinct.getFirst().valueBytes(),
+                "Shared values should use far less space");
+    }
+
+    /**
+     * A sample record.
+     */
+    static final class Sample {
+
+        /** A status value. */
+        String status;
+
+        /** A time value. */
+        Integer minutes;
+
+        /**
+         * Constructs a new {@code Sample}.
+         */
+        Sample() {
+
+            // No action
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package dev.mathops.db.schema;
+
+import dev.mathops.commons.log.Log;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for the {@code ResultSetColumns} class.
+ */
+final class TestResultSetColumns {
+
+    /** The column labels in the synthetic result set. */
+    private static final String[] LABELS = {"stu_id", "COURSE", "score"};
+
+    /** The column values in the synthetic result set. */
+    private static final Object[] VALUES = {"111111111 ", "M 117", Integer.valueOf(42)};
+
+    /** The column labels in a second synthetic result set, with columns in a different order. */
+    private static final String[] LABELS2 = {"score", "stu_id"};
+
+    /** The column values in the second synthetic result set. */
+    private static final Object[] VALUES2 = {Integer.valueOf(7), "222222222"};
+
+    /**
+     * Constructs a new {@code TestResultSetColumns}.
+     */
+    TestResultSetColumns() {
+
+        // No action
+    }
+
+    /**
+     * Creates a synthetic result set positioned on a single row.  Values may be retrieved only by index, so the test
+     * fails if a value is retrieved by name without first resolving the name to an index.
+     *
+     * @param labels the column labels
+     * @param values the column values
+     * @return the result set
+     */
+    private static ResultSet makeResultSet(final String[] labels, final Object[] values) {
+
+        final ResultSetMetaData meta = (ResultSetMetaData) Proxy.newProxyInstance(
+                TestResultSetColumns.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> Integer.valueOf(labels.length);
+                    case "getColumnLabel" -> labels[((Integer) args[0]).intValue() - 1];
+                    default -> throw new SQLException("Unsupported: " + method.getName());
+                });
+
+        return (ResultSet) Proxy.newProxyInstance(TestResultSetColumns.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    if ("getMetaData".equals(method.getName())) {
+                        return meta;
+                    }
+                    if ("wasNull".equals(method.getName())) {
+                        return Boolean.FALSE;
+                    }
+                    if ("findColumn".equals(method.getName())) {
+                        return Integer.valueOf(List.of(labels).indexOf(args[0]) + 1);
+                    }
+                    if (args != null && args.length == 1 && args[0] instanceof final Integer index) {
+                        final Object value = values[index.intValue() - 1];
+                        return "getInt".equals(method.getName()) ? value : value.toString();
+                    }
+                    throw new SQLException("Unsupported: " + method.getName());
+                });
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Column indexes and presence")
+    void test0001() {
+
+        try {
+            final ResultSetColumns columns = ResultSetColumns.of(makeResultSet(LABELS, VALUES));
+
+            assertEquals(1, columns.indexOf("stu_id"), "Invalid index for stu_id");
+            assertEquals(2, columns.indexOf("course"), "Invalid index for case-insensitive course");
+            assertTrue(columns.contains("SCORE"), "Column should be present");
+            assertFalse(columns.contains("pace_order"), "Column should not be present");
+            assertEquals(0, columns.indexOfOptional("pace_order"), "Invalid index for missing optional column");
+        } catch (final SQLException ex) {
+            Log.warning(ex);
+            fail("Exception while resolving columns: " + ex.getMessage());
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Mappings for alternating result sets with different column orders")
+    void test0002() {
+
+        try {
+            final ResultSet rs1 = makeResultSet(LABELS, VALUES);
+            final ResultSet rs2 = makeResultSet(LABELS2, VALUES2);
+
+            final ResultSetColumns columns1 = ResultSetColumns.of(rs1);
+            final ResultSetColumns columns2 = ResultSetColumns.of(rs2);
+
+            for (int i = 0; i < 3; ++i) {
+                assertEquals("111111111", RecBase.getStringField(rs1, columns1.indexOf("stu_id")),
+                        "Invalid string field from first result set");
+                assertEquals("222222222", RecBase.getStringField(rs2, columns2.indexOf("stu_id")),
+                        "Invalid string field from second result set");
+                assertEquals(Integer.valueOf(7), RecBase.getIntegerField(rs2, columns2.indexOf("score")),
+                        "Invalid integer field from second result set");
+            }
+        } catch (final SQLException ex) {
+            Log.warning(ex);
+            fail("Exception while resolving columns: " + ex.getMessage());
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("RecBase name-based helpers resolve the name and read by index")
+    void test0003() {
+
+        try {
+            final ResultSet rs = makeResultSet(LABELS, VALUES);
+
+            assertEquals("111111111", RecBase.getStringField(rs, "stu_id"), "Invalid string field");
+            assertEquals(Integer.valueOf(42), RecBase.getIntegerField(rs, "score"), "Invalid integer field");
+        } catch (final SQLException ex) {
+            Log.warning(ex);
+            fail("Exception while reading fields: " + ex.getMessage());
+        }
+    }
+}
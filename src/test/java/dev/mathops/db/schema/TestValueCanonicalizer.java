@@ -0,0 +1,72 @@
+package dev.mathops.db.schema;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the {@code ValueCanonicalizer} class.
+ */
+final class TestValueCanonicalizer {
+
+    /**
+     * Constructs a new {@code TestValueCanonicalizer}.
+     */
+    TestValueCanonicalizer() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Strings are shared only when enabled and short")
+    void test0001() {
+
+        final String first = new String("M 117".toCharArray());
+        final String second = new String("M 117".toCharArray());
+
+        ValueCanonicalizer.reset();
+        assertSame(second, ValueCanonicalizer.canonical(second), "Disabled mode should return the string unchanged");
+
+        try {
+            ValueCanonicalizer.setEnabled(true);
+            assertSame(first, ValueCanonicalizer.canonical(first), "First occurrence should become canonical");
+            assertSame(first, ValueCanonicalizer.canonical(second), "Equal string should map to canonical instance");
+            assertEquals(1L, ValueCanonicalizer.getHits(), "Invalid hit count");
+
+            final String longer = new String("123456789".toCharArray());
+            final String longerCopy = new String("123456789".toCharArray());
+            ValueCanonicalizer.canonical(longer);
+            assertNotSame(longer, ValueCanonicalizer.canonical(longerCopy), "Long strings should not be canonicalized");
+
+            assertNull(ValueCanonicalizer.canonical((String) null), "Null should map to null");
+        } finally {
+            ValueCanonicalizer.setEnabled(false);
+            ValueCanonicalizer.reset();
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Integers outside the JDK cache are shared when enabled")
+    void test0002() {
+
+        try {
+            ValueCanonicalizer.setEnabled(true);
+
+            final Integer first = ValueCanonicalizer.canonical(1020);
+            assertEquals(1020, first.intValue(), "Invalid value");
+            assertSame(first, ValueCanonicalizer.canonical(1020), "Integer should map to the canonical instance");
+
+            assertEquals(5000, ValueCanonicalizer.canonical(5000).intValue(), "Invalid value out of range");
+            assertEquals(-3, ValueCanonicalizer.canonical(-3).intValue(), "Invalid negative value");
+        } finally {
+            ValueCanonicalizer.setEnabled(false);
+            ValueCanonicalizer.reset();
+        }
+    }
+}
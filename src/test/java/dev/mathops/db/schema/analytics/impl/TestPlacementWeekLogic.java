@@ -0,0 +1,75 @@
+package dev.mathops.db.schema.analytics.impl;
+
+import dev.mathops.db.schema.analytics.rec.PlacementWeekRec;
+import dev.mathops.db.schema.legacy.rec.RawStmpe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the {@code PlacementWeekLogic} class.
+ */
+final class TestPlacementWeekLogic {
+
+    /**
+     * Constructs a new {@code TestPlacementWeekLogic}.
+     */
+    TestPlacementWeekLogic() {
+
+        // No action
+    }
+
+    /**
+     * Creates a placement attempt record.
+     *
+     * @param version the exam version
+     * @param examDt  the exam date
+     * @param placed  the result
+     * @return the record
+     */
+    private static RawStmpe makeAttempt(final String version, final LocalDate examDt, final String placed) {
+
+        return new RawStmpe("888888888", version, "2526", examDt, null, Integer.valueOf(600), null, null, null, null,
+                null, null, null, null, null, null, null, placed, null);
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Week start is the Sunday on or before a date")
+    void test0001() {
+
+        final LocalDate sunday = LocalDate.of(2025, 6, 1);
+
+        assertEquals(sunday, PlacementWeekLogic.getWeekStart(sunday), "Invalid week start for Sunday");
+        assertEquals(sunday, PlacementWeekLogic.getWeekStart(LocalDate.of(2025, 6, 2)),
+                "Invalid week start for Monday");
+        assertEquals(sunday, PlacementWeekLogic.getWeekStart(LocalDate.of(2025, 6, 7)),
+                "Invalid week start for Saturday");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Attempts are tallied by week, version, and result")
+    void test0002() {
+
+        final List<PlacementWeekRec> tallied = PlacementWeekLogic.tally(List.of(
+                makeAttempt("MPTUN", LocalDate.of(2025, 6, 3), "Y"),
+                makeAttempt("MPTUN", LocalDate.of(2025, 6, 5), "Y"),
+                makeAttempt("MPTUN", LocalDate.of(2025, 6, 5), "N"),
+                makeAttempt("MPTTC", LocalDate.of(2025, 6, 4), "Y"),
+                makeAttempt("MPTUN", LocalDate.of(2025, 6, 8), "Y")));
+
+        final LocalDate week1 = LocalDate.of(2025, 6, 1);
+        final LocalDate week2 = LocalDate.of(2025, 6, 8);
+
+        assertEquals(List.of(
+                new PlacementWeekRec(week1, "MPTTC", "Y", Integer.valueOf(1)),
+                new PlacementWeekRec(week1, "MPTUN", "N", Integer.valueOf(1)),
+                new PlacementWeekRec(week1, "MPTUN", "Y", Integer.valueOf(2)),
+                new PlacementWeekRec(week2, "MPTUN", "Y", Integer.valueOf(1))), tallied, "Invalid tallied records");
+    }
+}
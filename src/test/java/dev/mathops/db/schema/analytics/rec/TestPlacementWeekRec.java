@@ -0,0 +1,69 @@
+package dev.mathops.db.schema.analytics.rec;
+
+import dev.mathops.db.schema.RecBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the {@code PlacementWeekRec} class.
+ */
+final class TestPlacementWeekRec {
+
+    /** A field name. */
+    private static final LocalDate TEST_WEEK_START = LocalDate.of(2025, 6, 1);
+
+    /** A field name. */
+    private static final String TEST_VERSION = "MPTUN";
+
+    /** A field name. */
+    private static final String TEST_PLACED = "Y";
+
+    /** A field name. */
+    private static final Integer TEST_NBR_ATTEMPTS = Integer.valueOf(42);
+
+    /** The expected String serialization of a test record. */
+    private static final String EXPECT_SER99 = String.join(RecBase.DIVIDER,
+            "week_start=2025-06-01",
+            "version=MPTUN",
+            "placed=Y",
+            "nbr_attempts=42");
+
+    /**
+     * Constructs a new {@code TestPlacementWeekRec}.
+     */
+    TestPlacementWeekRec() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Constructor")
+    void test0001() {
+
+        final PlacementWeekRec obj = new PlacementWeekRec(TEST_WEEK_START, TEST_VERSION, TEST_PLACED,
+                TEST_NBR_ATTEMPTS);
+
+        assertEquals(TEST_WEEK_START, obj.weekStart, "Invalid week_start value after constructor");
+        assertEquals(TEST_VERSION, obj.version, "Invalid version value after constructor");
+        assertEquals(TEST_PLACED, obj.placed, "Invalid placed value after constructor");
+        assertEquals(TEST_NBR_ATTEMPTS, obj.nbrAttempts, "Invalid nbr_attempts value after constructor");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("string serialization")
+    void test0098() {
+
+        final PlacementWeekRec obj = new PlacementWeekRec(TEST_WEEK_START, TEST_VERSION, TEST_PLACED,
+                TEST_NBR_ATTEMPTS);
+
+        final String ser = obj.toString();
+
+        assertEquals(EXPECT_SER99, ser, "Invalid serialized string");
+    }
+}
@@ -0,0 +1,59 @@
+package dev.mathops.db.schema.legacy.impl;
+
+import dev.mathops.db.schema.legacy.rec.RawLessonComponent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@code RawLessonComponentLogic} class.
+ */
+final class TestRawLessonComponentLogic {
+
+    /**
+     * Constructs a new {@code TestRawLessonComponentLogic}.
+     */
+    TestRawLessonComponentLogic() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("queryByLesson returns shared lists ordered by sequence number")
+    void test0001() {
+
+        final List<RawLessonComponent> list = RawLessonComponentLogic.queryByLesson("M117.11");
+
+        assertFalse(list.isEmpty(), "No components found for M117.11");
+        assertSame(list, RawLessonComponentLogic.queryByLesson("M117.11"), "List not shared between queries");
+
+        int seq = 0;
+        for (final RawLessonComponent comp : list) {
+            assertEquals("M117.11", comp.lessonId, "Invalid lesson ID");
+            assertTrue(comp.seqNbr.intValue() > seq, "Components not in sequence number order");
+            seq = comp.seqNbr.intValue();
+        }
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(list.getFirst()), "List was modifiable");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("queryByLesson for tutorials and unknown lessons")
+    void test0002() {
+
+        assertFalse(RawLessonComponentLogic.queryByLesson("M100T.11").isEmpty(), "No components for M100T.11");
+        assertFalse(RawLessonComponentLogic.queryByLesson("M100R.11").isEmpty(), "No components for M100R.11");
+        assertTrue(RawLessonComponentLogic.queryByLesson("M117.99").isEmpty(), "Components for unknown lesson");
+        assertTrue(RawLessonComponentLogic.queryByLesson("X").isEmpty(), "Components for unknown course");
+        assertTrue(RawLessonComponentLogic.queryByLesson(null).isEmpty(), "Components for null lesson");
+    }
+}
@@ -0,0 +1,145 @@
+package dev.mathops.db.schema.legacy.impl;
+
+import dev.mathops.commons.log.Log;
+import dev.mathops.db.Cache;
+import dev.mathops.db.DbConnection;
+import dev.mathops.db.schema.ESchema;
+import dev.mathops.db.cfg.Profile;
+import dev.mathops.db.schema.TestUtils;
+import dev.mathops.db.schema.legacy.rec.RawAdminHold;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for the {@code StudentSnapshotLogic} class.
+ */
+final class TestStudentSnapshotLogic {
+
+    /** The student ID used in test records. */
+    private static final String STU_ID = "888888887";
+
+    /** A date used in test records. */
+    private static final LocalDate date1 = LocalDate.of(2021, 1, 2);
+
+    /** A date used in test records. */
+    private static final LocalDate date2 = LocalDate.of(2021, 3, 4);
+
+    /** The database profile. */
+    private static Profile profile = null;
+
+    /** Initialize the test class. */
+    @BeforeAll
+    static void initTests() {
+
+        final Cache cache = TestUtils.ensureConnectedToTest();
+        profile = cache.getProfile();
+
+        deleteTestRows(cache);
+
+        try {
+            final RawAdminHold raw1 = new RawAdminHold(STU_ID, "01", "N", Integer.valueOf(1), date1);
+            final RawAdminHold raw2 = new RawAdminHold(STU_ID, "02", "N", Integer.valueOf(2), date2);
+
+            assertTrue(RawAdminHoldLogic.insert(cache, raw1), "Failed to insert admin_hold");
+            assertTrue(RawAdminHoldLogic.insert(cache, raw2), "Failed to insert admin_hold");
+        } catch (final SQLException ex) {
+            Log.warning(ex);
+            fail("Exception while initializing tables: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the test student's rows from the tables this class populates.
+     *
+     * @param cache the data cache
+     */
+    private static void deleteTestRows(final Cache cache) {
+
+        final DbConnection conn = cache.checkOutConnection(ESchema.LEGACY);
+
+        try (final Statement stmt = conn.createStatement()) {
+            final String tableName = RawAdminHoldLogic.getTableName(cache);
+            stmt.executeUpdate("DELETE FROM " + tableName + " WHERE stu_id='" + STU_ID + "'");
+            conn.commit();
+        } catch (final SQLException ex) {
+            Log.warning(ex);
+            fail("Exception while cleaning tables: " + ex.getMessage());
+        } finally {
+            Cache.checkInConnection(conn);
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Snapshot matches individual queries")
+    void test0001() {
+
+        final Cache cache = new Cache(profile);
+
+        try {
+            final StudentSnapshotLogic.StudentSnapshot snapshot = StudentSnapshotLogic.query(cache, STU_ID);
+
+            final List<RawAdminHold> holds = RawAdminHoldLogic.queryByStudent(cache, STU_ID);
+            assertEquals(2, snapshot.holds().size(), "Incorrect hold count in snapshot");
+            assertTrue(snapshot.holds().containsAll(holds), "Snapshot holds differ from queried holds");
+
+            assertNull(snapshot.student(), "Unexpected student record in snapshot");
+            assertEquals(RawStcourseLogic.queryByStudent(cache, STU_ID, true, true).size(),
+                    snapshot.registrations().size(), "Incorrect registration count in snapshot");
+            assertEquals(RawSttermLogic.queryByStudent(cache, STU_ID).size(), snapshot.studentTerms().size(),
+                    "Incorrect student term count in snapshot");
+            assertEquals(RawStexamLogic.queryByStudent(cache, STU_ID, true).size(), snapshot.exams().size(),
+                    "Incorrect exam count in snapshot");
+        } catch (final SQLException ex) {
+            Log.warning(ex);
+            fail("Exception while querying student snapshot: " + ex.getMessage());
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Snapshot of selected parts queries only those parts")
+    void test0002() {
+
+        final Cache cache = new Cache(profile);
+
+        try {
+            final StudentSnapshotLogic.StudentSnapshot snapshot = StudentSnapshotLogic.query(cache, STU_ID,
+                    EnumSet.of(StudentSnapshotLogic.EPart.HOLDS, StudentSnapshotLogic.EPart.EXAMS));
+
+            assertEquals(2, snapshot.holds().size(), "Incorrect hold count in snapshot");
+            assertNotNull(snapshot.exams(), "Selected exams missing from snapshot");
+            assertNull(snapshot.registrations(), "Unselected registrations present in snapshot");
+            assertNull(snapshot.homework(), "Unselected homework present in snapshot");
+
+            final StudentSnapshotLogic.StudentSnapshot empty = StudentSnapshotLogic.query(cache, STU_ID,
+                    EnumSet.noneOf(StudentSnapshotLogic.EPart.class));
+            assertNull(empty.holds(), "Holds present in empty snapshot");
+        } catch (final SQLException ex) {
+            Log.warning(ex);
+            fail("Exception while querying student snapshot: " + ex.getMessage());
+        }
+    }
+
+    /** Clean up. */
+    @AfterAll
+    static void cleanUp() {
+
+        final Cache cache = TestUtils.ensureConnectedToTest();
+        deleteTestRows(cache);
+    }
+}
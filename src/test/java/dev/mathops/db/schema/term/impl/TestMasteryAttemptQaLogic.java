@@ -5,6 +5,8 @@ import dev.mathops.db.Cache;
 import dev.mathops.db.cfg.Contexts;
 import dev.mathops.db.DbConnection;
 import dev.mathops.db.cfg.EDbUse;
+import dev.mathops.db.logic.StudentMasteryAttempts;
+import dev.mathops.db.schema.main.impl.MasteryAttemptLogic;
 import dev.mathops.db.schema.main.impl.MasteryAttemptQaLogic;
 import dev.mathops.db.schema.ESchema;
 import dev.mathops.db.cfg.DatabaseConfig;
@@ -12,6 +14,7 @@ import dev.mathops.db.cfg.Facet;
 import dev.mathops.db.cfg.Login;
 import dev.mathops.db.cfg.Profile;
 import dev.mathops.db.schema.term.rec.MasteryAttemptQaRec;
+import dev.mathops.db.schema.term.rec.MasteryAttemptRec;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -306,6 +310,77 @@ final class TestMasteryAttemptQaLogic {
             }
         }
 
+        /** Test case. */
+        @Test
+        @DisplayName("Informix queryByStudent results")
+        void test0008() {
+
+            final Cache cache = new Cache(informixProfile);
+            final MasteryAttemptLogic attemptLogic = MasteryAttemptLogic.INSTANCE;
+            final MasteryAttemptQaLogic logic = MasteryAttemptQaLogic.INSTANCE;
+
+            final LocalDateTime start = LocalDateTime.of(2024, 9, 3, 10, 0);
+            final LocalDateTime finish = LocalDateTime.of(2024, 9, 3, 10, 30);
+
+            // Two attempts by the student on one exam, and one by another student that shares a serial number
+            final MasteryAttemptRec att1 = new MasteryAttemptRec(Integer.valueOf(33333), "EXAM8", "888888881", start,
+                    finish, Integer.valueOf(2), Integer.valueOf(2), "Y", "Y", "TC");
+            final MasteryAttemptRec att2 = new MasteryAttemptRec(Integer.valueOf(44444), "EXAM8", "888888881", start,
+                    finish, Integer.valueOf(1), Integer.valueOf(2), "N", "N", "TC");
+            final MasteryAttemptRec att3 = new MasteryAttemptRec(Integer.valueOf(33333), "EXAM9", "888888882", start,
+                    finish, Integer.valueOf(1), Integer.valueOf(2), "N", "N", "TC");
+
+            final MasteryAttemptQaRec qa1 = new MasteryAttemptQaRec(Integer.valueOf(33333), "EXAM8",
+                    Integer.valueOf(1), "Y");
+            final MasteryAttemptQaRec qa2 = new MasteryAttemptQaRec(Integer.valueOf(33333), "EXAM8",
+                    Integer.valueOf(2), "Y");
+            final MasteryAttemptQaRec qa3 = new MasteryAttemptQaRec(Integer.valueOf(44444), "EXAM8",
+                    Integer.valueOf(1), "N");
+            final MasteryAttemptQaRec qa4 = new MasteryAttemptQaRec(Integer.valueOf(33333), "EXAM9",
+                    Integer.valueOf(1), "N");
+
+            final List<MasteryAttemptRec> attempts = List.of(att1, att2, att3);
+            final List<MasteryAttemptQaRec> answers = List.of(qa1, qa2, qa3, qa4);
+
+            try {
+                for (final MasteryAttemptRec att : attempts) {
+                    assertTrue(attemptLogic.insert(cache, att), "Failed to insert Informix mastery_attempt");
+                }
+                for (final MasteryAttemptQaRec qa : answers) {
+                    assertTrue(logic.insert(cache, qa), "Failed to insert Informix mastery_attempt_qa");
+                }
+
+                final List<MasteryAttemptQaRec> all = logic.queryByStudent(cache, "888888881");
+                assertEquals(3, all.size(), "Incorrect record count from Informix queryByStudent");
+                assertTrue(all.containsAll(List.of(qa1, qa2, qa3)), "Informix queryByStudent missing answers");
+
+                final StudentMasteryAttempts data = new StudentMasteryAttempts(cache, "888888881");
+                final List<MasteryAttemptQaRec> first = data.getQaByAttempt(Integer.valueOf(33333), "EXAM8");
+                assertEquals(2, first.size(), "Incorrect answer count for first attempt");
+                assertTrue(first.containsAll(List.of(qa1, qa2)), "Incorrect answers for first attempt");
+                assertEquals(List.of(qa3), data.getQaByAttempt(Integer.valueOf(44444), "EXAM8"),
+                        "Incorrect answers for second attempt");
+                assertTrue(data.getQaByAttempt(Integer.valueOf(33333), "EXAM9").isEmpty(),
+                        "Another student's answers were included");
+                assertEquals(3, data.getQaByExam("EXAM8").size(), "Incorrect answer count for exam");
+            } catch (final SQLException ex) {
+                Log.warning(ex);
+                fail("Exception while querying Informix 'mastery_attempt_qa' rows by student: " + ex.getMessage());
+            } finally {
+                try {
+                    for (final MasteryAttemptQaRec qa : answers) {
+                        logic.delete(cache, qa);
+                    }
+                    for (final MasteryAttemptRec att : attempts) {
+                        attemptLogic.delete(cache, att);
+                    }
+                } catch (final SQLException ex) {
+                    Log.warning(ex);
+                    fail("Exception while cleaning up after queryByStudent test: " + ex.getMessage());
+                }
+            }
+        }
+
         /** Clean up. */
         @AfterAll
         static void cleanUp() {
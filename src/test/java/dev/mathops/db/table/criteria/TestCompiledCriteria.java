@@ -0,0 +1,207 @@
+package dev.mathops.db.table.criteria;
+
+import dev.mathops.db.table.EFieldRole;
+import dev.mathops.db.table.EFieldType;
+import dev.mathops.db.table.Field;
+import dev.mathops.db.table.FieldDef;
+import dev.mathops.db.table.Row;
+import dev.mathops.db.table.SelectionCriteria;
+import dev.mathops.db.table.Table;
+import dev.mathops.text.builder.HtmlBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@code CompiledCriteria} class.
+ */
+final class TestCompiledCriteria {
+
+    /** A field. */
+    private static final Field STU_ID = new Field(new FieldDef("stu_id", EFieldType.STRING, "Student ID"),
+            EFieldRole.PARTITION_KEY);
+
+    /** A field. */
+    private static final Field SCORE = new Field(new FieldDef("score", EFieldType.INTEGER, "Score"),
+            EFieldRole.CLUSTERING_KEY);
+
+    /** A field. */
+    private static final Field EXAM_DT = new Field(new FieldDef("exam_dt", EFieldType.LOCAL_DATE, "Exam date"),
+            EFieldRole.NULLABLE);
+
+    /** A field. */
+    private static final Field COURSE = new Field(new FieldDef("course", EFieldType.STRING, "Course"),
+            EFieldRole.NULLABLE);
+
+    /** The test table. */
+    private static final Table TABLE = new Table("test", "testing", "exam", "Test exam table", null, STU_ID, SCORE,
+            EXAM_DT, COURSE);
+
+    /** A row. */
+    private static final Row ROW1 = new Row(TABLE, "111111111", Integer.valueOf(14), LocalDate.of(2024, 9, 3),
+            "M 117");
+
+    /** A row. */
+    private static final Row ROW2 = new Row(TABLE, "222222222", Integer.valueOf(20), null, "m 125");
+
+    /**
+     * Constructs a new {@code TestCompiledCriteria}.
+     */
+    TestCompiledCriteria() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Empty criteria match every row and render no SQL")
+    void test0001() {
+
+        final CompiledCriteria compiled = CompiledCriteria.compile(TABLE);
+
+        assertTrue(compiled.test(ROW1), "Row 1 should match empty criteria");
+        assertTrue(compiled.test(ROW2), "Row 2 should match empty criteria");
+        assertEquals("", compiled.getWhereClause(), "Invalid WHERE clause for empty criteria");
+        assertTrue(compiled.getSqlParameters().isEmpty(), "Empty criteria should have no parameters");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Case-insensitive prefix and range criteria")
+    void test0002() {
+
+        final StringFieldCriterion course = new StringFieldCriterion(COURSE,
+                EStringMatchType.CASE_INSENSITIVE_STARTS_WITH, "M 12");
+        final IntegerFieldCriterion score = new IntegerFieldCriterion(SCORE, ENumericMatchType.BETWEEN_INCLUDE_BOUNDS,
+                Integer.valueOf(15), Integer.valueOf(20));
+        final CompiledCriteria compiled = CompiledCriteria.compile(TABLE, course, score);
+
+        assertFalse(compiled.test(ROW1), "Row 1 should not match");
+        assertTrue(compiled.test(ROW2), "Row 2 should match");
+        assertEquals("(LOWER(course) LIKE ? ESCAPE '\\') AND (score>=? AND score<=?)", compiled.getSqlCondition(),
+                "Invalid SQL condition");
+        assertEquals(List.of("m 12%", Integer.valueOf(15), Integer.valueOf(20)), compiled.getSqlParameters(),
+                "Invalid SQL parameters");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Large IN lists and NOT IN lists")
+    void test0003() {
+
+        final String[] ids = new String[25];
+        for (int i = 0; i < ids.length; ++i) {
+            ids[i] = Integer.toString(222222200 + i);
+        }
+
+        final StringFieldCriterion in = new StringFieldCriterion(STU_ID, EStringMatchType.EXACT_IN, ids);
+        final CompiledCriteria compiledIn = CompiledCriteria.compile(TABLE, in);
+        assertFalse(compiledIn.test(ROW1), "Row 1 should not match large IN list");
+        assertTrue(compiledIn.test(ROW2), "Row 2 should match large IN list");
+        assertEquals(25, compiledIn.getSqlParameters().size(), "Invalid number of parameters");
+
+        final Integer[] scores = new Integer[12];
+        for (int i = 0; i < scores.length; ++i) {
+            scores[i] = Integer.valueOf(i * 2);
+        }
+        final IntegerFieldCriterion notIn = new IntegerFieldCriterion(SCORE, ENumericMatchType.EXACT_NOT_IN, scores);
+        final CompiledCriteria compiledNotIn = CompiledCriteria.compile(TABLE, notIn);
+        assertFalse(compiledNotIn.test(ROW1), "Row 1 should not match large NOT IN list");
+        assertFalse(compiledNotIn.test(ROW2), "Row 2 should not match large NOT IN list");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Temporal criteria, null matching, and LIKE escaping")
+    void test0004() {
+
+        final LocalDateFieldCriterion isNull = new LocalDateFieldCriterion(EXAM_DT, ETemporalMatchType.IS_NULL);
+        final CompiledCriteria compiledNull = CompiledCriteria.compile(TABLE, isNull);
+        assertFalse(compiledNull.test(ROW1), "Row 1 should not match IS_NULL");
+        assertTrue(compiledNull.test(ROW2), "Row 2 should match IS_NULL");
+        assertEquals(" WHERE exam_dt IS NULL", compiledNull.getWhereClause(), "Invalid WHERE clause");
+
+        final LocalDateFieldCriterion after = new LocalDateFieldCriterion(EXAM_DT, ETemporalMatchType.GREATER_THAN,
+                LocalDate.of(2024, 9, 2));
+        assertTrue(CompiledCriteria.compile(TABLE, after).test(ROW1), "Row 1 should match date range");
+        assertFalse(CompiledCriteria.compile(TABLE, after).test(ROW2), "Null date should not match date range");
+
+        final StringFieldCriterion prefix = new StringFieldCriterion(COURSE, EStringMatchType.EXACT_STARTS_WITH,
+                "50%_");
+        final CompiledCriteria compiledPrefix = CompiledCriteria.compile(TABLE, prefix);
+        assertEquals(List.of("50\\%\\_%"), compiledPrefix.getSqlParameters(), "LIKE pattern not escaped");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Selection criteria cache their compiled form")
+    void test0005() {
+
+        final StringFieldCriterion stu = new StringFieldCriterion(STU_ID, EStringMatchType.EXACT_IN, "111111111");
+        final SelectionCriteria selection = new SelectionCriteria(TABLE, stu);
+
+        final CompiledCriteria compiled = selection.compile();
+        assertSame(compiled, selection.compile(), "Compiled criteria were not cached");
+        assertEquals("stu_id=?", compiled.getSqlCondition(), "Invalid SQL condition");
+        assertTrue(compiled.test(ROW1), "Row 1 should match");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Case-insensitive matches fold case the same way for short lists, long lists, and prefixes")
+    void test0006() {
+
+        // U+0131 (dotless i) is equal to "i" under equalsIgnoreCase, but does not lowercase to "i"
+        final String dotless = "\u0131";
+
+        final String[] many = new String[25];
+        for (int i = 0; i < many.length; ++i) {
+            many[i] = Integer.toString(i);
+        }
+        many[0] = "I";
+
+        final CompiledStringCriterion shortList = new CompiledStringCriterion(3, "course",
+                EStringMatchType.CASE_INSENSITIVE_IN, new String[]{"I"});
+        final CompiledStringCriterion longList = new CompiledStringCriterion(3, "course",
+                EStringMatchType.CASE_INSENSITIVE_IN, many);
+        final CompiledStringCriterion prefix = new CompiledStringCriterion(3, "course",
+                EStringMatchType.CASE_INSENSITIVE_STARTS_WITH, new String[]{"I"});
+
+        assertTrue(shortList.matches("i"), "Short list should match 'i'");
+        assertTrue(longList.matches("i"), "Long list should match 'i'");
+        assertTrue(prefix.matches("iX"), "Prefix should match 'iX'");
+        assertFalse(shortList.matches(dotless), "Short list should not match dotless i");
+        assertFalse(longList.matches(dotless), "Long list should not match dotless i");
+        assertFalse(prefix.matches(dotless + "X"), "Prefix should not match dotless i");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Empty match lists render constant conditions rather than an empty IN list")
+    void test0007() {
+
+        final HtmlBuilder sql = new HtmlBuilder(50);
+        final List<Object> params = new ArrayList<>(2);
+
+        new CompiledStringCriterion(3, "course", EStringMatchType.EXACT_IN, new String[0]).appendSql(sql, params);
+        sql.add(" AND ");
+        new CompiledStringCriterion(3, "course", EStringMatchType.CASE_INSENSITIVE_NOT_IN, new String[0])
+                .appendSql(sql, params);
+        sql.add(" AND ");
+        new CompiledStringCriterion(3, "course", EStringMatchType.EXACT_STARTS_WITH, new String[0])
+                .appendSql(sql, params);
+        sql.add(" AND ");
+        CompiledDoubleCriterion.appendNumericSql(sql, params, "score", ENumericMatchType.EXACT_NOT_IN, new Object[0]);
+
+        assertEquals("1=0 AND 1=1 AND 1=0 AND 1=1", sql.toString(), "Invalid SQL for empty lists");
+        assertTrue(params.isEmpty(), "Empty lists should have no parameters");
+    }
+}
@@ -0,0 +1,267 @@
+package dev.mathops.db.table.impl;
+
+import dev.mathops.db.table.EFieldRole;
+import dev.mathops.db.table.EFieldType;
+import dev.mathops.db.table.Field;
+import dev.mathops.db.table.FieldDef;
+import dev.mathops.db.table.NullValue;
+import dev.mathops.db.table.PersistenceException;
+import dev.mathops.db.table.Row;
+import dev.mathops.db.table.Table;
+import dev.mathops.db.table.UpdatedValues;
+import dev.mathops.db.table.criteria.ENumericMatchType;
+import dev.mathops.db.table.criteria.EStringMatchType;
+import dev.mathops.db.table.criteria.ETemporalMatchType;
+import dev.mathops.db.table.criteria.IntegerFieldCriterion;
+import dev.mathops.db.table.criteria.LocalDateFieldCriterion;
+import dev.mathops.db.table.criteria.StringFieldCriterion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for the {@code InMemoryImpl} class.
+ */
+final class TestInMemoryImpl {
+
+    /** The context. */
+    private static final int CONTEXT = 1;
+
+    /** A field. */
+    private static final Field STU_ID = new Field(new FieldDef("stu_id", EFieldType.STRING, "Student ID"),
+            EFieldRole.PARTITION_KEY);
+
+    /** A field. */
+    private static final Field ATTEMPT = new Field(new FieldDef("attempt", EFieldType.INTEGER, "Attempt number"),
+            EFieldRole.CLUSTERING_KEY);
+
+    /** A field. */
+    private static final Field EXAM_DT = new Field(new FieldDef("exam_dt", EFieldType.LOCAL_DATE, "Exam date"),
+            EFieldRole.NULLABLE);
+
+    /** A field. */
+    private static final Field COURSE = new Field(new FieldDef("course", EFieldType.STRING, "Course"),
+            EFieldRole.NULLABLE);
+
+    /** The test table. */
+    private static final Table TABLE = new Table("test", "testing", "exam", "Test exam table", null, STU_ID, ATTEMPT,
+            EXAM_DT, COURSE);
+
+    /**
+     * Constructs a new {@code TestInMemoryImpl}.
+     */
+    TestInMemoryImpl() {
+
+        // No action
+    }
+
+    /**
+     * Creates an implementation populated with test data.
+     *
+     * @return the implementation
+     * @throws PersistenceException if the insert fails
+     */
+    private static InMemoryImpl makeImpl() throws PersistenceException {
+
+        final InMemoryImpl impl = new InMemoryImpl();
+
+        impl.insert(CONTEXT, TABLE,
+                new Row(TABLE, "111111111", Integer.valueOf(1), LocalDate.of(2024, 9, 3), "M 117"),
+                new Row(TABLE, "111111111", Integer.valueOf(2), LocalDate.of(2024, 9, 10), "M 118"),
+                new Row(TABLE, "222222222", Integer.valueOf(1), LocalDate.of(2024, 9, 4), "M 117"),
+                new Row(TABLE, "222222222", Integer.valueOf(3), null, "m 125"),
+                new Row(TABLE, "333333333", Integer.valueOf(5), LocalDate.of(2024, 10, 1), null));
+
+        return impl;
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Query with no criteria returns all rows in insertion order")
+    void test0001() {
+
+        try {
+            final InMemoryImpl impl = makeImpl();
+            final List<Row> all = impl.query(CONTEXT, TABLE);
+
+            assertEquals(5, all.size(), "Invalid number of rows");
+            assertEquals("333333333", all.get(4).getFieldValue(0), "Invalid row order");
+        } catch (final PersistenceException ex) {
+            fail("Exception in in-memory operation: " + ex.getMessage());
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Hash index lookup on partition key")
+    void test0002() {
+
+        try {
+            final InMemoryImpl impl = makeImpl();
+            final StringFieldCriterion crit = new StringFieldCriterion(STU_ID, EStringMatchType.EXACT_IN, "222222222",
+                    "333333333");
+
+            assertEquals(3, impl.count(CONTEXT, TABLE, crit), "Invalid count from partition key lookup");
+        } catch (final PersistenceException ex) {
+            fail("Exception in in-memory operation: " + ex.getMessage());
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Sorted index range lookup on clustering key")
+    void test0003() {
+
+        try {
+            final InMemoryImpl impl = makeImpl();
+
+            final IntegerFieldCriterion between = new IntegerFieldCriterion(ATTEMPT,
+                    ENumericMatchType.BETWEEN_INCLUDE_BOUNDS, Integer.valueOf(2), Integer.valueOf(3));
+            assertEquals(2, impl.count(CONTEXT, TABLE, between), "Invalid count from BETWEEN_INCLUDE_BOUNDS");
+
+            final IntegerFieldCriterion greater = new IntegerFieldCriterion(ATTEMPT, ENumericMatchType.GREATER_THAN,
+                    Integer.valueOf(1));
+            assertEquals(3, impl.count(CONTEXT, TABLE, greater), "Invalid count from GREATER_THAN");
+
+            final IntegerFieldCriterion less = new IntegerFieldCriterion(ATTEMPT, ENumericMatchType.LESS_THAN_OR_EQUAL,
+                    Integer.valueOf(1));
+            assertEquals(2, impl.count(CONTEXT, TABLE, less), "Invalid count from LESS_THAN_OR_EQUAL");
+        } catch (final PersistenceException ex) {
+            fail("Exception in in-memory operation: " + ex.getMessage());
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Combined indexed and non-indexed criteria")
+    void test0004() {
+
+        try {
+            final InMemoryImpl impl = makeImpl();
+
+            final StringFieldCriterion stu = new StringFieldCriterion(STU_ID, EStringMatchType.EXACT_IN, "222222222");
+            final StringFieldCriterion course = new StringFieldCriterion(COURSE,
+                    EStringMatchType.CASE_INSENSITIVE_STARTS_WITH, "M 12");
+            final List<Row> rows = impl.query(CONTEXT, TABLE, stu, course);
+
+            assertEquals(1, rows.size(), "Invalid number of rows");
+            assertEquals(Integer.valueOf(3), rows.getFirst().getFieldValue(1), "Invalid matched row");
+        } catch (final PersistenceException ex) {
+            fail("Exception in in-memory operation: " + ex.getMessage());
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Date criteria and null matching")
+    void test0005() {
+
+        try {
+            final InMemoryImpl impl = makeImpl();
+
+            final LocalDateFieldCriterion after = new LocalDateFieldCriterion(EXAM_DT,
+                    ETemporalMatchType.GREATER_THAN_OR_EQUAL, LocalDate.of(2024, 9, 4));
+            assertEquals(3, impl.count(CONTEXT, TABLE, after), "Invalid count from date range");
+
+            final LocalDateFieldCriterion isNull = new LocalDateFieldCriterion(EXAM_DT, ETemporalMatchType.IS_NULL);
+            assertEquals(1, impl.count(CONTEXT, TABLE, isNull), "Invalid count from IS_NULL");
+
+            final StringFieldCriterion notIn = new StringFieldCriterion(COURSE, EStringMatchType.EXACT_NOT_IN, "M 117");
+            assertEquals(2, impl.count(CONTEXT, TABLE, notIn), "Invalid count from EXACT_NOT_IN");
+        } catch (final PersistenceException ex) {
+            fail("Exception in in-memory operation: " + ex.getMessage());
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Update and delete maintain indexes")
+    void test0006() {
+
+        try {
+            final InMemoryImpl impl = makeImpl();
+
+            final StringFieldCriterion stu = new StringFieldCriterion(STU_ID, EStringMatchType.EXACT_IN, "111111111");
+            final UpdatedValues newValues = new UpdatedValues(TABLE, null, null, NullValue.INSTANCE, "M 126");
+            assertEquals(2, impl.update(CONTEXT, TABLE, newValues, stu), "Invalid update count");
+
+            final StringFieldCriterion course = new StringFieldCriterion(COURSE, EStringMatchType.EXACT_IN, "M 126");
+            assertEquals(2, impl.count(CONTEXT, TABLE, course), "Update not visible to query");
+
+            final IntegerFieldCriterion first = new IntegerFieldCriterion(ATTEMPT, ENumericMatchType.EXACT_IN,
+                    Integer.valueOf(1));
+            assertEquals(2, impl.delete(CONTEXT, TABLE, first), "Invalid delete count");
+            assertEquals(3, impl.count(CONTEXT, TABLE), "Invalid count after delete");
+            assertEquals(1, impl.count(CONTEXT, TABLE, stu), "Partition index not rebuilt after delete");
+        } catch (final PersistenceException ex) {
+            fail("Exception in in-memory operation: " + ex.getMessage());
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Duplicate primary key is rejected")
+    void test0007() {
+
+        try {
+            final InMemoryImpl impl = makeImpl();
+            final Row duplicate = new Row(TABLE, "111111111", Integer.valueOf(1), null, null);
+
+            assertThrows(PersistenceException.class, () -> impl.insert(CONTEXT, TABLE, duplicate),
+                    "Duplicate primary key was accepted");
+            assertEquals(5, impl.count(CONTEXT, TABLE), "Rejected insert changed table");
+        } catch (final PersistenceException ex) {
+            fail("Exception in in-memory operation: " + ex.getMessage());
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Range bounds on a sorted index built from many unordered rows with duplicate values")
+    void test0008() {
+
+        try {
+            final InMemoryImpl impl = new InMemoryImpl();
+
+            // 200 rows with attempts 99 down to 0, each appearing twice (under two student IDs)
+            final Row[] rows = new Row[200];
+            for (int i = 0; i < 100; ++i) {
+                final Integer attempt = Integer.valueOf(99 - i);
+                rows[2 * i] = new Row(TABLE, "111111111", attempt, null, null);
+                rows[2 * i + 1] = new Row(TABLE, "222222222", attempt, null, null);
+            }
+            impl.insert(CONTEXT, TABLE, rows);
+
+            assertEquals(2, impl.count(CONTEXT, TABLE, new IntegerFieldCriterion(ATTEMPT,
+                    ENumericMatchType.EXACT_IN, Integer.valueOf(40))), "Invalid EXACT_IN count");
+            assertEquals(118, impl.count(CONTEXT, TABLE, new IntegerFieldCriterion(ATTEMPT,
+                    ENumericMatchType.GREATER_THAN, Integer.valueOf(40))), "Invalid GREATER_THAN count");
+            assertEquals(120, impl.count(CONTEXT, TABLE, new IntegerFieldCriterion(ATTEMPT,
+                    ENumericMatchType.GREATER_THAN_OR_EQUAL, Integer.valueOf(40))), "Invalid GREATER_THAN_OR_EQUAL");
+            assertEquals(80, impl.count(CONTEXT, TABLE, new IntegerFieldCriterion(ATTEMPT,
+                    ENumericMatchType.LESS_THAN, Integer.valueOf(40))), "Invalid LESS_THAN count");
+            assertEquals(82, impl.count(CONTEXT, TABLE, new IntegerFieldCriterion(ATTEMPT,
+                    ENumericMatchType.LESS_THAN_OR_EQUAL, Integer.valueOf(40))), "Invalid LESS_THAN_OR_EQUAL");
+            assertEquals(18, impl.count(CONTEXT, TABLE, new IntegerFieldCriterion(ATTEMPT,
+                    ENumericMatchType.BETWEEN_EXCLUDE_BOUNDS, Integer.valueOf(10), Integer.valueOf(20))),
+                    "Invalid BETWEEN_EXCLUDE_BOUNDS count");
+            assertEquals(20, impl.count(CONTEXT, TABLE, new IntegerFieldCriterion(ATTEMPT,
+                    ENumericMatchType.BETWEEN_EXCLUDE_LOWER_BOUND, Integer.valueOf(10), Integer.valueOf(20))),
+                    "Invalid BETWEEN_EXCLUDE_LOWER_BOUND count");
+            assertEquals(20, impl.count(CONTEXT, TABLE, new IntegerFieldCriterion(ATTEMPT,
+                    ENumericMatchType.BETWEEN_EXCLUDE_UPPER_BOUND, Integer.valueOf(10), Integer.valueOf(20))),
+                    "Invalid BETWEEN_EXCLUDE_UPPER_BOUND count");
+            assertEquals(22, impl.count(CONTEXT, TABLE, new IntegerFieldCriterion(ATTEMPT,
+                    ENumericMatchType.BETWEEN_INCLUDE_BOUNDS, Integer.valueOf(10), Integer.valueOf(20))),
+                    "Invalid BETWEEN_INCLUDE_BOUNDS count");
+        } catch (final PersistenceException ex) {
+            fail("Exception in in-memory operation: " + ex.getMessage());
+        }
+    }
+}
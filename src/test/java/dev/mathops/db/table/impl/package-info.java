@@ -0,0 +1,4 @@
+/**
+ * Test cases for the classes in the {@code dev.mathops.db.table.impl} package.
+ */
+package dev.mathops.db.table.impl;
@@ -0,0 +1,204 @@
+package dev.mathops.dbjobs.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@code BatchJobRunner} class.
+ */
+final class TestBatchJobRunner {
+
+    /**
+     * Constructs a new {@code TestBatchJobRunner}.
+     */
+    TestBatchJobRunner() {
+
+        // No action
+    }
+
+    /**
+     * Creates a job with no resources that always runs.
+     *
+     * @param name      the job name
+     * @param dependsOn the names of jobs that must complete first
+     * @param action    the job action
+     * @return the job
+     */
+    private static BatchJobRunner.Job job(final String name, final List<String> dependsOn,
+                                          final Callable<String> action) {
+
+        return new BatchJobRunner.Job(name, dependsOn, List.of(), null, action);
+    }
+
+    /**
+     * Builds a map from job name to status.
+     *
+     * @param results the job results
+     * @return the map
+     */
+    private static Map<String, BatchJobRunner.EJobStatus> statuses(final Iterable<BatchJobRunner.JobResult> results) {
+
+        final Map<String, BatchJobRunner.EJobStatus> map = new HashMap<>(10);
+        for (final BatchJobRunner.JobResult result : results) {
+            map.put(result.name(), result.status());
+        }
+
+        return map;
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Jobs run after the jobs they depend on")
+    void test0001() {
+
+        final List<String> order = Collections.synchronizedList(new ArrayList<>(4));
+        final BatchJobRunner runner = new BatchJobRunner(4, Map.of());
+
+        runner.add(job("D", List.of("B", "C"), () -> {
+            order.add("D");
+            return null;
+        }));
+        runner.add(job("B", List.of("A"), () -> {
+            order.add("B");
+            return null;
+        }));
+        runner.add(job("C", List.of("A"), () -> {
+            order.add("C");
+            return null;
+        }));
+        runner.add(job("A", List.of(), () -> {
+            order.add("A");
+            return null;
+        }));
+
+        final List<BatchJobRunner.JobResult> results = runner.run();
+
+        assertEquals(4, results.size(), "Incorrect number of results");
+        assertEquals("A", order.getFirst(), "Job with no dependencies did not run first");
+        assertEquals("D", order.getLast(), "Job with two dependencies did not run last");
+        assertEquals("D", results.getLast().name(), "Results not in the order jobs finished");
+        for (final BatchJobRunner.JobResult result : results) {
+            assertEquals(BatchJobRunner.EJobStatus.COMPLETED, result.status(), "Job " + result.name() + " failed");
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Resource limits bound the number of jobs using a resource at once")
+    void test0002() {
+
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final Callable<String> action = () -> {
+            final int count = active.incrementAndGet();
+            maxActive.accumulateAndGet(count, Math::max);
+            Thread.sleep(20L);
+            active.decrementAndGet();
+            return null;
+        };
+
+        final BatchJobRunner runner = new BatchJobRunner(4, Map.of("DB", Integer.valueOf(1), "OTHER",
+                Integer.valueOf(3)));
+        for (int i = 0; i < 6; ++i) {
+            runner.add(new BatchJobRunner.Job("Job" + i, List.of(), List.of("OTHER", "DB"), null, action));
+        }
+
+        final List<BatchJobRunner.JobResult> results = runner.run();
+
+        assertEquals(6, results.size(), "Incorrect number of results");
+        assertEquals(1, maxActive.get(), "Resource limit of 1 was exceeded");
+        for (final BatchJobRunner.JobResult result : results) {
+            assertEquals(BatchJobRunner.EJobStatus.COMPLETED, result.status(), "Job " + result.name() + " failed");
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Dependency cycles and unknown dependencies are rejected")
+    void test0003() {
+
+        final BatchJobRunner cyclic = new BatchJobRunner(2, Map.of());
+        cyclic.add(job("A", List.of(), () -> null));
+        cyclic.add(job("B", List.of("A", "C"), () -> null));
+        cyclic.add(job("C", List.of("B"), () -> null));
+        assertThrows(IllegalArgumentException.class, cyclic::run, "Cycle not detected");
+
+        final BatchJobRunner unknown = new BatchJobRunner(2, Map.of());
+        unknown.add(job("A", List.of("Missing"), () -> null));
+        assertThrows(IllegalArgumentException.class, unknown::run, "Unknown dependency not detected");
+
+        final BatchJobRunner duplicate = new BatchJobRunner(2, Map.of());
+        duplicate.add(job("A", List.of(), () -> null));
+        assertThrows(IllegalArgumentException.class, () -> duplicate.add(job("A", List.of(), () -> null)),
+                "Duplicate job name not detected");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Jobs downstream of a failed job are blocked")
+    void test0004() {
+
+        final AtomicInteger ran = new AtomicInteger();
+        final BatchJobRunner runner = new BatchJobRunner(2, Map.of());
+
+        runner.add(job("Fail", List.of(), () -> {
+            throw new IllegalStateException("Failed");
+        }));
+        runner.add(job("Child", List.of("Fail"), () -> {
+            ran.incrementAndGet();
+            return null;
+        }));
+        runner.add(job("Grandchild", List.of("Child", "Independent"), () -> {
+            ran.incrementAndGet();
+            return null;
+        }));
+        runner.add(job("Independent", List.of(), () -> "done"));
+
+        final List<BatchJobRunner.JobResult> results = runner.run();
+        final Map<String, BatchJobRunner.EJobStatus> statuses = statuses(results);
+
+        assertEquals(4, results.size(), "Each job should have exactly one result");
+        assertEquals(BatchJobRunner.EJobStatus.FAILED, statuses.get("Fail"), "Failing job not marked failed");
+        assertEquals(BatchJobRunner.EJobStatus.BLOCKED, statuses.get("Child"), "Dependent job not blocked");
+        assertEquals(BatchJobRunner.EJobStatus.BLOCKED, statuses.get("Grandchild"),
+                "Indirect dependent job not blocked");
+        assertEquals(BatchJobRunner.EJobStatus.COMPLETED, statuses.get("Independent"),
+                "Independent job did not complete");
+        assertEquals(0, ran.get(), "A blocked job ran");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Jobs with no work are skipped and count as complete for dependents")
+    void test0005() {
+
+        final AtomicInteger ran = new AtomicInteger();
+        final BatchJobRunner runner = new BatchJobRunner(2, Map.of());
+
+        runner.add(new BatchJobRunner.Job("Empty", List.of(), List.of(), () -> false, () -> {
+            ran.incrementAndGet();
+            return null;
+        }));
+        runner.add(job("After", List.of("Empty"), () -> "ran"));
+
+        final List<BatchJobRunner.JobResult> results = runner.run();
+        final Map<String, BatchJobRunner.EJobStatus> statuses = statuses(results);
+
+        assertEquals(BatchJobRunner.EJobStatus.NO_WORK, statuses.get("Empty"), "Job with no work not skipped");
+        assertEquals(BatchJobRunner.EJobStatus.COMPLETED, statuses.get("After"), "Dependent of skipped job not run");
+        assertEquals(0, ran.get(), "Action of job with no work ran");
+        assertTrue(results.getLast().message().contains("ran"), "Incorrect message from dependent job");
+    }
+}
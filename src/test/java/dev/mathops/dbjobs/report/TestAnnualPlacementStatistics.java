@@ -0,0 +1,119 @@
+package dev.mathops.dbjobs.report;
+
+import dev.mathops.db.schema.RawRecordConstants;
+import dev.mathops.db.schema.legacy.rec.RawMpeCredit;
+import dev.mathops.db.schema.legacy.rec.RawStmpe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@code AnnualPlacementStatistics} class.
+ */
+final class TestAnnualPlacementStatistics {
+
+    /** The start of the first week (a Sunday). */
+    private static final LocalDate START = LocalDate.of(2024, 1, 7);
+
+    /** The number of weeks. */
+    private static final int NUM_WEEKS = 10;
+
+    /** A student ID. */
+    private static final String STU_ID = "888888888";
+
+    /** A date on which placement was attempted. */
+    private static final LocalDate DATE1 = LocalDate.of(2024, 2, 1);
+
+    /** A date on which placement was attempted. */
+    private static final LocalDate DATE2 = LocalDate.of(2024, 2, 8);
+
+    /**
+     * Constructs a new {@code TestAnnualPlacementStatistics}.
+     */
+    TestAnnualPlacementStatistics() {
+
+        // No action
+    }
+
+    /**
+     * Creates a placement attempt record.
+     *
+     * @param date   the exam date
+     * @param serial the serial number
+     * @return the attempt record
+     */
+    private static RawStmpe makeAttempt(final LocalDate date, final Long serial) {
+
+        return new RawStmpe(STU_ID, "MPTUN", "2024", date, Integer.valueOf(600), Integer.valueOf(700), "Doe", "Jane",
+                "W", Integer.valueOf(1), serial, Integer.valueOf(7), Integer.valueOf(6), Integer.valueOf(5),
+                Integer.valueOf(4), Integer.valueOf(3), Integer.valueOf(2), "Y", "S");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Dates in the first week map to week 0")
+    void test0001() {
+
+        assertEquals(0, AnnualPlacementStatistics.weekIndex(START, START, NUM_WEEKS), "Start date not in week 0");
+        assertEquals(0, AnnualPlacementStatistics.weekIndex(START, START.plusDays(6L), NUM_WEEKS),
+                "Last day of first week not in week 0");
+        assertEquals(1, AnnualPlacementStatistics.weekIndex(START, START.plusDays(7L), NUM_WEEKS),
+                "First day of second week not in week 1");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Dates before the start are not in any week")
+    void test0002() {
+
+        assertEquals(-1, AnnualPlacementStatistics.weekIndex(START, START.minusDays(1L), NUM_WEEKS),
+                "Day before start should not be in a week");
+        assertEquals(-1, AnnualPlacementStatistics.weekIndex(START, START.minusDays(8L), NUM_WEEKS),
+                "Week before start should not be in a week");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Dates after the last week start are clamped to the last week")
+    void test0003() {
+
+        final LocalDate lastWeek = START.plusDays(7L * (long) (NUM_WEEKS - 1));
+
+        assertEquals(NUM_WEEKS - 1, AnnualPlacementStatistics.weekIndex(START, lastWeek, NUM_WEEKS),
+                "Start of last week not in last week");
+        assertEquals(NUM_WEEKS - 1, AnnualPlacementStatistics.weekIndex(START, lastWeek.plusDays(6L), NUM_WEEKS),
+                "End of last week not in last week");
+        assertEquals(NUM_WEEKS - 1, AnnualPlacementStatistics.weekIndex(START, lastWeek.plusDays(30L), NUM_WEEKS),
+                "Date after last week not clamped to last week");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Credit is matched by serial number, or by date when a serial number is missing")
+    void test0004() {
+
+        final RawMpeCredit bySerial = new RawMpeCredit(STU_ID, RawRecordConstants.M117, "P", DATE1, null,
+                Long.valueOf(111L), "MPTUN", "RM");
+        final RawMpeCredit noSerial = new RawMpeCredit(STU_ID, RawRecordConstants.M118, "P", DATE2, null, null,
+                "MPTUN", "RM");
+        final RawMpeCredit other = new RawMpeCredit("888888889", RawRecordConstants.M117, "P", DATE1, null,
+                Long.valueOf(111L), "MPTUN", "RM");
+
+        final AnnualPlacementStatistics.CreditIndex index =
+                new AnnualPlacementStatistics.CreditIndex(List.of(bySerial, noSerial, other));
+
+        assertEquals(List.of(bySerial), index.getCredit(makeAttempt(DATE1, Long.valueOf(111L))),
+                "Credit not matched by serial number");
+        assertEquals(List.of(noSerial), index.getCredit(makeAttempt(DATE2, Long.valueOf(222L))),
+                "Credit with no serial number not matched by date");
+        assertEquals(List.of(bySerial), index.getCredit(makeAttempt(DATE1, null)),
+                "Attempt with no serial number not matched by date");
+        assertTrue(index.getCredit(makeAttempt(DATE1, Long.valueOf(333L))).isEmpty(),
+                "Credit matched with wrong serial number");
+    }
+}
@@ -0,0 +1,86 @@
+package dev.mathops.dbjobs.report;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the {@code HtmlCsvRowWriter} class.
+ */
+final class TestHtmlCsvRowWriter {
+
+    /**
+     * Constructs a new {@code TestHtmlCsvRowWriter}.
+     */
+    TestHtmlCsvRowWriter() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("HTML special characters are escaped")
+    void test0001() {
+
+        assertEquals("a &amp; b &lt;c&gt; &quot;d&quot; &#39;e&#39;",
+                HtmlCsvRowWriter.escapeHtml("a & b <c> \"d\" 'e'"), "Incorrect HTML escaping");
+        assertEquals("plain", HtmlCsvRowWriter.escapeHtml("plain"), "Plain text altered");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("CSV values with commas, quotes, or line breaks are quoted")
+    void test0002() {
+
+        assertEquals("a,\"Doe, Jane\",\"say \"\"hi\"\"\",\"x\ny\",,1",
+                HtmlCsvRowWriter.toCsvLine("a", "Doe, Jane", "say \"hi\"", "x\ny", null, Integer.valueOf(1)),
+                "Incorrect CSV line");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("A table is written to both HTML and CSV targets")
+    void test0003() {
+
+        final List<String> html = new ArrayList<>(5);
+        final List<String> csv = new ArrayList<>(5);
+
+        final HtmlCsvRowWriter writer = new HtmlCsvRowWriter(html::add, csv::add);
+        writer.startTable("result-table", "Name", "Count");
+        writer.row("Doe, Jane", Integer.valueOf(3));
+        writer.row("<b>", null);
+        writer.endTable();
+
+        assertEquals(List.of("<table class='result-table'>", "<tr> <th>Name</th> <th>Count</th> </tr>",
+                        "<tr> <td>Doe, Jane</td> <td>3</td> </tr>", "<tr> <td>&lt;b&gt;</td> <td></td> </tr>",
+                        "</table>"), html, "Incorrect HTML lines");
+        assertEquals(List.of("Name,Count", "\"Doe, Jane\",3", "<b>,"), csv, "Incorrect CSV lines");
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("A null target is skipped")
+    void test0004() {
+
+        final List<String> html = new ArrayList<>(5);
+        final List<String> csv = new ArrayList<>(5);
+
+        final HtmlCsvRowWriter htmlOnly = new HtmlCsvRowWriter(html::add, null);
+        htmlOnly.startTable(null, "A");
+        htmlOnly.row("1");
+        htmlOnly.endTable();
+
+        final HtmlCsvRowWriter csvOnly = new HtmlCsvRowWriter(null, csv::add);
+        csvOnly.startTable(null, "A", "B");
+        csvOnly.row("1", "2");
+        csvOnly.endTable();
+
+        assertEquals(List.of("<table>", "<tr> <th>A</th> </tr>", "<tr> <td>1</td> </tr>", "</table>"), html,
+                "Incorrect HTML lines");
+        assertEquals(List.of("A,B", "1,2"), csv, "Incorrect CSV lines");
+    }
+}
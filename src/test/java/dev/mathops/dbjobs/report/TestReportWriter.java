@@ -0,0 +1,86 @@
+package dev.mathops.dbjobs.report;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for the {@code ReportWriter} class.
+ */
+final class TestReportWriter {
+
+    /**
+     * Constructs a new {@code TestReportWriter}.
+     */
+    TestReportWriter() {
+
+        // No action
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Lines are written to an uncompressed file")
+    void test0001() {
+
+        try {
+            final Path path = Files.createTempFile("report", ".txt");
+
+            try {
+                try (final ReportWriter writer = new ReportWriter(path, false)) {
+                    writer.addln("Count: ", Integer.valueOf(3));
+                    writer.addln();
+                    writer.accept("last");
+
+                    assertEquals(3, writer.getNumLines(), "Incorrect line count");
+                    assertEquals(path, writer.getPath(), "Incorrect path");
+                }
+
+                assertEquals("Count: 3\r\n\r\nlast\r\n", Files.readString(path, StandardCharsets.UTF_8),
+                        "Incorrect file content");
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        } catch (final IOException ex) {
+            fail("Exception while writing report: " + ex.getMessage());
+        }
+    }
+
+    /** Test case. */
+    @Test
+    @DisplayName("Lines passed to the writer as a consumer are written to a compressed file")
+    void test0002() {
+
+        try {
+            final Path path = Files.createTempFile("report", ".txt.gz");
+
+            try {
+                try (final ReportWriter writer = new ReportWriter(path, true)) {
+                    final Consumer<? super String> sink = writer;
+                    sink.accept("first");
+                    sink.accept("second");
+
+                    assertEquals(2, writer.getNumLines(), "Incorrect line count");
+                }
+
+                try (final InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+                    final String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                    assertEquals("first\r\nsecond\r\n", content, "Incorrect file content");
+                }
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        } catch (final IOException ex) {
+            fail("Exception while writing report: " + ex.getMessage());
+        }
+    }
+}